@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.abi.processor;
+
+import io.emeraldpay.etherjar.abi.AbiFunction;
+import io.emeraldpay.etherjar.abi.AddressType;
+import io.emeraldpay.etherjar.abi.BoolType;
+import io.emeraldpay.etherjar.abi.BytesType;
+import io.emeraldpay.etherjar.abi.DefaultRepository;
+import io.emeraldpay.etherjar.abi.DynamicBytesType;
+import io.emeraldpay.etherjar.abi.NumericType;
+import io.emeraldpay.etherjar.abi.StringType;
+import io.emeraldpay.etherjar.abi.Type;
+import io.emeraldpay.etherjar.domain.MethodId;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Generates encoders and decoders of contract function calls for records annotated with {@link AbiFunction}.
+ *
+ * <p>For each record it generates a class with the {@code Abi} suffix, which has static {@code encode} and
+ * {@code decode} methods. The code is a straight sequence of {@link io.emeraldpay.etherjar.abi.AbiWriter} and
+ * {@link io.emeraldpay.etherjar.abi.AbiReader} calls at the positions calculated at compile time, so there is no
+ * reflection, and no boxing of primitive components.
+ *
+ * <p>To use it, add the module to the annotation processor path, i.e. {@code annotationProcessor} with Gradle.
+ */
+@SupportedAnnotationTypes("io.emeraldpay.etherjar.abi.AbiFunction")
+public class AbiFunctionProcessor extends AbstractProcessor {
+
+    static final String SUFFIX = "Abi";
+
+    private static final Pattern SIGNATURE = Pattern.compile("([A-Za-z_$][A-Za-z0-9_$]*)\\((.*)\\)");
+
+    private static final String ADDRESS = "io.emeraldpay.etherjar.domain.Address";
+    private static final String HEX_DATA = "io.emeraldpay.etherjar.hex.HexData";
+    private static final String HEX32 = "io.emeraldpay.etherjar.hex.Hex32";
+    private static final String BIG_INTEGER = "java.math.BigInteger";
+    private static final String STRING = "java.lang.String";
+
+    /**
+     * An invalid declaration of a function, reported as a compilation error on the element.
+     */
+    static class InvalidDeclarationException extends Exception {
+
+        private final Element element;
+
+        InvalidDeclarationException(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+
+        Element getElement() {
+            return element;
+        }
+    }
+
+    /**
+     * Java representation of an argument.
+     */
+    enum JavaKind {
+        ADDRESS, BOOLEAN, INT, LONG, BIG_INTEGER, BYTE_ARRAY, HEX32, HEX_DATA, STRING
+    }
+
+    /**
+     * A function argument mapped to a record component.
+     */
+    static class Argument {
+
+        final int index;
+        final String accessor;
+        final Type<?> type;
+        final JavaKind kind;
+
+        Argument(int index, String accessor, Type<?> type, JavaKind kind) {
+            this.index = index;
+            this.accessor = accessor;
+            this.type = type;
+            this.kind = kind;
+        }
+
+        boolean isDynamic() {
+            return type.isDynamic();
+        }
+
+        /**
+         * @return absolute position of the head of the argument in the call data
+         */
+        int position() {
+            return MethodId.SIZE_BYTES + index * 32;
+        }
+
+        String var() {
+            return "arg" + index;
+        }
+
+        String typeConstant() {
+            return "TYPE_" + index;
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(AbiFunction.class)) {
+            try {
+                generate(element);
+            } catch (InvalidDeclarationException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.getElement());
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to write ABI codec: " + e.getMessage(), element);
+            }
+        }
+
+        return true;
+    }
+
+    private void generate(Element element) throws InvalidDeclarationException, IOException {
+        if (element.getKind() != ElementKind.RECORD)
+            throw new InvalidDeclarationException(element, "@AbiFunction is supported only on records");
+
+        TypeElement record = (TypeElement) element;
+
+        if (!record.getTypeParameters().isEmpty())
+            throw new InvalidDeclarationException(element, "@AbiFunction record cannot be generic");
+
+        String signature = record.getAnnotation(AbiFunction.class).value();
+        Matcher matcher = SIGNATURE.matcher(signature.trim());
+
+        if (!matcher.matches())
+            throw new InvalidDeclarationException(element, "Invalid function signature: " + signature);
+
+        String name = matcher.group(1);
+        String params = matcher.group(2).trim();
+        List<String> typeNames = params.isEmpty() ? List.of() : List.of(params.split(","));
+        List<? extends RecordComponentElement> components = record.getRecordComponents();
+
+        if (typeNames.size() != components.size())
+            throw new InvalidDeclarationException(element,
+                    "Function has " + typeNames.size() + " arguments, but the record has " + components.size() + " components");
+
+        List<Argument> arguments = new ArrayList<>(components.size());
+
+        for (int i = 0; i < components.size(); i++) {
+            RecordComponentElement component = components.get(i);
+            Type<?> type = findType(record, component, typeNames.get(i).trim());
+
+            arguments.add(new Argument(i, component.getAccessor().getSimpleName().toString(),
+                    type, findKind(record, component, type)));
+        }
+
+        List<String> canonical = arguments.stream()
+                .map(it -> it.type.getCanonicalName())
+                .collect(Collectors.toList());
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(record).getQualifiedName().toString();
+        String className = generatedName(record);
+
+        String source = new CodecSource(packageName, className, record.getQualifiedName().toString(), name, canonical,
+                MethodId.fromSignature(name, canonical), arguments).toString();
+
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, record).openWriter()) {
+            writer.write(source);
+        }
+    }
+
+    /**
+     * Name of the generated class, i.e. the name of the record (including the enclosing classes) with the suffix.
+     */
+    static String generatedName(TypeElement record) {
+        StringBuilder name = new StringBuilder(record.getSimpleName());
+        Element enclosing = record.getEnclosingElement();
+
+        while (enclosing.getKind().isClass() || enclosing.getKind().isInterface()) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+
+        return name.append(SUFFIX).toString();
+    }
+
+    /*
+     * Record components usually have no position in the source, so the errors are reported on the record itself
+     */
+
+    private static Type<?> findType(Element record, Element component, String name) throws InvalidDeclarationException {
+        Optional<Type> type;
+
+        try {
+            type = DefaultRepository.getInstance().search(name);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDeclarationException(record,
+                    "Invalid ABI type of '" + component.getSimpleName() + "': " + name);
+        }
+
+        if (!type.isPresent())
+            throw new InvalidDeclarationException(record,
+                    "Unknown ABI type of '" + component.getSimpleName() + "': " + name);
+
+        Type<?> found = type.get();
+
+        if (found instanceof AddressType || found instanceof NumericType || found instanceof BytesType
+                || found instanceof DynamicBytesType || found instanceof StringType)
+            return found;
+
+        throw new InvalidDeclarationException(record,
+                "ABI type of '" + component.getSimpleName() + "' is not supported by the generator: " + name);
+    }
+
+    private static JavaKind findKind(Element record, Element component, Type<?> type) throws InvalidDeclarationException {
+        JavaKind kind = javaKind(component.asType());
+
+        if (kind != null && isCompatible(type, kind))
+            return kind;
+
+        throw new InvalidDeclarationException(record, "Java type " + component.asType() + " of '" + component.getSimpleName()
+                + "' is not compatible with ABI type " + type.getCanonicalName());
+    }
+
+    private static JavaKind javaKind(TypeMirror mirror) {
+        switch (mirror.getKind()) {
+            case BOOLEAN:
+                return JavaKind.BOOLEAN;
+            case INT:
+                return JavaKind.INT;
+            case LONG:
+                return JavaKind.LONG;
+            case ARRAY:
+                return ((ArrayType) mirror).getComponentType().getKind() == TypeKind.BYTE ? JavaKind.BYTE_ARRAY : null;
+            case DECLARED:
+                switch (mirror.toString()) {
+                    case ADDRESS:
+                        return JavaKind.ADDRESS;
+                    case HEX32:
+                        return JavaKind.HEX32;
+                    case HEX_DATA:
+                        return JavaKind.HEX_DATA;
+                    case BIG_INTEGER:
+                        return JavaKind.BIG_INTEGER;
+                    case STRING:
+                        return JavaKind.STRING;
+                    default:
+                        return null;
+                }
+            default:
+                return null;
+        }
+    }
+
+    static boolean isCompatible(Type<?> type, JavaKind kind) {
+        if (type instanceof AddressType)
+            return kind == JavaKind.ADDRESS;
+
+        if (type instanceof BoolType)
+            return kind == JavaKind.BOOLEAN;
+
+        if (type instanceof NumericType) {
+            NumericType numeric = (NumericType) type;
+            // bits of a value, excluding the sign bit of the java type
+            int bits = numeric.isSigned() ? numeric.getBits() : numeric.getBits() + 1;
+
+            return kind == JavaKind.BIG_INTEGER
+                    || (kind == JavaKind.LONG && bits <= Long.SIZE)
+                    || (kind == JavaKind.INT && bits <= Integer.SIZE);
+        }
+
+        if (type instanceof BytesType)
+            return kind == JavaKind.BYTE_ARRAY || (kind == JavaKind.HEX32 && ((BytesType) type).getLength() == 32);
+
+        if (type instanceof DynamicBytesType)
+            return kind == JavaKind.BYTE_ARRAY || kind == JavaKind.HEX_DATA;
+
+        if (type instanceof StringType)
+            return kind == JavaKind.STRING;
+
+        return false;
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.abi.processor;
+
+import io.emeraldpay.etherjar.abi.BytesType;
+import io.emeraldpay.etherjar.abi.NumericType;
+import io.emeraldpay.etherjar.domain.MethodId;
+
+import java.util.List;
+
+/**
+ * Source code of a generated codec class.
+ *
+ * <p>The generated code refers to all the classes by fully qualified names, so it doesn't depend on imports and
+ * cannot clash with names in the package of the record.
+ */
+class CodecSource {
+
+    private static final String ABI = "io.emeraldpay.etherjar.abi.";
+    private static final String HEX = "io.emeraldpay.etherjar.hex.";
+    private static final String DOMAIN = "io.emeraldpay.etherjar.domain.";
+
+    private final String packageName;
+    private final String className;
+    private final String recordName;
+    private final String signature;
+    private final MethodId methodId;
+    private final List<AbiFunctionProcessor.Argument> arguments;
+
+    private final StringBuilder out = new StringBuilder();
+
+    CodecSource(String packageName, String className, String recordName,
+                String name, List<String> types, MethodId methodId, List<AbiFunctionProcessor.Argument> arguments) {
+        this.packageName = packageName;
+        this.className = className;
+        this.recordName = recordName;
+        this.signature = name + "(" + String.join(",", types) + ")";
+        this.methodId = methodId;
+        this.arguments = arguments;
+    }
+
+    private boolean hasDynamic() {
+        return arguments.stream().anyMatch(AbiFunctionProcessor.Argument::isDynamic);
+    }
+
+    private CodecSource line(String text) {
+        out.append(text).append('\n');
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        if (out.length() == 0) {
+            write();
+        }
+        return out.toString();
+    }
+
+    private void write() {
+        if (!packageName.isEmpty()) {
+            line("package " + packageName + ";").line("");
+        }
+
+        line("/**");
+        line(" * Encoder and decoder of {@code " + signature + "} call for {@link " + recordName + "}");
+        line(" */");
+        line("@javax.annotation.processing.Generated(\"" + AbiFunctionProcessor.class.getName() + "\")");
+        line("public final class " + className + " {");
+        line("");
+        line("    public static final String SIGNATURE = \"" + signature + "\";");
+        line("");
+        line("    public static final " + DOMAIN + "MethodId METHOD_ID = " + DOMAIN + "MethodId.from(\"" + methodId.toHex() + "\");");
+        line("");
+        line("    /**");
+        line("     * Method id packed as a big-endian {@code int}");
+        line("     */");
+        line("    public static final int SELECTOR = " + String.format("0x%08x", (int) methodId.asLong(0, MethodId.SIZE_BYTES)) + ";");
+        line("");
+        line("    static final int HEAD_SIZE = " + arguments.size() * 32 + ";");
+
+        for (AbiFunctionProcessor.Argument arg : arguments) {
+            if (arg.type instanceof NumericType && arg.kind != AbiFunctionProcessor.JavaKind.BOOLEAN) {
+                NumericType numeric = (NumericType) arg.type;
+                line("");
+                line("    private static final " + ABI + "NumericType " + arg.typeConstant() + " = new " + ABI
+                        + (numeric.isSigned() ? "IntType(" : "UIntType(") + numeric.getBits() + ");");
+            }
+        }
+
+        line("");
+        line("    private " + className + "() {");
+        line("    }");
+
+        writeEncode();
+        writeDecode();
+
+        if (hasDynamic()) {
+            line("");
+            line("    private static int tail(" + ABI + "AbiReader reader, int position) {");
+            line("        int offset = reader.readLength(position);");
+            line("        if (offset < HEAD_SIZE || offset > reader.getEnd() - " + MethodId.SIZE_BYTES + ") {");
+            line("            throw new IllegalArgumentException(\"Illegal tail bytes offset: \" + offset);");
+            line("        }");
+            line("        return " + MethodId.SIZE_BYTES + " + offset;");
+            line("    }");
+        }
+
+        line("}");
+    }
+
+    private void writeEncode() {
+        line("");
+        line("    /**");
+        line("     * Encode a call");
+        line("     *");
+        line("     * @param value arguments of the call");
+        line("     * @return call data, including the method id");
+        line("     * @throws IllegalArgumentException if an argument is out of range of its type");
+        line("     */");
+        line("    public static " + HEX + "HexData encode(" + recordName + " value) {");
+
+        for (AbiFunctionProcessor.Argument arg : arguments) {
+            String get = "value." + arg.accessor + "()";
+            switch (arg.kind) {
+                case BOOLEAN:
+                case INT:
+                case LONG:
+                    line("        " + javaType(arg) + " " + arg.var() + " = " + get + ";");
+                    break;
+                case STRING:
+                    line("        byte[] " + arg.var() + " = java.util.Objects.requireNonNull(" + get
+                            + ").getBytes(java.nio.charset.StandardCharsets.UTF_8);");
+                    break;
+                default:
+                    line("        " + javaType(arg) + " " + arg.var() + " = java.util.Objects.requireNonNull(" + get + ");");
+            }
+        }
+
+        StringBuilder size = new StringBuilder(MethodId.SIZE_BYTES + " + HEAD_SIZE");
+        for (AbiFunctionProcessor.Argument arg : arguments) {
+            if (arg.isDynamic()) {
+                size.append("\n                + ").append(ABI).append("AbiWriter.sizeOfDynamicBytes(").append(length(arg)).append(")");
+            }
+        }
+
+        line("");
+        line("        " + ABI + "AbiWriter writer = new " + ABI + "AbiWriter(" + size + ");");
+        line("        writer.writeMethodId(METHOD_ID);");
+
+        if (hasDynamic()) {
+            line("        int tail = HEAD_SIZE;");
+        }
+
+        for (AbiFunctionProcessor.Argument arg : arguments) {
+            int pos = arg.position();
+            String var = arg.var();
+
+            if (arg.isDynamic()) {
+                line("        writer.writeLength(" + pos + ", tail);");
+                if (arg.kind == AbiFunctionProcessor.JavaKind.HEX_DATA) {
+                    line("        writer.writeLength(" + MethodId.SIZE_BYTES + " + tail, " + var + ".getSize());");
+                    line("        writer.writeBytes(" + MethodId.SIZE_BYTES + " + tail + 32, " + var + ");");
+                    line("        tail += " + ABI + "AbiWriter.sizeOfDynamicBytes(" + var + ".getSize());");
+                } else {
+                    line("        tail += writer.writeDynamicBytes(" + MethodId.SIZE_BYTES + " + tail, " + var + ");");
+                }
+                continue;
+            }
+
+            switch (arg.kind) {
+                case ADDRESS:
+                    line("        writer.writeAddress(" + pos + ", " + var + ");");
+                    break;
+                case BOOLEAN:
+                    line("        writer.writeBoolean(" + pos + ", " + var + ");");
+                    break;
+                case INT:
+                case LONG:
+                    line("        " + arg.typeConstant() + ".encodeLong(" + var + ", writer, " + pos + ");");
+                    break;
+                case BIG_INTEGER:
+                    line("        " + arg.typeConstant() + ".encode(" + var + ", writer, " + pos + ");");
+                    break;
+                case HEX32:
+                    line("        writer.writeWord(" + pos + ", " + var + ");");
+                    break;
+                case BYTE_ARRAY:
+                    int length = ((BytesType) arg.type).getLength();
+                    line("        if (" + var + ".length != " + length + ") {");
+                    line("            throw new IllegalArgumentException(\"Wrong bytes length to encode: \" + " + var + ".length);");
+                    line("        }");
+                    line("        writer.writeBytes(" + pos + ", " + var + ");");
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported static argument: " + arg.kind);
+            }
+        }
+
+        line("");
+        line("        return writer.toHexData();");
+        line("    }");
+    }
+
+    private void writeDecode() {
+        line("");
+        line("    /**");
+        line("     * Decode a call");
+        line("     *");
+        line("     * @param input call data, including the method id");
+        line("     * @return arguments of the call");
+        line("     * @throws IllegalArgumentException if it's a call of a different method, or the data is invalid");
+        line("     */");
+        line("    public static " + recordName + " decode(" + HEX + "HexData input) {");
+        line("        if (input.getSize() < " + MethodId.SIZE_BYTES + " || (int) input.asLong(0, " + MethodId.SIZE_BYTES + ") != SELECTOR) {");
+        line("            throw new IllegalArgumentException(\"Not a call of \" + SIGNATURE);");
+        line("        }");
+        line("");
+        line("        " + ABI + "AbiReader reader = new " + ABI + "AbiReader(input, " + MethodId.SIZE_BYTES + ");");
+        line("        reader.checkBounds(" + MethodId.SIZE_BYTES + ", HEAD_SIZE);");
+        line("");
+
+        for (AbiFunctionProcessor.Argument arg : arguments) {
+            int pos = arg.position();
+            String prefix = "        " + javaType(arg) + " " + arg.var() + " = ";
+
+            if (arg.isDynamic()) {
+                String at = "tail(reader, " + pos + ")";
+                switch (arg.kind) {
+                    case STRING:
+                        line(prefix + ABI + "StringType.DEFAULT.decode(reader, " + at + ");");
+                        break;
+                    case HEX_DATA:
+                        line(prefix + "new " + HEX + "HexData(reader.readDynamicBytes(" + at + "));");
+                        break;
+                    default:
+                        line(prefix + "reader.readDynamicBytes(" + at + ");");
+                }
+                continue;
+            }
+
+            switch (arg.kind) {
+                case ADDRESS:
+                    line(prefix + "reader.readAddress(" + pos + ");");
+                    break;
+                case BOOLEAN:
+                    line(prefix + ABI + "BoolType.DEFAULT.decodeLong(reader, " + pos + ") != 0;");
+                    break;
+                case INT:
+                    line(prefix + "(int) " + arg.typeConstant() + ".decodeLong(reader, " + pos + ");");
+                    break;
+                case LONG:
+                    line(prefix + arg.typeConstant() + ".decodeLong(reader, " + pos + ");");
+                    break;
+                case BIG_INTEGER:
+                    line(prefix + arg.typeConstant() + ".decode(reader, " + pos + ");");
+                    break;
+                case HEX32:
+                    line(prefix + "reader.readWord(" + pos + ");");
+                    break;
+                case BYTE_ARRAY:
+                    line(prefix + "reader.readBytes(" + pos + ", " + ((BytesType) arg.type).getLength() + ");");
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported static argument: " + arg.kind);
+            }
+        }
+
+        StringBuilder args = new StringBuilder();
+        for (AbiFunctionProcessor.Argument arg : arguments) {
+            if (args.length() > 0) {
+                args.append(", ");
+            }
+            args.append(arg.var());
+        }
+
+        line("");
+        line("        return new " + recordName + "(" + args + ");");
+        line("    }");
+    }
+
+    private static String length(AbiFunctionProcessor.Argument arg) {
+        return arg.kind == AbiFunctionProcessor.JavaKind.HEX_DATA ? arg.var() + ".getSize()" : arg.var() + ".length";
+    }
+
+    private static String javaType(AbiFunctionProcessor.Argument arg) {
+        switch (arg.kind) {
+            case ADDRESS:
+                return DOMAIN + "Address";
+            case BOOLEAN:
+                return "boolean";
+            case INT:
+                return "int";
+            case LONG:
+                return "long";
+            case BIG_INTEGER:
+                return "java.math.BigInteger";
+            case HEX32:
+                return HEX + "Hex32";
+            case HEX_DATA:
+                return HEX + "HexData";
+            case STRING:
+                return "java.lang.String";
+            default:
+                return "byte[]";
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.abi.processor
+
+import io.emeraldpay.etherjar.abi.AbiCodec
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.MethodId
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Path
+import javax.tools.Diagnostic
+import javax.tools.DiagnosticCollector
+import javax.tools.JavaFileObject
+import javax.tools.SimpleJavaFileObject
+import javax.tools.ToolProvider
+
+class AbiFunctionProcessorSpec extends Specification {
+
+    @TempDir
+    Path output
+
+    static final Address TO = Address.from("0x6b175474e89094c44da98b954eedeac495271d0f")
+
+    static final Hex32 HASH = Hex32.from("0x1111111111111111111111111111111111111111111111111111111111111111")
+
+    static final String REGISTER_TYPES = "string,bool,uint8,bytes,int32,bytes32,bytes4,bytes"
+
+    def "Generates method id"() {
+        expect:
+        TransferAbi.SIGNATURE == "transfer(address,uint256)"
+        TransferAbi.METHOD_ID == MethodId.fromSignature("transfer", "address", "uint256")
+        Integer.toHexString(TransferAbi.SELECTOR) == "a9059cbb"
+    }
+
+    def "Encodes same as runtime codec"() {
+        when:
+        def act = TransferAbi.encode(new Transfer(TO, 1_000_000_000_000_000_000G))
+        def exp = AbiCodec.compile("address,uint256").encodeCall(TransferAbi.METHOD_ID, TO, 1_000_000_000_000_000_000G)
+        then:
+        act == exp
+    }
+
+    def "Encodes static and dynamic arguments same as runtime codec"() {
+        setup:
+        def extra = HexData.from("0x" + "ab" * 40)
+        when:
+        def act = RegisterAbi.encode(new Register("h\u00e9llo", true, 18, [1, 2, 3] as byte[], -5, HASH, [9, 8, 7, 6] as byte[], extra))
+        def exp = AbiCodec.compile(REGISTER_TYPES).encodeCall(RegisterAbi.METHOD_ID,
+                "h\u00e9llo", BigInteger.ONE, 18G, [1, 2, 3] as byte[], -5G, HASH.bytes, [9, 8, 7, 6] as byte[], extra.bytes)
+        then:
+        act == exp
+    }
+
+    def "Decodes runtime codec output"() {
+        setup:
+        def input = AbiCodec.compile(REGISTER_TYPES).encodeCall(RegisterAbi.METHOD_ID,
+                "", BigInteger.ZERO, 255G, [] as byte[], Integer.MIN_VALUE as BigInteger, HASH.bytes, [1, 2, 3, 4] as byte[], [5] as byte[])
+        when:
+        def act = RegisterAbi.decode(input)
+        then:
+        act.name() == ""
+        !act.active()
+        act.decimals() == 255
+        act.payload() == [] as byte[]
+        act.offset() == Integer.MIN_VALUE
+        act.hash() == HASH
+        act.tag() == [1, 2, 3, 4] as byte[]
+        act.extra() == HexData.from("0x05")
+    }
+
+    def "Decodes encoded"() {
+        setup:
+        def value = new Transfer(TO, 12345G)
+        when:
+        def act = TransferAbi.decode(TransferAbi.encode(value))
+        then:
+        act == value
+    }
+
+    def "Fails to encode out of range value"() {
+        when:
+        RegisterAbi.encode(new Register("", true, 256, [] as byte[], 0, HASH, [1, 2, 3, 4] as byte[], HexData.empty()))
+        then:
+        def t = thrown(IllegalArgumentException)
+        t.message == "Numeric value out of range: 256"
+    }
+
+    def "Fails to encode wrong length of fixed bytes"() {
+        when:
+        RegisterAbi.encode(new Register("", true, 1, [] as byte[], 0, HASH, [1, 2, 3] as byte[], HexData.empty()))
+        then:
+        def t = thrown(IllegalArgumentException)
+        t.message == "Wrong bytes length to encode: 3"
+    }
+
+    def "Fails to decode call of other method"() {
+        setup:
+        def input = RegisterAbi.encode(new Register("", true, 1, [] as byte[], 0, HASH, [1, 2, 3, 4] as byte[], HexData.empty()))
+        when:
+        TransferAbi.decode(input)
+        then:
+        def t = thrown(IllegalArgumentException)
+        t.message == "Not a call of transfer(address,uint256)"
+    }
+
+    def "Fails to decode short data"() {
+        when:
+        TransferAbi.decode(HexData.from(TransferAbi.encode(new Transfer(TO, 1G)).toHex().substring(0, 74)))
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "Fails to decode invalid tail offset"() {
+        setup:
+        def input = RegisterAbi.encode(new Register("", true, 1, [] as byte[], 0, HASH, [1, 2, 3, 4] as byte[], HexData.empty())).bytes
+        // offset of the string points into the head
+        input[4 + 31] = 0x20
+        when:
+        RegisterAbi.decode(new HexData(input))
+        then:
+        def t = thrown(IllegalArgumentException)
+        t.message == "Illegal tail bytes offset: 32"
+    }
+
+    def "Reports invalid declarations"() {
+        when:
+        def act = compile('''
+            import io.emeraldpay.etherjar.abi.AbiFunction;
+
+            @AbiFunction("foo(uint256,address)")
+            record Narrow(long value, io.emeraldpay.etherjar.domain.Address to) {}
+
+            @AbiFunction("foo(uint256)")
+            record Count(java.math.BigInteger a, java.math.BigInteger b) {}
+
+            @AbiFunction("foo(uint256[])")
+            record Array(byte[] value) {}
+
+            @AbiFunction("foo(uint7)")
+            record Invalid(long value) {}
+
+            @AbiFunction("foo(")
+            record Signature() {}
+
+            @AbiFunction("foo()")
+            interface NotRecord {}
+        ''')
+        then:
+        act == [
+                "Java type long of 'value' is not compatible with ABI type uint256",
+                "Function has 1 arguments, but the record has 2 components",
+                "ABI type of 'value' is not supported by the generator: uint256[]",
+                "Invalid ABI type of 'value': uint7",
+                "Invalid function signature: foo(",
+                "@AbiFunction is supported only on records",
+        ]
+    }
+
+    def "Accepts numbers which fit into java type"() {
+        when:
+        def act = compile('''
+            import io.emeraldpay.etherjar.abi.AbiFunction;
+
+            @AbiFunction("foo(uint56,int64,uint24,int32,uint256)")
+            record Numbers(long a, long b, int c, int d, java.math.BigInteger e) {}
+        ''')
+        then:
+        act == []
+    }
+
+    /**
+     * Compile a source with the processor only, and return the errors
+     */
+    List<String> compile(String source) {
+        def compiler = ToolProvider.getSystemJavaCompiler()
+        def diagnostics = new DiagnosticCollector<JavaFileObject>()
+        def file = new SimpleJavaFileObject(URI.create("string:///Test.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source
+            }
+        }
+        def options = ["-proc:only", "-classpath", System.getProperty("java.class.path"), "-d", output.toString(), "-s", output.toString()]
+        def task = compiler.getTask(null, null, diagnostics, options, null, [file])
+        task.setProcessors([new AbiFunctionProcessor()])
+        task.call()
+        return diagnostics.diagnostics
+                .findAll { it.kind == Diagnostic.Kind.ERROR }
+                .collect { it.getMessage(Locale.ENGLISH) }
+    }
+}
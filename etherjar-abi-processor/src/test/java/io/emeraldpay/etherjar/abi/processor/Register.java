@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.abi.processor;
+
+import io.emeraldpay.etherjar.abi.AbiFunction;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+
+/**
+ * A function with all kinds of supported arguments, mixing static and dynamic ones
+ */
+@AbiFunction("register(string,bool,uint8,bytes,int32,bytes32,bytes4,bytes)")
+public record Register(String name, boolean active, long decimals, byte[] payload,
+                       int offset, Hex32 hash, byte[] tag, HexData extra) {
+}
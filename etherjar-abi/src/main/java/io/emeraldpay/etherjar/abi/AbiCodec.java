@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.abi;
+
+import io.emeraldpay.etherjar.domain.MethodId;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Encoder and decoder for a list of values, i.e. function arguments or return values, compiled once for the given
+ * list of types.
+ *
+ * <p>Supports all the standard types, including nested tuples, fixed-size arrays and dynamic arrays of any types.
+ * Tuple values are {@link List}s and arrays are {@code Object[]}, both are accepted as a value of either kind
+ * for encoding. The instance is immutable and thread safe.
+ *
+ * <pre>{@code
+ * AbiCodec codec = AbiCodec.compile("address,uint256[],(bytes32,uint8)[]");
+ * HexData data = codec.encodeCall(methodId, recipient, amounts, orders);
+ * List<Object> values = codec.decode(data, MethodId.SIZE_BYTES);
+ * }</pre>
+ *
+ * @see TupleType
+ */
+public final class AbiCodec {
+
+    private static final int CACHE_CAPACITY = 4096;
+
+    private static final ConcurrentMap<String, AbiCodec> COMPILED = new ConcurrentHashMap<>();
+
+    public static final AbiCodec EMPTY = new AbiCodec(TupleType.of());
+
+    /**
+     * Compile a codec for a list of types, like {@code address,uint256[],(bytes32,uint8)[]}, using
+     * {@link DefaultRepository}. The result is remembered, so the same list of types is compiled only once.
+     *
+     * @param types comma separated types
+     * @return a codec
+     * @throws IllegalArgumentException if a type is unknown or invalid
+     */
+    public static AbiCodec compile(String types) {
+        AbiCodec codec = COMPILED.get(types);
+
+        if (codec != null)
+            return codec;
+
+        codec = compile(DefaultRepository.getInstance(), types);
+
+        if (COMPILED.size() < CACHE_CAPACITY) {
+            AbiCodec existing = COMPILED.putIfAbsent(types, codec);
+
+            if (existing != null)
+                return existing;
+        }
+
+        return codec;
+    }
+
+    /**
+     * Compile a codec for a list of types, like {@code address,uint256[],(bytes32,uint8)[]}.
+     *
+     * @param repo a {@link Type} parsers repository
+     * @param types comma separated types
+     * @return a codec
+     * @throws IllegalArgumentException if a type is unknown or invalid
+     */
+    public static AbiCodec compile(Type.Repository repo, String types) {
+        List<String> names = TupleType.splitTypeList(types);
+        List<Type<?>> list = new ArrayList<>(names.size());
+
+        for (String name : names) {
+            list.add(repo.search(name).orElseThrow(() ->
+                    new IllegalArgumentException("Unknown parameter type format: " + name)));
+        }
+
+        return of(list);
+    }
+
+    public static AbiCodec of(Type<?>... types) {
+        return of(Arrays.asList(types));
+    }
+
+    public static AbiCodec of(List<? extends Type<?>> types) {
+        return types.isEmpty() ? EMPTY : new AbiCodec(TupleType.of(types));
+    }
+
+    private final TupleType tuple;
+
+    private AbiCodec(TupleType tuple) {
+        this.tuple = tuple;
+    }
+
+    /**
+     * @return the types of the values
+     */
+    public List<Type<?>> getTypes() {
+        return tuple.getTypes();
+    }
+
+    /**
+     * @return all the types as a single tuple
+     */
+    public TupleType asTuple() {
+        return tuple;
+    }
+
+    /**
+     * @return size of the head part, which is the minimal size of the encoded values
+     */
+    public int getHeadSize() {
+        return tuple.getPlan().getTupleHeadSize();
+    }
+
+    /**
+     * Encode values.
+     *
+     * @param values values in the same order as types
+     * @return encoded data
+     */
+    public HexData encode(Object... values) {
+        return encode(Arrays.asList(values));
+    }
+
+    /**
+     * Encode values.
+     *
+     * @param values values in the same order as types
+     * @return encoded data
+     */
+    public HexData encode(List<?> values) {
+        return tuple.getPlan().encode(values);
+    }
+
+    /**
+     * Encode a function call, i.e. the method id followed by the encoded arguments.
+     *
+     * @param methodId the method id
+     * @param values arguments in the same order as types
+     * @return encoded call data
+     */
+    public HexData encodeCall(MethodId methodId, Object... values) {
+        return encodeCall(methodId, Arrays.asList(values));
+    }
+
+    /**
+     * Encode a function call, i.e. the method id followed by the encoded arguments.
+     *
+     * @param methodId the method id
+     * @param values arguments in the same order as types
+     * @return encoded call data
+     */
+    public HexData encodeCall(MethodId methodId, List<?> values) {
+        Objects.requireNonNull(methodId);
+
+        AbiPlan.Tuple plan = tuple.getPlan();
+
+        AbiWriter writer = new AbiWriter(MethodId.SIZE_BYTES + plan.size(values));
+
+        writer.writeMethodId(methodId);
+        plan.write(values, writer, MethodId.SIZE_BYTES);
+
+        return writer.toHexData();
+    }
+
+    /**
+     * Decode values.
+     *
+     * @param data encoded data
+     * @return decoded values in the same order as types
+     * @throws IllegalArgumentException if the data is invalid
+     */
+    public List<Object> decode(HexData data) {
+        return decode(data, 0);
+    }
+
+    /**
+     * Decode values, skipping a prefix of the data. For example, to decode arguments of call data
+     * the offset is {@link MethodId#SIZE_BYTES}.
+     *
+     * @param data encoded data
+     * @param offset size of the prefix to skip
+     * @return decoded values in the same order as types
+     * @throws IllegalArgumentException if the data is invalid
+     */
+    public List<Object> decode(HexData data, int offset) {
+        return tuple.getPlan().decode(new AbiReader(data, offset), offset);
+    }
+
+    /**
+     * Decode values at the start position of a reader.
+     *
+     * @param reader a reader of encoded data
+     * @return decoded values in the same order as types
+     * @throws IllegalArgumentException if the data is invalid
+     */
+    public List<Object> decode(AbiReader reader) {
+        return tuple.getPlan().decode(reader, reader.getStart());
+    }
+
+    /**
+     * Decode values from a region of a byte array.
+     *
+     * @param buf the source
+     * @param offset start position of the encoded data
+     * @param length length of the encoded data
+     * @return decoded values in the same order as types
+     * @throws IllegalArgumentException if the data is invalid
+     */
+    public List<Object> decode(byte[] buf, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > buf.length)
+            throw new IllegalArgumentException("Invalid data region: " + offset + ", " + length);
+
+        return tuple.getPlan().decode(new AbiReader(new HexData(buf), offset, offset + length), offset);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(AbiCodec.class, tuple);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (!(obj instanceof AbiCodec)) return false;
+
+        return Objects.equals(tuple, ((AbiCodec) obj).tuple);
+    }
+
+    @Override
+    public String toString() {
+        String name = tuple.getCanonicalName();
+
+        return name.substring(1, name.length() - 1);
+    }
+}
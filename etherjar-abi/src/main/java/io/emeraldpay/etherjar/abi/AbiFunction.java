@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.abi;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a record as arguments of a contract function, to generate an encoder and a decoder of the function call
+ * at compile time with the {@code etherjar-abi-processor} annotation processor.
+ *
+ * <p>The components of the record are the arguments of the function, in the same order. For a record
+ * {@code Transfer} the processor generates a class {@code TransferAbi} in the same package:
+ *
+ * <pre>{@code
+ * @AbiFunction("transfer(address,uint256)")
+ * public record Transfer(Address to, BigInteger value) {}
+ *
+ * HexData input = TransferAbi.encode(new Transfer(to, value));
+ * Transfer call = TransferAbi.decode(input);
+ * }</pre>
+ *
+ * <p>The generated code writes and reads the arguments with {@link AbiWriter} and {@link AbiReader} directly, and
+ * produces the same data as {@link AbiCodec#encodeCall}. Supported types, and the Java types of the components:
+ * <ul>
+ *     <li>{@code address} - {@link io.emeraldpay.etherjar.domain.Address}</li>
+ *     <li>{@code bool} - {@code boolean}</li>
+ *     <li>{@code intN} and {@code uintN} - {@link java.math.BigInteger}, or {@code long} and {@code int} if
+ *     the type fits into it</li>
+ *     <li>{@code bytesN} - {@code byte[]}, or {@link io.emeraldpay.etherjar.hex.Hex32} for {@code bytes32}</li>
+ *     <li>{@code bytes} - {@code byte[]} or {@link io.emeraldpay.etherjar.hex.HexData}</li>
+ *     <li>{@code string} - {@link String}</li>
+ * </ul>
+ *
+ * <p>Arrays and tuples are not supported, use {@link AbiCodec} for them.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface AbiFunction {
+
+    /**
+     * @return function signature, such as {@code transfer(address,uint256)}
+     */
+    String value();
+}
@@ -0,0 +1,648 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.abi;
+
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A compiled encoding plan of a {@link Type}.
+ *
+ * <p>The plan is built once per type, with the head/tail layout of tuples and arrays calculated in advance,
+ * and then it writes values directly into a single byte array, and reads them in place with an {@link AbiReader}.
+ * Encoding is done in two passes: the first one calculates the exact size of the result, and the second one writes
+ * the heads and the tails into the buffer.
+ *
+ * @see AbiCodec
+ */
+abstract class AbiPlan {
+
+    /**
+     * Compile a plan for the given type.
+     *
+     * @param type a type
+     * @return the plan
+     */
+    static AbiPlan of(Type<?> type) {
+        if (type instanceof TupleType)
+            return ((TupleType) type).getPlan();
+
+        if (type instanceof DynamicElementArrayType)
+            return ((DynamicElementArrayType<?>) type).getPlan();
+
+        if (type instanceof ArrayType)
+            return ((ArrayType<?>) type).getPlan();
+
+        if (type instanceof DynamicArrayType)
+            return ((DynamicArrayType<?>) type).getPlan();
+
+        if (type instanceof AddressType)
+            return AddressWord.INSTANCE;
+
+        if (type instanceof NumericType)
+            return new Numeric((NumericType) type);
+
+        if (type instanceof SimpleType)
+            return new Word((SimpleType<?>) type);
+
+        if (type instanceof DynamicBytesType)
+            return Bytes.INSTANCE;
+
+        if (type instanceof StringType)
+            return Text.INSTANCE;
+
+        if (type.isStatic())
+            return new Opaque(type);
+
+        return new Encoded(type);
+    }
+
+    static Tuple tuple(List<? extends Type<?>> types) {
+        AbiPlan[] items = new AbiPlan[types.size()];
+
+        for (int i = 0; i < items.length; i++) {
+            items[i] = of(types.get(i));
+        }
+
+        return new Tuple(items);
+    }
+
+    private final boolean dynamic;
+
+    private final int headSize;
+
+    AbiPlan(boolean dynamic, int staticSize) {
+        this.dynamic = dynamic;
+        this.headSize = dynamic ? Hex32.SIZE_BYTES : staticSize;
+    }
+
+    /**
+     * @return {@code true} if the value is placed into the tail and referenced by an offset from the head
+     */
+    boolean isDynamic() {
+        return dynamic;
+    }
+
+    /**
+     * @return size occupied in the head of an enclosing tuple or array, which is an offset for dynamic values
+     */
+    int getHeadSize() {
+        return headSize;
+    }
+
+    /**
+     * Decode a value.
+     *
+     * @param reader the source
+     * @param start position of the value encoding, i.e. its head for static values or its tail for dynamic values
+     * @return the decoded value
+     */
+    abstract Object decode(AbiReader reader, int start);
+
+    /**
+     * Calculate size of the value encoding, i.e. {@link #getHeadSize()} for static values, or a tail size
+     * for dynamic values.
+     *
+     * @param value a value to encode
+     * @return size in bytes
+     */
+    abstract int size(Object value);
+
+    /**
+     * Write a value into a zero-filled buffer.
+     *
+     * @param value a value to encode
+     * @param writer the target
+     * @param start position to write the value encoding
+     * @return number of bytes written, which is the same as {@link #size(Object)}
+     */
+    abstract int write(Object value, AbiWriter writer, int start);
+
+    HexData encode(Object value) {
+        AbiWriter writer = new AbiWriter(size(value));
+
+        write(value, writer, 0);
+
+        return writer.toHexData();
+    }
+
+    static List<?> asList(Object value) {
+        if (value instanceof List)
+            return (List<?>) value;
+
+        if (value instanceof Object[])
+            return Arrays.asList((Object[]) value);
+
+        throw new IllegalArgumentException("Not a tuple or array value: " + value.getClass());
+    }
+
+    /**
+     * Tuple, also used for the list of function arguments.
+     */
+    static final class Tuple extends AbiPlan {
+
+        private final AbiPlan[] items;
+
+        private final int[] offsets;
+
+        private final int tupleHeadSize;
+
+        Tuple(AbiPlan[] items) {
+            super(Arrays.stream(items).anyMatch(AbiPlan::isDynamic),
+                    Arrays.stream(items).mapToInt(AbiPlan::getHeadSize).sum());
+
+            this.items = items;
+            this.offsets = new int[items.length];
+
+            int pos = 0;
+
+            for (int i = 0; i < items.length; i++) {
+                offsets[i] = pos;
+                pos += items[i].getHeadSize();
+            }
+
+            this.tupleHeadSize = pos;
+        }
+
+        int size() {
+            return items.length;
+        }
+
+        /**
+         * @return size of the tuple head, where the static components and offsets to the dynamic components are
+         */
+        int getTupleHeadSize() {
+            return tupleHeadSize;
+        }
+
+        @Override
+        List<Object> decode(AbiReader reader, int start) {
+            return Collections.unmodifiableList(Arrays.asList(decodeItems(reader, start)));
+        }
+
+        Object[] decodeItems(AbiReader reader, int start) {
+            reader.checkBounds(start, tupleHeadSize);
+
+            Object[] values = new Object[items.length];
+
+            for (int i = 0; i < items.length; i++) {
+                AbiPlan item = items[i];
+                int pos = start + offsets[i];
+
+                if (item.isDynamic()) {
+                    int offset = reader.readLength(pos);
+
+                    if (offset < tupleHeadSize || offset > reader.getEnd() - start)
+                        throw new IllegalArgumentException("Illegal tail bytes offset: " + offset);
+
+                    values[i] = item.decode(reader, start + offset);
+                } else {
+                    values[i] = item.decode(reader, pos);
+                }
+            }
+
+            return values;
+        }
+
+        @Override
+        int size(Object value) {
+            List<?> values = checkValues(value);
+
+            int size = tupleHeadSize;
+
+            for (int i = 0; i < items.length; i++) {
+                if (items[i].isDynamic()) {
+                    size += items[i].size(values.get(i));
+                }
+            }
+
+            return size;
+        }
+
+        @Override
+        int write(Object value, AbiWriter writer, int start) {
+            List<?> values = checkValues(value);
+
+            int tail = tupleHeadSize;
+
+            for (int i = 0; i < items.length; i++) {
+                AbiPlan item = items[i];
+
+                if (item.isDynamic()) {
+                    writer.writeLength(start + offsets[i], tail);
+                    tail += item.write(values.get(i), writer, start + tail);
+                } else {
+                    item.write(values.get(i), writer, start + offsets[i]);
+                }
+            }
+
+            return tail;
+        }
+
+        private List<?> checkValues(Object value) {
+            List<?> values = asList(value);
+
+            if (values.size() != items.length)
+                throw new IllegalArgumentException("Wrong number of tuple values: " + values.size());
+
+            return values;
+        }
+    }
+
+    /**
+     * Fixed-size {@code T[k]} or dynamic-size {@code T[]} array.
+     */
+    static final class Array extends AbiPlan {
+
+        private final AbiPlan item;
+
+        private final int length;
+
+        /**
+         * @param item element plan
+         * @param length fixed length, or {@code -1} for a dynamic-size array
+         */
+        Array(AbiPlan item, int length) {
+            super(length < 0 || item.isDynamic(), length < 0 ? 0 : item.getHeadSize() * length);
+
+            this.item = item;
+            this.length = length;
+        }
+
+        @Override
+        Object[] decode(AbiReader reader, int start) {
+            int count = length;
+            int base = start;
+
+            if (length < 0) {
+                count = reader.readLength(start);
+                base += Hex32.SIZE_BYTES;
+            }
+
+            reader.checkBounds(base, (long) count * item.getHeadSize());
+
+            Object[] values = new Object[count];
+
+            for (int i = 0; i < count; i++) {
+                int pos = base + i * item.getHeadSize();
+
+                if (item.isDynamic()) {
+                    int offset = reader.readLength(pos);
+
+                    if (offset < count * Hex32.SIZE_BYTES || offset > reader.getEnd() - base)
+                        throw new IllegalArgumentException("Illegal tail bytes offset: " + offset);
+
+                    values[i] = item.decode(reader, base + offset);
+                } else {
+                    values[i] = item.decode(reader, pos);
+                }
+            }
+
+            return values;
+        }
+
+        @Override
+        int size(Object value) {
+            List<?> values = checkValues(value);
+
+            int size = (length < 0 ? Hex32.SIZE_BYTES : 0) + values.size() * item.getHeadSize();
+
+            if (item.isDynamic()) {
+                for (Object it : values) {
+                    size += item.size(it);
+                }
+            }
+
+            return size;
+        }
+
+        @Override
+        int write(Object value, AbiWriter writer, int start) {
+            List<?> values = checkValues(value);
+
+            int base = start;
+
+            if (length < 0) {
+                writer.writeLength(start, values.size());
+                base += Hex32.SIZE_BYTES;
+            }
+
+            int head = values.size() * item.getHeadSize();
+            int tail = head;
+
+            for (int i = 0; i < values.size(); i++) {
+                if (item.isDynamic()) {
+                    writer.writeLength(base + i * Hex32.SIZE_BYTES, tail);
+                    tail += item.write(values.get(i), writer, base + tail);
+                } else {
+                    item.write(values.get(i), writer, base + i * item.getHeadSize());
+                }
+            }
+
+            return base - start + tail;
+        }
+
+        private List<?> checkValues(Object value) {
+            List<?> values = asList(value);
+
+            if (length >= 0 && values.size() != length)
+                throw new IllegalArgumentException("Wrong array length to encode: " + values.size());
+
+            return values;
+        }
+    }
+
+    /**
+     * Integer types and bool, with no intermediate {@link Hex32}.
+     */
+    static final class Numeric extends AbiPlan {
+
+        private final NumericType type;
+
+        Numeric(NumericType type) {
+            super(false, Hex32.SIZE_BYTES);
+
+            this.type = type;
+        }
+
+        @Override
+        BigInteger decode(AbiReader reader, int start) {
+            return type.decode(reader, start);
+        }
+
+        @Override
+        int size(Object value) {
+            return Hex32.SIZE_BYTES;
+        }
+
+        @Override
+        int write(Object value, AbiWriter writer, int start) {
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                type.encodeLong(((Number) value).longValue(), writer, start);
+            } else {
+                type.encode(toBigInteger(value), writer, start);
+            }
+
+            return Hex32.SIZE_BYTES;
+        }
+
+        private static BigInteger toBigInteger(Object value) {
+            if (value instanceof BigInteger)
+                return (BigInteger) value;
+
+            if (value instanceof Boolean)
+                return (Boolean) value ? BoolType.TRUE : BoolType.FALSE;
+
+            throw new IllegalArgumentException("Not a numeric value: " + value.getClass());
+        }
+    }
+
+    static final class AddressWord extends AbiPlan {
+
+        static final AddressWord INSTANCE = new AddressWord();
+
+        private AddressWord() {
+            super(false, Hex32.SIZE_BYTES);
+        }
+
+        @Override
+        Address decode(AbiReader reader, int start) {
+            return reader.readAddress(start);
+        }
+
+        @Override
+        int size(Object value) {
+            return Hex32.SIZE_BYTES;
+        }
+
+        @Override
+        int write(Object value, AbiWriter writer, int start) {
+            writer.writeAddress(start, (Address) value);
+
+            return Hex32.SIZE_BYTES;
+        }
+    }
+
+    /**
+     * Any other {@link SimpleType}, encoded through its {@link Hex32} conversion.
+     */
+    static final class Word extends AbiPlan {
+
+        private final SimpleType<Object> type;
+
+        @SuppressWarnings("unchecked")
+        Word(SimpleType<?> type) {
+            super(false, Hex32.SIZE_BYTES);
+
+            this.type = (SimpleType<Object>) type;
+        }
+
+        @Override
+        Object decode(AbiReader reader, int start) {
+            return type.decode(reader, start);
+        }
+
+        @Override
+        int size(Object value) {
+            return Hex32.SIZE_BYTES;
+        }
+
+        @Override
+        int write(Object value, AbiWriter writer, int start) {
+            writer.writeWord(start, type.encodeSimple(value));
+
+            return Hex32.SIZE_BYTES;
+        }
+    }
+
+    /**
+     * Any other {@link StaticType}, encoded through its {@link HexData} conversion.
+     */
+    static final class Opaque extends AbiPlan {
+
+        private final Type<Object> type;
+
+        @SuppressWarnings("unchecked")
+        Opaque(Type<?> type) {
+            super(false, type.getFixedSize());
+
+            this.type = (Type<Object>) type;
+        }
+
+        @Override
+        Object decode(AbiReader reader, int start) {
+            return type.decode(reader, start);
+        }
+
+        @Override
+        int size(Object value) {
+            return getHeadSize();
+        }
+
+        @Override
+        int write(Object value, AbiWriter writer, int start) {
+            HexData data = type.encode(value);
+
+            if (data.getSize() != getHeadSize())
+                throw new IllegalStateException("Wrong encoded size of " + type + ": " + data.getSize());
+
+            writer.writeBytes(start, data);
+
+            return data.getSize();
+        }
+    }
+
+    /**
+     * Any other {@link DynamicType}, through its {@link HexData} conversion. The value is encoded twice, first to
+     * calculate the size and then to write it, so all standard types have their own plans instead.
+     */
+    static final class Encoded extends AbiPlan {
+
+        private final Type<Object> type;
+
+        @SuppressWarnings("unchecked")
+        Encoded(Type<?> type) {
+            super(true, 0);
+
+            this.type = (Type<Object>) type;
+        }
+
+        @Override
+        Object decode(AbiReader reader, int start) {
+            return type.decode(reader, start);
+        }
+
+        @Override
+        int size(Object value) {
+            return type.encode(value).getSize();
+        }
+
+        @Override
+        int write(Object value, AbiWriter writer, int start) {
+            HexData data = type.encode(value);
+
+            writer.writeBytes(start, data);
+
+            return data.getSize();
+        }
+    }
+
+    /**
+     * Dynamic {@code bytes}.
+     */
+    static class Bytes extends AbiPlan {
+
+        static final Bytes INSTANCE = new Bytes();
+
+        Bytes() {
+            super(true, 0);
+        }
+
+        @Override
+        Object decode(AbiReader reader, int start) {
+            return DynamicBytesType.DEFAULT.decode(reader, start);
+        }
+
+        @Override
+        int size(Object value) {
+            return AbiWriter.sizeOfDynamicBytes(length(value));
+        }
+
+        @Override
+        int write(Object value, AbiWriter writer, int start) {
+            if (value instanceof HexData) {
+                HexData data = (HexData) value;
+
+                writer.writeLength(start, data.getSize());
+                writer.writeBytes(start + Hex32.SIZE_BYTES, data);
+
+                return AbiWriter.sizeOfDynamicBytes(data.getSize());
+            }
+
+            if (value instanceof byte[])
+                return writer.writeDynamicBytes(start, (byte[]) value);
+
+            throw new IllegalArgumentException("Not a bytes value: " + value.getClass());
+        }
+
+        /**
+         * @return number of bytes in the value, computed without converting the value to bytes
+         */
+        int length(Object value) {
+            if (value instanceof byte[])
+                return ((byte[]) value).length;
+
+            if (value instanceof HexData)
+                return ((HexData) value).getSize();
+
+            throw new IllegalArgumentException("Not a bytes value: " + value.getClass());
+        }
+    }
+
+    /**
+     * UTF-8 {@code string}. The size is counted from the characters, so a value is encoded only once, when it's written.
+     */
+    static final class Text extends Bytes {
+
+        static final Text INSTANCE = new Text();
+
+        private Text() {
+        }
+
+        @Override
+        String decode(AbiReader reader, int start) {
+            return StringType.DEFAULT.decode(reader, start);
+        }
+
+        @Override
+        int write(Object value, AbiWriter writer, int start) {
+            return writer.writeDynamicBytes(start, ((String) value).getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        int length(Object value) {
+            String text = (String) value;
+            int length = 0;
+
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+
+                if (c < 0x80) {
+                    length += 1;
+                } else if (c < 0x800) {
+                    length += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else if (Character.isSurrogate(c)) {
+                    // an unpaired surrogate is encoded as '?'
+                    length += 1;
+                } else {
+                    length += 3;
+                }
+            }
+
+            return length;
+        }
+    }
+}
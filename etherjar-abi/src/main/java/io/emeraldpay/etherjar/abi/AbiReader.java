@@ -0,0 +1,391 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.abi;
+
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * A cursor to decode ABI encoded data in place, i.e. without splitting it into {@link Hex32} or {@link HexData} parts.
+ *
+ * <p>All {@code read...} methods take an absolute position in the underlying data, and the {@code next...} methods
+ * read the head of a tuple word by word, starting from {@link #getStart()}. Offsets of dynamic values in the head
+ * are relative to the start. For example, to read the data of a {@code Swap(address,address,int256,int256,uint160,uint128,int24)}
+ * event with two indexed arguments:
+ *
+ * <pre>{@code
+ * AbiReader reader = new AbiReader(log.getData());
+ * BigInteger amount0 = reader.nextSigned();
+ * BigInteger amount1 = reader.nextSigned();
+ * BigInteger sqrtPrice = reader.nextUnsigned();
+ * BigInteger liquidity = reader.nextUnsigned();
+ * long tick = reader.nextLong();
+ * }</pre>
+ *
+ * <p>The reader is not thread safe, but it's cheap to create.
+ *
+ * @see Type#decode(AbiReader, int)
+ */
+public class AbiReader {
+
+    private static final int LENGTH_PREFIX = Hex32.SIZE_BYTES - Integer.BYTES;
+
+    private static final int LONG_PREFIX = Hex32.SIZE_BYTES - Long.BYTES;
+
+    private final HexData data;
+
+    private final int start;
+
+    private final int end;
+
+    private int position;
+
+    /**
+     * Read the whole data
+     *
+     * @param data encoded data
+     */
+    public AbiReader(HexData data) {
+        this(data, 0, data.getSize());
+    }
+
+    /**
+     * Read the data starting from the given position, e.g. from {@link io.emeraldpay.etherjar.domain.MethodId#SIZE_BYTES}
+     * for call data.
+     *
+     * @param data encoded data
+     * @param start start position of the encoded tuple
+     */
+    public AbiReader(HexData data, int start) {
+        this(data, start, data.getSize());
+    }
+
+    /**
+     * Read a part of the data.
+     *
+     * @param data encoded data
+     * @param start start position of the encoded tuple
+     * @param end end position (exclusive) of the available data
+     */
+    public AbiReader(HexData data, int start, int end) {
+        this.data = Objects.requireNonNull(data);
+
+        if (start < 0 || end < start || end > data.getSize())
+            throw new IllegalArgumentException("Invalid data region: " + start + ".." + end);
+
+        this.start = start;
+        this.end = end;
+        this.position = start;
+    }
+
+    public HexData getData() {
+        return data;
+    }
+
+    /**
+     * @return start position, which is the base for offsets of dynamic values
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * @return end position (exclusive) of the available data
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * @return current position of the cursor
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Move the cursor
+     *
+     * @param position new absolute position
+     * @return this reader
+     */
+    public AbiReader setPosition(int position) {
+        if (position < start || position > end)
+            throw new IllegalArgumentException("Position is out of data: " + position);
+
+        this.position = position;
+        return this;
+    }
+
+    /**
+     * Move the cursor forward
+     *
+     * @param bytes number of bytes to skip
+     * @return this reader
+     */
+    public AbiReader skip(int bytes) {
+        return setPosition(position + bytes);
+    }
+
+    /**
+     * @return number of bytes between the cursor and the end
+     */
+    public int remaining() {
+        return end - position;
+    }
+
+    /**
+     * Ensure the data has enough bytes
+     *
+     * @param position start position
+     * @param size required number of bytes
+     * @throws IllegalArgumentException if there is no enough data
+     */
+    public void checkBounds(int position, long size) {
+        if (position < 0 || size < 0 || position + size > end)
+            throw new IllegalArgumentException(
+                    "Insufficient data length to decode: " + (end - position) + " < " + size + " at " + position);
+    }
+
+    /**
+     * Read a length of a dynamic value, or an offset to it. The value must fit into {@code int}.
+     *
+     * @param position absolute position
+     * @return the length or the offset
+     */
+    public int readLength(int position) {
+        checkBounds(position, Hex32.SIZE_BYTES);
+
+        if (!data.isZero(position, LENGTH_PREFIX) || data.getByte(position + LENGTH_PREFIX) < 0)
+            throw new IllegalArgumentException("Length or offset is too large at " + position);
+
+        return (int) data.asLong(position + LENGTH_PREFIX, Integer.BYTES);
+    }
+
+    /**
+     * Read an offset to a dynamic value and resolve it to the absolute position of the value.
+     *
+     * @param position absolute position of the offset
+     * @param base position the offset is relative to, i.e. the start of the enclosing tuple
+     * @return absolute position of the value
+     */
+    public int readOffset(int position, int base) {
+        int offset = readLength(position);
+
+        if (base + offset > end)
+            throw new IllegalArgumentException("Illegal tail bytes offset: " + offset);
+
+        return base + offset;
+    }
+
+    /**
+     * Read a 32 byte word as a signed number that fits into {@code long}. It is either a non-negative value of
+     * an unsigned type, or a value of a signed type.
+     *
+     * @param position absolute position
+     * @return the number
+     * @throws IllegalArgumentException if the number doesn't fit into {@code long}
+     */
+    public long readLong(int position) {
+        checkBounds(position, Hex32.SIZE_BYTES);
+
+        long value = data.asLong(position + LONG_PREFIX, Long.BYTES);
+        byte fill = value < 0 ? (byte) 0xFF : 0;
+
+        for (int i = position; i < position + LONG_PREFIX; i++) {
+            if (data.getByte(i) != fill)
+                throw new IllegalArgumentException("Numeric value doesn't fit into long at " + position);
+        }
+
+        return value;
+    }
+
+    /**
+     * Read a 32 byte word as a signed number that fits into {@code int}.
+     *
+     * @param position absolute position
+     * @return the number
+     * @throws IllegalArgumentException if the number doesn't fit into {@code int}
+     */
+    public int readInt(int position) {
+        long value = readLong(position);
+
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Numeric value doesn't fit into int at " + position);
+
+        return (int) value;
+    }
+
+    /**
+     * Read a 32 byte word as an unsigned number.
+     *
+     * @param position absolute position
+     * @return the number
+     */
+    public BigInteger readUnsigned(int position) {
+        checkBounds(position, Hex32.SIZE_BYTES);
+
+        return data.asUInt(position, Hex32.SIZE_BYTES);
+    }
+
+    /**
+     * Read a 32 byte word as a signed (two's-complement) number.
+     *
+     * @param position absolute position
+     * @return the number
+     */
+    public BigInteger readSigned(int position) {
+        checkBounds(position, Hex32.SIZE_BYTES);
+
+        return data.asInt(position, Hex32.SIZE_BYTES);
+    }
+
+    /**
+     * Read a 32 byte word as a boolean, i.e. any non-zero value is {@code true}.
+     *
+     * @param position absolute position
+     * @return the boolean
+     */
+    public boolean readBoolean(int position) {
+        checkBounds(position, Hex32.SIZE_BYTES);
+
+        return !data.isZero(position, Hex32.SIZE_BYTES);
+    }
+
+    /**
+     * Read an address, i.e. lower 20 bytes of a 32 byte word.
+     *
+     * @param position absolute position of the word
+     * @return the address
+     */
+    public Address readAddress(int position) {
+        return Address.from(readBytes(position + AddressType.OFFSET_BYTES, Address.SIZE_BYTES));
+    }
+
+    /**
+     * @param position absolute position
+     * @return a copy of 32 byte word
+     */
+    public Hex32 readWord(int position) {
+        return new Hex32(readBytes(position, Hex32.SIZE_BYTES));
+    }
+
+    /**
+     * @param position absolute position
+     * @param length number of bytes
+     * @return a copy of the bytes
+     */
+    public byte[] readBytes(int position, int length) {
+        checkBounds(position, length);
+
+        byte[] buf = new byte[length];
+        data.copyTo(position, buf, 0, length);
+
+        return buf;
+    }
+
+    /**
+     * Read a length-prefixed bytes, as they are encoded for {@code bytes} and {@code string}.
+     *
+     * @param position absolute position of the length
+     * @return a copy of the bytes
+     */
+    public byte[] readDynamicBytes(int position) {
+        int length = readLength(position);
+
+        return readBytes(position + Hex32.SIZE_BYTES, length);
+    }
+
+    /**
+     * @return next word of the head as a number that fits into {@code long}
+     * @see #readLong(int)
+     */
+    public long nextLong() {
+        long value = readLong(position);
+        position += Hex32.SIZE_BYTES;
+        return value;
+    }
+
+    /**
+     * @return next word of the head as an unsigned number
+     */
+    public BigInteger nextUnsigned() {
+        BigInteger value = readUnsigned(position);
+        position += Hex32.SIZE_BYTES;
+        return value;
+    }
+
+    /**
+     * @return next word of the head as a signed number
+     */
+    public BigInteger nextSigned() {
+        BigInteger value = readSigned(position);
+        position += Hex32.SIZE_BYTES;
+        return value;
+    }
+
+    /**
+     * @return next word of the head as a boolean
+     */
+    public boolean nextBoolean() {
+        boolean value = readBoolean(position);
+        position += Hex32.SIZE_BYTES;
+        return value;
+    }
+
+    /**
+     * @return next word of the head as an address
+     */
+    public Address nextAddress() {
+        Address value = readAddress(position);
+        position += Hex32.SIZE_BYTES;
+        return value;
+    }
+
+    /**
+     * @return a copy of next word of the head
+     */
+    public Hex32 nextWord() {
+        Hex32 value = readWord(position);
+        position += Hex32.SIZE_BYTES;
+        return value;
+    }
+
+    /**
+     * Decode next value of the head. A static value is read in place, and for a dynamic value the head contains
+     * an offset to its actual position.
+     *
+     * @param type type of the value
+     * @param <T> java type of the value
+     * @return decoded value
+     */
+    public <T> T next(Type<T> type) {
+        T value;
+
+        if (type.isDynamic()) {
+            value = type.decode(this, readOffset(position, start));
+        } else {
+            value = type.decode(this, position);
+        }
+
+        position += type.getFixedSize();
+        return value;
+    }
+}
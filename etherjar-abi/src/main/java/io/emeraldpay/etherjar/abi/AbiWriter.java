@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.abi;
+
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.MethodId;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A writer of ABI encoded data into a single exactly-sized byte array, i.e. without building intermediate
+ * {@link HexData} parts and concatenating them.
+ *
+ * <p>The size of the encoded data is calculated first (see {@link #sizeOf(Type, Object)} and
+ * {@link #sizeOfDynamicBytes(int)}), and then the heads and the tails are written at their positions. The buffer
+ * is zero-filled initially, so only the significant bytes are written. For example, to encode a
+ * {@code transfer(address,uint256)} call:
+ *
+ * <pre>{@code
+ * AbiWriter writer = new AbiWriter(MethodId.SIZE_BYTES + 2 * Hex32.SIZE_BYTES);
+ * writer.writeMethodId(methodId);
+ * writer.writeAddress(4, to);
+ * writer.writeNumber(36, amount);
+ * HexData data = writer.toHexData();
+ * }</pre>
+ *
+ * <p>The writer is not thread safe.
+ *
+ * @see AbiReader
+ * @see AbiCodec
+ */
+public class AbiWriter {
+
+    private static final byte[] NEGATIVE_PADDING = new byte[Hex32.SIZE_BYTES];
+
+    static {
+        Arrays.fill(NEGATIVE_PADDING, (byte) 0xFF);
+    }
+
+    /**
+     * Calculate size of a value encoding, i.e. {@link Type#getFixedSize()} for static types, or the size of the tail
+     * for dynamic types.
+     *
+     * @param type a type
+     * @param value a value to encode
+     * @param <T> java type of the value
+     * @return size in bytes
+     */
+    public static <T> int sizeOf(Type<T> type, T value) {
+        return AbiPlan.of(type).size(value);
+    }
+
+    /**
+     * Calculate size of a length-prefixed and padded bytes, as they are encoded for {@code bytes} and {@code string}.
+     *
+     * @param length number of bytes
+     * @return size in bytes
+     */
+    public static int sizeOfDynamicBytes(int length) {
+        return Hex32.SIZE_BYTES + padded(length);
+    }
+
+    static int padded(int length) {
+        int rem = length % Hex32.SIZE_BYTES;
+
+        return rem == 0 ? length : length + Hex32.SIZE_BYTES - rem;
+    }
+
+    private final byte[] buf;
+
+    /**
+     * Create a writer with a new zero-filled buffer.
+     *
+     * @param size exact size of the encoded data
+     */
+    public AbiWriter(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("Negative size: " + size);
+
+        this.buf = new byte[size];
+    }
+
+    /**
+     * Create a writer into an existing buffer, which is expected to be zero-filled.
+     *
+     * @param buf the target
+     */
+    public AbiWriter(byte[] buf) {
+        this.buf = Objects.requireNonNull(buf);
+    }
+
+    /**
+     * @return size of the buffer
+     */
+    public int getSize() {
+        return buf.length;
+    }
+
+    /**
+     * Ensure the buffer has enough space
+     *
+     * @param position start position
+     * @param size required number of bytes
+     * @throws IllegalArgumentException if there is no enough space
+     */
+    public void checkBounds(int position, long size) {
+        if (position < 0 || size < 0 || position + size > buf.length)
+            throw new IllegalArgumentException(
+                    "Insufficient buffer size to encode: " + (buf.length - position) + " < " + size + " at " + position);
+    }
+
+    /**
+     * Write a method id at the start of the buffer, as it is for call data.
+     *
+     * @param methodId the method id
+     */
+    public void writeMethodId(MethodId methodId) {
+        writeBytes(0, methodId);
+    }
+
+    /**
+     * Write a length of a dynamic value, or an offset to it.
+     *
+     * @param position absolute position
+     * @param value the length or the offset
+     */
+    public void writeLength(int position, int value) {
+        if (value < 0)
+            throw new IllegalArgumentException("Negative length or offset: " + value);
+
+        writeLong(position, value);
+    }
+
+    /**
+     * Write a signed number as a 32 byte word.
+     *
+     * @param position absolute position
+     * @param value the number
+     */
+    public void writeLong(int position, long value) {
+        checkBounds(position, Hex32.SIZE_BYTES);
+
+        if (value < 0) {
+            System.arraycopy(NEGATIVE_PADDING, 0, buf, position, Hex32.SIZE_BYTES - Long.BYTES);
+        }
+
+        for (int i = position + Hex32.SIZE_BYTES - 1; i >= position + Hex32.SIZE_BYTES - Long.BYTES; i--) {
+            buf[i] = (byte) value;
+            value >>= 8;
+        }
+    }
+
+    /**
+     * Write a number (in two's-complement for negative values) as a 32 byte word. The caller is responsible for
+     * validation of the value range, see {@link NumericType#isValueValid(BigInteger)}.
+     *
+     * @param position absolute position
+     * @param value the number
+     * @throws IllegalArgumentException if the number doesn't fit into 256 bits
+     */
+    public void writeNumber(int position, BigInteger value) {
+        checkBounds(position, Hex32.SIZE_BYTES);
+
+        if (value.bitLength() < Long.SIZE) {
+            writeLong(position, value.longValue());
+            return;
+        }
+
+        byte[] data = value.toByteArray();
+
+        int bytes = data.length;
+
+        // a positive 256 bit number has an extra leading zero byte for the sign
+        if (bytes == Hex32.SIZE_BYTES + 1 && data[0] == 0) {
+            bytes = Hex32.SIZE_BYTES;
+        } else if (bytes > Hex32.SIZE_BYTES) {
+            throw new IllegalArgumentException("Numeric value is too large: " + value);
+        }
+
+        if (value.signum() < 0) {
+            System.arraycopy(NEGATIVE_PADDING, 0, buf, position, Hex32.SIZE_BYTES - bytes);
+        }
+
+        System.arraycopy(data, data.length - bytes, buf, position + Hex32.SIZE_BYTES - bytes, bytes);
+    }
+
+    /**
+     * Write a boolean as a 32 byte word.
+     *
+     * @param position absolute position
+     * @param value the boolean
+     */
+    public void writeBoolean(int position, boolean value) {
+        checkBounds(position, Hex32.SIZE_BYTES);
+
+        buf[position + Hex32.SIZE_BYTES - 1] = (byte) (value ? 1 : 0);
+    }
+
+    /**
+     * Write an address, i.e. into lower 20 bytes of a 32 byte word.
+     *
+     * @param position absolute position of the word
+     * @param value the address
+     */
+    public void writeAddress(int position, Address value) {
+        checkBounds(position, Hex32.SIZE_BYTES);
+
+        writeBytes(position + AddressType.OFFSET_BYTES, value);
+    }
+
+    /**
+     * Write a 32 byte word.
+     *
+     * @param position absolute position
+     * @param value the word
+     */
+    public void writeWord(int position, Hex32 value) {
+        writeBytes(position, value);
+    }
+
+    /**
+     * Write bytes of a hex data as is.
+     *
+     * @param position absolute position
+     * @param value the data
+     */
+    public void writeBytes(int position, HexData value) {
+        checkBounds(position, value.getSize());
+
+        value.copyTo(0, buf, position, value.getSize());
+    }
+
+    /**
+     * Write bytes as is.
+     *
+     * @param position absolute position
+     * @param value the bytes
+     */
+    public void writeBytes(int position, byte[] value) {
+        writeBytes(position, value, 0, value.length);
+    }
+
+    /**
+     * Write a part of bytes as is.
+     *
+     * @param position absolute position
+     * @param src the source
+     * @param offset start position in the source
+     * @param length number of bytes
+     */
+    public void writeBytes(int position, byte[] src, int offset, int length) {
+        checkBounds(position, length);
+
+        System.arraycopy(src, offset, buf, position, length);
+    }
+
+    /**
+     * Write a length-prefixed and padded bytes, as they are encoded for {@code bytes} and {@code string}.
+     *
+     * @param position absolute position of the length
+     * @param value the bytes
+     * @return number of bytes written, same as {@link #sizeOfDynamicBytes(int)}
+     */
+    public int writeDynamicBytes(int position, byte[] value) {
+        checkBounds(position, sizeOfDynamicBytes(value.length));
+
+        writeLength(position, value.length);
+        System.arraycopy(value, 0, buf, position + Hex32.SIZE_BYTES, value.length);
+
+        return sizeOfDynamicBytes(value.length);
+    }
+
+    /**
+     * Write a value encoding, i.e. its head for a static type or its tail for a dynamic type.
+     *
+     * @param position absolute position
+     * @param type type of the value
+     * @param value the value
+     * @param <T> java type of the value
+     * @return number of bytes written, same as {@link #sizeOf(Type, Object)}
+     */
+    public <T> int write(int position, Type<T> type, T value) {
+        return AbiPlan.of(type).write(value, this, position);
+    }
+
+    /**
+     * @return the encoded data, backed by the buffer of the writer
+     */
+    public HexData toHexData() {
+        return new HexData(buf);
+    }
+
+    byte[] getBuffer() {
+        return buf;
+    }
+}
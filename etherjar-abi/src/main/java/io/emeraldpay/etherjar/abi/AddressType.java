@@ -72,6 +72,11 @@ public class AddressType implements SimpleType<Address> {
         return Address.from(buf);
     }
 
+    @Override
+    public Address decode(AbiReader reader, int position) {
+        return reader.readAddress(position);
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(getClass());
@@ -76,6 +76,8 @@ public class ArrayType<T> implements StaticType<T[]> {
 
     private final int length;
 
+    private volatile AbiPlan plan;
+
     /**
      * Create an array with a fixed length.
      *
@@ -98,6 +100,17 @@ public class ArrayType<T> implements StaticType<T[]> {
         return length;
     }
 
+    AbiPlan getPlan() {
+        AbiPlan plan = this.plan;
+
+        if (plan == null) {
+            plan = new AbiPlan.Array(AbiPlan.of(type), length);
+            this.plan = plan;
+        }
+
+        return plan;
+    }
+
     @Override
     public String getCanonicalName() {
         return type.getCanonicalName() + '[' + length + ']';
@@ -113,13 +126,7 @@ public class ArrayType<T> implements StaticType<T[]> {
         if (arr.length != length)
             throw new IllegalArgumentException("Wrong array length to encode: " + arr.length);
 
-        List<HexData> buf = new ArrayList<>(arr.length);
-
-        for (T obj : arr) {
-            buf.add(getWrappedType().encode(obj));
-        }
-
-        return HexData.combine(buf);
+        return getPlan().encode(arr);
     }
 
     @Override
@@ -128,9 +135,23 @@ public class ArrayType<T> implements StaticType<T[]> {
         if (data.getSize() != getFixedSize())
             throw new IllegalArgumentException("Wrong data length to decode array: " + data);
 
-        HexData[] arr = data.split(getWrappedType().getFixedSize());
+        return decode(new AbiReader(data), 0);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] decode(AbiReader reader, int position) {
+        reader.checkBounds(position, getFixedSize());
+
+        int size = getWrappedType().getFixedSize();
+
+        Object[] arr = new Object[length];
+
+        for (int i = 0; i < length; i++) {
+            arr[i] = getWrappedType().decode(reader, position + i * size);
+        }
 
-        return (T[]) Arrays.stream(arr).map(it -> getWrappedType().decode(it)).toArray();
+        return (T[]) arr;
     }
 
     @Override
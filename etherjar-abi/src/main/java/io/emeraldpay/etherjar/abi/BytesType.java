@@ -106,6 +106,13 @@ public class BytesType implements SimpleType<byte[]> {
         return Arrays.copyOf(hex32.getBytes(), length);
     }
 
+    @Override
+    public byte[] decode(AbiReader reader, int position) {
+        reader.checkBounds(position, Hex32.SIZE_BYTES);
+
+        return reader.readBytes(position, length);
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(getClass(), length);
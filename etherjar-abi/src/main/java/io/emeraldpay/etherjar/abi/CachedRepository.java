@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.abi;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A {@link Type.Repository} which memoizes search results of an underlying repository.
+ *
+ * <p>Types are immutable, so once a string representation is resolved the same instance is returned
+ * for all subsequent searches. Both found and not found results are remembered, while parsing errors are not.
+ * The cache is safe for concurrent use, and a recursive search (i.e., from an array parser) is allowed.
+ *
+ * <p>The number of remembered entries is limited by {@link #getCapacity()}, after reaching it the new string
+ * representations are still resolved, but are not stored anymore.
+ *
+ * @see Type.Repository#cached()
+ */
+public class CachedRepository implements Type.Repository {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final Type.Repository delegate;
+
+    private final int capacity;
+
+    private final ConcurrentMap<String, Optional<Type>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Create a cache with the {@link #DEFAULT_CAPACITY}
+     *
+     * @param delegate the underlying repository
+     */
+    public CachedRepository(Type.Repository delegate) {
+        this(delegate, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param delegate the underlying repository
+     * @param capacity max number of remembered string representations, should be positive
+     */
+    public CachedRepository(Type.Repository delegate, int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Illegal cache capacity: " + capacity);
+
+        this.delegate = Objects.requireNonNull(delegate);
+        this.capacity = capacity;
+    }
+
+    public Type.Repository getDelegate() {
+        return delegate;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return current number of remembered string representations
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Forget all remembered types
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public Optional<Type> search(String str) {
+        // Not a computeIfAbsent() because the delegate may call this repository recursively
+        Optional<Type> type = cache.get(str);
+
+        if (type != null)
+            return type;
+
+        type = delegate.search(str);
+
+        if (cache.size() < capacity) {
+            Optional<Type> existing = cache.putIfAbsent(str, type);
+
+            if (existing != null)
+                return existing;
+        }
+
+        return type;
+    }
+
+    @Override
+    public Type.Repository cached() {
+        return this;
+    }
+
+    @Override
+    public List<Function<String, Optional<? extends Type>>> getTypeParsers() {
+        return delegate.getTypeParsers();
+    }
+}
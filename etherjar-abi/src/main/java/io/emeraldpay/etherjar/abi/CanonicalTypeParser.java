@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.abi;
+
+import java.util.Optional;
+
+/**
+ * A single-pass parser for the most common type names, like {@code uint256}, {@code address[]} or {@code bytes32[2][]}.
+ *
+ * <p>It doesn't use regular expressions, doesn't call a repository recursively, and doesn't report any errors.
+ * Anything it cannot recognize (decimal types, invalid or unusual names) gives {@link Optional#empty()}, so it's
+ * supposed to be the first parser in a repository, followed by the regular type parsers.
+ *
+ * @see DefaultRepository
+ */
+public final class CanonicalTypeParser {
+
+    private CanonicalTypeParser() {
+    }
+
+    /**
+     * Try to parse a type string representation.
+     *
+     * @param str a string
+     * @return a {@link Type} instance is packed as {@link Optional} value,
+     * or {@link Optional#empty()} if the string cannot be parsed in a fast way
+     * @throws NullPointerException if a {@code str} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static Optional<Type> parse(String str) {
+        int len = str.length();
+        int pos = 0;
+
+        while (pos < len && str.charAt(pos) >= 'a' && str.charAt(pos) <= 'z') {
+            pos++;
+        }
+
+        int nameEnd = pos;
+        int size = -1;
+
+        if (pos < len && str.charAt(pos) >= '1' && str.charAt(pos) <= '9') {
+            size = 0;
+
+            while (pos < len && str.charAt(pos) >= '0' && str.charAt(pos) <= '9') {
+                size = size * 10 + (str.charAt(pos++) - '0');
+
+                if (size > 256)
+                    return Optional.empty();
+            }
+        }
+
+        Type type = elementary(str, nameEnd, size);
+
+        if (type == null)
+            return Optional.empty();
+
+        while (pos < len) {
+            if (str.charAt(pos++) != '[')
+                return Optional.empty();
+
+            int start = pos;
+            int length = 0;
+
+            while (pos < len && str.charAt(pos) >= '0' && str.charAt(pos) <= '9') {
+                length = length * 10 + (str.charAt(pos++) - '0');
+
+                if (length > 0xFFFF)
+                    return Optional.empty();
+            }
+
+            if (pos == len || str.charAt(pos++) != ']')
+                return Optional.empty();
+
+            // both array kinds require a static wrapped type, the regular parsers report that
+            if (type.isDynamic())
+                return Optional.empty();
+
+            if (pos - start == 1) {
+                type = new DynamicArrayType<>((StaticType) type);
+            } else if (length > 0 && str.charAt(start) != '0') {
+                type = new ArrayType<>((StaticType) type, length);
+            } else {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(type);
+    }
+
+    private static Type elementary(String str, int nameEnd, int size) {
+        if (isName(str, nameEnd, "uint")) {
+            if (size < 0)
+                return UIntType.DEFAULT;
+            if (!isValidBits(size))
+                return null;
+            UIntType type = UIntType.CACHED_INSTANCES.get(size);
+            return type != null ? type : new UIntType(size);
+        }
+
+        if (isName(str, nameEnd, "int")) {
+            if (size < 0)
+                return IntType.DEFAULT;
+            if (!isValidBits(size))
+                return null;
+            IntType type = IntType.CACHED_INSTANCES.get(size);
+            return type != null ? type : new IntType(size);
+        }
+
+        if (isName(str, nameEnd, "bytes")) {
+            if (size < 0)
+                return DynamicBytesType.DEFAULT;
+            if (size > 32)
+                return null;
+            BytesType type = BytesType.CACHED_INSTANCES.get(size);
+            return type != null ? type : new BytesType(size);
+        }
+
+        if (size >= 0)
+            return null;
+
+        if (isName(str, nameEnd, "address"))
+            return AddressType.DEFAULT;
+        if (isName(str, nameEnd, "bool"))
+            return BoolType.DEFAULT;
+        if (isName(str, nameEnd, "string"))
+            return StringType.DEFAULT;
+        if (isName(str, nameEnd, "byte"))
+            return BytesType.DEFAULT_ONE_BYTE;
+        if (isName(str, nameEnd, "function"))
+            return FunctionType.DEFAULT;
+
+        return null;
+    }
+
+    private static boolean isName(String str, int nameEnd, String name) {
+        return nameEnd == name.length() && str.startsWith(name);
+    }
+
+    private static boolean isValidBits(int bits) {
+        return bits % 8 == 0;
+    }
+}
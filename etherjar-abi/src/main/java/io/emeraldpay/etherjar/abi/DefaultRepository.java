@@ -21,6 +21,14 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
+/**
+ * The standard repository of all Solidity types.
+ *
+ * <p>It's memoized, so resolving the same type name again is just a map lookup.
+ *
+ * @see CachedRepository
+ * @see CanonicalTypeParser
+ */
 public final class DefaultRepository {
 
     private DefaultRepository() {
@@ -41,7 +49,12 @@ public final class DefaultRepository {
         final Type.Repository[] self = new Type.Repository[1];
 
         List<Function<String, Optional<? extends Type>>> parsers = Collections.unmodifiableList(Arrays.asList(
+                // Resolves most of the names in one pass, everything else goes to the regular parsers.
+                CanonicalTypeParser::parse,
+                str -> TupleType.from(self[0], str),
                 // Array parsers go first so names like "uint[]" are not consumed by simple numeric parsers.
+                // Arrays of dynamic types are checked before the others, which accept only static types.
+                str -> DynamicElementArrayType.from(self[0], str),
                 str -> ArrayType.from(self[0], str),
                 str -> DynamicArrayType.from(self[0], str),
                 BoolType::from,
@@ -56,7 +69,9 @@ public final class DefaultRepository {
                 BytesType::from
         ));
 
-        self[0] = () -> parsers;
+        Type.Repository plain = () -> parsers;
+        // Array parsers search through the cache as well, so wrapped types are resolved only once.
+        self[0] = plain.cached();
 
         return self[0];
     }
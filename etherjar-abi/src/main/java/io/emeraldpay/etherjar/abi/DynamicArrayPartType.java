@@ -15,7 +15,6 @@
  */
 package io.emeraldpay.etherjar.abi;
 
-import io.emeraldpay.etherjar.hex.Hex32;
 import io.emeraldpay.etherjar.hex.HexData;
 
 /**
@@ -35,14 +34,6 @@ public class DynamicArrayPartType<T> extends DynamicArrayType<T> {
 
     @Override
     public T[] decode(HexData data) {
-        int len = Type.decodeLength(
-            data.extract(Hex32.SIZE_BYTES, Hex32::from)).intValueExact();
-
-        int size = Hex32.SIZE_BYTES + getWrappedType().getFixedSize() * len;
-
-        if (data.getSize() < size)
-            throw new IllegalArgumentException("Wrong data length to decode dynamic array: " + data);
-
-        return super.decode(data.extract(size));
+        return decode(new AbiReader(data), 0);
     }
 }
@@ -71,6 +71,8 @@ public class DynamicArrayType<T> implements DynamicType<T[]> {
 
     private final StaticType<T> type;
 
+    private volatile AbiPlan plan;
+
     /**
      * Create a dynamic array for predefined {@link StaticType}.
      *
@@ -84,6 +86,17 @@ public class DynamicArrayType<T> implements DynamicType<T[]> {
         return type;
     }
 
+    AbiPlan getPlan() {
+        AbiPlan plan = this.plan;
+
+        if (plan == null) {
+            plan = new AbiPlan.Array(AbiPlan.of(type), -1);
+            this.plan = plan;
+        }
+
+        return plan;
+    }
+
     @Override
     public String getCanonicalName() {
         return type.getCanonicalName() + "[]";
@@ -91,29 +104,38 @@ public class DynamicArrayType<T> implements DynamicType<T[]> {
 
     @Override
     public HexData encode(T[] arr) {
-        List<HexData> buf = new ArrayList<>(arr.length + 1);
+        return getPlan().encode(arr);
+    }
 
-        buf.add(Type.encodeLength(arr.length));
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] decode(HexData data) {
+        AbiReader reader = new AbiReader(data);
 
-        for (T obj : arr) {
-            buf.add(getWrappedType().encode(obj));
-        }
+        int len = reader.readLength(0);
+
+        if (data.getSize() != Hex32.SIZE_BYTES + (long) getWrappedType().getFixedSize() * len)
+            throw new IllegalArgumentException("Wrong data length to decode dynamic array: " + data);
 
-        return HexData.combine(buf);
+        return decode(reader, 0);
     }
 
     @Override
     @SuppressWarnings("unchecked")
-    public T[] decode(HexData data) {
-        int len = Type.decodeLength(
-                data.extract(Hex32.SIZE_BYTES, Hex32::from)).intValueExact();
+    public T[] decode(AbiReader reader, int position) {
+        int len = reader.readLength(position);
+        int size = getWrappedType().getFixedSize();
+        int start = position + Hex32.SIZE_BYTES;
 
-        if (data.getSize() != Hex32.SIZE_BYTES + getWrappedType().getFixedSize() * len)
-            throw new IllegalArgumentException("Wrong data length to decode dynamic array: " + data);
+        reader.checkBounds(start, (long) size * len);
 
-        HexData[] arr = data.split(getWrappedType().getFixedSize(), Hex32.SIZE_BYTES);
+        Object[] arr = new Object[len];
+
+        for (int i = 0; i < len; i++) {
+            arr[i] = getWrappedType().decode(reader, start + i * size);
+        }
 
-        return (T[]) Arrays.stream(arr).map(it -> getWrappedType().decode(it)).toArray();
+        return (T[]) arr;
     }
 
     @Override
@@ -55,26 +55,43 @@ public class DynamicBytesType implements DynamicType<byte[]> {
 
     @Override
     public HexData encode(byte... bytes) {
-        int rem = bytes.length % Hex32.SIZE_BYTES;
+        AbiWriter writer = new AbiWriter(AbiWriter.sizeOfDynamicBytes(bytes.length));
 
-        HexData data = Type.encodeLength(bytes.length).concat(new HexData(bytes));
+        writer.writeDynamicBytes(0, bytes);
 
-        return rem == 0 ? data :
-                data.concat(new HexData(new byte[Hex32.SIZE_BYTES - rem]));
+        return writer.toHexData();
     }
 
     @Override
     public byte[] decode(HexData data) {
-        int len = Type.decodeLength(
-                data.extract(Hex32.SIZE_BYTES, Hex32::from)).intValueExact();
+        AbiReader reader = new AbiReader(data);
+
+        checkEncodedSize(reader);
+
+        return decode(reader, 0);
+    }
+
+    @Override
+    public byte[] decode(AbiReader reader, int position) {
+        return reader.readDynamicBytes(position);
+    }
+
+    /**
+     * Ensure the whole data is exactly a length-prefixed and padded bytes.
+     *
+     * @param reader a reader of encoded data
+     * @return the length
+     */
+    static int checkEncodedSize(AbiReader reader) {
+        int len = reader.readLength(reader.getStart());
 
         int size = len % Hex32.SIZE_BYTES == 0 ? len :
                 len + Hex32.SIZE_BYTES - len % Hex32.SIZE_BYTES;
 
-        if (data.getSize() != Hex32.SIZE_BYTES + size)
-            throw new IllegalArgumentException("Wrong data length to decode bytes: " + data);
+        if (reader.getEnd() - reader.getStart() != Hex32.SIZE_BYTES + (long) size)
+            throw new IllegalArgumentException("Wrong data length to decode bytes: " + reader.getData());
 
-        return data.extract(len, Hex32.SIZE_BYTES).getBytes();
+        return len;
     }
 
     @Override
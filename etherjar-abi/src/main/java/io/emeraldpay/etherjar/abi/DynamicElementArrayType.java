@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.abi;
+
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An array of a dynamic wrapped type, either with a fixed length (like {@code string[3]}) or
+ * a dynamic length (like {@code bytes[]} or {@code (bool,bytes)[]}).
+ *
+ * <p>Elements are encoded as a tuple, i.e. the head contains offsets to the elements. Arrays of static types
+ * are {@link ArrayType} and {@link DynamicArrayType}.
+ */
+public class DynamicElementArrayType<T> implements DynamicType<T[]> {
+
+    /**
+     * Try to parse a {@link DynamicElementArrayType} string representation (either canonical form or not).
+     *
+     * <p>Gives {@link Optional#empty()} if the wrapped type is static, so an {@link ArrayType} or
+     * a {@link DynamicArrayType} parser can process it.
+     *
+     * @param repo a {@link Type} parsers repository
+     * @param str a string
+     * @return a {@link DynamicElementArrayType} instance is packed as {@link Optional} value,
+     * or {@link Optional#empty()} instead
+     * @throws NullPointerException if a {@code str} is {@code null}
+     * @throws IllegalArgumentException if the array length is invalid
+     * @see #getCanonicalName()
+     */
+    @SuppressWarnings("unchecked")
+    public static Optional<DynamicElementArrayType> from(Type.Repository repo, String str) {
+        if (!str.endsWith("]"))
+            return Optional.empty();
+
+        int open = str.lastIndexOf('[');
+
+        if (open <= 0)
+            return Optional.empty();
+
+        String digits = str.substring(open + 1, str.length() - 1);
+
+        if (!digits.chars().allMatch(Character::isDigit))
+            return Optional.empty();
+
+        Optional<Type> type = repo.search(str.substring(0, open));
+
+        if (!type.isPresent() || type.get().isStatic())
+            return Optional.empty();
+
+        if (digits.isEmpty())
+            return Optional.of(new DynamicElementArrayType<>(type.get()));
+
+        return Optional.of(new DynamicElementArrayType<>(type.get(), Integer.parseInt(digits)));
+    }
+
+    private final Type<T> type;
+
+    private final int length;
+
+    private final AbiPlan plan;
+
+    /**
+     * Create a dynamic-size array.
+     *
+     * @param type an array wrapped dynamic type
+     */
+    public DynamicElementArrayType(Type<T> type) {
+        this(type, -1, true);
+    }
+
+    /**
+     * Create an array with a fixed length.
+     *
+     * @param type an array wrapped dynamic type
+     * @param length a fixed number of array elements, should be positive
+     */
+    public DynamicElementArrayType(Type<T> type, int length) {
+        this(type, length, false);
+    }
+
+    private DynamicElementArrayType(Type<T> type, int length, boolean unbounded) {
+        if (!unbounded && length <= 0)
+            throw new IllegalArgumentException("Illegal array length: " + length);
+
+        if (!type.isDynamic())
+            throw new IllegalArgumentException("Array wrapped type is not dynamic: " + type);
+
+        this.type = type;
+        this.length = length;
+        this.plan = new AbiPlan.Array(AbiPlan.of(type), length);
+    }
+
+    public Type<T> getWrappedType() {
+        return type;
+    }
+
+    /**
+     * @return {@code true} if the array has a fixed length
+     */
+    public boolean isFixedLength() {
+        return length > 0;
+    }
+
+    /**
+     * @return the fixed length, or {@code -1} for a dynamic-size array
+     */
+    public int getLength() {
+        return length;
+    }
+
+    AbiPlan getPlan() {
+        return plan;
+    }
+
+    @Override
+    public String getCanonicalName() {
+        return type.getCanonicalName() + (isFixedLength() ? "[" + length + "]" : "[]");
+    }
+
+    @Override
+    public HexData encode(T[] arr) {
+        return plan.encode(arr);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] decode(HexData data) {
+        return decode(new AbiReader(data), 0);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] decode(AbiReader reader, int position) {
+        return (T[]) plan.decode(reader, position);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), type, length);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (Objects.isNull(obj)) return false;
+
+        if (!Objects.equals(getClass(), obj.getClass()))
+            return false;
+
+        DynamicElementArrayType other = (DynamicElementArrayType) obj;
+
+        return Objects.equals(type, other.type)
+                && length == other.length;
+    }
+
+    @Override
+    public String toString() {
+        return getCanonicalName();
+    }
+}
@@ -18,9 +18,9 @@
 package io.emeraldpay.etherjar.abi;
 
 import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
 
 import java.math.BigInteger;
-import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -28,12 +28,6 @@ import java.util.Objects;
  */
 public abstract class NumericType implements SimpleType<BigInteger> {
 
-    private final static byte[] NEGATIVE_ARRAY_FOR_PADDING = new byte[32];
-
-    static {
-        Arrays.fill(NEGATIVE_ARRAY_FOR_PADDING, (byte) 0xFF);
-    }
-
     static BigInteger powerOfTwo(int bits) {
         if (bits < 0)
             throw new IllegalArgumentException(
@@ -42,10 +36,16 @@ public abstract class NumericType implements SimpleType<BigInteger> {
         return BigInteger.ONE.shiftLeft(bits);
     }
 
+    private final static BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+
+    private final static BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
     private final int bits;
 
     private final boolean isSigned;
 
+    private volatile long[] longRange;
+
     protected NumericType(int bits, boolean isSigned) {
         if (bits <= 0 || bits > 256 || bits % 8 != 0)
             throw new IllegalArgumentException("Invalid numeric type bits count: " + bits);
@@ -94,26 +94,43 @@ public abstract class NumericType implements SimpleType<BigInteger> {
 
     @Override
     public Hex32 encodeSimple(BigInteger value) {
-        if (!isValueValid(value))
-            throw new IllegalArgumentException("Numeric value out of range: " + value);
+        AbiWriter writer = new AbiWriter(Hex32.SIZE_BYTES);
 
-        byte[] data = value.toByteArray();
+        encode(value, writer, 0);
 
-        byte[] arr = new byte[Hex32.SIZE_BYTES];
+        return new Hex32(writer.getBuffer());
+    }
 
-        if (value.signum() == -1) {
-            System.arraycopy(NEGATIVE_ARRAY_FOR_PADDING, 0, arr, 0, Hex32.SIZE_BYTES);
-        }
+    /**
+     * Encode a value directly into a buffer.
+     *
+     * @param value a numeric value
+     * @param writer a writer of encoded data
+     * @param position position of the encoded value
+     * @throws IllegalArgumentException if the value is out of range
+     */
+    public void encode(BigInteger value, AbiWriter writer, int position) {
+        if (!isValueValid(value))
+            throw new IllegalArgumentException("Numeric value out of range: " + value);
 
-        int bytes = bits >>> 3;
+        writer.writeNumber(position, value);
+    }
 
-        if (data.length > bytes) {
-            System.arraycopy(data, data.length - bytes, arr, Hex32.SIZE_BYTES - bytes, bytes);
-        } else {
-            System.arraycopy(data, 0, arr, Hex32.SIZE_BYTES - data.length, data.length);
-        }
+    /**
+     * Encode a value directly into a buffer, with no {@link BigInteger} allocation.
+     *
+     * @param value a numeric value
+     * @param writer a writer of encoded data
+     * @param position position of the encoded value
+     * @throws IllegalArgumentException if the value is out of range
+     */
+    public void encodeLong(long value, AbiWriter writer, int position) {
+        long[] range = getLongRange();
 
-        return new Hex32(arr);
+        if (value < range[0] || value > range[1])
+            throw new IllegalArgumentException("Numeric value out of range: " + value);
+
+        writer.writeLong(position, value);
     }
 
     @Override
@@ -130,6 +147,78 @@ public abstract class NumericType implements SimpleType<BigInteger> {
         return value;
     }
 
+    @Override
+    public BigInteger decode(AbiReader reader, int position) {
+        BigInteger value = reader.readSigned(position);
+
+        if (!isSigned && value.signum() < 0) {
+            value = getMaxValue().add(value);
+        }
+
+        if (!isValueValid(value))
+            throw new IllegalArgumentException("Excess data to decode numeric value at " + position);
+
+        return value;
+    }
+
+    /**
+     * Decode a value which fits into {@code long}, with no {@link BigInteger} allocation.
+     *
+     * @param data an encoded hex data
+     * @param offset position of the encoded value
+     * @return decoded value
+     * @throws IllegalArgumentException if the value is invalid or doesn't fit into {@code long}
+     * @see #decodeLong(AbiReader, int)
+     */
+    public long decodeLong(HexData data, int offset) {
+        return decodeLong(new AbiReader(data), offset);
+    }
+
+    /**
+     * Decode a value which fits into {@code long}, with no {@link BigInteger} allocation.
+     *
+     * @param reader a reader of encoded data
+     * @param position position of the encoded value
+     * @return decoded value
+     * @throws IllegalArgumentException if the value is invalid or doesn't fit into {@code long}
+     */
+    public long decodeLong(AbiReader reader, int position) {
+        long value = reader.readLong(position);
+
+        if (!isSigned && value < 0) {
+            try {
+                return decode(reader, position).longValueExact();
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Numeric value doesn't fit into long at " + position);
+            }
+        }
+
+        long[] range = getLongRange();
+
+        if (value < range[0] || value > range[1])
+            throw new IllegalArgumentException("Excess data to decode numeric value at " + position);
+
+        return value;
+    }
+
+    /**
+     * @return min and max (both inclusive) values of the type limited to {@code long} range
+     */
+    private long[] getLongRange() {
+        long[] range = longRange;
+
+        if (range == null) {
+            range = new long[] {
+                    getMinValue().max(LONG_MIN).longValue(),
+                    getMaxValue().subtract(BigInteger.ONE).min(LONG_MAX).longValue()
+            };
+
+            longRange = range;
+        }
+
+        return range;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(getClass(), bits, isSigned);
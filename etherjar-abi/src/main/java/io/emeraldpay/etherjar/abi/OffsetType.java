@@ -36,8 +36,6 @@ import io.emeraldpay.etherjar.hex.HexData;
  */
 public class OffsetType implements DynamicType<HexData> {
 
-    private static final HexData ZERO_START = HexData.from("0x0000000000000000000000000000000000000000000000000000000000000020");
-
     @Override
     public String getCanonicalName() {
         return "byte[]";
@@ -45,7 +43,12 @@ public class OffsetType implements DynamicType<HexData> {
 
     @Override
     public HexData encode(HexData obj) {
-        return ZERO_START.concat(obj);
+        AbiWriter writer = new AbiWriter(Hex32.SIZE_BYTES + obj.getSize());
+
+        writer.writeLength(0, Hex32.SIZE_BYTES);
+        writer.writeBytes(Hex32.SIZE_BYTES, obj);
+
+        return writer.toHexData();
     }
 
     @Override
@@ -53,6 +56,22 @@ public class OffsetType implements DynamicType<HexData> {
         return decode(0, data);
     }
 
+    /**
+     * Read the actual data, which starts at the position and continues up to the end of the reader data.
+     *
+     * @param reader a reader of encoded data
+     * @param position position of the actual data, i.e. where the offset points to
+     * @return actual data
+     */
+    @Override
+    public HexData decode(AbiReader reader, int position) {
+        int size = reader.getEnd() - position;
+
+        reader.checkBounds(position, size);
+
+        return reader.getData().extract(size, position);
+    }
+
     /**
      * Read data specified with an offset, where the offset itself start not at the beginning. I.e., when
      * it's not a first element of an array.
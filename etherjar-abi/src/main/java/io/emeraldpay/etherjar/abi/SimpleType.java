@@ -44,6 +44,11 @@ public interface SimpleType<T> extends StaticType<T> {
         return decodeSimple(Hex32.from(data));
     }
 
+    @Override
+    default T decode(AbiReader reader, int position) {
+        return decodeSimple(reader.readWord(position));
+    }
+
     /**
      * Encode an object to a {@link Hex32}.
      *
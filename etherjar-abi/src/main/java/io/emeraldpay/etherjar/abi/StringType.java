@@ -17,6 +17,7 @@
 
 package io.emeraldpay.etherjar.abi;
 
+import io.emeraldpay.etherjar.hex.Hex32;
 import io.emeraldpay.etherjar.hex.HexData;
 
 import java.nio.ByteBuffer;
@@ -60,20 +61,37 @@ public class StringType implements DynamicType<String> {
 
     @Override
     public HexData encode(String str) {
-        return DynamicBytesType.DEFAULT.encode(
-                str.getBytes(StandardCharsets.UTF_8));
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+
+        AbiWriter writer = new AbiWriter(AbiWriter.sizeOfDynamicBytes(bytes.length));
+
+        writer.writeDynamicBytes(0, bytes);
+
+        return writer.toHexData();
     }
 
     @Override
     public String decode(HexData data) {
-        ByteBuffer buffer = ByteBuffer.wrap(
-                DynamicBytesType.DEFAULT.decode(data));
+        AbiReader reader = new AbiReader(data);
+
+        DynamicBytesType.checkEncodedSize(reader);
+
+        return decode(reader, 0);
+    }
+
+    @Override
+    public String decode(AbiReader reader, int position) {
+        int len = reader.readLength(position);
+
+        reader.checkBounds(position + Hex32.SIZE_BYTES, len);
+
+        ByteBuffer buffer = reader.getData().asByteBuffer(position + Hex32.SIZE_BYTES, len);
 
         try {
             return UTF8_CHARSET.newDecoder().decode(buffer).toString();
         } catch (CharacterCodingException e) {
-            throw new RuntimeException(
-                    "Incorrect 'UTF-8' character encoding: " + data, e);
+            throw new IllegalArgumentException(
+                    "Incorrect 'UTF-8' character encoding at " + position, e);
         }
     }
 
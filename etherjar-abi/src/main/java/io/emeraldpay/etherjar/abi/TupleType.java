@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.abi;
+
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * A tuple (struct) of components of any types, like {@code (address,uint256[],(bytes32,uint8))}.
+ *
+ * <p>A tuple is static only if all its components are static, so the actual instance is either a {@link StaticType}
+ * or a {@link DynamicType}, see {@link #of(List)}. A value is a {@link List} of component values.
+ *
+ * @see AbiCodec
+ */
+public abstract class TupleType implements Type<List<Object>> {
+
+    /**
+     * Try to parse a {@link TupleType} string representation (either canonical form or not).
+     *
+     * @param repo a {@link Type} parsers repository
+     * @param str a string
+     * @return a {@link TupleType} instance is packed as {@link Optional} value,
+     * or {@link Optional#empty()} instead
+     * @throws NullPointerException if a {@code str} is {@code null}
+     * @throws IllegalArgumentException if a {@link TupleType} has invalid input or unknown component type
+     * @see #getCanonicalName()
+     */
+    public static Optional<TupleType> from(Type.Repository repo, String str) {
+        if (!str.startsWith("(") || !str.endsWith(")"))
+            return Optional.empty();
+
+        List<String> names = splitTypeList(str.substring(1, str.length() - 1));
+        List<Type<?>> types = new ArrayList<>(names.size());
+
+        for (String name : names) {
+            Type<?> type = repo.search(name).orElseThrow(() ->
+                    new IllegalArgumentException("Unknown tuple component type: " + name));
+
+            types.add(type);
+        }
+
+        return Optional.of(of(types));
+    }
+
+    /**
+     * Split a comma separated list of types, keeping tuples like {@code (uint8,bool)[]} as a single element.
+     * Whitespaces around elements are ignored.
+     *
+     * @param str a list of types, like {@code address,(uint256,bool)[],bytes}
+     * @return the list of type names, empty for an empty string
+     * @throws IllegalArgumentException if the parentheses are unbalanced or an element is empty
+     */
+    public static List<String> splitTypeList(String str) {
+        if (str.trim().isEmpty())
+            return Collections.emptyList();
+
+        List<String> result = new ArrayList<>();
+
+        int depth = 0;
+        int start = 0;
+
+        for (int i = 0; i < str.length(); i++) {
+            char ch = str.charAt(i);
+
+            if (ch == '(') {
+                depth++;
+            } else if (ch == ')') {
+                if (--depth < 0)
+                    throw new IllegalArgumentException("Unbalanced parentheses in types list: " + str);
+            } else if (ch == ',' && depth == 0) {
+                result.add(element(str, start, i));
+                start = i + 1;
+            }
+        }
+
+        if (depth != 0)
+            throw new IllegalArgumentException("Unbalanced parentheses in types list: " + str);
+
+        result.add(element(str, start, str.length()));
+
+        return result;
+    }
+
+    private static String element(String str, int start, int end) {
+        String element = str.substring(start, end).trim();
+
+        if (element.isEmpty())
+            throw new IllegalArgumentException("Empty element in types list: " + str);
+
+        return element;
+    }
+
+    /**
+     * Create a tuple of the given components.
+     *
+     * @param types component types
+     * @return a static tuple if all the components are static, or a dynamic tuple otherwise
+     */
+    public static TupleType of(Type<?>... types) {
+        return of(Arrays.asList(types));
+    }
+
+    /**
+     * Create a tuple of the given components.
+     *
+     * @param types component types
+     * @return a static tuple if all the components are static, or a dynamic tuple otherwise
+     */
+    public static TupleType of(List<? extends Type<?>> types) {
+        List<Type<?>> copy = Collections.unmodifiableList(new ArrayList<>(types));
+
+        return copy.stream().anyMatch(Type::isDynamic) ? new Dynamic(copy) : new Static(copy);
+    }
+
+    private final List<Type<?>> types;
+
+    private final AbiPlan.Tuple plan;
+
+    TupleType(List<Type<?>> types) {
+        types.forEach(Objects::requireNonNull);
+
+        this.types = types;
+        this.plan = AbiPlan.tuple(types);
+    }
+
+    /**
+     * @return component types
+     */
+    public List<Type<?>> getTypes() {
+        return types;
+    }
+
+    /**
+     * @return number of components
+     */
+    public int size() {
+        return types.size();
+    }
+
+    AbiPlan.Tuple getPlan() {
+        return plan;
+    }
+
+    @Override
+    public String getCanonicalName() {
+        return types.stream().map(Type::getCanonicalName).collect(Collectors.joining(",", "(", ")"));
+    }
+
+    @Override
+    public int getFixedSize() {
+        return plan.getHeadSize();
+    }
+
+    @Override
+    public HexData encode(List<Object> values) {
+        return plan.encode(values);
+    }
+
+    @Override
+    public List<Object> decode(HexData data) {
+        return decode(new AbiReader(data), 0);
+    }
+
+    @Override
+    public List<Object> decode(AbiReader reader, int position) {
+        return plan.decode(reader, position);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(TupleType.class, types);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (!(obj instanceof TupleType)) return false;
+
+        TupleType other = (TupleType) obj;
+
+        return Objects.equals(types, other.types);
+    }
+
+    @Override
+    public String toString() {
+        return getCanonicalName();
+    }
+
+    static final class Static extends TupleType implements StaticType<List<Object>> {
+
+        Static(List<Type<?>> types) {
+            super(types);
+        }
+    }
+
+    static final class Dynamic extends TupleType implements DynamicType<List<Object>> {
+
+        Dynamic(List<Type<?>> types) {
+            super(types);
+        }
+    }
+}
@@ -122,6 +122,16 @@ public interface Type<T> {
             return () -> list;
         }
 
+        /**
+         * Wrap current repository with a memoizing cache, so each string representation is parsed only once.
+         *
+         * @return a cached repository
+         * @see CachedRepository
+         */
+        default Repository cached() {
+            return new CachedRepository(this);
+        }
+
         /**
          * Get {@link Type} string parsers in order to build an appropriate {@link Type} instances.
          *
@@ -268,4 +278,42 @@ public interface Type<T> {
      * @return a decoded object
      */
     T decode(HexData data);
+
+    /**
+     * Decode an object at the given position of a hex data, without extracting it first.
+     *
+     * <p>For a static type the position is the start of its head, and for a dynamic type it's the start of its
+     * tail (i.e. where the head offset points to). Nested dynamic values are followed by their offsets, and
+     * trailing data is ignored.
+     *
+     * @param data an encoded hex data
+     * @param offset position of the encoded object
+     * @return a decoded object
+     * @throws IllegalArgumentException if the data is invalid or too short
+     * @see #decode(AbiReader, int)
+     */
+    default T decode(HexData data, int offset) {
+        return decode(new AbiReader(data), offset);
+    }
+
+    /**
+     * Decode an object at the given position of a reader.
+     *
+     * <p>The default implementation extracts {@link #getFixedSize()} bytes for a static type, and for a dynamic type
+     * the rest of the reader data starting from the position, which is passed to {@link #decode(HexData)}. The standard
+     * types override it to decode in place.
+     *
+     * @param reader a reader of encoded data
+     * @param position position of the encoded object
+     * @return a decoded object
+     * @throws IllegalArgumentException if the data is invalid or too short
+     * @see #decode(HexData, int)
+     */
+    default T decode(AbiReader reader, int position) {
+        int size = isDynamic() ? reader.getEnd() - position : getFixedSize();
+
+        reader.checkBounds(position, size);
+
+        return decode(reader.getData().extract(size, position));
+    }
 }
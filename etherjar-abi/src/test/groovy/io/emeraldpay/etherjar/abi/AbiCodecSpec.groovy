@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.emeraldpay.etherjar.abi
+
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.MethodId
+import io.emeraldpay.etherjar.hex.HexData
+import spock.lang.Specification
+
+class AbiCodecSpec extends Specification {
+
+    // examples from https://docs.soliditylang.org/en/latest/abi-spec.html#examples
+    static final String F_CALL = '0x8be65246' +
+            '0000000000000000000000000000000000000000000000000000000000000123' +
+            '0000000000000000000000000000000000000000000000000000000000000080' +
+            '3132333435363738393000000000000000000000000000000000000000000000' +
+            '00000000000000000000000000000000000000000000000000000000000000e0' +
+            '0000000000000000000000000000000000000000000000000000000000000002' +
+            '0000000000000000000000000000000000000000000000000000000000000456' +
+            '0000000000000000000000000000000000000000000000000000000000000789' +
+            '000000000000000000000000000000000000000000000000000000000000000d' +
+            '48656c6c6f2c20776f726c642100000000000000000000000000000000000000'
+
+    static final String G_CALL = '0x2289b18c' +
+            '0000000000000000000000000000000000000000000000000000000000000040' +
+            '0000000000000000000000000000000000000000000000000000000000000140' +
+            '0000000000000000000000000000000000000000000000000000000000000002' +
+            '0000000000000000000000000000000000000000000000000000000000000040' +
+            '00000000000000000000000000000000000000000000000000000000000000a0' +
+            '0000000000000000000000000000000000000000000000000000000000000002' +
+            '0000000000000000000000000000000000000000000000000000000000000001' +
+            '0000000000000000000000000000000000000000000000000000000000000002' +
+            '0000000000000000000000000000000000000000000000000000000000000001' +
+            '0000000000000000000000000000000000000000000000000000000000000003' +
+            '0000000000000000000000000000000000000000000000000000000000000003' +
+            '0000000000000000000000000000000000000000000000000000000000000060' +
+            '00000000000000000000000000000000000000000000000000000000000000a0' +
+            '00000000000000000000000000000000000000000000000000000000000000e0' +
+            '0000000000000000000000000000000000000000000000000000000000000003' +
+            '6f6e650000000000000000000000000000000000000000000000000000000000' +
+            '0000000000000000000000000000000000000000000000000000000000000003' +
+            '74776f0000000000000000000000000000000000000000000000000000000000' +
+            '0000000000000000000000000000000000000000000000000000000000000005' +
+            '7468726565000000000000000000000000000000000000000000000000000000'
+
+    def "should encode a call with static and dynamic arguments"() {
+        def codec = AbiCodec.compile('uint256,uint32[],bytes10,bytes')
+        def methodId = MethodId.fromSignature('f', 'uint256', 'uint32[]', 'bytes10', 'bytes')
+
+        when:
+        def data = codec.encodeCall(methodId, 0x123G, [0x456G, 0x789G], '1234567890'.bytes, 'Hello, world!'.bytes)
+
+        then:
+        data.toHex() == F_CALL
+    }
+
+    def "should decode a call with static and dynamic arguments"() {
+        def codec = AbiCodec.compile('uint256,uint32[],bytes10,bytes')
+
+        when:
+        def values = codec.decode(HexData.from(F_CALL), MethodId.SIZE_BYTES)
+
+        then:
+        values.size() == 4
+        values[0] == 0x123G
+        values[1] as List == [0x456G, 0x789G]
+        new String(values[2] as byte[]) == '1234567890'
+        new String(values[3] as byte[]) == 'Hello, world!'
+    }
+
+    def "should encode and decode nested dynamic arrays"() {
+        def codec = AbiCodec.compile('uint256[][],string[]')
+        def methodId = MethodId.fromSignature('g', 'uint256[][]', 'string[]')
+
+        when:
+        def data = codec.encodeCall(methodId, [[1G, 2G], [3G]], ['one', 'two', 'three'])
+
+        then:
+        data.toHex() == G_CALL
+
+        when:
+        def values = codec.decode(data, MethodId.SIZE_BYTES)
+
+        then:
+        (values[0] as Object[]).collect { it as List } == [[1G, 2G], [3G]]
+        values[1] as List == ['one', 'two', 'three']
+    }
+
+    def "should encode and decode tuples"() {
+        def codec = AbiCodec.compile('address,(bytes32,uint8)[],(bool,bytes)[],(uint256,(string,address))')
+        def address = Address.from('0x0000000000000000000000000000000000000abc')
+        def values = [
+                address,
+                [[new byte[32], 1G]],
+                [[1G, [1, 2, 3] as byte[]], [0G, new byte[0]]],
+                [5G, ['test', address]]
+        ]
+
+        when:
+        def data = codec.encode(values)
+        def decoded = codec.decode(data)
+
+        then:
+        decoded[0] == address
+        (decoded[1] as Object[]).length == 1
+        decoded[1][0][1] == 1G
+        decoded[2][0][0] == 1G
+        decoded[2][0][1] == [1, 2, 3] as byte[]
+        decoded[2][1][1] == new byte[0]
+        decoded[3] == [5G, ['test', address]]
+
+        and:
+        codec.encode(decoded) == data
+    }
+
+    def "should produce the same data as the type encoding"() {
+        def codec = AbiCodec.of(UIntType.DEFAULT, StringType.DEFAULT)
+        def tuple = TupleType.of(UIntType.DEFAULT, StringType.DEFAULT)
+
+        expect:
+        codec.encode(7G, 'hello') == tuple.encode([7G, 'hello'])
+    }
+
+    def "should remember compiled codecs"() {
+        expect:
+        AbiCodec.compile('address,uint256').is(AbiCodec.compile('address,uint256'))
+        AbiCodec.compile('') == AbiCodec.EMPTY
+    }
+
+    def "should catch wrong number of values"() {
+        when:
+        AbiCodec.compile('address,uint256').encode(Address.empty())
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should catch insufficient data"() {
+        when:
+        AbiCodec.compile('uint256,string').decode(HexData.from(hex))
+
+        then:
+        thrown IllegalArgumentException
+
+        where:
+        _ | hex
+        _ | '0x0000000000000000000000000000000000000000000000000000000000000001'
+        _ | '0x0000000000000000000000000000000000000000000000000000000000000001' +
+                '0000000000000000000000000000000000000000000000000000000000000040' +
+                '00000000000000000000000000000000000000000000000000000000000000ff'
+        _ | '0x0000000000000000000000000000000000000000000000000000000000000001' +
+                '0000000000000000000000000000000000000000000000000000000000000080'
+    }
+
+    def "should catch unknown types"() {
+        when:
+        AbiCodec.compile('address,foo')
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should decode from a reader region"() {
+        def codec = AbiCodec.compile('uint256,uint32[],bytes10,bytes')
+        def data = HexData.from(F_CALL)
+
+        when:
+        def values = codec.decode(new AbiReader(data, MethodId.SIZE_BYTES))
+
+        then:
+        values[0] == 0x123G
+        new String(values[3] as byte[]) == 'Hello, world!'
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.abi
+
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.MethodId
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import spock.lang.Specification
+
+class AbiReaderSpec extends Specification {
+
+    def "should read head values one by one"() {
+        def data = HexData.from(AbiCodecSpec.F_CALL)
+        def reader = new AbiReader(data, MethodId.SIZE_BYTES)
+
+        when:
+        def first = reader.nextLong()
+        def second = reader.next(new DynamicArrayType<>(new UIntType(32)))
+        def third = reader.next(new BytesType(10))
+        def fourth = reader.next(DynamicBytesType.DEFAULT)
+
+        then:
+        first == 0x123
+        second as List == [0x456G, 0x789G]
+        new String(third) == '1234567890'
+        new String(fourth) == 'Hello, world!'
+        reader.position == MethodId.SIZE_BYTES + 4 * Hex32.SIZE_BYTES
+        reader.remaining() == data.size - reader.position
+    }
+
+    def "should read numbers"() {
+        def data = HexData.combine(
+                UIntType.DEFAULT.encode(0x1234),
+                IntType.DEFAULT.encode(-2),
+                UIntType.DEFAULT.encode(0x10000000000000000G),
+                BoolType.DEFAULT.encode(BoolType.TRUE))
+        def reader = new AbiReader(data)
+
+        expect:
+        reader.readLong(0) == 0x1234
+        reader.readInt(0) == 0x1234
+        reader.readLong(32) == -2
+        reader.readSigned(32) == -2G
+        reader.readUnsigned(32) == 0xfffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffeG
+        reader.readUnsigned(64) == 0x10000000000000000G
+        reader.readBoolean(96)
+        !reader.readBoolean(0)
+    }
+
+    def "should catch a number which doesn't fit into long"() {
+        def reader = new AbiReader(UIntType.DEFAULT.encode(0x10000000000000000G))
+
+        when:
+        reader.readLong(0)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should read an address"() {
+        def address = Address.from('0x0000000000000000000000000000000000000aBc')
+        def reader = new AbiReader(Hex32.empty().concat(AddressType.DEFAULT.encode(address)))
+
+        expect:
+        reader.readAddress(32) == address
+        reader.skip(32).nextAddress() == address
+    }
+
+    def "should catch too large length"() {
+        def reader = new AbiReader(UIntType.DEFAULT.encode(0x100000000G))
+
+        when:
+        reader.readLength(0)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should catch insufficient data"() {
+        def reader = new AbiReader(Type.encodeLength(64).concat(Hex32.empty()))
+
+        when:
+        reader.readDynamicBytes(0)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should limit data to the region"() {
+        def reader = new AbiReader(Hex32.empty().concat(UIntType.DEFAULT.encode(1)), 0, 32)
+
+        when:
+        reader.readLong(32)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should catch invalid region"() {
+        when:
+        new AbiReader(Hex32.empty(), 16, 8)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should decode a custom dynamic type from the rest of the data"() {
+        def type = new DynamicType<HexData>() {
+            String getCanonicalName() {
+                return "custom"
+            }
+
+            HexData encode(HexData value) {
+                return value
+            }
+
+            HexData decode(HexData data) {
+                return data
+            }
+        }
+        def data = HexData.from("0x" +
+                "0000000000000000000000000000000000000000000000000000000000000020" +
+                "0102030400000000000000000000000000000000000000000000000000000000")
+
+        when:
+        def act = new AbiReader(data).next(type)
+
+        then:
+        act == HexData.from("0x0102030400000000000000000000000000000000000000000000000000000000")
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.abi
+
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.MethodId
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import spock.lang.Specification
+
+class AbiWriterSpec extends Specification {
+
+    def "should write a call in place"() {
+        def methodId = MethodId.fromSignature('transfer', 'address', 'uint256')
+        def to = Address.from('0x0000000000000000000000000000000000000aBc')
+
+        def writer = new AbiWriter(MethodId.SIZE_BYTES + 2 * Hex32.SIZE_BYTES)
+
+        when:
+        writer.writeMethodId(methodId)
+        writer.writeAddress(4, to)
+        writer.writeNumber(36, 1000G)
+
+        then:
+        writer.toHexData() == AbiCodec.compile('address,uint256').encodeCall(methodId, to, 1000G)
+    }
+
+    def "should write numbers"() {
+        def writer = new AbiWriter(Hex32.SIZE_BYTES)
+
+        when:
+        writer.writeNumber(0, val)
+
+        then:
+        writer.toHexData().toHex() == hex
+
+        where:
+        val                                                                     | hex
+        0G                                                                      | '0x0000000000000000000000000000000000000000000000000000000000000000'
+        -1G                                                                     | '0xffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff'
+        0xffffffffffffffffG                                                     | '0x000000000000000000000000000000000000000000000000ffffffffffffffff'
+        0xffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffG     | '0xffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff'
+        -0x8000000000000000000000000000000000000000000000000000000000000000G    | '0x8000000000000000000000000000000000000000000000000000000000000000'
+    }
+
+    def "should write long values"() {
+        def writer = new AbiWriter(Hex32.SIZE_BYTES)
+
+        when:
+        writer.writeLong(0, val)
+
+        then:
+        writer.toHexData() == IntType.DEFAULT.encode(val)
+
+        where:
+        _ | val
+        _ | 0L
+        _ | -64L
+        _ | Long.MIN_VALUE
+        _ | Long.MAX_VALUE
+    }
+
+    def "should write dynamic bytes with padding"() {
+        def writer = new AbiWriter(AbiWriter.sizeOfDynamicBytes(4))
+
+        when:
+        def size = writer.writeDynamicBytes(0, [0x64, 0x61, 0x76, 0x65] as byte[])
+
+        then:
+        size == 64
+        writer.toHexData() == DynamicBytesType.DEFAULT.encode([0x64, 0x61, 0x76, 0x65] as byte[])
+    }
+
+    def "should calculate size of values"() {
+        expect:
+        AbiWriter.sizeOf(type, value) == size
+
+        where:
+        type                                    | value                         | size
+        UIntType.DEFAULT                        | 1G                            | 32
+        DynamicBytesType.DEFAULT                | new byte[33]                  | 96
+        StringType.DEFAULT                      | ''                            | 32
+        new DynamicArrayType(BoolType.DEFAULT)  | [BoolType.TRUE] as Object[]   | 64
+    }
+
+    def "should write a value of a type"() {
+        def type = new DynamicArrayType(UIntType.DEFAULT)
+        def value = [1G, 2G] as BigInteger[]
+        def writer = new AbiWriter(Hex32.SIZE_BYTES + AbiWriter.sizeOf(type, value))
+
+        when:
+        def size = writer.write(Hex32.SIZE_BYTES, type, value)
+
+        then:
+        size == 96
+        writer.toHexData() == Hex32.empty().concat(type.encode(value))
+    }
+
+    def "should catch insufficient buffer"() {
+        def writer = new AbiWriter(Hex32.SIZE_BYTES)
+
+        when:
+        writer.writeLong(16, 1)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should catch too large numbers"() {
+        def writer = new AbiWriter(Hex32.SIZE_BYTES)
+
+        when:
+        writer.writeNumber(0, 0x10000000000000000000000000000000000000000000000000000000000000000G)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should size strings by UTF-8 length"() {
+        def bytes = value.getBytes(java.nio.charset.StandardCharsets.UTF_8)
+        def writer = new AbiWriter(AbiWriter.sizeOf(StringType.DEFAULT, value))
+
+        when:
+        def size = writer.write(0, StringType.DEFAULT, value)
+
+        then:
+        AbiWriter.sizeOf(StringType.DEFAULT, value) == AbiWriter.sizeOfDynamicBytes(bytes.length)
+        size == AbiWriter.sizeOfDynamicBytes(bytes.length)
+        writer.toHexData() == StringType.DEFAULT.encode(value)
+
+        where:
+        value << ["", "abc", "\u00e9t\u00e9", "\u20ac" * 20, "\ud83d\ude00", "a\ud83dz", "\ude00"]
+    }
+
+    def "should write bytes from hex data"() {
+        def value = HexData.from("0x0102030405")
+        def plan = AbiPlan.Bytes.INSTANCE
+        def writer = new AbiWriter(plan.size(value))
+
+        when:
+        def size = plan.write(value, writer, 0)
+
+        then:
+        size == 64
+        writer.toHexData() == DynamicBytesType.DEFAULT.encode(value.bytes)
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.abi
+
+import spock.lang.Specification
+
+import java.util.function.Function
+
+class CachedRepositorySpec extends Specification {
+
+    def "should parse each string only once"() {
+        def parser = Mock Function
+        def repo = new CachedRepository({ -> [parser] })
+
+        when:
+        def first = repo.search 'uint256'
+        def second = repo.search 'uint256'
+
+        then:
+        1 * parser.apply('uint256') >> Optional.of(UIntType.DEFAULT)
+        first.get().is(UIntType.DEFAULT)
+        second.get().is(UIntType.DEFAULT)
+        repo.size() == 1
+    }
+
+    def "should remember not found types"() {
+        def parser = Mock Function
+        def repo = new CachedRepository({ -> [parser] })
+
+        when:
+        def first = repo.search '_'
+        def second = repo.search '_'
+
+        then:
+        1 * parser.apply('_') >> Optional.empty()
+        !first.present
+        !second.present
+    }
+
+    def "should not remember parsing errors"() {
+        def parser = Mock Function
+        def repo = new CachedRepository({ -> [parser] })
+
+        when:
+        repo.search '_'
+
+        then:
+        1 * parser.apply('_') >> { throw new IllegalArgumentException() }
+        thrown IllegalArgumentException
+
+        when:
+        def opt = repo.search '_'
+
+        then:
+        1 * parser.apply('_') >> Optional.of(UIntType.DEFAULT)
+        opt.present
+        repo.size() == 1
+    }
+
+    def "should stop remembering after reaching capacity"() {
+        def repo = new CachedRepository({ -> [UIntType.&from as Function] }, 1)
+
+        when:
+        repo.search 'uint8'
+        def opt = repo.search 'uint16'
+
+        then:
+        opt.get() == new UIntType(16)
+        repo.size() == 1
+    }
+
+    def "should allow recursive search"() {
+        Type.Repository[] self = new Type.Repository[1]
+        self[0] = new CachedRepository({ -> [{ DynamicArrayType.from(self[0], it) } as Function, UIntType.&from as Function] })
+
+        when:
+        def opt = self[0].search 'uint8[]'
+
+        then:
+        opt.get() == new DynamicArrayType(new UIntType(8))
+        self[0].size() == 2
+    }
+
+    def "should catch empty type string representation"() {
+        def repo = new CachedRepository({ -> [] })
+
+        when:
+        repo.search ''
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should catch null type string representation"() {
+        def repo = new CachedRepository({ -> [] })
+
+        when:
+        repo.search null
+
+        then:
+        thrown NullPointerException
+    }
+
+    def "should catch wrong capacity"() {
+        when:
+        new CachedRepository({ -> [] }, 0)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should not wrap itself again"() {
+        def repo = new CachedRepository({ -> [] })
+
+        expect:
+        repo.cached().is(repo)
+    }
+}
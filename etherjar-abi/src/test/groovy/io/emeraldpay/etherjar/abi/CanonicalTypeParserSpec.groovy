@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.emeraldpay.etherjar.abi
+
+import spock.lang.Specification
+
+class CanonicalTypeParserSpec extends Specification {
+
+    def "should parse elementary types"() {
+        when:
+        def opt = CanonicalTypeParser.parse input
+
+        then:
+        opt.present
+        opt.get() == expected
+
+        where:
+        input       | expected
+        'uint'      | UIntType.DEFAULT
+        'uint8'     | new UIntType(8)
+        'uint256'   | UIntType.DEFAULT
+        'uint72'    | new UIntType(72)
+        'int'       | IntType.DEFAULT
+        'int128'    | new IntType(128)
+        'bytes'     | DynamicBytesType.DEFAULT
+        'bytes1'    | BytesType.DEFAULT_ONE_BYTE
+        'byte'      | BytesType.DEFAULT_ONE_BYTE
+        'bytes20'   | new BytesType(20)
+        'address'   | AddressType.DEFAULT
+        'bool'      | BoolType.DEFAULT
+        'string'    | StringType.DEFAULT
+        'function'  | FunctionType.DEFAULT
+    }
+
+    def "should reuse cached instances"() {
+        expect:
+        CanonicalTypeParser.parse('uint64').get().is(UIntType.CACHED_INSTANCES[64])
+        CanonicalTypeParser.parse('int32').get().is(IntType.CACHED_INSTANCES[32])
+        CanonicalTypeParser.parse('bytes32').get().is(BytesType.CACHED_INSTANCES[32])
+    }
+
+    def "should parse array types"() {
+        when:
+        def opt = CanonicalTypeParser.parse input
+
+        then:
+        opt.present
+        opt.get() == expected
+        opt.get().canonicalName == canonicalName
+
+        where:
+        input           | canonicalName     | expected
+        'uint[3]'       | 'uint256[3]'      | new ArrayType(UIntType.DEFAULT, 3)
+        'bool[]'        | 'bool[]'          | new DynamicArrayType(BoolType.DEFAULT)
+        'bytes32[2][]'  | 'bytes32[2][]'    | new DynamicArrayType(new ArrayType(new BytesType(32), 2))
+        'address[1][2]' | 'address[1][2]'   | new ArrayType(new ArrayType(AddressType.DEFAULT, 1), 2)
+    }
+
+    def "should leave unsupported or invalid names to other parsers"() {
+        expect:
+        !CanonicalTypeParser.parse(input).present
+
+        where:
+        _ | input
+        _ | ''
+        _ | 'fixed'
+        _ | 'ufixed128x18'
+        _ | 'uint7'
+        _ | 'uint264'
+        _ | 'uint08'
+        _ | 'bytes33'
+        _ | 'address20'
+        _ | 'string[]'
+        _ | 'bytes[2]'
+        _ | 'address[][3]'
+        _ | 'uint[0]'
+        _ | 'uint[01]'
+        _ | 'uint['
+        _ | 'uint[]x'
+        _ | '(uint,bool)'
+        _ | 'unknown'
+    }
+
+    def "should detect null string representation"() {
+        when:
+        CanonicalTypeParser.parse null
+
+        then:
+        thrown NullPointerException
+    }
+}
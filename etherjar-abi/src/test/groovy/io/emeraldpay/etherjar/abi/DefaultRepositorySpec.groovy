@@ -59,5 +59,40 @@ class DefaultRepositorySpec extends Specification {
         'bool[]'        | DynamicArrayType  | 'bool[]'
         'bytes32[2][]'  | DynamicArrayType  | 'bytes32[2][]'
     }
-}
 
+    def "should return the same type instance for repeated search"() {
+        when:
+        def first = DefaultRepository.instance.search('address[][]').get()
+        def second = DefaultRepository.instance.search('address[][]').get()
+
+        then:
+        first.is(second)
+    }
+
+    def "should resolve names not handled by the canonical parser"() {
+        expect:
+        DefaultRepository.instance.search(input).get().canonicalName == canonicalName
+
+        where:
+        input               | canonicalName
+        'fixed'             | 'fixed128x128'
+        'ufixed128x18[]'    | 'ufixed128x18[]'
+        'uint08'            | 'uint8'
+    }
+
+    def "should resolve tuples and arrays of dynamic types"() {
+        expect:
+        DefaultRepository.instance.search(input).get().class == expectedType
+        DefaultRepository.instance.search(input).get().canonicalName == canonicalName
+
+        where:
+        input                       | expectedType              | canonicalName
+        '(uint,bool)'               | TupleType.Static          | '(uint256,bool)'
+        '(bytes32,uint8)[]'         | DynamicArrayType          | '(bytes32,uint8)[]'
+        '(bool,bytes)[]'            | DynamicElementArrayType   | '(bool,bytes)[]'
+        'string[]'                  | DynamicElementArrayType   | 'string[]'
+        'bytes[2]'                  | DynamicElementArrayType   | 'bytes[2]'
+        'uint[][]'                  | DynamicElementArrayType   | 'uint256[][]'
+        '(address,(string,uint))'   | TupleType.Dynamic         | '(address,(string,uint256))'
+    }
+}
@@ -17,6 +17,7 @@
 
 package io.emeraldpay.etherjar.abi
 
+import io.emeraldpay.etherjar.hex.Hex32
 import io.emeraldpay.etherjar.hex.HexData
 import spock.lang.Shared
 import spock.lang.Specification
@@ -189,4 +190,15 @@ class DynamicArrayTypeSpec extends Specification {
         expect:
         DEFAULT as String == 'uint256[]'
     }
+
+    def "should decode at offset ignoring trailing data"() {
+        def obj = new DynamicArrayType<>(BoolType.DEFAULT)
+        def data = Hex32.empty().concat(obj.encode([BoolType.TRUE, BoolType.FALSE] as Boolean[]), Hex32.empty())
+
+        when:
+        def res = obj.decode(data, 32)
+
+        then:
+        res == [BoolType.TRUE, BoolType.FALSE] as Boolean[]
+    }
 }
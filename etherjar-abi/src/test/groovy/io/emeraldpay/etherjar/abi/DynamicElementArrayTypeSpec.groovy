@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.emeraldpay.etherjar.abi
+
+import spock.lang.Specification
+
+import java.util.function.Function
+
+class DynamicElementArrayTypeSpec extends Specification {
+
+    def "should parse string representation"() {
+        def parser = Mock Function
+
+        when:
+        def opt = DynamicElementArrayType.from({ -> [parser] }, input)
+
+        then:
+        1 * parser.apply('_') >> Optional.of(StringType.DEFAULT)
+        opt.get().wrappedType == StringType.DEFAULT
+        opt.get().length == length
+
+        where:
+        input   | length
+        '_[]'   | -1
+        '_[3]'  | 3
+    }
+
+    def "should leave static wrapped types to other parsers"() {
+        def parser = Mock Function
+
+        when:
+        def opt = DynamicElementArrayType.from({ -> [parser] }, '_[]')
+
+        then:
+        1 * parser.apply('_') >> Optional.of(UIntType.DEFAULT)
+        !opt.present
+    }
+
+    def "should ignore wrong string representation"() {
+        expect:
+        !DynamicElementArrayType.from({ -> [] }, input).present
+
+        where:
+        _ | input
+        _ | 'string'
+        _ | '[]'
+        _ | 'string[x]'
+        _ | '_[]'
+    }
+
+    def "should catch static wrapped type"() {
+        when:
+        new DynamicElementArrayType(UIntType.DEFAULT)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should catch wrong fixed length"() {
+        when:
+        new DynamicElementArrayType(StringType.DEFAULT, 0)
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should return canonical name"() {
+        expect:
+        new DynamicElementArrayType(StringType.DEFAULT).canonicalName == 'string[]'
+        new DynamicElementArrayType(DynamicBytesType.DEFAULT, 2).canonicalName == 'bytes[2]'
+        new DynamicElementArrayType(TupleType.of(BoolType.DEFAULT, DynamicBytesType.DEFAULT)).canonicalName == '(bool,bytes)[]'
+    }
+
+    def "should encode & decode a dynamic-size array"() {
+        def type = new DynamicElementArrayType(StringType.DEFAULT)
+
+        when:
+        def data = type.encode(['one', 'two'] as String[])
+
+        then:
+        data.toHex() == '0x0000000000000000000000000000000000000000000000000000000000000002' +
+                '0000000000000000000000000000000000000000000000000000000000000040' +
+                '0000000000000000000000000000000000000000000000000000000000000080' +
+                '0000000000000000000000000000000000000000000000000000000000000003' +
+                '6f6e650000000000000000000000000000000000000000000000000000000000' +
+                '0000000000000000000000000000000000000000000000000000000000000003' +
+                '74776f0000000000000000000000000000000000000000000000000000000000'
+        type.decode(data) as List == ['one', 'two']
+    }
+
+    def "should encode & decode a fixed-size array"() {
+        def type = new DynamicElementArrayType(StringType.DEFAULT, 2)
+
+        when:
+        def data = type.encode(['one', 'two'] as String[])
+
+        then:
+        data.toHex() == '0x0000000000000000000000000000000000000000000000000000000000000040' +
+                '0000000000000000000000000000000000000000000000000000000000000080' +
+                '0000000000000000000000000000000000000000000000000000000000000003' +
+                '6f6e650000000000000000000000000000000000000000000000000000000000' +
+                '0000000000000000000000000000000000000000000000000000000000000003' +
+                '74776f0000000000000000000000000000000000000000000000000000000000'
+        type.decode(data) as List == ['one', 'two']
+    }
+
+    def "should catch wrong array length to encode"() {
+        when:
+        new DynamicElementArrayType(StringType.DEFAULT, 2).encode(['one'] as String[])
+
+        then:
+        thrown IllegalArgumentException
+    }
+}
@@ -74,4 +74,24 @@ class OffsetTypeSpec extends Specification {
             "494d000000000000000000000000000000000000000000000000000000000000"
         )
     }
+
+    def "Read as a value of a reader"() {
+        setup:
+        def data = HexData.from("0x" +
+            "0000000000000000000000000000000000000000000000000000000000000011" +
+            "0000000000000000000000000000000000000000000000000000000000000060" +
+            "0000000000000000000000000000000000000000000000000000000000000022" +
+            "434f5645525f594541524e5f323032315f30325f32385f4441495f305f434c41" +
+            "494d000000000000000000000000000000000000000000000000000000000000"
+        )
+        def reader = new AbiReader(data)
+        when:
+        def first = reader.nextLong()
+        def act = reader.next(new OffsetType())
+        def third = reader.nextLong()
+        then:
+        first == 0x11
+        act == new OffsetType().decode(Hex32.SIZE_BYTES, data)
+        third == 0x22
+    }
 }
@@ -158,4 +158,11 @@ class StringTypeSpec extends Specification {
         expect:
         StringType.DEFAULT as String == 'string'
     }
+
+    def "should decode at offset"() {
+        def data = Hex32.empty().concat(StringType.DEFAULT.encode('ABC'), Hex32.empty())
+
+        expect:
+        StringType.DEFAULT.decode(data, 32) == 'ABC'
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.emeraldpay.etherjar.abi
+
+import io.emeraldpay.etherjar.hex.HexData
+import spock.lang.Specification
+
+import java.util.function.Function
+
+class TupleTypeSpec extends Specification {
+
+    def "should parse string representation"() {
+        def parser = Mock Function
+
+        when:
+        def opt = TupleType.from({ -> [parser] }, '(_,_)')
+
+        then:
+        2 * parser.apply('_') >> Optional.of(UIntType.DEFAULT)
+        opt.present
+        opt.get().types == [UIntType.DEFAULT, UIntType.DEFAULT]
+    }
+
+    def "should ignore wrong string representation"() {
+        expect:
+        !TupleType.from({ -> [] }, input).present
+
+        where:
+        _ | input
+        _ | 'uint256'
+        _ | '(uint256,bool)[]'
+        _ | '(uint256'
+    }
+
+    def "should detect unknown component type"() {
+        when:
+        TupleType.from({ -> [] }, '(_)')
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should split types list"() {
+        expect:
+        TupleType.splitTypeList(input) == expected
+
+        where:
+        input                               | expected
+        ''                                  | []
+        'uint256'                           | ['uint256']
+        'address,uint256'                   | ['address', 'uint256']
+        'address, (uint256,bool)[], bytes'  | ['address', '(uint256,bool)[]', 'bytes']
+        '((a,b),c),d'                       | ['((a,b),c)', 'd']
+    }
+
+    def "should catch malformed types list"() {
+        when:
+        TupleType.splitTypeList(input)
+
+        then:
+        thrown IllegalArgumentException
+
+        where:
+        _ | input
+        _ | 'a,,b'
+        _ | 'a,'
+        _ | '(a,b'
+        _ | 'a)'
+    }
+
+    def "should be static only with static components"() {
+        expect:
+        TupleType.of(types).dynamic == dynamic
+        TupleType.of(types).fixedSize == size
+
+        where:
+        types                                               | dynamic   | size
+        []                                                  | false     | 0
+        [UIntType.DEFAULT, AddressType.DEFAULT]             | false     | 64
+        [UIntType.DEFAULT, new ArrayType(BoolType.DEFAULT, 3)] | false  | 128
+        [UIntType.DEFAULT, StringType.DEFAULT]              | true      | 32
+        [TupleType.of(DynamicBytesType.DEFAULT)]            | true      | 32
+    }
+
+    def "should return canonical name"() {
+        expect:
+        TupleType.of(UIntType.DEFAULT, TupleType.of(AddressType.DEFAULT, StringType.DEFAULT)).canonicalName ==
+                '(uint256,(address,string))'
+    }
+
+    def "should encode & decode a static tuple"() {
+        def type = TupleType.of(new UIntType(8), BoolType.DEFAULT)
+
+        when:
+        def data = type.encode([5G, 1G])
+
+        then:
+        data.toHex() == '0x0000000000000000000000000000000000000000000000000000000000000005' +
+                '0000000000000000000000000000000000000000000000000000000000000001'
+        type.decode(data) == [5G, 1G]
+    }
+
+    def "should encode & decode a dynamic tuple"() {
+        def type = TupleType.of(new UIntType(8), StringType.DEFAULT)
+
+        when:
+        def data = type.encode([5G, 'abc'])
+
+        then:
+        data.toHex() == '0x0000000000000000000000000000000000000000000000000000000000000005' +
+                '0000000000000000000000000000000000000000000000000000000000000040' +
+                '0000000000000000000000000000000000000000000000000000000000000003' +
+                '6162630000000000000000000000000000000000000000000000000000000000'
+        type.decode(data) == [5G, 'abc']
+    }
+
+    def "should catch illegal tail offset"() {
+        def type = TupleType.of(new UIntType(8), StringType.DEFAULT)
+
+        when:
+        type.decode(HexData.from('0x0000000000000000000000000000000000000000000000000000000000000005' +
+                '0000000000000000000000000000000000000000000000000000000000000020' +
+                '0000000000000000000000000000000000000000000000000000000000000000'))
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should be equal by components"() {
+        expect:
+        TupleType.of(UIntType.DEFAULT, BoolType.DEFAULT) == TupleType.of([UIntType.DEFAULT, BoolType.DEFAULT])
+        TupleType.of(UIntType.DEFAULT, BoolType.DEFAULT).hashCode() == TupleType.of(UIntType.DEFAULT, BoolType.DEFAULT).hashCode()
+        TupleType.of(UIntType.DEFAULT) != TupleType.of(BoolType.DEFAULT)
+    }
+}
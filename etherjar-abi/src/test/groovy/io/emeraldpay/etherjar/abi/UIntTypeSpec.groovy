@@ -17,6 +17,7 @@
 
 package io.emeraldpay.etherjar.abi
 
+import io.emeraldpay.etherjar.hex.Hex32
 import spock.lang.Specification
 
 class UIntTypeSpec extends Specification {
@@ -139,4 +140,27 @@ class UIntTypeSpec extends Specification {
         128     | 'uint128'
         256     | 'uint256'
     }
+
+    def "should decode long values at offset"() {
+        def type = [bits] as UIntType
+        def data = Hex32.empty().concat(type.encode(val as long))
+
+        expect:
+        type.decodeLong(data, 32) == val
+        type.decode(data, 32) == BigInteger.valueOf(val)
+
+        where:
+        bits    | val
+        8       | 0xff
+        64      | Long.MAX_VALUE
+        256     | 0
+    }
+
+    def "should catch a value which doesn't fit into long"() {
+        when:
+        UIntType.DEFAULT.decodeLong(UIntType.DEFAULT.encodeSimple(0x10000000000000000G), 0)
+
+        then:
+        thrown IllegalArgumentException
+    }
 }
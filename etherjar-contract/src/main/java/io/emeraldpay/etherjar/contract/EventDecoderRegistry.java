@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.contract;
+
+import io.emeraldpay.etherjar.domain.EventId;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.rpc.json.TransactionLogJson;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * A registry of event factories, which routes a log to the factory by its first topic (i.e. the event id) and
+ * the number of topics. The number of topics is a part of the key because the same signature may have different
+ * indexed arguments, for example an ERC-20 and an ERC-721 {@code Transfer}.
+ *
+ * <p>Event ids are packed as four {@code long}s into an open addressing table, so a lookup is a single probe sequence
+ * and a log of an unknown event is skipped without allocating anything.
+ *
+ * <pre><code>
+ * EventDecoderRegistry registry = new EventDecoderRegistry.Builder()
+ *          .register(ERC20Event.TRANSFER.getEventId(), 3, ERC20Event.TransferDetails.FACTORY)
+ *          .register(ERC20Event.APPROVAL.getEventId(), 3, ERC20Event.ApprovalDetails.FACTORY)
+ *          .build();
+ *
+ * for (ContractEvent event: registry.decodeAll(receipt.getLogs())) {
+ *     ...
+ * }
+ * </code></pre>
+ *
+ * <p>The registry is immutable and thread safe, provided the factories are.
+ */
+public class EventDecoderRegistry {
+
+    public static class Builder {
+
+        /**
+         * Factories by event id, indexed by number of topics
+         */
+        private final Map<EventId, ContractEvent.Factory<?>[]> factories = new LinkedHashMap<>();
+
+        private int size = 0;
+
+        /**
+         * Register a factory for logs of a non-anonymous event. If there is a factory for the same event id and
+         * number of topics already, it's replaced.
+         *
+         * @param id the event id
+         * @param topicsCount number of topics of the event log, including the event id
+         * @param factory the factory to read the event from a log
+         * @return builder instance
+         */
+        public Builder register(EventId id, int topicsCount, ContractEvent.Factory<?> factory) {
+            Objects.requireNonNull(id);
+            Objects.requireNonNull(factory);
+
+            if (topicsCount < 1 || topicsCount > MAX_TOPICS)
+                throw new IllegalArgumentException("Invalid number of topics: " + topicsCount);
+
+            ContractEvent.Factory<?>[] byTopics =
+                    factories.computeIfAbsent(id, key -> new ContractEvent.Factory<?>[MAX_TOPICS + 1]);
+
+            if (byTopics[topicsCount] == null)
+                size++;
+
+            byTopics[topicsCount] = factory;
+
+            return this;
+        }
+
+        /**
+         * Build an {@link EventDecoderRegistry} instance.
+         *
+         * @return an {@link EventDecoderRegistry} instance
+         */
+        public EventDecoderRegistry build() {
+            return new EventDecoderRegistry(this);
+        }
+    }
+
+    /**
+     * Max number of topics in a log
+     */
+    public static final int MAX_TOPICS = 4;
+
+    private static final int ID_LONGS = Hex32.SIZE_BYTES / Long.BYTES;
+
+    private static int hash(long value, int topicsCount) {
+        int h = (int) (value ^ (value >>> 32)) * 31 + topicsCount;
+
+        return h ^ (h >>> 16);
+    }
+
+    private final int size;
+
+    private final long[] ids;
+
+    private final int[] topics;
+
+    private final ContractEvent.Factory<?>[] factories;
+
+    private EventDecoderRegistry(Builder builder) {
+        int capacity = 2;
+
+        while (capacity < builder.size * 2)
+            capacity <<= 1;
+
+        this.size = builder.size;
+        this.ids = new long[capacity * ID_LONGS];
+        this.topics = new int[capacity];
+        this.factories = new ContractEvent.Factory<?>[capacity];
+
+        for (Map.Entry<EventId, ContractEvent.Factory<?>[]> entry : builder.factories.entrySet()) {
+            EventId id = entry.getKey();
+            ContractEvent.Factory<?>[] byTopics = entry.getValue();
+
+            for (int topicsCount = 1; topicsCount <= MAX_TOPICS; topicsCount++) {
+                if (byTopics[topicsCount] == null)
+                    continue;
+
+                int slot = findSlot(id, topicsCount);
+
+                for (int j = 0; j < ID_LONGS; j++) {
+                    ids[slot * ID_LONGS + j] = id.asLong(j * Long.BYTES, Long.BYTES);
+                }
+
+                topics[slot] = topicsCount;
+                factories[slot] = byTopics[topicsCount];
+            }
+        }
+    }
+
+    /**
+     * Find a slot which either contains the key, or is empty.
+     */
+    private int findSlot(Hex32 id, int topicsCount) {
+        long k0 = id.asLong(0, Long.BYTES);
+        long k1 = id.asLong(Long.BYTES, Long.BYTES);
+        long k2 = id.asLong(2 * Long.BYTES, Long.BYTES);
+        long k3 = id.asLong(3 * Long.BYTES, Long.BYTES);
+
+        int mask = factories.length - 1;
+        int slot = hash(k0, topicsCount) & mask;
+
+        while (factories[slot] != null) {
+            int pos = slot * ID_LONGS;
+
+            if (topics[slot] == topicsCount
+                    && ids[pos] == k0 && ids[pos + 1] == k1 && ids[pos + 2] == k2 && ids[pos + 3] == k3)
+                break;
+
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    /**
+     * @return number of registered factories
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Find a factory for a log.
+     *
+     * @param log a log
+     * @return the factory, or {@code null} if the event is unknown
+     */
+    public ContractEvent.Factory<?> findFactory(TransactionLogJson log) {
+        List<Hex32> topics = log.getTopics();
+
+        if (topics == null || topics.isEmpty() || topics.size() > MAX_TOPICS || topics.get(0) == null)
+            return null;
+
+        return factories[findSlot(topics.get(0), topics.size())];
+    }
+
+    /**
+     * Decode a log with the registered factory.
+     *
+     * @param log a log
+     * @return the event, or {@code null} if the event is unknown
+     */
+    public ContractEvent decode(TransactionLogJson log) {
+        ContractEvent.Factory<?> factory = findFactory(log);
+
+        return factory == null ? null : factory.readFrom(log);
+    }
+
+    /**
+     * Decode known events from logs, skipping the unknown ones.
+     *
+     * @param logs the logs
+     * @return a list of events in the same order as the logs
+     * @see #decodeAll(List, boolean)
+     */
+    public List<ContractEvent> decodeAll(List<TransactionLogJson> logs) {
+        return decodeAll(logs, false);
+    }
+
+    /**
+     * Decode known events from logs, skipping the unknown ones. In the parallel mode the logs are decoded
+     * in the common {@link java.util.concurrent.ForkJoinPool}, which pays off for large batches (i.e. logs of
+     * a whole block) with expensive factories.
+     *
+     * @param logs the logs
+     * @param parallel {@code true} to decode the logs in parallel
+     * @return a list of events in the same order as the logs
+     */
+    public List<ContractEvent> decodeAll(List<TransactionLogJson> logs, boolean parallel) {
+        if (logs.isEmpty())
+            return Collections.emptyList();
+
+        ContractEvent[] events = new ContractEvent[logs.size()];
+
+        IntStream indexes = IntStream.range(0, events.length);
+
+        if (parallel)
+            indexes = indexes.parallel();
+
+        indexes.forEach(i -> events[i] = decode(logs.get(i)));
+
+        List<ContractEvent> result = new ArrayList<>(events.length);
+
+        for (ContractEvent event : events) {
+            if (event != null)
+                result.add(event);
+        }
+
+        return result;
+    }
+}
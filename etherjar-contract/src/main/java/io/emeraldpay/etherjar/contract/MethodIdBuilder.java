@@ -16,6 +16,7 @@
 package io.emeraldpay.etherjar.contract;
 
 import io.emeraldpay.etherjar.abi.DefaultRepository;
+import io.emeraldpay.etherjar.abi.TupleType;
 import io.emeraldpay.etherjar.abi.Type;
 import io.emeraldpay.etherjar.domain.MethodId;
 import org.jspecify.annotations.NullMarked;
@@ -25,6 +26,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Helper for building a MethodId from a function signature string, e.g. "transfer(address,uint256) returns (bool)".
@@ -109,15 +111,16 @@ public class MethodIdBuilder {
             return List.of();
         }
 
-        String[] parts = content.split(",");
-        List<String> result = new ArrayList<>(parts.length);
+        List<String> parts;
+        try {
+            parts = TupleType.splitTypeList(content);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed " + elementKind + " list: " + signature, e);
+        }
+        List<String> result = new ArrayList<>(parts.size());
 
-        for (String part : parts) {
-            String token = part.trim();
-            if (token.isEmpty()) {
-                throw new IllegalArgumentException("Malformed " + elementKind + " list: " + signature);
-            }
-            String typeName = token.split("\\s+")[0];
+        for (String token : parts) {
+            String typeName = typeName(token);
             Type type = repo.search(typeName)
                     .orElseThrow(() -> new IllegalArgumentException("Unknown " + elementKind + " type: " + typeName));
             result.add(type.getCanonicalName());
@@ -126,6 +129,21 @@ public class MethodIdBuilder {
         return result;
     }
 
+    /**
+     * Drops parameter names and data location keywords, including the ones inside tuples,
+     * e.g. "(address to, uint256 amount)[] calldata orders" becomes "(address,uint256)[]".
+     */
+    private static String typeName(String token) {
+        if (token.startsWith("(")) {
+            int end = findMatchingParen(token, 0);
+            String components = TupleType.splitTypeList(token.substring(1, end)).stream()
+                    .map(MethodIdBuilder::typeName)
+                    .collect(Collectors.joining(","));
+            return "(" + components + ")" + token.substring(end + 1).split("\\s+")[0];
+        }
+        return token.split("\\s+")[0];
+    }
+
     private static int findMatchingParen(String source, int openPos) {
         int depth = 0;
         for (int i = openPos; i < source.length(); i++) {
@@ -0,0 +1,493 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.contract;
+
+import io.emeraldpay.etherjar.abi.AbiReader;
+import io.emeraldpay.etherjar.abi.AbiWriter;
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.MethodId;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+import io.emeraldpay.etherjar.rpc.Commands;
+import io.emeraldpay.etherjar.rpc.DefaultBatch;
+import io.emeraldpay.etherjar.rpc.FuturesRpcClient;
+import io.emeraldpay.etherjar.rpc.ReactorBatch;
+import io.emeraldpay.etherjar.rpc.ReactorRpcClient;
+import io.emeraldpay.etherjar.rpc.RpcCall;
+import io.emeraldpay.etherjar.rpc.json.BlockTag;
+import io.emeraldpay.etherjar.rpc.json.TransactionCallJson;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Executes many {@link ContractReadCall}s as a few {@code aggregate3} calls to the
+ * <a href="https://www.multicall3.com">Multicall3</a> contract, i.e. instead of an {@code eth_call} per read.
+ *
+ * <p>The calls are split into chunks limited by the size of the call data and by the estimated gas, and all the
+ * chunks are sent in a single JSON-RPC batch. Each result is processed by {@link ContractReadCall#processResult(HexData)}
+ * of the corresponding call, in the same order as the calls.
+ *
+ * <pre><code>
+ * MulticallExecutor multicall = MulticallExecutor.newBuilder().build();
+ *
+ * List&lt;ContractReadCall&lt;BigInteger&gt;&gt; calls = holders.stream()
+ *      .map(holder -&gt; token.readBalanceOf(holder))
+ *      .collect(Collectors.toList());
+ *
+ * List&lt;MulticallExecutor.Result&lt;BigInteger&gt;&gt; balances = multicall.execute(client, calls, BlockTag.LATEST).get();
+ * </code></pre>
+ *
+ * <p>A call which is reverted, or which result cannot be processed (e.g. the target is not a contract, so it returns
+ * empty data), doesn't fail the others and is returned as a failed {@link Result}.
+ */
+public class MulticallExecutor {
+
+    /**
+     * Address of Multicall3, which is the same on most of the chains
+     */
+    public static final Address MULTICALL3 = Address.from("0xcA11bde05977b3631167028862bE2a173976CA11");
+
+    /**
+     * {@code aggregate3((address,bool,bytes)[])}
+     */
+    public static final MethodId AGGREGATE3 = MethodId.fromSignature("aggregate3", "(address,bool,bytes)[]");
+
+    public static final int DEFAULT_MAX_CALLDATA_SIZE = 100_000;
+
+    public static final long DEFAULT_GAS_LIMIT = 50_000_000L;
+
+    public static final long DEFAULT_GAS_PER_CALL = 100_000L;
+
+    /**
+     * Size of the call target, the failure flag, and the offset to the call data
+     */
+    private static final int CALL_HEAD_SIZE = 3 * Hex32.SIZE_BYTES;
+
+    /**
+     * Size of the method id, the offset to the calls array and its length
+     */
+    private static final int AGGREGATE_HEAD_SIZE = MethodId.SIZE_BYTES + 2 * Hex32.SIZE_BYTES;
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Address address = MULTICALL3;
+        private int maxCalldataSize = DEFAULT_MAX_CALLDATA_SIZE;
+        private long gasLimit = DEFAULT_GAS_LIMIT;
+        private ToLongFunction<ContractReadCall<?>> gasEstimate = (call) -> DEFAULT_GAS_PER_CALL;
+
+        /**
+         * @param address address of a Multicall3 deployment, if it's not the canonical one
+         * @return self
+         */
+        public Builder withAddress(Address address) {
+            this.address = Objects.requireNonNull(address);
+            return this;
+        }
+
+        /**
+         * @param maxCalldataSize max size of the call data of a single {@code aggregate3} call, in bytes
+         * @return self
+         */
+        public Builder withMaxCalldataSize(int maxCalldataSize) {
+            if (maxCalldataSize <= AGGREGATE_HEAD_SIZE) {
+                throw new IllegalArgumentException("Max calldata size is too small: " + maxCalldataSize);
+            }
+            this.maxCalldataSize = maxCalldataSize;
+            return this;
+        }
+
+        /**
+         * @param gasLimit gas limit of a single {@code aggregate3} call, which is also used as the gas of the {@code eth_call}
+         * @return self
+         */
+        public Builder withGasLimit(long gasLimit) {
+            if (gasLimit <= 0) {
+                throw new IllegalArgumentException("Gas limit must be positive: " + gasLimit);
+            }
+            this.gasLimit = gasLimit;
+            return this;
+        }
+
+        /**
+         * @param gas estimated gas of each call
+         * @return self
+         */
+        public Builder withGasPerCall(long gas) {
+            return withGasEstimate((call) -> gas);
+        }
+
+        /**
+         * @param gasEstimate function to estimate gas of a call
+         * @return self
+         */
+        public Builder withGasEstimate(ToLongFunction<ContractReadCall<?>> gasEstimate) {
+            this.gasEstimate = Objects.requireNonNull(gasEstimate);
+            return this;
+        }
+
+        public MulticallExecutor build() {
+            return new MulticallExecutor(address, maxCalldataSize, gasLimit, gasEstimate);
+        }
+    }
+
+    /**
+     * Result of a single call
+     *
+     * @param <T> type of the processed result
+     */
+    public static class Result<T> {
+
+        private final ContractReadCall<T> call;
+        private final boolean success;
+        private final HexData returnData;
+        private final T value;
+        private final RuntimeException error;
+
+        public Result(ContractReadCall<T> call, boolean success, HexData returnData, T value, RuntimeException error) {
+            this.call = call;
+            this.success = success;
+            this.returnData = returnData;
+            this.value = value;
+            this.error = error;
+        }
+
+        /**
+         * @return the original call
+         */
+        public ContractReadCall<T> getCall() {
+            return call;
+        }
+
+        /**
+         * @return true if the call succeeded and its result was processed
+         */
+        public boolean isSuccess() {
+            return success;
+        }
+
+        /**
+         * @return raw return data of the call, or the revert data for a failed call
+         */
+        public HexData getReturnData() {
+            return returnData;
+        }
+
+        /**
+         * @return processed result, or null if the call failed
+         */
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * @return error thrown by the processor of the result, if any
+         */
+        public RuntimeException getError() {
+            return error;
+        }
+
+        @Override
+        public String toString() {
+            return "Result{" +
+                "success=" + success +
+                ", returnData=" + returnData +
+                ", value=" + value +
+                '}';
+        }
+    }
+
+    private final Address address;
+    private final int maxCalldataSize;
+    private final long gasLimit;
+    private final ToLongFunction<ContractReadCall<?>> gasEstimate;
+
+    public MulticallExecutor(Address address, int maxCalldataSize, long gasLimit, ToLongFunction<ContractReadCall<?>> gasEstimate) {
+        this.address = Objects.requireNonNull(address);
+        this.maxCalldataSize = maxCalldataSize;
+        this.gasLimit = gasLimit;
+        this.gasEstimate = Objects.requireNonNull(gasEstimate);
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    private static int sizeOf(ContractReadCall<?> call) {
+        return Hex32.SIZE_BYTES + CALL_HEAD_SIZE + AbiWriter.sizeOfDynamicBytes(call.getData().toData().getSize());
+    }
+
+    /**
+     * Split calls into chunks, each fits into the max call data size and the gas limit. A call which alone exceeds
+     * the limits gets its own chunk.
+     *
+     * @param calls calls to split
+     * @param <T> type of the processed results
+     * @return list of chunks, in the same order as the calls
+     */
+    public <T> List<List<ContractReadCall<T>>> split(List<? extends ContractReadCall<T>> calls) {
+        List<List<ContractReadCall<T>>> chunks = new ArrayList<>();
+        List<ContractReadCall<T>> current = new ArrayList<>();
+        int size = AGGREGATE_HEAD_SIZE;
+        long gas = 0;
+
+        for (ContractReadCall<T> call : calls) {
+            int callSize = sizeOf(call);
+            long callGas = gasEstimate.applyAsLong(call);
+
+            if (!current.isEmpty() && (size + callSize > maxCalldataSize || gas + callGas > gasLimit)) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                size = AGGREGATE_HEAD_SIZE;
+                gas = 0;
+            }
+
+            current.add(call);
+            size += callSize;
+            gas += callGas;
+        }
+
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Encode {@code aggregate3} call data, with failures allowed for each call
+     *
+     * @param calls calls to aggregate
+     * @return call data
+     */
+    public HexData encode(List<? extends ContractReadCall<?>> calls) {
+        List<HexData> inputs = calls.stream()
+            .map((call) -> call.getData().toData())
+            .collect(Collectors.toList());
+
+        int size = AGGREGATE_HEAD_SIZE;
+        for (HexData input : inputs) {
+            size += Hex32.SIZE_BYTES + CALL_HEAD_SIZE + AbiWriter.sizeOfDynamicBytes(input.getSize());
+        }
+
+        AbiWriter writer = new AbiWriter(size);
+        writer.writeMethodId(AGGREGATE3);
+        writer.writeLength(MethodId.SIZE_BYTES, Hex32.SIZE_BYTES);
+        writer.writeLength(MethodId.SIZE_BYTES + Hex32.SIZE_BYTES, calls.size());
+
+        int heads = AGGREGATE_HEAD_SIZE;
+        int tail = heads + calls.size() * Hex32.SIZE_BYTES;
+
+        for (int i = 0; i < calls.size(); i++) {
+            HexData input = inputs.get(i);
+
+            writer.writeLength(heads + i * Hex32.SIZE_BYTES, tail - heads);
+            writer.writeAddress(tail, calls.get(i).getContract());
+            writer.writeBoolean(tail + Hex32.SIZE_BYTES, true);
+            writer.writeLength(tail + 2 * Hex32.SIZE_BYTES, CALL_HEAD_SIZE);
+            writer.writeLength(tail + CALL_HEAD_SIZE, input.getSize());
+            writer.writeBytes(tail + CALL_HEAD_SIZE + Hex32.SIZE_BYTES, input);
+
+            tail += CALL_HEAD_SIZE + AbiWriter.sizeOfDynamicBytes(input.getSize());
+        }
+
+        return writer.toHexData();
+    }
+
+    /**
+     * Decode {@code aggregate3} response, i.e. {@code (bool,bytes)[]}, and process the result of each call
+     *
+     * @param calls the aggregated calls
+     * @param response the response data
+     * @param <T> type of the processed results
+     * @return results in the same order as the calls
+     * @throws IllegalArgumentException if the response is invalid or doesn't match the calls
+     */
+    public <T> List<Result<T>> decode(List<? extends ContractReadCall<T>> calls, HexData response) {
+        AbiReader reader = new AbiReader(response);
+        int array = reader.readOffset(0, 0);
+        int count = reader.readLength(array);
+
+        if (count != calls.size()) {
+            throw new IllegalArgumentException("Multicall returned " + count + " results for " + calls.size() + " calls");
+        }
+
+        int heads = array + Hex32.SIZE_BYTES;
+        List<Result<T>> results = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            int item = reader.readOffset(heads + i * Hex32.SIZE_BYTES, heads);
+            boolean success = reader.readBoolean(item);
+            HexData data = new HexData(reader.readDynamicBytes(reader.readOffset(item + Hex32.SIZE_BYTES, item)));
+
+            results.add(process(calls.get(i), success, data));
+        }
+
+        return results;
+    }
+
+    private static <T> Result<T> process(ContractReadCall<T> call, boolean success, HexData data) {
+        if (!success) {
+            return new Result<>(call, false, data, null, null);
+        }
+        try {
+            return new Result<>(call, true, data, call.processResult(data), null);
+        } catch (RuntimeException e) {
+            return new Result<>(call, false, data, null, e);
+        }
+    }
+
+    private TransactionCallJson toJson(List<? extends ContractReadCall<?>> calls) {
+        TransactionCallJson json = new TransactionCallJson(address, encode(calls));
+        json.setGas(gasLimit);
+        return json;
+    }
+
+    /**
+     * Prepare {@code eth_call}s for all the chunks of calls
+     *
+     * @param calls calls to aggregate
+     * @param block target block
+     * @param <T> type of the processed results
+     * @return a call per chunk, each returns the results of the chunk
+     */
+    public <T> List<RpcCall<String, List<Result<T>>>> toRpcCalls(List<? extends ContractReadCall<T>> calls, BlockTag block) {
+        return split(calls).stream()
+            .map((chunk) -> toRpcCall(chunk, Commands.eth().call(toJson(chunk), block)))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Prepare {@code eth_call}s for all the chunks of calls
+     *
+     * @param calls calls to aggregate
+     * @param height target block height
+     * @param <T> type of the processed results
+     * @return a call per chunk, each returns the results of the chunk
+     */
+    public <T> List<RpcCall<String, List<Result<T>>>> toRpcCalls(List<? extends ContractReadCall<T>> calls, Long height) {
+        return split(calls).stream()
+            .map((chunk) -> toRpcCall(chunk, Commands.eth().call(toJson(chunk), height)))
+            .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> RpcCall<String, List<Result<T>>> toRpcCall(List<ContractReadCall<T>> chunk, RpcCall<String, HexData> call) {
+        Class<List<Result<T>>> type = (Class<List<Result<T>>>) (Class<?>) List.class;
+        return call.converted(type, (hex) -> decode(chunk, HexData.from(hex)));
+    }
+
+    private static <T> List<Result<T>> flatten(List<List<Result<T>>> chunks) {
+        List<Result<T>> results = new ArrayList<>();
+        chunks.forEach(results::addAll);
+        return results;
+    }
+
+    /**
+     * Execute calls as a single JSON-RPC batch of {@code aggregate3} calls
+     *
+     * @param client RPC client
+     * @param calls calls to aggregate
+     * @param block target block
+     * @param <T> type of the processed results
+     * @return results in the same order as the calls
+     */
+    public <T> CompletableFuture<List<Result<T>>> execute(FuturesRpcClient client, List<? extends ContractReadCall<T>> calls, BlockTag block) {
+        return execute(client, toRpcCalls(calls, block));
+    }
+
+    /**
+     * Execute calls as a single JSON-RPC batch of {@code aggregate3} calls
+     *
+     * @param client RPC client
+     * @param calls calls to aggregate
+     * @param height target block height
+     * @param <T> type of the processed results
+     * @return results in the same order as the calls
+     */
+    public <T> CompletableFuture<List<Result<T>>> execute(FuturesRpcClient client, List<? extends ContractReadCall<T>> calls, Long height) {
+        return execute(client, toRpcCalls(calls, height));
+    }
+
+    private <T> CompletableFuture<List<Result<T>>> execute(FuturesRpcClient client, List<RpcCall<String, List<Result<T>>>> rpcCalls) {
+        if (rpcCalls.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        DefaultBatch batch = new DefaultBatch();
+        List<CompletableFuture<List<Result<T>>>> chunks = rpcCalls.stream()
+            .map((call) -> batch.add(call).getResult())
+            .collect(Collectors.toList());
+
+        client.execute(batch);
+
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]))
+            .thenApply((ignored) -> flatten(chunks.stream().map(CompletableFuture::join).collect(Collectors.toList())));
+    }
+
+    /**
+     * Execute calls as a single JSON-RPC batch of {@code aggregate3} calls
+     *
+     * @param client RPC client
+     * @param calls calls to aggregate
+     * @param block target block
+     * @param <T> type of the processed results
+     * @return results in the same order as the calls
+     */
+    public <T> Mono<List<Result<T>>> execute(ReactorRpcClient client, List<? extends ContractReadCall<T>> calls, BlockTag block) {
+        return execute(client, toRpcCalls(calls, block));
+    }
+
+    /**
+     * Execute calls as a single JSON-RPC batch of {@code aggregate3} calls
+     *
+     * @param client RPC client
+     * @param calls calls to aggregate
+     * @param height target block height
+     * @param <T> type of the processed results
+     * @return results in the same order as the calls
+     */
+    public <T> Mono<List<Result<T>>> execute(ReactorRpcClient client, List<? extends ContractReadCall<T>> calls, Long height) {
+        return execute(client, toRpcCalls(calls, height));
+    }
+
+    private <T> Mono<List<Result<T>>> execute(ReactorRpcClient client, List<RpcCall<String, List<Result<T>>>> rpcCalls) {
+        if (rpcCalls.isEmpty()) {
+            return Mono.just(Collections.emptyList());
+        }
+
+        ReactorBatch batch = new ReactorBatch();
+        List<ReactorBatch.ReactorBatchItem<String, List<Result<T>>>> chunks = rpcCalls.stream()
+            .map(batch::add)
+            .collect(Collectors.toList());
+
+        return client.execute(batch)
+            .onErrorResume((t) -> Mono.empty())
+            .then(Flux.fromIterable(chunks).concatMap(ReactorBatch.ReactorBatchItem::getResult).collectList())
+            .map(MulticallExecutor::flatten);
+    }
+}
@@ -0,0 +1,136 @@
+package io.emeraldpay.etherjar.contract
+
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.EventId
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import io.emeraldpay.etherjar.rpc.json.TransactionLogJson
+import spock.lang.Specification
+
+class EventDecoderRegistrySpec extends Specification {
+
+    static final EventId TRANSFER = EventId.fromSignature("Transfer", "address", "address", "uint256")
+    static final Address FROM = Address.from("0x8ba1f109551bd432803012645ac136ddd64dba72")
+    static final Address TO = Address.from("0x1f9840a85d5af5bf1d1762f925bdaddc4201f984")
+
+    ContractEvent.Factory<StandardContractEvent> erc20 = { log ->
+        new StandardContractEvent(TRANSFER, log.topics.subList(1, 3), log.data)
+    }
+    ContractEvent.Factory<StandardContractEvent> erc721 = { log ->
+        new StandardContractEvent(TRANSFER, log.topics.subList(1, 4))
+    }
+
+    EventDecoderRegistry registry = new EventDecoderRegistry.Builder()
+        .register(TRANSFER, 3, erc20)
+        .register(TRANSFER, 4, erc721)
+        .build()
+
+    static TransactionLogJson log(List<Hex32> topics, HexData data = HexData.empty()) {
+        def log = new TransactionLogJson()
+        log.topics = topics
+        log.data = data
+        return log
+    }
+
+    def "Find factory by event id and number of topics"() {
+        expect:
+        registry.size() == 2
+        registry.findFactory(log([TRANSFER, Hex32.extendFrom(FROM), Hex32.extendFrom(TO)])).is(erc20)
+        registry.findFactory(log([TRANSFER, Hex32.extendFrom(FROM), Hex32.extendFrom(TO), Hex32.extendFrom(1L)])).is(erc721)
+    }
+
+    def "Skip unknown logs"() {
+        expect:
+        registry.findFactory(log(topics)) == null
+        registry.decode(log(topics)) == null
+
+        where:
+        topics << [
+            [],
+            [TRANSFER],
+            [TRANSFER, Hex32.extendFrom(FROM)],
+            [Hex32.extendFrom(1L), Hex32.extendFrom(FROM), Hex32.extendFrom(TO)],
+            [TRANSFER, Hex32.extendFrom(FROM), Hex32.extendFrom(TO), Hex32.extendFrom(1L), Hex32.extendFrom(2L)],
+        ]
+    }
+
+    def "Skip logs without topics"() {
+        expect:
+        registry.decode(new TransactionLogJson()) == null
+    }
+
+    def "Decode log"() {
+        when:
+        def act = registry.decode(log([TRANSFER, Hex32.extendFrom(FROM), Hex32.extendFrom(TO)], Hex32.extendFrom(100L)))
+        then:
+        act instanceof StandardContractEvent
+        with((StandardContractEvent) act) {
+            eventId == TRANSFER
+            arguments == [Hex32.extendFrom(FROM), Hex32.extendFrom(TO)]
+            data == Hex32.extendFrom(100L)
+        }
+    }
+
+    def "Decode all known logs in order"() {
+        setup:
+        def logs = (0..<1000).collect { i ->
+            switch (i % 3) {
+                case 0: return log([TRANSFER, Hex32.extendFrom(FROM), Hex32.extendFrom(TO)], Hex32.extendFrom(i as Long))
+                case 1: return log([TRANSFER, Hex32.extendFrom(FROM), Hex32.extendFrom(TO), Hex32.extendFrom(i as Long)])
+                default: return log([Hex32.extendFrom(i as Long)])
+            }
+        }
+        when:
+        def act = registry.decodeAll(logs, parallel)
+        then:
+        act.size() == 667
+        act.eachWithIndex { ContractEvent event, int i ->
+            def expected = (i >> 1) * 3 + (i & 1)
+            def standard = (StandardContractEvent) event
+            assert (i % 2 == 0 ? standard.data : standard.arguments[2]) == Hex32.extendFrom(expected as Long)
+        }
+
+        where:
+        parallel << [false, true]
+    }
+
+    def "Decode empty list"() {
+        expect:
+        registry.decodeAll([]).isEmpty()
+    }
+
+    def "Replace factory for the same key"() {
+        setup:
+        ContractEvent.Factory<StandardContractEvent> other = { log -> new StandardContractEvent(TRANSFER) }
+        when:
+        def act = new EventDecoderRegistry.Builder()
+            .register(TRANSFER, 3, erc20)
+            .register(TRANSFER, 3, other)
+            .build()
+        then:
+        act.size() == 1
+        act.findFactory(log([TRANSFER, Hex32.extendFrom(FROM), Hex32.extendFrom(TO)])).is(other)
+    }
+
+    def "Reject invalid number of topics"() {
+        when:
+        new EventDecoderRegistry.Builder().register(TRANSFER, topics, erc20)
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        topics << [0, 5]
+    }
+
+    def "Find among many events"() {
+        setup:
+        def builder = new EventDecoderRegistry.Builder()
+        def ids = (0..<2000).collect { EventId.fromSignature("Event$it") }
+        ids.each { id -> builder.register(id, 1, { log -> new StandardContractEvent(id) } as ContractEvent.Factory) }
+        when:
+        def act = builder.build()
+        then:
+        act.size() == 2000
+        ids.every { id -> ((StandardContractEvent) act.decode(log([id]))).eventId == id }
+    }
+}
@@ -20,6 +20,7 @@ import io.emeraldpay.etherjar.abi.BytesType
 import io.emeraldpay.etherjar.abi.DynamicBytesType
 import io.emeraldpay.etherjar.abi.StringType
 import io.emeraldpay.etherjar.abi.UIntType
+import io.emeraldpay.etherjar.domain.MethodId
 import spock.lang.Specification
 
 class MethodIdBuilderSpec extends Specification {
@@ -75,5 +76,18 @@ class MethodIdBuilderSpec extends Specification {
         'function transferFrom(address _from, address _to, uint256 _value) returns (bool)'  | '0x23b872dd'
         'function allowance(address _owner, address _spender) view returns (uint256)'       | '0xdd62ed3e'
     }
-}
 
+    def "should parse tuple parameters"() {
+        when:
+        def parsed = MethodIdBuilder.parse(signature)
+
+        then:
+        parsed == MethodId.fromSignature('swap', 'address', 'uint256[]', '(bytes32,uint8)[]')
+
+        where:
+        signature << [
+                'swap(address,uint256[],(bytes32,uint8)[])',
+                'function swap(address to, uint256[] memory amounts, (bytes32 key, uint8 v)[] calldata orders) returns (uint256)'
+        ]
+    }
+}
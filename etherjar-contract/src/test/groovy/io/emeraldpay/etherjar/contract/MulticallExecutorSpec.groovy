@@ -0,0 +1,174 @@
+package io.emeraldpay.etherjar.contract
+
+import groovy.json.JsonOutput
+import groovy.json.JsonSlurper
+import io.emeraldpay.etherjar.abi.AbiCodec
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.MethodId
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import io.emeraldpay.etherjar.rpc.DefaultRpcClient
+import io.emeraldpay.etherjar.rpc.InMemoryRpcTransport
+import io.emeraldpay.etherjar.rpc.json.BlockTag
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class MulticallExecutorSpec extends Specification {
+
+    static final Address TOKEN = Address.from("0xdAC17F958D2ee523a2206206994597C13D831ec7")
+    static final MethodId BALANCE_OF = MethodId.from("0x70a08231")
+
+    static ContractReadCall<BigInteger> balanceOf(long holder) {
+        def data = ContractData.newBuilder()
+            .method(BALANCE_OF)
+            .argument(Hex32.extendFrom(holder))
+            .build()
+        return new ContractReadCall<BigInteger>(TOKEN, data, { HexData result -> result.asUInt(0, 32) })
+    }
+
+    /**
+     * Responds to each aggregated balanceOf with the holder id multiplied by 10, except odd holders which are reverted
+     */
+    static String respond(String request) {
+        def codec = AbiCodec.compile("(address,bool,bytes)[]")
+        def json = new JsonSlurper().parseText(request)
+        def responses = (json instanceof List ? json : [json]).collect { item ->
+            assert item.method == "eth_call"
+            assert Address.from(item.params[0].to) == MulticallExecutor.MULTICALL3
+            def input = HexData.from(item.params[0].input)
+            assert input.extract(MethodId.SIZE_BYTES) == MulticallExecutor.AGGREGATE3
+            def calls = codec.decode(input, MethodId.SIZE_BYTES)[0] as Object[]
+            def results = calls.collect { List call ->
+                def holder = new HexData(call[2] as byte[]).asUInt(4, 32)
+                holder.testBit(0)
+                    ? [false, new byte[0]]
+                    : [true, Hex32.extendFrom(holder * 10).bytes]
+            }
+            def result = AbiCodec.compile("(bool,bytes)[]").encode([results as Object[]])
+            [jsonrpc: "2.0", id: item.id, result: result.toHex()]
+        }
+        return JsonOutput.toJson(responses)
+    }
+
+    def "Encode aggregate3 call data"() {
+        setup:
+        def executor = MulticallExecutor.newBuilder().build()
+        def calls = [balanceOf(1), balanceOf(2)]
+        when:
+        def act = executor.encode(calls)
+        def decoded = AbiCodec.compile("(address,bool,bytes)[]").decode(act, MethodId.SIZE_BYTES)[0] as Object[]
+        then:
+        act.extract(MethodId.SIZE_BYTES).toHex() == "0x82ad56cb"
+        decoded.length == 2
+        decoded.eachWithIndex { List call, int i ->
+            assert call[0] == TOKEN
+            assert new HexData(call[2] as byte[]) == calls[i].data.toData()
+        }
+    }
+
+    def "Decode results through the call processors"() {
+        setup:
+        def executor = MulticallExecutor.newBuilder().build()
+        def calls = [balanceOf(2), balanceOf(3), balanceOf(4)]
+        def response = AbiCodec.compile("(bool,bytes)[]").encode([[
+            [true, Hex32.extendFrom(20L).bytes],
+            [false, HexData.from("0x08c379a0").bytes],
+            [true, new byte[0]],
+        ] as Object[]])
+        when:
+        def act = executor.decode(calls, response)
+        then:
+        act.size() == 3
+        act[0].success
+        act[0].value == 20G
+        act[0].call.is(calls[0])
+        !act[1].success
+        act[1].returnData.toHex() == "0x08c379a0"
+        act[1].value == null
+        // a call to a non-contract succeeds with empty data, which cannot be processed
+        !act[2].success
+        act[2].error != null
+    }
+
+    def "Fail to decode results for other calls"() {
+        setup:
+        def executor = MulticallExecutor.newBuilder().build()
+        def response = AbiCodec.compile("(bool,bytes)[]").encode([[[true, new byte[0]]] as Object[]])
+        when:
+        executor.decode([balanceOf(1), balanceOf(2)], response)
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "Split by call data size"() {
+        setup:
+        // each balanceOf takes 32 + 96 + 32 + 64 bytes
+        def executor = MulticallExecutor.newBuilder().withMaxCalldataSize(68 + 224 * 10).build()
+        def calls = (0..<25).collect { balanceOf(it) }
+        when:
+        def act = executor.split(calls)
+        then:
+        act*.size() == [10, 10, 5]
+        act.flatten() == calls
+        act.every { executor.encode(it).size <= 68 + 224 * 10 }
+    }
+
+    def "Split by gas"() {
+        setup:
+        def executor = MulticallExecutor.newBuilder().withGasLimit(1_000_000).withGasPerCall(300_000).build()
+        def calls = (0..<10).collect { balanceOf(it) }
+        when:
+        def act = executor.split(calls)
+        then:
+        act*.size() == [3, 3, 3, 1]
+    }
+
+    def "Put a large call into its own chunk"() {
+        setup:
+        def executor = MulticallExecutor.newBuilder().withGasLimit(100_000).withGasEstimate { it.data.arguments[0] == Hex32.extendFrom(1L) ? 500_000L : 10_000L }.build()
+        def calls = (0..<3).collect { balanceOf(it) }
+        when:
+        def act = executor.split(calls)
+        then:
+        act*.size() == [1, 1, 1]
+    }
+
+    def "Execute with InMemoryRpcTransport"() {
+        setup:
+        def requests = []
+        def transport = InMemoryRpcTransport.newBuilder()
+            .respondWithString { request ->
+                requests << request
+                respond(request)
+            }
+            .build()
+        def client = new DefaultRpcClient(transport)
+        def executor = MulticallExecutor.newBuilder().withGasPerCall(1_000_000).build()
+        def calls = (0..<120).collect { balanceOf(it) }
+        when:
+        def act = executor.execute(client, calls, BlockTag.LATEST).get(5, TimeUnit.SECONDS)
+        then:
+        // 50 calls per aggregate3, in a single JSON-RPC batch
+        requests.size() == 1
+        (new JsonSlurper().parseText(requests[0]) as List).size() == 3
+        act.size() == 120
+        act.eachWithIndex { MulticallExecutor.Result<BigInteger> result, int i ->
+            assert result.call.is(calls[i])
+            assert result.success == (i % 2 == 0)
+            assert result.value == (i % 2 == 0 ? BigInteger.valueOf(i * 10) : null)
+        }
+    }
+
+    def "Execute nothing"() {
+        setup:
+        def transport = InMemoryRpcTransport.newBuilder()
+            .respondWithString { throw new IllegalStateException("Unexpected request") }
+            .build()
+        when:
+        def act = MulticallExecutor.newBuilder().build()
+            .execute(new DefaultRpcClient(transport), [], 100L).get(5, TimeUnit.SECONDS)
+        then:
+        act.isEmpty()
+    }
+}
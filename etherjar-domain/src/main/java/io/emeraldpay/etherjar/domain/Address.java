@@ -38,8 +38,6 @@ public class Address extends HexData implements Comparable<Address> {
     public static final int SIZE_BYTES = 20;
     public static final int SIZE_HEX = 2 + SIZE_BYTES * 2;
 
-    private static final byte[] EMPTY_12BYTES = {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0};
-
     /**
      * Use {@link Address#empty()}
      */
@@ -95,14 +93,26 @@ public class Address extends HexData implements Comparable<Address> {
      */
     public static Address extract(Hex32 value) {
         Objects.requireNonNull(value);
-        byte[] bytes = value.getBytes();
-        byte[] empty = new byte[Hex32.SIZE_BYTES - Address.SIZE_BYTES];
-        System.arraycopy(bytes, 0, empty, 0, empty.length);
-        if (!Arrays.equals(empty, EMPTY_12BYTES)) {
+        return extract(value, 0);
+    }
+
+    /**
+     * Extract address from a 32 bytes word of data at the specified offset, such as an argument of an encoded
+     * method call, without copying the word. Same as {@link #extract(Hex32)} it verifies that the initial
+     * non-address bytes of the word are zeroes.
+     *
+     * @param data a data
+     * @param offset position of the word in the data
+     * @return address
+     * @throws IndexOutOfBoundsException if the data is shorter than a word at the offset
+     */
+    public static Address extract(HexData data, int offset) {
+        Objects.checkFromIndexSize(offset, Hex32.SIZE_BYTES, data.getSize());
+        if (!data.isZero(offset, Hex32.SIZE_BYTES - Address.SIZE_BYTES)) {
             throw new IllegalArgumentException("Hex32 has non zero prefix for an Address");
         }
         byte[] address = new byte[Address.SIZE_BYTES];
-        System.arraycopy(bytes, Hex32.SIZE_BYTES - Address.SIZE_BYTES, address,0, address.length);
+        data.copyTo(offset + Hex32.SIZE_BYTES - Address.SIZE_BYTES, address, 0, address.length);
         return new Address(address);
     }
 
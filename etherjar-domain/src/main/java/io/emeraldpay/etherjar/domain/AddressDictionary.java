@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.domain;
+
+import io.emeraldpay.etherjar.hex.HexData;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Dictionary encoding of addresses, which assigns a sequential {@code int} id to each distinct address.
+ *
+ * <p>Addresses are stored as primitive arrays (i.e. 20 bytes per address, plus the hash table), and can be added
+ * directly from a part of another value, such as an indexed address in a log topic, without creating
+ * an {@link Address} instance.
+ *
+ * <p>The dictionary is not thread safe.
+ */
+@NullMarked
+public class AddressDictionary {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int size = 0;
+
+    // an address is split into 8 + 8 + 4 bytes
+    private long[] high;
+    private long[] middle;
+    private int[] low;
+
+    // ids plus one, zero for an empty slot
+    private int[] table;
+
+    public AddressDictionary() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity expected number of distinct addresses
+     */
+    public AddressDictionary(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        capacity = Math.max(capacity, 1);
+        this.high = new long[capacity];
+        this.middle = new long[capacity];
+        this.low = new int[capacity];
+        this.table = new int[tableSize(capacity)];
+    }
+
+    private static int tableSize(int capacity) {
+        int size = 2;
+        while (size < capacity * 2) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    private static int hash(long high, long middle, int low) {
+        long h = high * 31 + middle;
+        h = h * 31 + low;
+        int result = (int) (h ^ (h >>> 32));
+        return result ^ (result >>> 16);
+    }
+
+    /**
+     * @return number of distinct addresses
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get an id of the address, adding it to the dictionary if it's not there yet
+     *
+     * @param address an address
+     * @return id of the address
+     */
+    public int add(Address address) {
+        return add(address, 0);
+    }
+
+    /**
+     * Get an id of the address stored in the data at the offset, adding it to the dictionary if it's not there yet.
+     * For example, for an indexed address argument of an event it's {@code add(topic, 12)}.
+     *
+     * @param data a data containing an address
+     * @param offset position of the address in the data
+     * @return id of the address
+     * @throws IndexOutOfBoundsException if the data is shorter than an address at the offset
+     */
+    public int add(HexData data, int offset) {
+        long h = data.asLong(offset, Long.BYTES);
+        long m = data.asLong(offset + Long.BYTES, Long.BYTES);
+        int l = (int) data.asLong(offset + 2 * Long.BYTES, Integer.BYTES);
+
+        int slot = findSlot(h, m, l);
+        if (table[slot] != 0) {
+            return table[slot] - 1;
+        }
+
+        if (size == high.length) {
+            int capacity = high.length * 2;
+            high = Arrays.copyOf(high, capacity);
+            middle = Arrays.copyOf(middle, capacity);
+            low = Arrays.copyOf(low, capacity);
+        }
+        int id = size++;
+        high[id] = h;
+        middle[id] = m;
+        low[id] = l;
+
+        if (size * 2 > table.length) {
+            rehash(table.length * 2);
+        } else {
+            table[slot] = id + 1;
+        }
+        return id;
+    }
+
+    /**
+     * Find an id of the address
+     *
+     * @param address an address
+     * @return id of the address, or -1 if it's not in the dictionary
+     */
+    public int find(Address address) {
+        long h = address.asLong(0, Long.BYTES);
+        long m = address.asLong(Long.BYTES, Long.BYTES);
+        int l = (int) address.asLong(2 * Long.BYTES, Integer.BYTES);
+
+        return table[findSlot(h, m, l)] - 1;
+    }
+
+    /**
+     * @param id id of an address
+     * @return the address
+     * @throws IndexOutOfBoundsException if there is no such id
+     */
+    public Address get(int id) {
+        byte[] value = new byte[Address.SIZE_BYTES];
+        copyTo(id, value, 0);
+        return Address.from(value);
+    }
+
+    /**
+     * Write an address into an array
+     *
+     * @param id id of an address
+     * @param dest target array
+     * @param destOffset position in the target array
+     * @throws IndexOutOfBoundsException if there is no such id, or the array is too short
+     */
+    public void copyTo(int id, byte[] dest, int destOffset) {
+        Objects.checkIndex(id, size);
+        Objects.checkFromIndexSize(destOffset, Address.SIZE_BYTES, dest.length);
+        writeLong(high[id], dest, destOffset, Long.BYTES);
+        writeLong(middle[id], dest, destOffset + Long.BYTES, Long.BYTES);
+        writeLong(low[id], dest, destOffset + 2 * Long.BYTES, Integer.BYTES);
+    }
+
+    /**
+     * Remove all the addresses. Ids are assigned again from zero.
+     */
+    public void clear() {
+        Arrays.fill(table, 0);
+        size = 0;
+    }
+
+    private static void writeLong(long value, byte[] dest, int offset, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            dest[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private int findSlot(long h, long m, int l) {
+        int mask = table.length - 1;
+        int slot = hash(h, m, l) & mask;
+        int id;
+        while ((id = table[slot]) != 0) {
+            id--;
+            if (high[id] == h && middle[id] == m && low[id] == l) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int tableSize) {
+        table = new int[tableSize];
+        for (int id = 0; id < size; id++) {
+            table[findSlot(high[id], middle[id], low[id])] = id + 1;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package io.emeraldpay.etherjar.domain
+
+import io.emeraldpay.etherjar.hex.Hex32
+import spock.lang.Specification
+
+class AddressDictionarySpec extends Specification {
+
+    static Address address(int i) {
+        return Address.from(String.format("0x%08x%032x", i * 7919, i))
+    }
+
+    def "Assign sequential ids"() {
+        setup:
+        def dict = new AddressDictionary()
+        when:
+        def first = dict.add(Address.from("0xdAC17F958D2ee523a2206206994597C13D831ec7"))
+        def second = dict.add(Address.from("0x65968e42789eb8b257c34eb7dd66059708c791b0"))
+        def again = dict.add(Address.from("0xdac17f958d2ee523a2206206994597c13d831ec7"))
+        then:
+        first == 0
+        second == 1
+        again == 0
+        dict.size() == 2
+        dict.get(0) == Address.from("0xdAC17F958D2ee523a2206206994597C13D831ec7")
+        dict.get(1) == Address.from("0x65968e42789eb8b257c34eb7dd66059708c791b0")
+    }
+
+    def "Add from topic"() {
+        setup:
+        def dict = new AddressDictionary()
+        def topic = Hex32.from("0x0000000000000000000000003cd751e6b0078be393132286c442345e5dc49699")
+        when:
+        def id = dict.add(topic, 12)
+        then:
+        dict.find(Address.from("0x3cd751e6b0078be393132286c442345e5dc49699")) == id
+        dict.get(id) == Address.from("0x3cd751e6b0078be393132286c442345e5dc49699")
+    }
+
+    def "Grow with many addresses"() {
+        setup:
+        def dict = new AddressDictionary(2)
+        when:
+        def ids = (0..<10_000).collect { dict.add(address(it)) }
+        then:
+        ids == (0..<10_000).toList()
+        dict.size() == 10_000
+        (0..<10_000).every { dict.find(address(it)) == it && dict.get(it) == address(it) }
+    }
+
+    def "Find unknown address"() {
+        setup:
+        def dict = new AddressDictionary()
+        dict.add(address(1))
+        expect:
+        dict.find(address(2)) == -1
+    }
+
+    def "Copy to array"() {
+        setup:
+        def dict = new AddressDictionary()
+        def id = dict.add(address(5))
+        def dest = new byte[24]
+        when:
+        dict.copyTo(id, dest, 2)
+        then:
+        Arrays.copyOfRange(dest, 2, 22) == address(5).bytes
+        dest[0] == 0 && dest[1] == 0 && dest[22] == 0 && dest[23] == 0
+    }
+
+    def "Clear"() {
+        setup:
+        def dict = new AddressDictionary()
+        dict.add(address(1))
+        dict.add(address(2))
+        when:
+        dict.clear()
+        then:
+        dict.size() == 0
+        dict.find(address(1)) == -1
+        dict.add(address(2)) == 0
+    }
+
+    def "Fail on unknown id"() {
+        setup:
+        def dict = new AddressDictionary()
+        dict.add(address(1))
+        when:
+        dict.get(1)
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+}
@@ -78,6 +78,30 @@ class AddressSpec extends Specification {
         '0xffffffffffffffffffffffffffffffffffffffff' | '0x000000000000000000000000ffffffffffffffffffffffffffffffffffffffff'
     }
 
+    def "should extract from data at offset"() {
+        setup:
+        def data = HexData.from("0xa9059cbb" +
+            "0000000000000000000000002546f610a94d98d01ccf277b70af7c2df8185fc4" +
+            "000000000000000000000000000000000000000000000000000000000dbed330")
+        expect:
+        Address.extract(data, 4).toHex() == '0x2546f610a94d98d01ccf277b70af7c2df8185fc4'
+        Address.extract(data, 36).toHex() == '0x000000000000000000000000000000000dbed330'
+    }
+
+    def "should fail to extract from data at offset"() {
+        setup:
+        def data = HexData.from("0xa9059cbb" +
+            "0000000000000000000000002546f610a94d98d01ccf277b70af7c2df8185fc4")
+        when:
+        Address.extract(data, offset)
+        then:
+        thrown(error)
+        where:
+        offset | error
+        0      | IllegalArgumentException
+        5      | IndexOutOfBoundsException
+    }
+
     def "should fail to extract from Hex32 with non-address bytes"() {
         when:
         def input = null
@@ -13,33 +13,37 @@ import java.util.Objects;
 public class ERC20Call {
 
     public static Base decode(HexData input) {
-        MethodId methodId = MethodId.fromInput(input);
+        if (input.getSize() < MethodId.SIZE_BYTES) {
+            throw new IllegalArgumentException("Invalid input length: " + input.getSize());
+        }
+        ERC20Method method = ERC20Method.extractFrom(input);
+        if (method == null) {
+            throw new IllegalStateException("Unsupported method: " + MethodId.fromInput(input));
+        }
         Base parsed;
-        if (methodId.equals(ERC20Method.SYMBOL.getMethodId())) {
-            parsed = new Symbol();
-        } else if (methodId.equals(ERC20Method.NAME.getMethodId())) {
-            parsed = new Name();
-        } else if (methodId.equals(ERC20Method.DECIMALS.getMethodId())) {
-            parsed = new Decimals();
-        } else if (methodId.equals(ERC20Method.ALLOWANCE.getMethodId())) {
-            parsed = new Allowance();
-        } else if (methodId.equals(ERC20Method.APPROVE.getMethodId())) {
-            parsed = new Approve();
-        } else if (methodId.equals(ERC20Method.BALANCE_OF.getMethodId())) {
-            parsed = new BalanceOf();
-        } else if (methodId.equals(ERC20Method.TOTAL_SUPPLY.getMethodId())) {
-            parsed = new TotalSupply();
-        } else if (methodId.equals(ERC20Method.TRANSFER.getMethodId())) {
-            parsed = new Transfer();
-        } else if (methodId.equals(ERC20Method.TRANSFER_FROM.getMethodId())) {
-            parsed = new TransferFrom();
-        } else {
-            throw new IllegalStateException("Unsupported method: " + methodId);
+        switch (method) {
+            case SYMBOL: parsed = new Symbol(); break;
+            case NAME: parsed = new Name(); break;
+            case DECIMALS: parsed = new Decimals(); break;
+            case ALLOWANCE: parsed = new Allowance(); break;
+            case APPROVE: parsed = new Approve(); break;
+            case BALANCE_OF: parsed = new BalanceOf(); break;
+            case TOTAL_SUPPLY: parsed = new TotalSupply(); break;
+            case TRANSFER: parsed = new Transfer(); break;
+            case TRANSFER_FROM: parsed = new TransferFrom(); break;
+            default: throw new IllegalStateException("Unsupported method: " + method);
         }
         parsed.decode(input);
         return parsed;
     }
 
+    /**
+     * Position of an argument in the call input
+     */
+    static int argumentOffset(int index) {
+        return MethodId.SIZE_BYTES + index * Hex32.SIZE_BYTES;
+    }
+
     public static abstract class Base {
         private final ERC20Method method;
 
@@ -72,9 +76,25 @@ public class ERC20Call {
             if (input.getSize() < MethodId.SIZE_BYTES) {
                 throw new IllegalArgumentException("Empty or short methodId");
             }
-            MethodId methodId = MethodId.fromInput(input);
-            if (!methodId.equals(getMethod().getMethodId())) {
-                throw new IllegalArgumentException("Invalid method id: " + methodId + " != " + getMethod().getMethodId());
+            if ((int) input.asLong(0, MethodId.SIZE_BYTES) != getMethod().getSelector()) {
+                throw new IllegalArgumentException("Invalid method id: " + MethodId.fromInput(input) + " != " + getMethod().getMethodId());
+            }
+        }
+
+        /**
+         * Verify that the input has exactly the specified number of 32 bytes arguments after the method id
+         *
+         * @param input existing [encoded] call
+         * @param count expected number of arguments
+         */
+        public void verifyArguments(HexData input, int count) {
+            int size = input.getSize() - MethodId.SIZE_BYTES;
+            if (size % Hex32.SIZE_BYTES != 0) {
+                throw new IllegalArgumentException("Arguments length is not a multiple of " + Hex32.SIZE_BYTES + ": " + size);
+            }
+            int actual = size / Hex32.SIZE_BYTES;
+            if (actual != count) {
+                throw new IllegalArgumentException("Expected " + count + (count == 1 ? " argument" : " arguments") + ", received " + actual);
             }
         }
     }
@@ -171,12 +191,9 @@ public class ERC20Call {
         @Override
         public void decode(HexData input) {
             verifyMethod(input);
-            HexData[] args = input.split(Hex32.SIZE_BYTES, MethodId.SIZE_BYTES);
-            if (args.length != 2) {
-                throw new IllegalArgumentException("Expected 2 arguments, received " + args.length);
-            }
-            to = Address.extract(Hex32.from(args[0]));
-            value = new BigInteger(1, args[1].getBytes());
+            verifyArguments(input, 2);
+            to = Address.extract(input, argumentOffset(0));
+            value = input.asUInt(argumentOffset(1), Hex32.SIZE_BYTES);
         }
 
         @Override
@@ -239,13 +256,10 @@ public class ERC20Call {
         @Override
         public void decode(HexData input) {
             verifyMethod(input);
-            HexData[] args = input.split(Hex32.SIZE_BYTES, MethodId.SIZE_BYTES);
-            if (args.length != 3) {
-                throw new IllegalArgumentException("Expected 3 arguments, received " + args.length);
-            }
-            from = Address.extract(Hex32.from(args[0]));
-            to = Address.extract(Hex32.from(args[1]));
-            value = new BigInteger(1, args[2].getBytes());
+            verifyArguments(input, 3);
+            from = Address.extract(input, argumentOffset(0));
+            to = Address.extract(input, argumentOffset(1));
+            value = input.asUInt(argumentOffset(2), Hex32.SIZE_BYTES);
         }
 
         @Override
@@ -299,12 +313,9 @@ public class ERC20Call {
         @Override
         public void decode(HexData input) {
             verifyMethod(input);
-            HexData[] args = input.split(Hex32.SIZE_BYTES, MethodId.SIZE_BYTES);
-            if (args.length != 2) {
-                throw new IllegalArgumentException("Expected 2 arguments, received " + args.length);
-            }
-            spender = Address.extract(Hex32.from(args[0]));
-            value = new BigInteger(1, args[1].getBytes());
+            verifyArguments(input, 2);
+            spender = Address.extract(input, argumentOffset(0));
+            value = input.asUInt(argumentOffset(1), Hex32.SIZE_BYTES);
         }
 
         @Override
@@ -353,11 +364,8 @@ public class ERC20Call {
         @Override
         public void decode(HexData input) {
             verifyMethod(input);
-            HexData[] args = input.split(Hex32.SIZE_BYTES, MethodId.SIZE_BYTES);
-            if (args.length != 1) {
-                throw new IllegalArgumentException("Expected 1 argument, received " + args.length);
-            }
-            address = Address.extract(Hex32.from(args[0]));
+            verifyArguments(input, 1);
+            address = Address.extract(input, argumentOffset(0));
         }
 
         @Override
@@ -427,12 +435,9 @@ public class ERC20Call {
         @Override
         public void decode(HexData input) {
             verifyMethod(input);
-            HexData[] args = input.split(Hex32.SIZE_BYTES, MethodId.SIZE_BYTES);
-            if (args.length != 2) {
-                throw new IllegalArgumentException("Expected 2 argument, received " + args.length);
-            }
-            owner = Address.extract(Hex32.from(args[0]));
-            spender = Address.extract(Hex32.from(args[1]));
+            verifyArguments(input, 2);
+            owner = Address.extract(input, argumentOffset(0));
+            spender = Address.extract(input, argumentOffset(1));
         }
 
         @Override
@@ -161,7 +161,7 @@ public enum ERC20Event {
             List<Hex32> topics = log.getTopics();
             Address from = Address.extract(topics.get(1));
             Address to = Address.extract(topics.get(2));
-            BigInteger amount = log.getData().split32()[0].asUInt();
+            BigInteger amount = log.getData().asUInt(0, Hex32.SIZE_BYTES);
             return new TransferDetails(from, to, amount);
         };
 
@@ -234,7 +234,7 @@ public enum ERC20Event {
             List<Hex32> topics = log.getTopics();
             Address from = Address.extract(topics.get(1));
             Address to = Address.extract(topics.get(2));
-            BigInteger amount = log.getData().split32()[0].asUInt();
+            BigInteger amount = log.getData().asUInt(0, Hex32.SIZE_BYTES);
             return new ApprovalDetails(from, to, amount);
         };
 
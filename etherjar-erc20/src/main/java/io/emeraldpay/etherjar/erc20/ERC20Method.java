@@ -4,6 +4,7 @@ import io.emeraldpay.etherjar.abi.AddressType;
 import io.emeraldpay.etherjar.abi.Type;
 import io.emeraldpay.etherjar.abi.UIntType;
 import io.emeraldpay.etherjar.domain.MethodId;
+import io.emeraldpay.etherjar.hex.HexData;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -115,6 +116,7 @@ public enum ERC20Method {
     ALLOWANCE("allowance", Arrays.asList(AddressType.DEFAULT, AddressType.DEFAULT));
 
     private final MethodId methodId;
+    private final int selector;
     private final String methodName;
     private final List<Type<?>> arguments;
 
@@ -125,12 +127,55 @@ public enum ERC20Method {
             methodName,
             arguments.stream().map(Type::getCanonicalName).collect(Collectors.toList())
         );
+        this.selector = (int) methodId.asLong(0, MethodId.SIZE_BYTES);
+    }
+
+    /**
+     * Find a method by the selector, i.e. the method id read as a big-endian int
+     *
+     * @param selector method selector
+     * @return method or null if it's not an ERC-20 method
+     */
+    public static ERC20Method fromSelector(int selector) {
+        // the codes are listed in the method docs above, and verified against the actual method ids by tests
+        switch (selector) {
+            case 0x95d89b41: return SYMBOL;
+            case 0x06fdde03: return NAME;
+            case 0x313ce567: return DECIMALS;
+            case 0x18160ddd: return TOTAL_SUPPLY;
+            case 0x70a08231: return BALANCE_OF;
+            case 0xa9059cbb: return TRANSFER;
+            case 0x23b872dd: return TRANSFER_FROM;
+            case 0x095ea7b3: return APPROVE;
+            case 0xdd62ed3e: return ALLOWANCE;
+            default: return null;
+        }
+    }
+
+    /**
+     * Tries to find the method of a call by its input, without copying the data
+     *
+     * @param input input data of a call
+     * @return method or null if it's not an ERC-20 call, or the input is shorter than a method id
+     */
+    public static ERC20Method extractFrom(HexData input) {
+        if (input == null || input.getSize() < MethodId.SIZE_BYTES) {
+            return null;
+        }
+        return fromSelector((int) input.asLong(0, MethodId.SIZE_BYTES));
     }
 
     public MethodId getMethodId() {
         return methodId;
     }
 
+    /**
+     * @return the method id as a big-endian int
+     */
+    public int getSelector() {
+        return selector;
+    }
+
     public String getMethodName() {
         return methodName;
     }
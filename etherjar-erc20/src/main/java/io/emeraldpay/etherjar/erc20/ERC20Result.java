@@ -164,9 +164,9 @@ public class ERC20Result {
                 byte[] str = DYNAMIC_BYTES_TYPE.decode(chars);
                 setValue(new String(str));
             } else {
-                // just zero-terminated string
+                // just zero-terminated string, or a bytes32 value which takes all 32 bytes
                 byte[] data = input.getBytes();
-                int len = 0;
+                int len = data.length;
                 for (int i = 0; i < data.length; i++) {
                     if (data[i] == 0x0) {
                         len = i;
@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.erc20;
+
+import io.emeraldpay.etherjar.contract.ContractReadCall;
+import io.emeraldpay.etherjar.contract.MulticallExecutor;
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.rpc.Commands;
+import io.emeraldpay.etherjar.rpc.ReactorRpcClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads balances and allowances for a large number of (token, holder) pairs.
+ *
+ * <p>The queries are grouped into chunks, each executed as a Multicall3 {@code aggregate3} call (see {@link MulticallExecutor}),
+ * and a few chunks are executed concurrently. All the chunks are executed at the same block, which is either provided
+ * or the current height at the moment of subscription, so the results are consistent with each other. A chunk which
+ * failed on the RPC level (i.e. not a reverted call) is retried with a backoff.
+ *
+ * <pre><code>
+ * ERC20Scanner scanner = ERC20Scanner.newBuilder()
+ *     .withClient(client)
+ *     .withConcurrency(8)
+ *     .build();
+ *
+ * scanner.scan(Flux.fromIterable(holders).map(holder -&gt; ERC20Scanner.Query.balanceOf(token, holder)))
+ *     .filter(ERC20Scanner.Result::isSuccess)
+ *     .subscribe(result -&gt; store(result.getHolder(), result.getValue()));
+ * </code></pre>
+ *
+ * <p>Results are emitted in the same order as the queries.
+ */
+public class ERC20Scanner {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+    public static final int DEFAULT_CONCURRENCY = 4;
+    public static final int DEFAULT_RETRIES = 3;
+    public static final Duration DEFAULT_BACKOFF = Duration.ofMillis(200);
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private ReactorRpcClient client;
+        private MulticallExecutor multicall;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int concurrency = DEFAULT_CONCURRENCY;
+        private int retries = DEFAULT_RETRIES;
+        private Duration backoff = DEFAULT_BACKOFF;
+        private Long height;
+
+        /**
+         * @param client RPC client to the node
+         * @return self
+         */
+        public Builder withClient(ReactorRpcClient client) {
+            this.client = Objects.requireNonNull(client);
+            return this;
+        }
+
+        /**
+         * By default, it uses the canonical Multicall3 with default limits
+         *
+         * @param multicall multicall executor
+         * @return self
+         */
+        public Builder withMulticall(MulticallExecutor multicall) {
+            this.multicall = Objects.requireNonNull(multicall);
+            return this;
+        }
+
+        /**
+         * @param chunkSize number of queries executed as a single chunk
+         * @return self
+         */
+        public Builder withChunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * @param concurrency max number of chunks executed at the same time
+         * @return self
+         */
+        public Builder withConcurrency(int concurrency) {
+            if (concurrency <= 0) {
+                throw new IllegalArgumentException("Concurrency must be positive: " + concurrency);
+            }
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * @param retries max number of retries of a failed chunk
+         * @param backoff minimal delay before a retry
+         * @return self
+         */
+        public Builder withRetries(int retries, Duration backoff) {
+            if (retries < 0) {
+                throw new IllegalArgumentException("Retries must not be negative: " + retries);
+            }
+            this.retries = retries;
+            this.backoff = Objects.requireNonNull(backoff);
+            return this;
+        }
+
+        /**
+         * By default, the scanner uses the current height at the moment of subscription
+         *
+         * @param height block height to read the state at
+         * @return self
+         */
+        public Builder atHeight(long height) {
+            this.height = height;
+            return this;
+        }
+
+        public ERC20Scanner build() {
+            if (client == null) {
+                throw new IllegalStateException("RPC client is not set");
+            }
+            if (multicall == null) {
+                multicall = MulticallExecutor.newBuilder().build();
+            }
+            return new ERC20Scanner(client, multicall, chunkSize, concurrency, retries, backoff, height);
+        }
+    }
+
+    /**
+     * A balance or an allowance to read
+     */
+    public static class Query {
+
+        private final Address token;
+        private final Address holder;
+        private final Address spender;
+
+        private Query(Address token, Address holder, Address spender) {
+            this.token = Objects.requireNonNull(token);
+            this.holder = Objects.requireNonNull(holder);
+            this.spender = spender;
+        }
+
+        /**
+         * @param token token contract
+         * @param holder token holder
+         * @return query for {@code balanceOf(holder)}
+         */
+        public static Query balanceOf(Address token, Address holder) {
+            return new Query(token, holder, null);
+        }
+
+        /**
+         * @param token token contract
+         * @param owner token owner
+         * @param spender approved spender
+         * @return query for {@code allowance(owner, spender)}
+         */
+        public static Query allowance(Address token, Address owner, Address spender) {
+            return new Query(token, owner, Objects.requireNonNull(spender));
+        }
+
+        public Address getToken() {
+            return token;
+        }
+
+        /**
+         * @return the holder for a balance, or the owner for an allowance
+         */
+        public Address getHolder() {
+            return holder;
+        }
+
+        /**
+         * @return the spender for an allowance, or null for a balance
+         */
+        public Address getSpender() {
+            return spender;
+        }
+
+        public boolean isAllowance() {
+            return spender != null;
+        }
+
+        ContractReadCall<BigInteger> toCall() {
+            ERC20Token erc20 = new ERC20Token(token);
+            return isAllowance() ? erc20.readAllowance(holder, spender) : erc20.readBalanceOf(holder);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Query)) return false;
+            Query query = (Query) o;
+            return Objects.equals(token, query.token) && Objects.equals(holder, query.holder) && Objects.equals(spender, query.spender);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(token, holder, spender);
+        }
+    }
+
+    /**
+     * Result of a query. It's a failed result (i.e., without value) if the token reverted the call or returned an invalid response.
+     */
+    public static class Result {
+
+        private final Query query;
+        private final long height;
+        private final BigInteger value;
+
+        public Result(Query query, long height, BigInteger value) {
+            this.query = query;
+            this.height = height;
+            this.value = value;
+        }
+
+        public Query getQuery() {
+            return query;
+        }
+
+        public Address getToken() {
+            return query.getToken();
+        }
+
+        public Address getHolder() {
+            return query.getHolder();
+        }
+
+        /**
+         * @return block height the value was read at
+         */
+        public long getHeight() {
+            return height;
+        }
+
+        public boolean isSuccess() {
+            return value != null;
+        }
+
+        /**
+         * @return the balance or the allowance, or null if the query failed
+         */
+        public BigInteger getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return "Result{" +
+                "token=" + query.getToken() +
+                ", holder=" + query.getHolder() +
+                (query.isAllowance() ? ", spender=" + query.getSpender() : "") +
+                ", height=" + height +
+                ", value=" + value +
+                '}';
+        }
+    }
+
+    private final ReactorRpcClient client;
+    private final MulticallExecutor multicall;
+    private final int chunkSize;
+    private final int concurrency;
+    private final int retries;
+    private final Duration backoff;
+    private final Long height;
+
+    public ERC20Scanner(ReactorRpcClient client, MulticallExecutor multicall,
+                        int chunkSize, int concurrency, int retries, Duration backoff, Long height) {
+        this.client = client;
+        this.multicall = multicall;
+        this.chunkSize = chunkSize;
+        this.concurrency = concurrency;
+        this.retries = retries;
+        this.backoff = backoff;
+        this.height = height;
+    }
+
+    /**
+     * Read all the queries at the same block
+     *
+     * @param queries balances and allowances to read
+     * @return results in the same order as the queries
+     */
+    public Flux<Result> scan(Flux<Query> queries) {
+        Mono<Long> pinned = height != null
+            ? Mono.just(height)
+            : client.execute(Commands.eth().getBlockNumber());
+
+        return pinned.flatMapMany((block) -> scan(queries, block));
+    }
+
+    /**
+     * Read all the queries at the specified block
+     *
+     * @param queries balances and allowances to read
+     * @param block block height
+     * @return results in the same order as the queries
+     */
+    public Flux<Result> scan(Flux<Query> queries, long block) {
+        return queries
+            .buffer(chunkSize)
+            .flatMapSequential((chunk) -> execute(chunk, block), concurrency)
+            .flatMapIterable((results) -> results);
+    }
+
+    private Mono<List<Result>> execute(List<Query> chunk, long block) {
+        List<ContractReadCall<BigInteger>> calls = new ArrayList<>(chunk.size());
+        for (Query query : chunk) {
+            calls.add(query.toCall());
+        }
+
+        Mono<List<MulticallExecutor.Result<BigInteger>>> execution = Mono.defer(() -> multicall.execute(client, calls, block));
+        if (retries > 0) {
+            execution = execution.retryWhen(Retry.backoff(retries, backoff));
+        }
+
+        return execution.map((results) -> {
+            List<Result> converted = new ArrayList<>(results.size());
+            for (int i = 0; i < results.size(); i++) {
+                converted.add(new Result(chunk.get(i), block, results.get(i).getValue()));
+            }
+            return converted;
+        });
+    }
+}
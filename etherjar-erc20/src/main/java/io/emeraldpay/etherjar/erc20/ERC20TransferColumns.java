@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.erc20;
+
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.AddressDictionary;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+import io.emeraldpay.etherjar.rpc.json.TransactionLogJson;
+import io.emeraldpay.etherjar.rpc.json.TransactionReceiptJson;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * ERC-20 Transfer events extracted from logs into columns of primitive arrays, i.e. a row per transfer with
+ * {@code (blockNumber, logIndex, token, from, to, amount)}.
+ *
+ * <p>Addresses are dictionary encoded as {@code int} ids (see {@link AddressDictionary}), and an amount is stored
+ * as four big-endian {@code long} words of the {@code uint256} value, so a transfer takes about 56 bytes and no objects
+ * are created per transfer. The arrays are exposed directly, so a caller can flush them to a columnar storage
+ * and then reuse the instance with {@link #clear()}.
+ *
+ * <pre><code>
+ * ERC20TransferColumns transfers = new ERC20TransferColumns();
+ * for (TransactionReceiptJson receipt : receipts) {
+ *     transfers.add(receipt);
+ * }
+ * long[] blocks = transfers.getBlockNumbers();
+ * int[] tokens = transfers.getTokens();
+ * for (int i = 0; i &lt; transfers.size(); i++) {
+ *     ...
+ * }
+ * </code></pre>
+ *
+ * <p>Only logs which are valid ERC-20 Transfers are extracted, i.e. with exactly three topics, 32 bytes of data,
+ * and not removed. ERC-721 Transfers have the same event id, but four topics, so they are skipped.
+ *
+ * <p>The columns are not thread safe.
+ */
+public class ERC20TransferColumns {
+
+    /**
+     * Number of {@code long} words of an amount
+     */
+    public static final int AMOUNT_WORDS = Hex32.SIZE_BYTES / Long.BYTES;
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private static final int ADDRESS_OFFSET = Hex32.SIZE_BYTES - Address.SIZE_BYTES;
+
+    private final Hex32 transferId = ERC20Event.TRANSFER.getEventId();
+
+    private final AddressDictionary addresses;
+
+    private int size = 0;
+
+    private long[] blockNumbers;
+    private int[] logIndexes;
+    private int[] tokens;
+    private int[] froms;
+    private int[] tos;
+    private long[] amounts;
+
+    public ERC20TransferColumns() {
+        this(new AddressDictionary(), DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param addresses dictionary for the token, sender and recipient addresses, may be shared with other columns
+     * @param capacity expected number of transfers
+     */
+    public ERC20TransferColumns(AddressDictionary addresses, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        capacity = Math.max(capacity, 1);
+        this.addresses = Objects.requireNonNull(addresses);
+        this.blockNumbers = new long[capacity];
+        this.logIndexes = new int[capacity];
+        this.tokens = new int[capacity];
+        this.froms = new int[capacity];
+        this.tos = new int[capacity];
+        this.amounts = new long[capacity * AMOUNT_WORDS];
+    }
+
+    /**
+     * Extract transfers from the logs of a receipt
+     *
+     * @param receipt a transaction receipt
+     * @return number of extracted transfers
+     */
+    public int add(TransactionReceiptJson receipt) {
+        List<TransactionLogJson> logs = receipt.getLogs();
+        return logs == null ? 0 : add(logs);
+    }
+
+    /**
+     * Extract transfers from logs
+     *
+     * @param logs logs
+     * @return number of extracted transfers
+     */
+    public int add(List<TransactionLogJson> logs) {
+        int count = 0;
+        for (TransactionLogJson log : logs) {
+            if (add(log)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Extract a transfer from a log, if it's an ERC-20 Transfer
+     *
+     * @param log a log
+     * @return true if the log is a transfer and it was added
+     */
+    public boolean add(TransactionLogJson log) {
+        List<Hex32> topics = log.getTopics();
+        HexData data = log.getData();
+        if (topics == null || topics.size() != 3 || data == null || data.getSize() != Hex32.SIZE_BYTES) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(log.getRemoved()) || log.getAddress() == null || !transferId.equals(topics.get(0))) {
+            return false;
+        }
+        Hex32 from = topics.get(1);
+        Hex32 to = topics.get(2);
+        if (!from.isZero(0, ADDRESS_OFFSET) || !to.isZero(0, ADDRESS_OFFSET)) {
+            return false;
+        }
+
+        if (size == blockNumbers.length) {
+            grow();
+        }
+        int row = size++;
+        Long blockNumber = log.getBlockNumber();
+        Long logIndex = log.getLogIndex();
+        blockNumbers[row] = blockNumber == null ? -1 : blockNumber;
+        logIndexes[row] = logIndex == null ? -1 : logIndex.intValue();
+        tokens[row] = addresses.add(log.getAddress());
+        froms[row] = addresses.add(from, ADDRESS_OFFSET);
+        tos[row] = addresses.add(to, ADDRESS_OFFSET);
+        for (int i = 0; i < AMOUNT_WORDS; i++) {
+            amounts[row * AMOUNT_WORDS + i] = data.asLong(i * Long.BYTES, Long.BYTES);
+        }
+        return true;
+    }
+
+    private void grow() {
+        int capacity = blockNumbers.length * 2;
+        blockNumbers = Arrays.copyOf(blockNumbers, capacity);
+        logIndexes = Arrays.copyOf(logIndexes, capacity);
+        tokens = Arrays.copyOf(tokens, capacity);
+        froms = Arrays.copyOf(froms, capacity);
+        tos = Arrays.copyOf(tos, capacity);
+        amounts = Arrays.copyOf(amounts, capacity * AMOUNT_WORDS);
+    }
+
+    /**
+     * @return number of transfers
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Remove all the transfers, keeping the allocated arrays and the address dictionary
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return dictionary of the token, sender and recipient addresses
+     */
+    public AddressDictionary getAddresses() {
+        return addresses;
+    }
+
+    /**
+     * @return block numbers, where only the first {@link #size()} elements are set; -1 if unknown
+     */
+    public long[] getBlockNumbers() {
+        return blockNumbers;
+    }
+
+    /**
+     * @return log indexes, where only the first {@link #size()} elements are set; -1 if unknown
+     */
+    public int[] getLogIndexes() {
+        return logIndexes;
+    }
+
+    /**
+     * @return ids of token contracts, where only the first {@link #size()} elements are set
+     */
+    public int[] getTokens() {
+        return tokens;
+    }
+
+    /**
+     * @return ids of senders, where only the first {@link #size()} elements are set
+     */
+    public int[] getFroms() {
+        return froms;
+    }
+
+    /**
+     * @return ids of recipients, where only the first {@link #size()} elements are set
+     */
+    public int[] getTos() {
+        return tos;
+    }
+
+    /**
+     * @return amounts, as {@link #AMOUNT_WORDS} big-endian words per transfer, where only the first
+     * {@code size() * AMOUNT_WORDS} elements are set
+     */
+    public long[] getAmounts() {
+        return amounts;
+    }
+
+    /**
+     * @param row index of a transfer
+     * @return token contract of the transfer
+     */
+    public Address getToken(int row) {
+        return addresses.get(tokens[Objects.checkIndex(row, size)]);
+    }
+
+    /**
+     * @param row index of a transfer
+     * @return sender of the transfer
+     */
+    public Address getFrom(int row) {
+        return addresses.get(froms[Objects.checkIndex(row, size)]);
+    }
+
+    /**
+     * @param row index of a transfer
+     * @return recipient of the transfer
+     */
+    public Address getTo(int row) {
+        return addresses.get(tos[Objects.checkIndex(row, size)]);
+    }
+
+    /**
+     * @param row index of a transfer
+     * @return amount of the transfer
+     */
+    public BigInteger getAmount(int row) {
+        int pos = Objects.checkIndex(row, size) * AMOUNT_WORDS;
+        byte[] value = new byte[Hex32.SIZE_BYTES];
+        for (int i = 0; i < AMOUNT_WORDS; i++) {
+            long word = amounts[pos + i];
+            for (int j = Long.BYTES - 1; j >= 0; j--) {
+                value[i * Long.BYTES + j] = (byte) word;
+                word >>>= 8;
+            }
+        }
+        return new BigInteger(1, value);
+    }
+}
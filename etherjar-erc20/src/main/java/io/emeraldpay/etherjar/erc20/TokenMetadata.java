@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.erc20;
+
+import io.emeraldpay.etherjar.domain.Address;
+
+import java.util.Objects;
+
+/**
+ * Symbol, name and decimals of an ERC-20 token. The fields are optional by the standard, so any of them is null
+ * if the token doesn't implement the method or returns an invalid value.
+ *
+ * @see TokenMetadataCache
+ */
+public class TokenMetadata {
+
+    private final Address token;
+    private final String symbol;
+    private final String name;
+    private final Integer decimals;
+
+    public TokenMetadata(Address token, String symbol, String name, Integer decimals) {
+        this.token = Objects.requireNonNull(token);
+        this.symbol = symbol;
+        this.name = name;
+        this.decimals = decimals;
+    }
+
+    public Address getToken() {
+        return token;
+    }
+
+    /**
+     * @return token symbol, or null if unavailable
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * @return token name, or null if unavailable
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return token decimals, or null if unavailable
+     */
+    public Integer getDecimals() {
+        return decimals;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TokenMetadata)) return false;
+        TokenMetadata that = (TokenMetadata) o;
+        return Objects.equals(token, that.token) && Objects.equals(symbol, that.symbol)
+            && Objects.equals(name, that.name) && Objects.equals(decimals, that.decimals);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(token, symbol, name, decimals);
+    }
+
+    @Override
+    public String toString() {
+        return "TokenMetadata{" +
+            "token=" + token +
+            ", symbol='" + symbol + '\'' +
+            ", name='" + name + '\'' +
+            ", decimals=" + decimals +
+            '}';
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.erc20;
+
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.hex.HexData;
+import io.emeraldpay.etherjar.rpc.Commands;
+import io.emeraldpay.etherjar.rpc.DefaultBatch;
+import io.emeraldpay.etherjar.rpc.FuturesRpcClient;
+import io.emeraldpay.etherjar.rpc.RpcException;
+import io.emeraldpay.etherjar.rpc.json.BlockTag;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * Cache of ERC-20 token metadata, i.e. symbol, name and decimals.
+ *
+ * <p>On a miss, all three fields are requested as a single JSON-RPC batch, and concurrent requests for the same token
+ * share the same load. A token which doesn't implement a method (i.e. the call is reverted) or returns an invalid
+ * value gets null for the field. Older tokens which return a {@code bytes32} symbol or name instead of a string
+ * are decoded from the same response, see {@link ERC20Result.Symbol}.
+ *
+ * <pre><code>
+ * TokenMetadataCache cache = TokenMetadataCache.newBuilder()
+ *     .withClient(client)
+ *     .withMaxSize(50_000)
+ *     .build();
+ *
+ * cache.warmUp(knownTokens).join();
+ *
+ * Integer decimals = cache.get(token).join().getDecimals();
+ * </code></pre>
+ *
+ * <p>The cache is bounded by the number of tokens, and the oldest loaded tokens are evicted first. A load failed on the
+ * RPC level (i.e. not because of the token) is not cached, so the next request tries again.
+ */
+public class TokenMetadataCache {
+
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    /**
+     * JSON-RPC error code of a reverted call
+     */
+    private static final int CODE_EXECUTION_REVERTED = 3;
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private FuturesRpcClient client;
+        private int maxSize = DEFAULT_MAX_SIZE;
+
+        /**
+         * @param client RPC client to the node
+         * @return self
+         */
+        public Builder withClient(FuturesRpcClient client) {
+            this.client = Objects.requireNonNull(client);
+            return this;
+        }
+
+        /**
+         * @param maxSize max number of tokens kept in the cache
+         * @return self
+         */
+        public Builder withMaxSize(int maxSize) {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("Max size must be positive: " + maxSize);
+            }
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        public TokenMetadataCache build() {
+            if (client == null) {
+                throw new IllegalStateException("RPC client is not set");
+            }
+            return new TokenMetadataCache(client, maxSize);
+        }
+    }
+
+    private final FuturesRpcClient client;
+    private final int maxSize;
+
+    private final ConcurrentHashMap<Address, CompletableFuture<TokenMetadata>> entries = new ConcurrentHashMap<>();
+    private final Queue<Address> order = new ConcurrentLinkedQueue<>();
+
+    public TokenMetadataCache(FuturesRpcClient client, int maxSize) {
+        this.client = client;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get metadata of a token, loading it if it's not in the cache yet
+     *
+     * @param token token contract
+     * @return metadata of the token
+     */
+    public CompletableFuture<TokenMetadata> get(Address token) {
+        CompletableFuture<TokenMetadata> existing = entries.get(token);
+        if (existing != null) {
+            return existing;
+        }
+        CompletableFuture<TokenMetadata> created = new CompletableFuture<>();
+        existing = entries.putIfAbsent(token, created);
+        if (existing != null) {
+            return existing;
+        }
+        added(token);
+        load(Collections.singletonList(token), Collections.singletonList(created));
+        return created;
+    }
+
+    /**
+     * Get metadata of a token only if it's already loaded
+     *
+     * @param token token contract
+     * @return metadata of the token, or empty if it's not loaded yet
+     */
+    public Optional<TokenMetadata> getIfPresent(Address token) {
+        CompletableFuture<TokenMetadata> existing = entries.get(token);
+        if (existing == null || !existing.isDone() || existing.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return Optional.of(existing.join());
+    }
+
+    /**
+     * Load metadata of multiple tokens in a single JSON-RPC batch. Tokens which are already in the cache, or are
+     * being loaded, are not requested again.
+     *
+     * @param tokens token contracts
+     * @return future completed when all the tokens are loaded
+     */
+    public CompletableFuture<Void> warmUp(Collection<Address> tokens) {
+        List<Address> missing = new ArrayList<>();
+        List<CompletableFuture<TokenMetadata>> targets = new ArrayList<>();
+        List<CompletableFuture<TokenMetadata>> all = new ArrayList<>(tokens.size());
+
+        for (Address token : tokens) {
+            CompletableFuture<TokenMetadata> created = new CompletableFuture<>();
+            CompletableFuture<TokenMetadata> existing = entries.putIfAbsent(token, created);
+            if (existing != null) {
+                all.add(existing);
+                continue;
+            }
+            added(token);
+            missing.add(token);
+            targets.add(created);
+            all.add(created);
+        }
+
+        if (!missing.isEmpty()) {
+            load(missing, targets);
+        }
+        return CompletableFuture.allOf(all.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Remove a token from the cache
+     *
+     * @param token token contract
+     */
+    public void invalidate(Address token) {
+        if (entries.remove(token) != null) {
+            order.remove(token);
+        }
+    }
+
+    /**
+     * @return number of tokens in the cache, including the ones being loaded
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void added(Address token) {
+        order.add(token);
+        while (entries.size() > maxSize) {
+            Address oldest = order.poll();
+            if (oldest == null) {
+                break;
+            }
+            entries.remove(oldest);
+        }
+    }
+
+    private void load(List<Address> tokens, List<CompletableFuture<TokenMetadata>> targets) {
+        DefaultBatch batch = new DefaultBatch();
+        List<CompletableFuture<HexData>> responses = new ArrayList<>(tokens.size() * 3);
+        for (Address token : tokens) {
+            ERC20Token erc20 = new ERC20Token(token);
+            responses.add(batch.add(Commands.eth().call(erc20.readSymbol().toJson(), BlockTag.LATEST)).getResult());
+            responses.add(batch.add(Commands.eth().call(erc20.readName().toJson(), BlockTag.LATEST)).getResult());
+            responses.add(batch.add(Commands.eth().call(erc20.readDecimals().toJson(), BlockTag.LATEST)).getResult());
+        }
+
+        try {
+            client.execute(batch);
+        } catch (RuntimeException e) {
+            batch.close();
+        }
+
+        for (int i = 0; i < tokens.size(); i++) {
+            Address token = tokens.get(i);
+            CompletableFuture<TokenMetadata> target = targets.get(i);
+            CompletableFuture<HexData> symbol = responses.get(i * 3);
+            CompletableFuture<HexData> name = responses.get(i * 3 + 1);
+            CompletableFuture<HexData> decimals = responses.get(i * 3 + 2);
+
+            CompletableFuture.allOf(symbol, name, decimals).whenComplete((ignored, error) -> {
+                try {
+                    target.complete(new TokenMetadata(token,
+                        read(symbol, new ERC20Result.Symbol()),
+                        read(name, new ERC20Result.Name()),
+                        read(decimals, new ERC20Result.Decimals())
+                    ));
+                } catch (CompletionException e) {
+                    // not cached, so the next request loads it again
+                    if (entries.remove(token, target)) {
+                        order.remove(token);
+                    }
+                    target.completeExceptionally(e.getCause());
+                }
+            });
+        }
+    }
+
+    /**
+     * Decode a field, or return null if the token reverted the call or returned an invalid value
+     *
+     * @throws CompletionException if the call failed for another reason, including other RPC errors
+     */
+    private static <T> T read(CompletableFuture<HexData> response, Function<HexData, T> decoder) {
+        HexData value;
+        try {
+            value = response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RpcException && isReverted((RpcException) e.getCause())) {
+                return null;
+            }
+            throw e;
+        }
+        if (value == null || value.getSize() == 0) {
+            return null;
+        }
+        try {
+            return decoder.apply(value);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Check if the error means the call was reverted by the token, which is either the code used by Geth for reverts
+     * with data, or a message mentioning a revert (e.g. {@code execution reverted})
+     */
+    private static boolean isReverted(RpcException e) {
+        if (e.getCode() == CODE_EXECUTION_REVERTED) {
+            return true;
+        }
+        String message = e.getRpcMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains("revert");
+    }
+}
@@ -1,6 +1,7 @@
 package io.emeraldpay.etherjar.erc20
 
 import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.hex.HexData
 import spock.lang.Specification
 
 class ERC20CallSpec extends Specification {
@@ -96,4 +97,82 @@ class ERC20CallSpec extends Specification {
         then:
         act.toHex() == "0x313ce567"
     }
+
+    def "Decode transfer"() {
+        when:
+        def act = ERC20Call.decode(HexData.from("0xa9059cbb" +
+            "000000000000000000000000e3c2e70acbc9ba12de6cd1e453c050efc9a56253" +
+            "000000000000000000000000000000000000000000000000cea3e81c01910000"))
+        then:
+        act instanceof ERC20Call.Transfer
+        with((ERC20Call.Transfer) act) {
+            to == Address.from("0xe3c2e70acbc9ba12de6cd1e453c050efc9a56253")
+            value == new BigInteger("cea3e81c01910000", 16)
+        }
+    }
+
+    def "Decode transferFrom"() {
+        when:
+        def act = ERC20Call.decode(HexData.from("0x23b872dd" +
+            "000000000000000000000000d3e52099a6a48f132cb23b1364b7dee212d862f6" +
+            "000000000000000000000000e3c2e70acbc9ba12de6cd1e453c050efc9a56253" +
+            "000000000000000000000000000000000000000000000000cea3e81c01910000"))
+        then:
+        act instanceof ERC20Call.TransferFrom
+        with((ERC20Call.TransferFrom) act) {
+            from == Address.from("0xd3e52099a6a48f132cb23b1364b7dee212d862f6")
+            to == Address.from("0xe3c2e70acbc9ba12de6cd1e453c050efc9a56253")
+            value == new BigInteger("cea3e81c01910000", 16)
+        }
+    }
+
+    def "Decode same as encoded"() {
+        expect:
+        ERC20Call.decode(call.encode().toData()) == call
+        where:
+        call << [
+            new ERC20Call.Approve().tap {
+                setSpender(Address.from("0xe3c2e70acbc9ba12de6cd1e453c050efc9a56253"))
+                setValue(BigInteger.TWO.pow(256) - 1)
+            },
+            new ERC20Call.BalanceOf(Address.from("0xe3c2e70acbc9ba12de6cd1e453c050efc9a56253")),
+            new ERC20Call.Allowance().tap {
+                setOwner(Address.from("0xd3e52099a6a48f132cb23b1364b7dee212d862f6"))
+                setSpender(Address.from("0xe3c2e70acbc9ba12de6cd1e453c050efc9a56253"))
+            },
+        ]
+    }
+
+    def "Decode calls without arguments"() {
+        expect:
+        ERC20Call.decode(HexData.from(input)).method == method
+        where:
+        input        | method
+        "0x95d89b41" | ERC20Method.SYMBOL
+        "0x06fdde03" | ERC20Method.NAME
+        "0x313ce567" | ERC20Method.DECIMALS
+        "0x18160ddd" | ERC20Method.TOTAL_SUPPLY
+    }
+
+    def "Fail to decode invalid arguments"() {
+        when:
+        ERC20Call.decode(HexData.from(input))
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        input << [
+            "0x70a08231",
+            "0x70a08231000000000000000000000000e3c2e70acbc9ba12de6cd1e453c050efc9a5625300",
+            "0x70a08231010000000000000000000000e3c2e70acbc9ba12de6cd1e453c050efc9a56253",
+            "0xa9059cbb000000000000000000000000e3c2e70acbc9ba12de6cd1e453c050efc9a56253",
+            "0x70a0",
+        ]
+    }
+
+    def "Fail to decode unknown method"() {
+        when:
+        ERC20Call.decode(HexData.from("0x12345678"))
+        then:
+        thrown(IllegalStateException)
+    }
 }
@@ -1,5 +1,6 @@
 package io.emeraldpay.etherjar.erc20
 
+import io.emeraldpay.etherjar.hex.HexData
 import spock.lang.Specification
 
 class ERC20MethodSpec extends Specification {
@@ -45,4 +46,24 @@ class ERC20MethodSpec extends Specification {
         then:
         act.toHex() == "0x23b872dd"
     }
+
+    def "selector matches method id"() {
+        expect:
+        ERC20Method.fromSelector(method.selector) == method
+        Integer.toHexString(method.selector).padLeft(8, '0') == method.methodId.toHex().substring(2)
+        where:
+        method << ERC20Method.values()
+    }
+
+    def "extract method from input"() {
+        expect:
+        ERC20Method.extractFrom(HexData.from(input)) == method
+        where:
+        input                                                                         | method
+        "0xa9059cbb"                                                                  | ERC20Method.TRANSFER
+        "0x70a08231000000000000000000000000e3c2e70acbc9ba12de6cd1e453c050efc9a56253" | ERC20Method.BALANCE_OF
+        "0x12345678"                                                                  | null
+        "0x70a082"                                                                    | null
+        "0x"                                                                          | null
+    }
 }
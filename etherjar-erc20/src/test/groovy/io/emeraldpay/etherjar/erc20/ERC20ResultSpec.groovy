@@ -97,6 +97,16 @@ class ERC20ResultSpec extends Specification {
         act == "Maker"
     }
 
+    def "Decode non-standard name of full length"() {
+        setup:
+        def result = new ERC20Result.Name()
+        when:
+        result.decode(HexData.from("0x4141414141414141414141414141414141414141414141414141414141414141"))
+        def act = result.get()
+        then:
+        act == "A" * 32
+    }
+
     def "Decode decimal 18"() {
         setup:
         def result = new ERC20Result.Decimals()
@@ -0,0 +1,174 @@
+package io.emeraldpay.etherjar.erc20
+
+import io.emeraldpay.etherjar.abi.AbiCodec
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.MethodId
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import io.emeraldpay.etherjar.hex.HexQuantity
+import io.emeraldpay.etherjar.rpc.AbstractReactorRpcClient
+import io.emeraldpay.etherjar.rpc.ReactorBatch
+import io.emeraldpay.etherjar.rpc.RpcCall
+import io.emeraldpay.etherjar.rpc.RpcCallResponse
+import io.emeraldpay.etherjar.rpc.RpcException
+import io.emeraldpay.etherjar.rpc.json.TransactionCallJson
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+
+import java.time.Duration
+
+class ERC20ScannerSpec extends Specification {
+
+    static final Address TOKEN = Address.from("0xdAC17F958D2ee523a2206206994597C13D831ec7")
+    static final Address BROKEN = Address.from("0x0000000000000000000000000000000000000bad")
+    static final Address SPENDER = Address.from("0x7a250d5630B4cF539739dF2C5dAcb4c659F2488D")
+
+    static Address holder(int i) {
+        return Address.from(String.format("0x%040x", i))
+    }
+
+    /**
+     * Executes eth_call to Multicall3 in memory: a balance is the holder id multiplied by 1000, an allowance is 7,
+     * and the broken token reverts
+     */
+    static class TestClient extends AbstractReactorRpcClient {
+
+        int batches = 0
+        int failures = 0
+        List<String> heights = []
+
+        @Override
+        Flux<RpcCallResponse> execute(ReactorBatch batch) {
+            batches++
+            return batch.items.map { ReactorBatch.ReactorBatchItem item ->
+                RpcCall call = item.getCall()
+                if (failures > 0) {
+                    failures--
+                    def error = new RpcException(-32000, "upstream is not available")
+                    item.onError(error)
+                    return new RpcCallResponse(call, error)
+                }
+                item.onComplete(respond(call))
+                return new RpcCallResponse(call, null)
+            }
+        }
+
+        String respond(RpcCall call) {
+            if (call.method == "eth_blockNumber") {
+                return "0x100"
+            }
+            assert call.method == "eth_call"
+            heights << call.params[1]
+            def input = ((TransactionCallJson) call.params[0]).input
+            def calls = AbiCodec.compile("(address,bool,bytes)[]").decode(input, MethodId.SIZE_BYTES)[0] as Object[]
+            def results = calls.collect { List it ->
+                def token = it[0] as Address
+                def data = new HexData(it[2] as byte[])
+                if (token == BROKEN) {
+                    return [false, new byte[0]]
+                }
+                if (data.extract(MethodId.SIZE_BYTES).toHex() == "0xdd62ed3e") {
+                    return [true, Hex32.extendFrom(7L).bytes]
+                }
+                return [true, Hex32.extendFrom(data.asUInt(4, 32) * 1000).bytes]
+            }
+            return AbiCodec.compile("(bool,bytes)[]").encode([results as Object[]]).toHex()
+        }
+    }
+
+    def "Scan balances in order at the current height"() {
+        setup:
+        def client = new TestClient()
+        def scanner = ERC20Scanner.newBuilder()
+            .withClient(client)
+            .withChunkSize(10)
+            .withConcurrency(3)
+            .build()
+        def queries = (1..95).collect { ERC20Scanner.Query.balanceOf(TOKEN, holder(it)) }
+        when:
+        def act = scanner.scan(Flux.fromIterable(queries)).collectList().block(Duration.ofSeconds(5))
+        then:
+        act.size() == 95
+        act.eachWithIndex { ERC20Scanner.Result result, int i ->
+            assert result.query == queries[i]
+            assert result.success
+            assert result.value == BigInteger.valueOf((i + 1) * 1000)
+            assert result.height == 0x100
+        }
+        // one for the height and one per chunk
+        client.batches == 1 + 10
+        client.heights.unique() == [HexQuantity.from(0x100).toHex()]
+    }
+
+    def "Scan allowances at the fixed height"() {
+        setup:
+        def client = new TestClient()
+        def scanner = ERC20Scanner.newBuilder()
+            .withClient(client)
+            .atHeight(50)
+            .build()
+        when:
+        def act = scanner.scan(Flux.just(
+            ERC20Scanner.Query.allowance(TOKEN, holder(1), SPENDER),
+            ERC20Scanner.Query.balanceOf(TOKEN, holder(2)),
+        )).collectList().block(Duration.ofSeconds(5))
+        then:
+        act*.value == [7G, 2000G]
+        act*.height == [50L, 50L]
+        act[0].query.allowance
+        client.batches == 1
+    }
+
+    def "Emit failed results for reverted calls"() {
+        setup:
+        def scanner = ERC20Scanner.newBuilder()
+            .withClient(new TestClient())
+            .atHeight(50)
+            .build()
+        when:
+        def act = scanner.scan(Flux.just(
+            ERC20Scanner.Query.balanceOf(BROKEN, holder(1)),
+            ERC20Scanner.Query.balanceOf(TOKEN, holder(1)),
+        )).collectList().block(Duration.ofSeconds(5))
+        then:
+        act*.success == [false, true]
+        act[0].value == null
+    }
+
+    def "Retry failed chunks"() {
+        setup:
+        def client = new TestClient(failures: 2)
+        def scanner = ERC20Scanner.newBuilder()
+            .withClient(client)
+            .withRetries(3, Duration.ofMillis(1))
+            .atHeight(50)
+            .build()
+        when:
+        def act = scanner.scan(Flux.just(ERC20Scanner.Query.balanceOf(TOKEN, holder(3))))
+            .collectList().block(Duration.ofSeconds(5))
+        then:
+        act*.value == [3000G]
+        client.batches == 3
+    }
+
+    def "Fail when retries are exhausted"() {
+        setup:
+        def scanner = ERC20Scanner.newBuilder()
+            .withClient(new TestClient(failures: 10))
+            .withRetries(1, Duration.ofMillis(1))
+            .atHeight(50)
+            .build()
+        when:
+        scanner.scan(Flux.just(ERC20Scanner.Query.balanceOf(TOKEN, holder(3))))
+            .collectList().block(Duration.ofSeconds(5))
+        then:
+        thrown(Exception)
+    }
+
+    def "Require client"() {
+        when:
+        ERC20Scanner.newBuilder().build()
+        then:
+        thrown(IllegalStateException)
+    }
+}
@@ -0,0 +1,120 @@
+package io.emeraldpay.etherjar.erc20
+
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.AddressDictionary
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import io.emeraldpay.etherjar.rpc.json.TransactionLogJson
+import io.emeraldpay.etherjar.rpc.json.TransactionReceiptJson
+import spock.lang.Specification
+
+class ERC20TransferColumnsSpec extends Specification {
+
+    static final Address USDT = Address.from("0xdAC17F958D2ee523a2206206994597C13D831ec7")
+    static final Address FROM = Address.from("0x3cd751e6b0078be393132286c442345e5dc49699")
+    static final Address TO = Address.from("0x65968e42789eb8b257c34eb7dd66059708c791b0")
+
+    static TransactionLogJson transfer(Address token, Address from, Address to, BigInteger amount, long logIndex) {
+        return new TransactionLogJson().tap {
+            it.address = token
+            it.blockNumber = 15_000_000L
+            it.logIndex = logIndex
+            it.topics = [
+                ERC20Event.TRANSFER.eventId,
+                Hex32.extendFrom(from),
+                Hex32.extendFrom(to)
+            ]
+            it.data = Hex32.extendFrom(amount)
+        }
+    }
+
+    def "Extract transfers from receipt"() {
+        setup:
+        def receipt = new TransactionReceiptJson().tap {
+            it.logs = [
+                transfer(USDT, FROM, TO, 230609712G, 5),
+                transfer(USDT, TO, FROM, 1G, 6),
+            ]
+        }
+        def columns = new ERC20TransferColumns()
+        when:
+        def count = columns.add(receipt)
+        then:
+        count == 2
+        columns.size() == 2
+        columns.getBlockNumbers()[0..1] == [15_000_000L, 15_000_000L]
+        columns.getLogIndexes()[0..1] == [5, 6]
+        columns.getTokens()[0..1] == [0, 0]
+        columns.getFroms()[0..1] == [1, 2]
+        columns.getTos()[0..1] == [2, 1]
+        columns.getToken(0) == USDT
+        columns.getFrom(0) == FROM
+        columns.getTo(0) == TO
+        columns.getAmount(0) == 230609712G
+        columns.getAmount(1) == 1G
+        columns.getAddresses().size() == 3
+    }
+
+    def "Keep full uint256 amount"() {
+        setup:
+        def amount = BigInteger.TWO.pow(256) - 1
+        def columns = new ERC20TransferColumns()
+        when:
+        columns.add(transfer(USDT, FROM, TO, amount, 0))
+        then:
+        columns.getAmount(0) == amount
+        columns.getAmounts()[0..3] == [-1L, -1L, -1L, -1L]
+    }
+
+    def "Skip other logs"() {
+        setup:
+        def columns = new ERC20TransferColumns()
+        def nft = transfer(USDT, FROM, TO, 1G, 0).tap {
+            it.topics = it.topics + [Hex32.extendFrom(1L)]
+            it.data = HexData.empty()
+        }
+        def approval = transfer(USDT, FROM, TO, 1G, 0).tap {
+            it.topics = [ERC20Event.APPROVAL.eventId] + it.topics.subList(1, 3)
+        }
+        def removed = transfer(USDT, FROM, TO, 1G, 0).tap {
+            it.removed = true
+        }
+        def invalidAddress = transfer(USDT, FROM, TO, 1G, 0).tap {
+            it.topics = it.topics.subList(0, 2) + [Hex32.from("0x0100000000000000000000003cd751e6b0078be393132286c442345e5dc49699")]
+        }
+        when:
+        def count = columns.add([nft, approval, removed, invalidAddress])
+        then:
+        count == 0
+        columns.size() == 0
+    }
+
+    def "Grow and clear"() {
+        setup:
+        def dict = new AddressDictionary()
+        def columns = new ERC20TransferColumns(dict, 2)
+        def holders = (1..100).collect { Address.from(String.format("0x%040x", it)) }
+        when:
+        holders.eachWithIndex { holder, i -> columns.add(transfer(USDT, FROM, holder, BigInteger.valueOf(i), i)) }
+        then:
+        columns.size() == 100
+        (0..<100).every { columns.getTo(it) == holders[it] && columns.getAmount(it) == BigInteger.valueOf(it) }
+        when:
+        columns.clear()
+        columns.add(transfer(USDT, TO, FROM, 7G, 0))
+        then:
+        columns.size() == 1
+        columns.getFrom(0) == TO
+        dict.size() == 102
+    }
+
+    def "Fail on unknown row"() {
+        setup:
+        def columns = new ERC20TransferColumns()
+        columns.add(transfer(USDT, FROM, TO, 1G, 0))
+        when:
+        columns.getAmount(1)
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+}
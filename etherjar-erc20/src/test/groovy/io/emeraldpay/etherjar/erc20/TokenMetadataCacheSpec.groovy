@@ -0,0 +1,243 @@
+package io.emeraldpay.etherjar.erc20
+
+import groovy.json.JsonOutput
+import groovy.json.JsonSlurper
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import io.emeraldpay.etherjar.rpc.DefaultRpcClient
+import io.emeraldpay.etherjar.rpc.InMemoryRpcTransport
+import io.emeraldpay.etherjar.rpc.RpcException
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+class TokenMetadataCacheSpec extends Specification {
+
+    static final Address USDT = Address.from("0xdAC17F958D2ee523a2206206994597C13D831ec7")
+    static final Address MKR = Address.from("0x9f8F72aA9304c8B593d555F12eF6589cC3A579A2")
+    static final Address NO_NAME = Address.from("0x0000000000000000000000000000000000000001")
+    static final Address LONG_NAME = Address.from("0x0000000000000000000000000000000000000002")
+
+    static String abiString(String value) {
+        def symbol = new ERC20Result.Symbol()
+        symbol.setValue(value)
+        return symbol.encode().toHex()
+    }
+
+    static String bytes32(String value) {
+        return Hex32.from(Arrays.copyOf(value.getBytes(), 32)).toHex()
+    }
+
+    static String decimals(int value) {
+        return Hex32.extendFrom(value as Long).toHex()
+    }
+
+    static final Map<Address, Map<String, String>> TOKENS = [
+        (USDT)     : ["0x95d89b41": abiString("USDT"), "0x06fdde03": abiString("Tether USD"), "0x313ce567": decimals(6)],
+        (MKR)      : ["0x95d89b41": bytes32("MKR"), "0x06fdde03": bytes32("Maker"), "0x313ce567": decimals(18)],
+        (NO_NAME)  : ["0x95d89b41": abiString("NN"), "0x313ce567": "0x"],
+        (LONG_NAME): ["0x95d89b41": bytes32("LONG"), "0x06fdde03": bytes32("A" * 32), "0x313ce567": decimals(8)],
+    ]
+
+    static String respond(String request) {
+        def json = new JsonSlurper().parseText(request)
+        def responses = json.collect { item ->
+            assert item.method == "eth_call"
+            def token = Address.from(item.params[0].to)
+            def selector = HexData.from(item.params[0].input).toHex().substring(0, 10)
+            def value = TOKENS[token]?.get(selector)
+            if (value == null) {
+                return [jsonrpc: "2.0", id: item.id, error: [code: 3, message: "execution reverted"]]
+            }
+            [jsonrpc: "2.0", id: item.id, result: value]
+        }
+        return JsonOutput.toJson(responses)
+    }
+
+    def "Load metadata"() {
+        setup:
+        def requests = []
+        def transport = InMemoryRpcTransport.newBuilder()
+            .respondWithString { request ->
+                requests << request
+                respond(request)
+            }
+            .build()
+        def cache = TokenMetadataCache.newBuilder()
+            .withClient(new DefaultRpcClient(transport))
+            .build()
+        when:
+        def act = cache.get(USDT).get(5, TimeUnit.SECONDS)
+        then:
+        act == new TokenMetadata(USDT, "USDT", "Tether USD", 6)
+        requests.size() == 1
+        new JsonSlurper().parseText(requests[0]).size() == 3
+        cache.getIfPresent(USDT) == Optional.of(act)
+        when:
+        cache.get(USDT).get(5, TimeUnit.SECONDS)
+        then:
+        requests.size() == 1
+    }
+
+    def "Load non-standard tokens"() {
+        setup:
+        def transport = InMemoryRpcTransport.newBuilder()
+            .respondWithString { respond(it) }
+            .build()
+        def cache = TokenMetadataCache.newBuilder()
+            .withClient(new DefaultRpcClient(transport))
+            .build()
+        expect:
+        cache.get(token).get(5, TimeUnit.SECONDS) == new TokenMetadata(token, symbol, name, decimals)
+        where:
+        token     | symbol | name     | decimals
+        MKR       | "MKR"  | "Maker"  | 18
+        NO_NAME   | "NN"   | null     | null
+        LONG_NAME | "LONG" | "A" * 32 | 8
+    }
+
+    def "Load concurrent misses once"() {
+        setup:
+        def requests = []
+        def release = new CountDownLatch(1)
+        def transport = InMemoryRpcTransport.newBuilder()
+            .respondWithString { request ->
+                release.await(5, TimeUnit.SECONDS)
+                requests << request
+                respond(request)
+            }
+            .build()
+        def cache = TokenMetadataCache.newBuilder()
+            .withClient(new DefaultRpcClient(transport))
+            .build()
+        when:
+        def futures = (1..10).collect { cache.get(USDT) }
+        assert !cache.getIfPresent(USDT).isPresent()
+        release.countDown()
+        def act = futures.collect { it.get(5, TimeUnit.SECONDS) }
+        then:
+        act.every { it.decimals == 6 }
+        futures.unique { System.identityHashCode(it) }.size() == 1
+        requests.size() == 1
+    }
+
+    def "Warm up in a single batch"() {
+        setup:
+        def requests = []
+        def transport = InMemoryRpcTransport.newBuilder()
+            .respondWithString { request ->
+                requests << request
+                respond(request)
+            }
+            .build()
+        def cache = TokenMetadataCache.newBuilder()
+            .withClient(new DefaultRpcClient(transport))
+            .build()
+        when:
+        cache.warmUp([USDT, MKR, NO_NAME]).get(5, TimeUnit.SECONDS)
+        then:
+        requests.size() == 1
+        new JsonSlurper().parseText(requests[0]).size() == 9
+        cache.size() == 3
+        cache.getIfPresent(MKR).get().symbol == "MKR"
+        when:
+        cache.warmUp([USDT, LONG_NAME]).get(5, TimeUnit.SECONDS)
+        then:
+        requests.size() == 2
+        new JsonSlurper().parseText(requests[1]).size() == 3
+        cache.size() == 4
+    }
+
+    def "Evict oldest tokens"() {
+        setup:
+        def transport = InMemoryRpcTransport.newBuilder()
+            .respondWithString { respond(it) }
+            .build()
+        def cache = TokenMetadataCache.newBuilder()
+            .withClient(new DefaultRpcClient(transport))
+            .withMaxSize(2)
+            .build()
+        when:
+        cache.warmUp([USDT, MKR, NO_NAME]).get(5, TimeUnit.SECONDS)
+        then:
+        cache.size() == 2
+        !cache.getIfPresent(USDT).isPresent()
+        cache.getIfPresent(MKR).isPresent()
+        cache.getIfPresent(NO_NAME).isPresent()
+    }
+
+    def "Doesn't cache failed load"() {
+        setup:
+        def failures = 1
+        def transport = InMemoryRpcTransport.newBuilder()
+            .respondWithString { request ->
+                if (failures-- > 0) {
+                    throw new IOException("connection refused")
+                }
+                respond(request)
+            }
+            .build()
+        def cache = TokenMetadataCache.newBuilder()
+            .withClient(new DefaultRpcClient(transport))
+            .build()
+        when:
+        cache.get(USDT).get(5, TimeUnit.SECONDS)
+        then:
+        thrown(ExecutionException)
+        cache.size() == 0
+        when:
+        def act = cache.get(USDT).get(5, TimeUnit.SECONDS)
+        then:
+        act.symbol == "USDT"
+    }
+
+    def "Doesn't cache RPC errors other than revert"() {
+        setup:
+        def failures = 1
+        def transport = InMemoryRpcTransport.newBuilder()
+            .respondWithString { request ->
+                if (failures-- > 0) {
+                    def errors = new JsonSlurper().parseText(request).collect { item ->
+                        [jsonrpc: "2.0", id: item.id, error: [code: -32001, message: "upstream connection error"]]
+                    }
+                    return JsonOutput.toJson(errors)
+                }
+                respond(request)
+            }
+            .build()
+        def cache = TokenMetadataCache.newBuilder()
+            .withClient(new DefaultRpcClient(transport))
+            .build()
+        when:
+        cache.get(USDT).get(5, TimeUnit.SECONDS)
+        then:
+        def e = thrown(ExecutionException)
+        e.cause instanceof RpcException
+        cache.size() == 0
+        when:
+        def act = cache.get(USDT).get(5, TimeUnit.SECONDS)
+        then:
+        act == new TokenMetadata(USDT, "USDT", "Tether USD", 6)
+        cache.size() == 1
+    }
+
+    def "Invalidate token"() {
+        setup:
+        def requests = 0
+        def transport = InMemoryRpcTransport.newBuilder()
+            .respondWithString { requests++; respond(it) }
+            .build()
+        def cache = TokenMetadataCache.newBuilder()
+            .withClient(new DefaultRpcClient(transport))
+            .build()
+        when:
+        cache.get(USDT).get(5, TimeUnit.SECONDS)
+        cache.invalidate(USDT)
+        cache.get(USDT).get(5, TimeUnit.SECONDS)
+        then:
+        requests == 2
+    }
+}
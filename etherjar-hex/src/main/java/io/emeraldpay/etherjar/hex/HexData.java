@@ -24,6 +24,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.Serializable;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
@@ -432,18 +433,20 @@ public class HexData implements Serializable {
      * @throws IllegalArgumentException if invalid structure or length
      */
     public Hex32[] asEncodedArray() {
-        HexData[] parts = split(Hex32.SIZE_BYTES);
-        if (parts.length < 2) {
+        if (value.length % Hex32.SIZE_BYTES != 0)
+            throw new IllegalArgumentException("Length to split is not a multiple of " + Hex32.SIZE_BYTES);
+        int parts = value.length / Hex32.SIZE_BYTES;
+        if (parts < 2) {
             throw new IllegalArgumentException("Not an encoded array");
         }
-        Hex32 _offset = Hex32.from(parts[0]);
-        int len = parts[1].asQuantity().getValue().intValue();
-        if (parts.length != 2 + len) {
-            throw new IllegalArgumentException("Invalid data length. " + parts.length + " != " + (2 + len));
+        int len = asUInt(Hex32.SIZE_BYTES, Hex32.SIZE_BYTES).intValue();
+        if (parts != 2 + len) {
+            throw new IllegalArgumentException("Invalid data length. " + parts + " != " + (2 + len));
         }
         Hex32[] result = new Hex32[len];
         for (int i = 0; i < len; i++) {
-            result[i] = Hex32.from(parts[2 + i]);
+            int start = (2 + i) * Hex32.SIZE_BYTES;
+            result[i] = new Hex32(Arrays.copyOfRange(value, start, start + Hex32.SIZE_BYTES));
         }
         return result;
     }
@@ -463,7 +466,111 @@ public class HexData implements Serializable {
     public <T> T[] asEncodedArray(Function<Hex32, T> converter) {
         Objects.requireNonNull(converter);
         Hex32[] values = asEncodedArray();
-        return (T[]) Arrays.stream(values).map(converter).toArray();
+        Object[] result = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = converter.apply(values[i]);
+        }
+        return (T[]) result;
+    }
+
+    /**
+     * Get a single byte of the value.
+     *
+     * @param index position of the byte
+     * @return the byte
+     * @throws IndexOutOfBoundsException if the index is outside of the value
+     */
+    public byte getByte(int index) {
+        return value[index];
+    }
+
+    /**
+     * Copy a part of the value into the given array, without making an intermediate copy like {@link #extract(int, int)}.
+     *
+     * @param offset start position in the value
+     * @param dest target array
+     * @param destOffset start position in the target array
+     * @param length number of bytes to copy
+     * @throws IndexOutOfBoundsException if the range is outside of the value or the target array
+     */
+    public void copyTo(int offset, byte[] dest, int destOffset, int length) {
+        System.arraycopy(value, offset, dest, destOffset, length);
+    }
+
+    /**
+     * Get a read-only view on a part of the value, without copying it.
+     *
+     * @param offset start position
+     * @param length number of bytes
+     * @return read-only buffer positioned at the start of the part
+     * @throws IndexOutOfBoundsException if the range is outside of the value
+     */
+    public ByteBuffer asByteBuffer(int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        return ByteBuffer.wrap(value, offset, length).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Check if a part of the value consists of zero bytes only.
+     *
+     * @param offset start position
+     * @param length number of bytes to check
+     * @return true if all the bytes are zero
+     * @throws IndexOutOfBoundsException if the range is outside of the value
+     */
+    public boolean isZero(int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        for (int i = offset; i < offset + length; i++) {
+            if (value[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Read a part of the value as an unsigned big-endian number.
+     *
+     * @param offset start position
+     * @param length number of bytes
+     * @return number
+     * @throws IndexOutOfBoundsException if the range is outside of the value
+     */
+    public BigInteger asUInt(int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        return new BigInteger(1, value, offset, length);
+    }
+
+    /**
+     * Read a part of the value as a signed (two's-complement) big-endian number.
+     *
+     * @param offset start position
+     * @param length number of bytes, must be positive
+     * @return number
+     * @throws IndexOutOfBoundsException if the range is outside of the value
+     */
+    public BigInteger asInt(int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, value.length);
+        return new BigInteger(value, offset, length);
+    }
+
+    /**
+     * Read up to 8 bytes of the value as an unsigned big-endian number.
+     *
+     * @param offset start position
+     * @param length number of bytes, from 0 to 8
+     * @return number, where 8 bytes value may be negative if the highest bit is set
+     * @throws IndexOutOfBoundsException if the range is outside of the value
+     */
+    public long asLong(int offset, int length) {
+        if (length > Long.BYTES)
+            throw new IllegalArgumentException("Too many bytes for a long value: " + length);
+        Objects.checkFromIndexSize(offset, length, value.length);
+        long result = 0;
+        for (int i = offset; i < offset + length; i++) {
+            result = (result << 8) | (value[i] & 0xFFL);
+        }
+        return result;
     }
 
     public String toString() {
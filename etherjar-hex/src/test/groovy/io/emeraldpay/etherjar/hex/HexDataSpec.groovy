@@ -442,4 +442,63 @@ class HexDataSpec extends Specification {
         act[0] == 0x3c756cc2
         act[1] == 0xdf7c193bc2c599
     }
+
+    def "read numbers at offset"() {
+        def x = HexData.from('0x00ff0000000000000102fffffffffffffffe')
+
+        expect:
+        x.getByte(1) == (byte) 0xff
+        x.asLong(8, 2) == 0x0102
+        x.asLong(10, 8) == -2L
+        x.asUInt(10, 8) == 0xfffffffffffffffeG
+        x.asInt(10, 8) == -2G
+        x.isZero(2, 6)
+        !x.isZero(1, 6)
+    }
+
+    def "fail to read a long from more than 8 bytes"() {
+        when:
+        HexData.from('0x00ff0000000000000102ff').asLong(0, 9)
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "fail to read outside of data"() {
+        when:
+        HexData.from('0x00ff0000').asUInt(2, 4)
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "copy part of data"() {
+        def x = HexData.from('0x0102030405')
+        def dest = new byte[4]
+
+        when:
+        x.copyTo(1, dest, 1, 3)
+        then:
+        dest == [0, 2, 3, 4] as byte[]
+    }
+
+    def "view part of data as read-only buffer"() {
+        def x = HexData.from('0x0102030405')
+
+        when:
+        def act = x.asByteBuffer(1, 3)
+        then:
+        act.readOnly
+        act.remaining() == 3
+        act.get() == (byte) 2
+        act.get(2) == (byte) 4
+    }
+
+    def "fail to extract encoded array with wrong length"() {
+        def data = "0x0000000000000000000000000000000000000000000000000000000000000020" +
+            "0000000000000000000000000000000000000000000000000000000000000003" +
+            "000000000000000000000000c02aaa39b223fe8d0a0e5c4f27ead9083c756cc2"
+        when:
+        HexData.from(data).asEncodedArray()
+        then:
+        thrown(IllegalArgumentException)
+    }
 }
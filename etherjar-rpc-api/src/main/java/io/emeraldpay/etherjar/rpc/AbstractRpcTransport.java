@@ -16,6 +16,7 @@
 package io.emeraldpay.etherjar.rpc;
 
 import com.fasterxml.jackson.databind.JavaType;
+import io.emeraldpay.etherjar.rpc.json.Projection;
 import org.jspecify.annotations.NullMarked;
 
 import java.io.IOException;
@@ -51,6 +52,7 @@ abstract public class AbstractRpcTransport implements RpcTransport<DefaultBatch.
         }
         Map<Integer, DefaultBatch.FutureBatchItem> requests = new HashMap<>(items.size());
         Map<Integer, JavaType> responseMapping = new HashMap<>(items.size());
+        Map<Integer, Projection> projections = new HashMap<>();
         List<RequestJson<Integer>> rpcRequests = items.stream()
             .map(item -> {
                 RequestJson<Integer> request = new RequestJson<>(
@@ -60,14 +62,16 @@ abstract public class AbstractRpcTransport implements RpcTransport<DefaultBatch.
                 );
                 requests.put(item.getId(), item);
                 responseMapping.put(item.getId(), item.getCall().getJsonType());
+                if (item.getCall().getProjection() != null) {
+                    projections.put(item.getId(), item.getCall().getProjection());
+                }
                 return request;
             }).collect(Collectors.toList());
         CompletableFuture<Iterable<RpcCallResponse>> f = new CompletableFuture<>();
         executorService.submit(() -> {
             try {
-                String json = rpcConverter.toJson(rpcRequests);
-                InputStream content = execute(json);
-                List<ResponseJson<Object, Integer>> response = rpcConverter.parseBatch(content, responseMapping);
+                InputStream content = executeBatch(rpcRequests);
+                List<ResponseJson<Object, Integer>> response = rpcConverter.parseBatch(content, responseMapping, projections);
                 List<RpcCallResponse> result = response.stream()
                     .map(reader(requests))
                     .filter(Objects::nonNull)
@@ -100,5 +104,23 @@ abstract public class AbstractRpcTransport implements RpcTransport<DefaultBatch.
         };
     }
 
+    /**
+     * Execute a batch of requests. By default, it serializes the batch to a string and calls {@link #execute(String)},
+     * a transport which can send bytes should override it to avoid the intermediate string.
+     *
+     * @param batch requests to execute
+     * @return response content
+     * @throws IOException if failed to execute the requests
+     * @see RpcConverter#writeJson(List, java.io.OutputStream)
+     * @see RpcConverter#toJsonBuffer(List)
+     */
+    protected InputStream executeBatch(List<RequestJson<Integer>> batch) throws IOException {
+        return execute(rpcConverter.toJson(batch));
+    }
+
+    protected RpcConverter getRpcConverter() {
+        return rpcConverter;
+    }
+
     abstract public InputStream execute(String json) throws IOException;
 }
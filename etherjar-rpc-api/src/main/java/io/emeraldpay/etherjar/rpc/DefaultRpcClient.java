@@ -56,7 +56,7 @@ public class DefaultRpcClient extends AbstractFuturesRpcClient implements Future
 
         rpcTransport.execute(items)
             .thenAccept((Iterable<RpcCallResponse> responses) -> responses.forEach(processBatch))
-            .thenAccept((_it) -> batch.close());
+            .whenComplete((_it, _t) -> batch.close());
 
         return result;
     }
@@ -28,8 +28,8 @@ import org.jspecify.annotations.Nullable;
 @NullMarked
 public class EthCommands {
 
-    private final JavaType blockWithTxJsonType = TypeFactory.defaultInstance().constructParametricType(BlockJson.class, TransactionJson.class);
-    private final JavaType blockWithTxIdType = TypeFactory.defaultInstance().constructParametricType(BlockJson.class, TransactionRefJson.class);
+    private static final JavaType blockWithTxJsonType = TypeFactory.defaultInstance().constructParametricType(BlockJson.class, TransactionJson.class);
+    private static final JavaType blockWithTxIdType = TypeFactory.defaultInstance().constructParametricType(BlockJson.class, TransactionRefJson.class);
 
     private final Class<BlockJson<TransactionJson>> blockWithTxJson = getBlockWithTx();
     private final Class<BlockJson<TransactionRefJson>> blockWithTxId = getBlockWithRef();
@@ -119,6 +119,28 @@ public class EthCommands {
             .withResultType(blockWithTxJson);
     }
 
+    /**
+     * Transactions of a block read by columns, for processing of the whole block
+     *
+     * @param blockNumber block number
+     * @return transactions of the block
+     * @see TransactionBatch
+     */
+    public RpcCall<TransactionBatch, TransactionBatch> getBlockTransactionBatch(long blockNumber) {
+        return RpcCall.create("eth_getBlockByNumber", TransactionBatch.class, HexQuantity.from(blockNumber).toHex(), true);
+    }
+
+    /**
+     * Transactions of a block read by columns, for processing of the whole block
+     *
+     * @param hash block hash
+     * @return transactions of the block
+     * @see TransactionBatch
+     */
+    public RpcCall<TransactionBatch, TransactionBatch> getBlockTransactionBatch(BlockHash hash) {
+        return RpcCall.create("eth_getBlockByHash", TransactionBatch.class, hash.toHex(), true);
+    }
+
     /**
      *
      * @param hash keystore hash
@@ -27,6 +27,7 @@ import io.emeraldpay.etherjar.rpc.json.BlockSimulatedJson
 import io.emeraldpay.etherjar.rpc.json.BlockTag
 import io.emeraldpay.etherjar.rpc.json.SimulateJson
 import io.emeraldpay.etherjar.rpc.json.SyncingJson
+import io.emeraldpay.etherjar.rpc.json.TransactionBatch
 import io.emeraldpay.etherjar.rpc.json.TransactionCallJson
 import io.emeraldpay.etherjar.rpc.json.TransactionJson
 import io.emeraldpay.etherjar.rpc.json.TransactionReceiptJson
@@ -108,6 +109,26 @@ class EthCommandsSpec extends Specification {
         call.resultType == BlockJson
     }
 
+    def "Transaction batch of a block"() {
+        when:
+        def call = Commands.eth().getBlockTransactionBatch(1000)
+
+        then:
+        call.method == "eth_getBlockByNumber"
+        call.params == ['0x3e8', true]
+        call.jsonType.rawClass == TransactionBatch
+        call.resultType == TransactionBatch
+
+        when:
+        call = Commands.eth().getBlockTransactionBatch(BlockHash.from("0x4eeb9aa586c63c0f1ce033e6c6fb44b4db1ffe8c5e19c93e2b768c71b5f9cb9c"))
+
+        then:
+        call.method == "eth_getBlockByHash"
+        call.params == ['0x4eeb9aa586c63c0f1ce033e6c6fb44b4db1ffe8c5e19c93e2b768c71b5f9cb9c', true]
+        call.jsonType.rawClass == TransactionBatch
+        call.resultType == TransactionBatch
+    }
+
     def simulateV1() {
         when:
         def call = Commands.eth().simulateV1(new SimulateJson(), BlockTag.EARLIEST)
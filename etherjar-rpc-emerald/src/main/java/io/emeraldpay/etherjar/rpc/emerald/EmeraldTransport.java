@@ -18,6 +18,7 @@ package io.emeraldpay.etherjar.rpc.emerald;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import io.emeraldpay.api.proto.BlockchainGrpc;
 import io.emeraldpay.api.proto.BlockchainOuterClass;
 import io.emeraldpay.api.proto.Common;
@@ -153,9 +154,9 @@ public class EmeraldTransport implements RpcTransport<DefaultBatch.FutureBatchIt
         final AtomicInteger i = new AtomicInteger(1); // because for lambda, must be final
         items.forEach( item -> {
             int id = i.getAndIncrement();
-            String json;
+            byte[] json;
             try {
-                json = objectMapper.writeValueAsString(item.getCall().getParams());
+                json = objectMapper.writeValueAsBytes(item.getCall().getParams());
             } catch (JsonProcessingException e) {
                 throw new RuntimeException(e);
             }
@@ -163,7 +164,8 @@ public class EmeraldTransport implements RpcTransport<DefaultBatch.FutureBatchIt
                 NativeCallItem.newBuilder()
                     .setId(id)
                     .setMethod(item.getCall().getMethod())
-                    .setPayload(ByteString.copyFromUtf8(json))
+                    // the array is not shared, so it's safe to wrap it without copying
+                    .setPayload(UnsafeByteOperations.unsafeWrap(json))
                     .build()
             );
             idMapping.put(id, item);
@@ -236,7 +238,7 @@ public class EmeraldTransport implements RpcTransport<DefaultBatch.FutureBatchIt
     }
 
     public <JS, RES> JS read(ByteString bytes, DefaultBatch.FutureBatchItem<JS, RES> request) throws RpcException {
-        return rpcConverter.fromJsonResult(bytes.newInput(), request.getCall().getJsonType());
+        return rpcConverter.fromJsonResult(bytes.asReadOnlyByteBuffer(), request.getCall().getJsonType(), request.getCall().getProjection());
     }
 
     @Override
@@ -17,7 +17,7 @@ package io.emeraldpay.etherjar.rpc.emerald;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import io.emeraldpay.api.proto.BlockchainOuterClass;
 import io.emeraldpay.api.proto.Common;
 import io.emeraldpay.api.proto.ReactorBlockchainGrpc;
@@ -184,7 +184,7 @@ public class ReactorEmeraldClient extends AbstractReactorRpcClient implements Re
             result.setError(new RpcResponseError(RpcResponseError.CODE_UPSTREAM_INVALID_RESPONSE, "Unknown id returned from upstream"));
         } else {
             try {
-                JS value = rpcConverter.fromJsonResult(item.getPayload().newInput(), call.getJsonType());
+                JS value = rpcConverter.fromJsonResult(item.getPayload().asReadOnlyByteBuffer(), call.getJsonType(), call.getProjection());
                 result.setResult(value);
             } catch (RpcException e) {
                 return Mono.error(e);
@@ -198,9 +198,9 @@ public class ReactorEmeraldClient extends AbstractReactorRpcClient implements Re
             return BlockchainOuterClass.NativeCallItem.newBuilder()
                 .setId(item.getId())
                 .setMethod(item.getCall().getMethod())
-                .setPayload(
-                    ByteString.copyFromUtf8(objectMapper.writeValueAsString(item.getCall().getParams()))
-                ).build();
+                // the array is not shared, so it's safe to wrap it without copying
+                .setPayload(UnsafeByteOperations.unsafeWrap(objectMapper.writeValueAsBytes(item.getCall().getParams())))
+                .build();
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
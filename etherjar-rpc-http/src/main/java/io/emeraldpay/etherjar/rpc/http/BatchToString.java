@@ -35,18 +35,22 @@ import java.util.function.Function;
 @NullMarked
 public class BatchToString {
 
+    private static final byte[] OPEN = {'['};
+    private static final byte[] SEPARATOR = {','};
+    private static final byte[] CLOSE = {']'};
+
     private final RpcConverter rpcConverter;
 
     public BatchToString(RpcConverter rpcConverter) {
         this.rpcConverter = rpcConverter;
     }
 
-    private Function<Tuple2<String, Boolean>, Publisher<String>> arrange = (x) -> {
+    private Function<Tuple2<ByteBuf, Boolean>, Publisher<ByteBuf>> arrange = (x) -> {
         boolean first = x.getT2();
         if (first) {
             return Mono.just(x.getT1());
         } else {
-            return Flux.just(",", x.getT1());
+            return Flux.just(Unpooled.wrappedBuffer(SEPARATOR), x.getT1());
         }
     };
 
@@ -55,20 +59,20 @@ public class BatchToString {
 
 
     /**
-     * Converts batch to JSON RPC request string
+     * Converts batch to JSON RPC request bytes. Each request is serialized by the converter directly to bytes,
+     * without an intermediate string.
      *
      * @param batch request batch
-     * @return string serialized batch with individual mappings as context
+     * @return serialized batch, as a sequence of buffers
      */
     public Flux<ByteBuf> convertToJson(Flux<ReactorBatch.ReactorBatchItem> batch) {
-        Flux<String> items = batch
+        Flux<ByteBuf> items = batch
             .map(toRequest)
-            .map(rpcConverter::toJson)
+            .map(rpcConverter::toJsonBuffer)
+            .map(Unpooled::wrappedBuffer)
             .zipWith(Flux.range(0, Integer.MAX_VALUE).map(i -> i == 0))
             .flatMap(arrange);
-        return Flux.concat(Flux.just("["), items, Flux.just("]"))
-            .map(String::getBytes)
-            .map(Unpooled::wrappedBuffer);
+        return Flux.concat(Flux.just(OPEN).map(Unpooled::wrappedBuffer), items, Flux.just(CLOSE).map(Unpooled::wrappedBuffer));
     }
 
     /**
@@ -45,6 +45,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.*;
 import java.security.cert.CertificateFactory;
@@ -87,12 +88,28 @@ public class HttpRpcTransport extends AbstractRpcTransport {
         }
     }
 
+    @Override
+    protected InputStream executeBatch(List<RequestJson<Integer>> batch) throws IOException {
+        ByteBuffer json = getRpcConverter().toJsonBuffer(batch);
+        if (json.hasArray()) {
+            return execute(new ByteArrayEntity(json.array(), json.arrayOffset() + json.position(), json.remaining()));
+        }
+        // a direct or read-only buffer provided by a custom converter
+        byte[] copy = new byte[json.remaining()];
+        json.get(copy);
+        return execute(new ByteArrayEntity(copy));
+    }
+
     @Override
     public InputStream execute(String json) throws IOException {
+        return execute(new ByteArrayEntity(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private InputStream execute(ByteArrayEntity entity) throws IOException {
         RequestBuilder requestBuilder = RequestBuilder.create("POST")
                 .setUri(target)
                 .addHeader("Content-Type", "application/json")
-                .setEntity(new ByteArrayEntity(json.getBytes(StandardCharsets.UTF_8)));
+                .setEntity(entity);
         HttpResponse rcpResponse = httpclient.execute(requestBuilder.build(), this.context);
         int statusCode = rcpResponse.getStatusLine().getStatusCode();
         if (statusCode != 200) {
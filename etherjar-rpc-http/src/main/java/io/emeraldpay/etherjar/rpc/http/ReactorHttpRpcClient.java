@@ -28,10 +28,13 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import com.fasterxml.jackson.databind.JavaType;
 import io.emeraldpay.etherjar.rpc.*;
 import io.emeraldpay.etherjar.rpc.ResponseJson;
+import io.emeraldpay.etherjar.rpc.json.RawJson;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.ssl.SslContext;
@@ -95,7 +98,12 @@ public class ReactorHttpRpcClient extends AbstractReactorRpcClient implements Re
         public Flux<RpcCallResponse> apply(ByteBuf content) {
             List<ResponseJson<Object, Integer>> responses;
             try {
-                responses = rpcConverter.parseBatch(new ByteBufInputStream(content), context.getJsonTypes());
+                if (hasRawResult()) {
+                    // the buffer is released after the call, so copy it once to keep raw results as slices of the copy
+                    responses = rpcConverter.parseBatch(ByteBufUtil.getBytes(content), context.getJsonTypes(), context.getProjections());
+                } else {
+                    responses = rpcConverter.parseBatch(new ByteBufInputStream(content), context.getJsonTypes(), context.getProjections());
+                }
             } catch (RpcException e) {
                 return Flux.error(e);
             }
@@ -103,6 +111,15 @@ public class ReactorHttpRpcClient extends AbstractReactorRpcClient implements Re
                 .fromIterable(responses)
                 .map(responseJsonConverter.forContext(context));
         }
+
+        private boolean hasRawResult() {
+            for (JavaType type : context.getJsonTypes().values()) {
+                if (type.getRawClass() == RawJson.class) {
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 
     public static class Builder {
@@ -29,7 +29,6 @@ import reactor.netty.http.client.HttpClientResponse;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
-import java.io.ByteArrayInputStream;
 import java.net.ConnectException;
 
 /**
@@ -52,7 +51,7 @@ public class SeparatedTransport implements ReactorRpcTransport {
         return batch
             .map((bi) -> Tuples.of(bi, new RequestJson<>(bi.getCall().getMethod(), bi.getCall().getParams(), bi.getId())))
             .map((req) -> req.mapT2(request ->
-                Unpooled.wrappedBuffer(rpcConverter.toJson(request).getBytes()))
+                Unpooled.wrappedBuffer(rpcConverter.toJsonBuffer(request)))
             )
             .flatMap(this::sendRequest)
             .map(this::process)
@@ -75,7 +74,7 @@ public class SeparatedTransport implements ReactorRpcTransport {
      */
     protected <JS, RES> RpcCallResponse<JS, RES> processResponse(byte[] json, ReactorBatch.ReactorBatchItem<JS, RES> source) {
         try {
-            JS value = rpcConverter.fromJson(new ByteArrayInputStream(json), source.getCall().getJsonType());
+            JS value = rpcConverter.fromJson(json, source.getCall().getJsonType(), source.getCall().getProjection());
             RES result = source.getCall().getConverter().apply(value);
             return new RpcCallResponse<JS, RES>(source.getCall(), result);
         } catch (RpcException e) {
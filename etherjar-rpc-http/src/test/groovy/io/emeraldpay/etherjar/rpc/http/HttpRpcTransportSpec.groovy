@@ -18,14 +18,18 @@
 package io.emeraldpay.etherjar.rpc.http
 
 import io.emeraldpay.etherjar.rpc.DefaultBatch
+import io.emeraldpay.etherjar.rpc.JacksonRpcConverter
+import io.emeraldpay.etherjar.rpc.RequestJson
 import io.emeraldpay.etherjar.rpc.RpcCall
 import io.emeraldpay.etherjar.rpc.RpcException
 import org.apache.http.HttpResponse
 import org.apache.http.ProtocolVersion
 import org.apache.http.client.HttpClient
 import org.apache.http.message.BasicStatusLine
+import org.apache.http.util.EntityUtils
 import spock.lang.Specification
 
+import java.nio.ByteBuffer
 import java.util.concurrent.ExecutionException
 import java.util.concurrent.TimeUnit
 
@@ -73,6 +77,34 @@ class HttpRpcTransportSpec extends Specification {
         f.isCompletedExceptionally()
     }
 
+    def "Send batch serialized into a buffer without array"() {
+        setup:
+        def converter = new JacksonRpcConverter() {
+            @Override
+            ByteBuffer toJsonBuffer(List<RequestJson<Integer>> batch) {
+                def json = super.toJsonBuffer(batch)
+                def direct = ByteBuffer.allocateDirect(json.remaining())
+                direct.put(json).flip()
+                return direct
+            }
+        }
+        def builder = HttpRpcTransport.newBuilder().httpClient(httpClientMock)
+        builder.rpcConverter = converter
+        def transport = builder.build()
+        String sent = null
+        when:
+        def batch = new DefaultBatch()
+        batch.add(RpcCall.create("test"))
+        transport.execute(batch.getItems()).get(1, TimeUnit.SECONDS)
+        then:
+        thrown(ExecutionException)
+        1 * httpClientMock.execute(_, _) >> { args ->
+            sent = EntityUtils.toString(args[0].entity)
+            throw new IOException("Test error")
+        }
+        sent == '[{"jsonrpc":"2.0","method":"test","params":[],"id":0}]'
+    }
+
     def "Empty batch"() {
         when:
         def f = defaultRpcTransport.execute([])
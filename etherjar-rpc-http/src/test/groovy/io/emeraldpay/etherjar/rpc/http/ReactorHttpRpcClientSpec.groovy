@@ -19,7 +19,9 @@ import io.emeraldpay.etherjar.domain.Address
 import io.emeraldpay.etherjar.domain.BlockHash
 import io.emeraldpay.etherjar.rpc.Commands
 import io.emeraldpay.etherjar.rpc.ReactorBatch
+import io.emeraldpay.etherjar.rpc.RpcCall
 import io.emeraldpay.etherjar.rpc.RpcException
+import io.emeraldpay.etherjar.rpc.json.RawJson
 import reactor.core.publisher.Flux
 import reactor.core.publisher.Mono
 import reactor.test.StepVerifier
@@ -132,6 +134,43 @@ class ReactorHttpRpcClientSpec extends Specification {
 
     }
 
+    def "Make raw call together with typed call"() {
+        setup:
+        Spark.post("/") {req, resp ->
+            resp.status(200)
+            resp.type("application/json")
+            return '['+
+                '{"jsonrpc":"2.0","id":1,"result":68},' +
+                '{"jsonrpc":"2.0","id":2,"result":{"number":"0x1","hash":null}}' +
+                ']'
+        }
+        Spark.awaitInitialization()
+
+        def client = ReactorHttpRpcClient.newBuilder().connectTo("http://localhost:18545").build()
+
+        when:
+        ReactorBatch batch = new ReactorBatch()
+        def call1 = batch.add(Commands.net().peerCount())
+        def call2 = batch.add(RpcCall.raw("eth_getBlockByNumber", "0x1", false))
+        def resp = client.execute(batch)
+
+        then:
+        StepVerifier.create(resp)
+            .expectNextCount(2)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5))
+
+        StepVerifier.create(call1.result)
+            .expectNext(68)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5))
+
+        StepVerifier.create(call2.result)
+            .expectNext(RawJson.of('{"number":"0x1","hash":null}'))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5))
+    }
+
     def "Make two calls using separated transport"() {
         setup:
         def requests = []
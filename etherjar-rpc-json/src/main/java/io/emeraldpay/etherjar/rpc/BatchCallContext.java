@@ -16,6 +16,7 @@
 package io.emeraldpay.etherjar.rpc;
 
 import com.fasterxml.jackson.databind.JavaType;
+import io.emeraldpay.etherjar.rpc.json.Projection;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -23,12 +24,16 @@ import java.util.Map;
 public class BatchCallContext<T extends BatchItem> {
     private final Map<Integer, T> sourceMapping = new HashMap<>();
     private final Map<Integer, JavaType> jsonTypes = new HashMap<>();
+    private final Map<Integer, Projection> projections = new HashMap<>();
     private final Map<RpcCall, T> callMapping = new HashMap<>();
 
     public int add(T item) {
         int current = item.getId();
         sourceMapping.put(current, item);
         jsonTypes.put(current, item.getCall().getJsonType());
+        if (item.getCall().getProjection() != null) {
+            projections.put(current, item.getCall().getProjection());
+        }
         callMapping.put(item.getCall(), item);
         return current;
     }
@@ -37,6 +42,13 @@ public class BatchCallContext<T extends BatchItem> {
         return jsonTypes;
     }
 
+    /**
+     * @return projections of the calls which have them
+     */
+    public Map<Integer, Projection> getProjections() {
+        return projections;
+    }
+
     public RpcCall getCall(int id) {
         return sourceMapping.get(id).getCall();
     }
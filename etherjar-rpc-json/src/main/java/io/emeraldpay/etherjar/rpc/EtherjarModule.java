@@ -28,6 +28,11 @@ public class EtherjarModule extends SimpleModule {
         addDeserializer(MethodId.class, new MethodIdDeserializer());
         addDeserializer(Bloom.class, new BloomDeserializer());
 
+        addDeserializer(BlockJson.class, new BlockJsonDeserializer());
+        addDeserializer(TransactionJson.class, new TransactionJsonDeserializer());
+        addDeserializer(TransactionReceiptJson.class, new TransactionReceiptJsonDeserializer());
+        addDeserializer(TransactionLogJson.class, new TransactionLogJsonDeserializer());
+
         addKeySerializer(Address.class, new HexDataSerializer.AsKey());
 
         addKeyDeserializer(Address.class, new AddressDeserializer.FromKey());
@@ -17,13 +17,19 @@
 
 package io.emeraldpay.etherjar.rpc;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.emeraldpay.etherjar.domain.Wei;
 import io.emeraldpay.etherjar.hex.HexData;
 import io.emeraldpay.etherjar.rpc.json.*;
@@ -32,20 +38,45 @@ import org.jspecify.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @NullMarked
 public class JacksonRpcConverter implements RpcConverter {
 
     private final ObjectMapper objectMapper;
 
+    /**
+     * Writer for requests, which leaves the target stream open
+     */
+    private final ObjectWriter requestWriter;
+
+    private final ObjectReader errorReader;
+
+    /**
+     * Readers of results by their types. Calls of the same type share the same {@link JavaType} instance (see
+     * {@link RpcCall#typeOf(Class)}), so the lookup is usually by identity. As the root deserializers cached by
+     * the {@link ObjectMapper}, it's not bounded, since an application uses a limited set of result types.
+     */
+    private final ConcurrentMap<JavaType, ObjectReader> resultReaders = new ConcurrentHashMap<>();
+
+    /**
+     * Readers of full responses with an Integer id, by the type of the result
+     */
+    private final ConcurrentMap<JavaType, ObjectReader> responseReaders = new ConcurrentHashMap<>();
+
     public JacksonRpcConverter(ObjectMapper objectMapper) {
         Objects.requireNonNull(objectMapper);
         this.objectMapper = objectMapper;
+        this.requestWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.errorReader = objectMapper.readerFor(RpcResponseError.class);
     }
 
     public JacksonRpcConverter() {
-        this.objectMapper = createJsonMapper();
+        this(createJsonMapper());
     }
 
     public static ObjectMapper createJsonMapper() {
@@ -56,6 +87,12 @@ public class JacksonRpcConverter implements RpcConverter {
         return objectMapper;
     }
 
+    /**
+     * The readers are created once per result type and keep the configuration the mapper had at that moment,
+     * so the mapper must be configured before the converter is used.
+     *
+     * @return the mapper used by the converter
+     */
     public ObjectMapper getObjectMapper() {
         return objectMapper;
     }
@@ -82,6 +119,34 @@ public class JacksonRpcConverter implements RpcConverter {
         }
     }
 
+    @Override
+    public void writeJson(RequestJson request, OutputStream output) throws IOException {
+        requestWriter.writeValue(output, request);
+    }
+
+    @Override
+    public void writeJson(List<RequestJson<Integer>> batch, OutputStream output) throws IOException {
+        requestWriter.writeValue(output, batch);
+    }
+
+    @Override
+    public ByteBuffer toJsonBuffer(RequestJson request) {
+        try {
+            return ByteBuffer.wrap(requestWriter.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable to serialize to JSON", e);
+        }
+    }
+
+    @Override
+    public ByteBuffer toJsonBuffer(List<RequestJson<Integer>> batch) {
+        try {
+            return ByteBuffer.wrap(requestWriter.writeValueAsBytes(batch));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable to serialize to JSON", e);
+        }
+    }
+
     public <T> T fromJson(InputStream content, Class<T> target) throws RpcException {
         return fromJson(content, objectMapper.getTypeFactory().constructType(target), Integer.class);
     }
@@ -95,14 +160,59 @@ public class JacksonRpcConverter implements RpcConverter {
         return fromJson(content, objectMapper.getTypeFactory().constructType(target), idtype);
     }
 
+    @Override
+    public <T> T fromJson(InputStream content, JavaType target, @Nullable Projection projection) throws RpcException {
+        return fromJson(content, target, Integer.class, projection);
+    }
+
     public <T, X> T fromJson(InputStream content, JavaType target, Class<X> idtype) throws RpcException {
-        JavaType type1 = objectMapper.getTypeFactory().constructParametricType(FullResponseJson.class, target, objectMapper.getTypeFactory().constructType(idtype));
+        return fromJson(content, target, idtype, null);
+    }
+
+    public <T, X> T fromJson(InputStream content, JavaType target, Class<X> idtype, @Nullable Projection projection) throws RpcException {
         FullResponseJson<T, X> responseJson;
         try {
-            responseJson = objectMapper.readerFor(type1).readValue(content);
+            responseJson = withAttributes(responseReader(target, idtype), projection, null).readValue(content);
         } catch (IOException e) {
             throw new RpcException(RpcResponseError.CODE_UPSTREAM_INVALID_RESPONSE, "Invalid JSON received from RPC endpoint: " + e.getMessage());
         }
+        return getResult(responseJson);
+    }
+
+    @Override
+    public <T> T fromJson(byte[] content, JavaType target, @Nullable Projection projection) throws RpcException {
+        FullResponseJson<T, Integer> responseJson;
+        try {
+            responseJson = withAttributes(responseReader(target, Integer.class), projection, content).readValue(content);
+        } catch (IOException e) {
+            throw new RpcException(RpcResponseError.CODE_UPSTREAM_INVALID_RESPONSE, "Invalid JSON received from RPC endpoint: " + e.getMessage());
+        }
+        return getResult(responseJson);
+    }
+
+    private JavaType responseType(JavaType target, Class<?> idtype) {
+        TypeFactory typeFactory = objectMapper.getTypeFactory();
+        return typeFactory.constructParametricType(FullResponseJson.class, target, typeFactory.constructType(idtype));
+    }
+
+    /**
+     * @return reader of a full response with the result of the target type, cached for the standard Integer id
+     */
+    private ObjectReader responseReader(JavaType target, Class<?> idtype) {
+        if (idtype != Integer.class) {
+            return objectMapper.readerFor(responseType(target, idtype));
+        }
+        return responseReaders.computeIfAbsent(target, (type) -> objectMapper.readerFor(responseType(type, Integer.class)));
+    }
+
+    /**
+     * @return number of readers of results and responses cached by their types
+     */
+    int getCachedReadersCount() {
+        return resultReaders.size() + responseReaders.size();
+    }
+
+    private <T, X> T getResult(FullResponseJson<T, X> responseJson) throws RpcException {
         if (responseJson.hasError()) {
             RpcResponseError error = responseJson.getError();
             throw new RpcException(error.getCode(), error.getMessage(), error.getData());
@@ -111,40 +221,198 @@ public class JacksonRpcConverter implements RpcConverter {
     }
 
     public <T> T fromJsonResult(InputStream content, JavaType target) throws RpcException {
+        return fromJsonResult(content, target, null);
+    }
+
+    public <T> T fromJsonResult(InputStream content, JavaType target, @Nullable Projection projection) throws RpcException {
         try {
-            return objectMapper.readerFor(target).readValue(content);
+            return readerFor(target, projection, null).readValue(content);
         } catch (IOException e) {
             throw new RpcException(RpcResponseError.CODE_UPSTREAM_INVALID_RESPONSE, "Invalid JSON received from RPC endpoint: " + e.getMessage());
         }
     }
 
+    /**
+     * Read a result from a buffer. A {@link RawJson} result is the buffer itself, i.e., it's not parsed or copied.
+     *
+     * @param content JSON of a result, between the position and the limit of the buffer
+     * @param target expected type of the result
+     * @param projection fields to read from the result, or null to read all of them
+     * @return the result
+     * @throws RpcException if the content is not a valid JSON
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T fromJsonResult(ByteBuffer content, JavaType target, @Nullable Projection projection) throws RpcException {
+        if (target.getRawClass() == RawJson.class) {
+            return (T) RawJson.wrap(content);
+        }
+        return fromJsonResult(new ByteBufferBackedInputStream(content), target, projection);
+    }
+
+    /**
+     * Parse a batch response as a stream of tokens, i.e. without building a tree of the whole response. A result is
+     * deserialized directly from the stream into the type expected for its id, and only if the id comes after
+     * the result in the JSON object, the result is buffered until the id is known.
+     * Responses with an id not included into the targets are skipped.
+     *
+     * @param content JSON of a batch response
+     * @param targets expected types of results by ids of the requests
+     * @return parsed responses, in the same order as in the JSON
+     * @throws RpcException if the JSON is not a valid batch response
+     */
     @Override
     public List<ResponseJson<Object, Integer>> parseBatch(InputStream content, Map<Integer, JavaType> targets) throws RpcException {
-        try {
-            JsonNode nodes = objectMapper.reader().readTree(content);
-            if (!nodes.isArray()) {
-                throw new RpcException(RpcResponseError.CODE_UPSTREAM_INVALID_RESPONSE, "Not array");
+        return parseBatch(content, targets, Collections.emptyMap());
+    }
+
+    /**
+     * Parse a batch response, reading only the projected fields of the results
+     *
+     * @param content JSON of a batch response
+     * @param targets expected types of results by ids of the requests
+     * @param projections fields to read from the results by ids of the requests, a result without a projection is read completely
+     * @return parsed responses, in the same order as in the JSON
+     * @throws RpcException if the JSON is not a valid batch response
+     * @see #parseBatch(InputStream, Map)
+     */
+    @Override
+    public List<ResponseJson<Object, Integer>> parseBatch(InputStream content, Map<Integer, JavaType> targets, Map<Integer, Projection> projections) throws RpcException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(content)) {
+            return parseBatch(parser, targets, projections, null);
+        } catch (IOException e) {
+            throw new RpcException(RpcResponseError.CODE_UPSTREAM_INVALID_RESPONSE, e.getMessage());
+        }
+    }
+
+    /**
+     * Parse a batch response from a byte array, keeping {@link RawJson} results as slices of the array
+     *
+     * @param content JSON of a batch response
+     * @param targets expected types of results by ids of the requests
+     * @param projections fields to read from the results by ids of the requests, a result without a projection is read completely
+     * @return parsed responses, in the same order as in the JSON
+     * @throws RpcException if the JSON is not a valid batch response
+     * @see #parseBatch(InputStream, Map)
+     */
+    @Override
+    public List<ResponseJson<Object, Integer>> parseBatch(byte[] content, Map<Integer, JavaType> targets, Map<Integer, Projection> projections) throws RpcException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(content)) {
+            return parseBatch(parser, targets, projections, content);
+        } catch (IOException e) {
+            throw new RpcException(RpcResponseError.CODE_UPSTREAM_INVALID_RESPONSE, e.getMessage());
+        }
+    }
+
+    /**
+     * @param source the byte array which is parsed, if so
+     */
+    private List<ResponseJson<Object, Integer>> parseBatch(JsonParser parser, Map<Integer, JavaType> targets, Map<Integer, Projection> projections, byte @Nullable [] source) throws IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new RpcException(RpcResponseError.CODE_UPSTREAM_INVALID_RESPONSE, "Not array");
+        }
+        List<ResponseJson<Object, Integer>> parsedBatch = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new RpcException(RpcResponseError.CODE_UPSTREAM_INVALID_RESPONSE, "Unexpected end of batch");
             }
-            Iterator<JsonNode> elements = nodes.elements();
-            List<ResponseJson<Object, Integer>> parsedBatch = new ArrayList<>();
-            while (elements.hasNext()) {
-                JsonNode resp = elements.next();
-                if (!resp.isObject()) {
-                    continue;
-                }
-                Integer id = resp.get("id").asInt();
-                if (!targets.containsKey(id)) {
-                    continue;
-                }
-                JavaType[] inner = new JavaType[] { targets.get(id), objectMapper.getTypeFactory().constructType(Integer.TYPE) };
-                JavaType type1 = objectMapper.getTypeFactory().constructParametricType(ResponseJson.class, inner);
-                ResponseJson<Object, Integer> parsedItem = objectMapper.reader().forType(type1).readValue(resp);
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            ResponseJson<Object, Integer> parsedItem = parseBatchItem(parser, targets, projections, source);
+            if (parsedItem != null) {
                 parsedBatch.add(parsedItem);
             }
-            return parsedBatch;
-        } catch (IOException e) {
-            throw new RpcException(RpcResponseError.CODE_UPSTREAM_INVALID_RESPONSE, e.getMessage());
         }
+        return parsedBatch;
+    }
+
+    /**
+     * Read a single response of a batch, starting from its START_OBJECT and up to its END_OBJECT
+     *
+     * @return the response, or null if it has no id or the id is unknown
+     */
+    @Nullable
+    private ResponseJson<Object, Integer> parseBatchItem(JsonParser parser, Map<Integer, JavaType> targets, Map<Integer, Projection> projections, byte @Nullable [] source) throws IOException {
+        ResponseJson<Object, Integer> response = new ResponseJson<>();
+        Integer id = null;
+        JavaType target = null;
+        TokenBuffer buffered = null;
+        long bufferedStart = -1;
+        long bufferedEnd = -1;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id":
+                    if (value == JsonToken.VALUE_NUMBER_INT || value == JsonToken.VALUE_STRING) {
+                        id = parser.getValueAsInt();
+                        target = targets.get(id);
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+                case "jsonrpc":
+                    if (value == JsonToken.VALUE_STRING) {
+                        response.setJsonrpc(parser.getText());
+                    }
+                    break;
+                case "error":
+                    response.setError(errorReader.readValue(parser));
+                    break;
+                case "result":
+                    if (target != null) {
+                        response.setResult(readerFor(target, projections.get(id), source).readValue(parser));
+                    } else if (id == null) {
+                        // the id is not known yet, so keep the tokens to deserialize them later
+                        bufferedStart = parser.currentTokenLocation().getByteOffset();
+                        buffered = new TokenBuffer(parser);
+                        buffered.copyCurrentStructure(parser);
+                        bufferedEnd = parser.currentLocation().getByteOffset();
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        if (id == null || !targets.containsKey(id)) {
+            return null;
+        }
+        response.setId(id);
+        if (buffered != null && source != null && bufferedStart >= 0 && target.getRawClass() == RawJson.class) {
+            response.setResult(RawJson.wrap(source, (int) bufferedStart, (int) (bufferedEnd - bufferedStart)));
+        } else if (buffered != null) {
+            try (JsonParser resultParser = buffered.asParser(parser.getCodec())) {
+                response.setResult(readerFor(target, projections.get(id), source).readValue(resultParser));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * @param source the byte array which is parsed, if so, to read {@link RawJson} results without copying
+     */
+    private ObjectReader readerFor(JavaType target, @Nullable Projection projection, byte @Nullable [] source) {
+        return withAttributes(resultReaders.computeIfAbsent(target, objectMapper::readerFor), projection, source);
+    }
+
+    /**
+     * @param reader a cached reader, which is not modified
+     * @return reader with the per-call options
+     */
+    private ObjectReader withAttributes(ObjectReader reader, @Nullable Projection projection, byte @Nullable [] source) {
+        if (projection != null) {
+            reader = reader.withAttribute(Projection.ATTRIBUTE, projection);
+        }
+        if (source != null) {
+            reader = reader.withAttribute(RawJsonDeserializer.SOURCE, source);
+        }
+        return reader;
     }
 
 }
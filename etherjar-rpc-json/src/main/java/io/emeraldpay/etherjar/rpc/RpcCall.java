@@ -17,6 +17,9 @@ package io.emeraldpay.etherjar.rpc;
 
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.emeraldpay.etherjar.rpc.json.LogFilter;
+import io.emeraldpay.etherjar.rpc.json.Projection;
+import io.emeraldpay.etherjar.rpc.json.RawJson;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
@@ -35,6 +38,17 @@ import java.util.function.Function;
  */
 public class RpcCall<JS, RES> {
 
+    /**
+     * Types are attached to their classes, so a cached type doesn't keep the classloader of an application
+     * from unloading
+     */
+    private static final ClassValue<JavaType> TYPES = new ClassValue<JavaType>() {
+        @Override
+        protected JavaType computeValue(Class<?> type) {
+            return TypeFactory.defaultInstance().constructType(type);
+        }
+    };
+
     @NonNull
     private final String method;
     @NonNull
@@ -47,6 +61,8 @@ public class RpcCall<JS, RES> {
     @Nullable
     private Function<JS, RES> converter;
     private boolean isArray = false;
+    @Nullable
+    private Projection projection;
 
     @SuppressWarnings("unchecked")
     private RpcCall(@NonNull String method, @Nullable List params) {
@@ -63,6 +79,18 @@ public class RpcCall<JS, RES> {
         }
     }
 
+    /**
+     * Resolve the JSON type of a class. The type is resolved once, and all calls of that class share the same
+     * instance, which lets a converter find its reader for the type by identity instead of resolving it for each call.
+     *
+     * @param type data type
+     * @return resolved type
+     */
+    @NonNull
+    public static JavaType typeOf(@NonNull Class<?> type) {
+        return TYPES.get(type);
+    }
+
     /**
      *
      * @param method method name
@@ -72,7 +100,7 @@ public class RpcCall<JS, RES> {
      * @return call definition
      */
     public static <T> RpcCall<T, T> create(@NonNull String method, @NonNull Class<? extends T> type, @NonNull List params) {
-        return create(method, TypeFactory.defaultInstance().constructType(type), params);
+        return create(method, typeOf(type), params);
     }
 
     /**
@@ -86,7 +114,7 @@ public class RpcCall<JS, RES> {
     @SuppressWarnings("unchecked")
     public static <T> RpcCall<T, T> create(@NonNull String method, @NonNull JavaType type, @NonNull List params) {
         RpcCall<T, T> call = new RpcCall<>(method, params);
-        call.jsonType = TypeFactory.defaultInstance().constructType(type);
+        call.jsonType = type;
         call.resultType = (Class<? extends T>) type.getRawClass();
         call.converter = Function.identity();
         return call;
@@ -149,6 +177,32 @@ public class RpcCall<JS, RES> {
         return create(method, String.class, Collections.emptyList());
     }
 
+    /**
+     * Creates call which returns the result as verbatim JSON, without mapping it to objects. Useful to pass the result
+     * through, as in a proxy.
+     *
+     * @param method method name
+     * @param params call parameters
+     * @return call definition
+     * @see RawJson
+     */
+    public static RpcCall<RawJson, RawJson> raw(@NonNull String method, @NonNull List params) {
+        return create(method, RawJson.class, params);
+    }
+
+    /**
+     * Creates call which returns the result as verbatim JSON, without mapping it to objects. Useful to pass the result
+     * through, as in a proxy.
+     *
+     * @param method method name
+     * @param params call parameters
+     * @return call definition
+     * @see RawJson
+     */
+    public static RpcCall<RawJson, RawJson> raw(@NonNull String method, @Nullable Object ... params) {
+        return create(method, RawJson.class, params);
+    }
+
     /**
      * Setup conversion to a Java data type
      *
@@ -163,6 +217,7 @@ public class RpcCall<JS, RES> {
         call.jsonType = this.jsonType;
         call.resultType = resultType;
         call.converter = converter;
+        call.projection = this.projection;
         return call;
     }
 
@@ -200,7 +255,7 @@ public class RpcCall<JS, RES> {
      */
     @NonNull
     public <T> RpcCall<T, RES> withJsonType(@NonNull Class<? extends T> clazz) {
-        return withJsonType(TypeFactory.defaultInstance().constructType(clazz));
+        return withJsonType(typeOf(clazz));
     }
 
     /**
@@ -220,6 +275,7 @@ public class RpcCall<JS, RES> {
         copy.resultType = this.resultType;
         copy.jsonType = jsonType;
         copy.converter = (Function<T, RES>) this.converter;
+        copy.projection = this.projection;
         return copy;
     }
 
@@ -240,6 +296,7 @@ public class RpcCall<JS, RES> {
         copy.resultType = clazz;
         copy.jsonType = this.jsonType;
         copy.converter = (Function<JS, T>) this.converter;
+        copy.projection = this.projection;
         return copy;
     }
 
@@ -263,9 +320,62 @@ public class RpcCall<JS, RES> {
             };
         }
         copy.isArray = true;
+        copy.projection = this.projection;
         return copy;
     }
 
+    /**
+     * Read only the specified fields of the result, leaving other fields {@code null}. The fields are skipped without
+     * parsing, which makes it much faster to read large objects when only a few fields are needed. It's supported by
+     * blocks, transactions, receipts and logs, and ignored for other types.
+     *
+     * <pre>{@code
+     * Commands.eth().getBlockWithTransactions(height)
+     *     .withProjection(Projection.of("number", "hash", "parentHash", "timestamp", "transactions.hash"))
+     * }</pre>
+     *
+     * @param projection fields to read
+     * @return new call definition
+     * @see Projection
+     */
+    @NonNull
+    public RpcCall<JS, RES> withProjection(@NonNull Projection projection) {
+        Objects.requireNonNull(projection);
+        RpcCall<JS, RES> copy = new RpcCall<>(this.method, this.params);
+        copy.jsonType = this.jsonType;
+        copy.resultType = this.resultType;
+        copy.converter = this.converter;
+        copy.isArray = this.isArray;
+        copy.projection = projection;
+        return copy;
+    }
+
+    /**
+     * Read only the specified fields of the result
+     *
+     * @param fields fields to read, like {@code number} or {@code transactions.hash}
+     * @return new call definition
+     * @see #withProjection(Projection)
+     */
+    @NonNull
+    public RpcCall<JS, RES> withProjection(@NonNull String... fields) {
+        return withProjection(Projection.of(fields));
+    }
+
+    /**
+     * Read only the logs matching the filter into receipts of the result. Keeps the current projection, if it's set.
+     *
+     * @param filter filter of logs
+     * @return new call definition
+     * @see LogFilter
+     */
+    @NonNull
+    public RpcCall<JS, RES> withLogFilter(@NonNull LogFilter filter) {
+        Objects.requireNonNull(filter);
+        Projection current = this.projection == null ? Projection.ALL : this.projection;
+        return withProjection(current.withLogFilter(filter));
+    }
+
     /**
      *
      * @return method for RPC call
@@ -310,6 +420,15 @@ public class RpcCall<JS, RES> {
         return jsonType != null;
     }
 
+    /**
+     *
+     * @return fields to read from the result, or null if all of them should be read
+     */
+    @Nullable
+    public Projection getProjection() {
+        return projection;
+    }
+
     /**
      *
      * @return function that converts from JSON data to Java data
@@ -339,7 +458,8 @@ public class RpcCall<JS, RES> {
                 params.equals(call.params) &&
                 Objects.equals(isArray, call.isArray) &&
                 Objects.equals(jsonType, call.jsonType) &&
-                Objects.equals(resultType, call.resultType);
+                Objects.equals(resultType, call.resultType) &&
+                Objects.equals(projection, call.projection);
     }
 
     @Override
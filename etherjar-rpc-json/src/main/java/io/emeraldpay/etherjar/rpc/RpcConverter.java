@@ -18,9 +18,16 @@
 package io.emeraldpay.etherjar.rpc;
 
 import com.fasterxml.jackson.databind.JavaType;
+import io.emeraldpay.etherjar.rpc.json.Projection;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -29,10 +36,104 @@ public interface RpcConverter {
 
     <T> T fromJson(InputStream content, JavaType clazz) throws RpcException;
 
+    /**
+     * Read a response, reading only the projected fields of the result. By default, the projection is ignored.
+     *
+     * @param content JSON of a response
+     * @param clazz expected type of the result
+     * @param projection fields to read from the result, or null to read all of them
+     * @return the result
+     * @throws RpcException if the response is an error or not a valid JSON
+     */
+    default <T> T fromJson(InputStream content, JavaType clazz, @Nullable Projection projection) throws RpcException {
+        return fromJson(content, clazz);
+    }
+
+    /**
+     * Read a response from a byte array. Unlike a stream, the array allows to keep a {@link io.emeraldpay.etherjar.rpc.json.RawJson}
+     * result as a slice of it, without copying.
+     *
+     * @param content JSON of a response
+     * @param clazz expected type of the result
+     * @param projection fields to read from the result, or null to read all of them
+     * @return the result
+     * @throws RpcException if the response is an error or not a valid JSON
+     */
+    default <T> T fromJson(byte[] content, JavaType clazz, @Nullable Projection projection) throws RpcException {
+        return fromJson(new ByteArrayInputStream(content), clazz, projection);
+    }
+
     List<ResponseJson<Object,Integer>> parseBatch(InputStream content, Map<Integer, JavaType> targets) throws RpcException;
 
+    /**
+     * Parse a batch response, reading only the projected fields of the results. By default, the projections are ignored.
+     *
+     * @param content JSON of a batch response
+     * @param targets expected types of results by ids of the requests
+     * @param projections fields to read from the results by ids of the requests
+     * @return parsed responses
+     * @throws RpcException if the JSON is not a valid batch response
+     */
+    default List<ResponseJson<Object,Integer>> parseBatch(InputStream content, Map<Integer, JavaType> targets, Map<Integer, Projection> projections) throws RpcException {
+        return parseBatch(content, targets);
+    }
+
+    /**
+     * Parse a batch response from a byte array. Unlike a stream, the array allows to keep a {@link io.emeraldpay.etherjar.rpc.json.RawJson}
+     * result as a slice of it, without copying.
+     *
+     * @param content JSON of a batch response
+     * @param targets expected types of results by ids of the requests
+     * @param projections fields to read from the results by ids of the requests
+     * @return parsed responses
+     * @throws RpcException if the JSON is not a valid batch response
+     */
+    default List<ResponseJson<Object,Integer>> parseBatch(byte[] content, Map<Integer, JavaType> targets, Map<Integer, Projection> projections) throws RpcException {
+        return parseBatch(new ByteArrayInputStream(content), targets, projections);
+    }
+
     String toJson(RequestJson request);
 
     String toJson(List<RequestJson<Integer>> batch);
 
+    /**
+     * Write a request as UTF-8 JSON directly to the output. The output is flushed, but not closed.
+     *
+     * @param request the request
+     * @param output destination
+     * @throws IOException if failed to write to the output
+     */
+    default void writeJson(RequestJson request, OutputStream output) throws IOException {
+        output.write(toJson(request).getBytes(StandardCharsets.UTF_8));
+        output.flush();
+    }
+
+    /**
+     * Write a batch as UTF-8 JSON directly to the output. The output is flushed, but not closed.
+     *
+     * @param batch the batch of requests
+     * @param output destination
+     * @throws IOException if failed to write to the output
+     */
+    default void writeJson(List<RequestJson<Integer>> batch, OutputStream output) throws IOException {
+        output.write(toJson(batch).getBytes(StandardCharsets.UTF_8));
+        output.flush();
+    }
+
+    /**
+     * @param request the request
+     * @return UTF-8 JSON of the request, as a buffer ready to be read
+     */
+    default ByteBuffer toJsonBuffer(RequestJson request) {
+        return ByteBuffer.wrap(toJson(request).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param batch the batch of requests
+     * @return UTF-8 JSON of the batch, as a buffer ready to be read
+     */
+    default ByteBuffer toJsonBuffer(List<RequestJson<Integer>> batch) {
+        return ByteBuffer.wrap(toJson(batch).getBytes(StandardCharsets.UTF_8));
+    }
+
 }
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.rpc.json.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reads trace responses, which may be hundreds of megabytes for a complex transaction or a busy block, as a stream.
+ * Traces, execution steps and state diffs are handed over to a {@link TraceVisitor} as soon as each of them is parsed,
+ * so the response is never kept in memory as a whole. Only the small summary of a transaction, like its output,
+ * is returned.
+ *
+ * <p>The input is either a full JSON-RPC response, or just its result. For example with a blocking transport:
+ *
+ * <pre>{@code
+ * TraceStreamReader reader = new TraceStreamReader();
+ * try (InputStream response = transport.execute(json)) {
+ *     reader.readTraces(response, new TraceVisitor() {
+ *         public void onTrace(TraceItemJson trace) {
+ *             ...
+ *         }
+ *     });
+ * }
+ * }</pre>
+ *
+ * Or with a result of {@link RpcCall#raw(String, Object...)} through {@link RawJson#asInputStream()}.
+ */
+public class TraceStreamReader {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader traceReader;
+    private final ObjectReader stepReader;
+    private final ObjectReader stateDiffReader;
+    private final ObjectReader errorReader;
+
+    public TraceStreamReader(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.traceReader = objectMapper.readerFor(TraceItemJson.class);
+        this.stepReader = objectMapper.readerFor(ExecutionResultJson.StructLog.class);
+        this.stateDiffReader = objectMapper.readerFor(StateDiffJson.class);
+        this.errorReader = objectMapper.readerFor(RpcResponseError.class);
+    }
+
+    public TraceStreamReader() {
+        this(JacksonRpcConverter.createJsonMapper());
+    }
+
+    private interface ElementReader {
+        void read(JsonParser p, TraceVisitor visitor) throws IOException;
+    }
+
+    /**
+     * Read a list of traces, as returned by {@code trace_transaction}, {@code trace_block} or {@code trace_filter}
+     *
+     * @param json the response or its result
+     * @param visitor visitor of the traces
+     * @throws RpcException if the response is an error or not a valid JSON
+     */
+    public void readTraces(InputStream json, TraceVisitor visitor) throws RpcException {
+        try (JsonParser p = objectMapper.getFactory().createParser(json)) {
+            p.nextToken();
+            readTraceList(p, visitor);
+        } catch (IOException e) {
+            throw invalidResponse(e);
+        }
+    }
+
+    /**
+     * Read the result of {@code debug_traceCall} or {@code debug_traceTransaction}, handing the {@code structLogs}
+     * over to the visitor
+     *
+     * @param json the response or its result
+     * @param visitor visitor of the steps
+     * @return the result without the steps, or null if the result is null
+     * @throws RpcException if the response is an error or not a valid JSON
+     */
+    public ExecutionResultJson readExecution(InputStream json, TraceVisitor visitor) throws RpcException {
+        List<ExecutionResultJson> results = readExecutions(json, visitor);
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    /**
+     * Read the result of {@code debug_traceBlockByNumber} or {@code debug_traceBlockByHash}, handing the
+     * {@code structLogs} over to the visitor
+     *
+     * @param json the response or its result
+     * @param visitor visitor of the transactions and their steps
+     * @return results of the transactions without the steps, in the order of the transactions. The result of
+     *      a transaction which the node failed to trace is null, see {@link TraceVisitor#onTransactionError(int, String)}
+     * @throws RpcException if the response is an error or not a valid JSON
+     */
+    public List<ExecutionResultJson> readExecutions(InputStream json, TraceVisitor visitor) throws RpcException {
+        return read(json, visitor, ExecutionResultJson.class, Map.of(
+            "structLogs", (p, v) -> readList(p, v, (it, vv) -> vv.onStep(stepReader.readValue(it)))
+        ));
+    }
+
+    /**
+     * Read the result of {@code trace_replayTransaction}, handing the {@code trace} and {@code stateDiff} over to
+     * the visitor. The {@code vmTrace} is skipped.
+     *
+     * @param json the response or its result
+     * @param visitor visitor of the traces and state diffs
+     * @return the result without the traces and state diffs, or null if the result is null
+     * @throws RpcException if the response is an error or not a valid JSON
+     */
+    public ReplayTransactionJson readReplay(InputStream json, TraceVisitor visitor) throws RpcException {
+        List<ReplayTransactionJson> results = readReplays(json, visitor);
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    /**
+     * Read the result of {@code trace_replayBlockTransactions}, handing the {@code trace} and {@code stateDiff} over to
+     * the visitor. The {@code vmTrace} is skipped.
+     *
+     * @param json the response or its result
+     * @param visitor visitor of the transactions, their traces and state diffs
+     * @return results of the transactions without the traces and state diffs
+     * @throws RpcException if the response is an error or not a valid JSON
+     */
+    public List<ReplayTransactionJson> readReplays(InputStream json, TraceVisitor visitor) throws RpcException {
+        return read(json, visitor, ReplayTransactionJson.class, Map.of(
+            "trace", this::readTraceList,
+            "stateDiff", this::readStateDiff,
+            "vmTrace", (p, v) -> p.skipChildren()
+        ));
+    }
+
+    private <T> List<T> read(InputStream json, TraceVisitor visitor, Class<T> type, Map<String, ElementReader> streamed) throws RpcException {
+        try (JsonParser p = objectMapper.getFactory().createParser(json)) {
+            p.nextToken();
+            List<T> results = new ArrayList<>();
+            readResults(p, visitor, type, streamed, results, -1);
+            return results;
+        } catch (IOException e) {
+            throw invalidResponse(e);
+        }
+    }
+
+    /**
+     * Read a result, a list of results, or a response with them. The streamed fields of a result go to the visitor,
+     * and the other fields are buffered to read them as a summary.
+     *
+     * @param index position of the transaction in a block-level response, or -1 for the response itself
+     */
+    private <T> void readResults(JsonParser p, TraceVisitor visitor, Class<T> type, Map<String, ElementReader> streamed, List<T> results, int index) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (token == JsonToken.START_ARRAY) {
+            int i = 0;
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                visitor.onTransaction(i);
+                readResults(p, visitor, type, streamed, results, i++);
+            }
+            return;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw JsonMappingException.from(p, "Invalid " + type.getSimpleName() + " type: " + token);
+        }
+        TokenBuffer summary = new TokenBuffer(p);
+        summary.writeStartObject();
+        boolean isResult = false;
+        String transactionError = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            ElementReader reader = streamed.get(field);
+            if (reader != null) {
+                reader.read(p, visitor);
+                isResult = true;
+                continue;
+            }
+            switch (field) {
+                case "result":
+                    // a response, or an item of debug_traceBlock
+                    readResults(p, visitor, type, streamed, results, index);
+                    break;
+                case "error":
+                    if (index < 0) {
+                        checkError(p);
+                    } else {
+                        // a transaction of debug_traceBlock which the node failed to trace, the rest of the block is fine
+                        transactionError = readTransactionError(p);
+                    }
+                    break;
+                case "jsonrpc":
+                case "id":
+                case "txHash":
+                    p.skipChildren();
+                    break;
+                default:
+                    summary.writeFieldName(field);
+                    summary.copyCurrentStructure(p);
+                    isResult = true;
+            }
+        }
+        summary.writeEndObject();
+        if (transactionError != null) {
+            // keep the position of the other results
+            results.add(null);
+            visitor.onTransactionError(index, transactionError);
+        } else if (isResult) {
+            try (JsonParser summaryParser = summary.asParser(objectMapper)) {
+                results.add(objectMapper.readValue(summaryParser, type));
+            }
+        }
+    }
+
+    /**
+     * Read a list of traces, or a response with them
+     */
+    private void readTraceList(JsonParser p, TraceVisitor visitor) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                if (field.equals("result")) {
+                    readTraceList(p, visitor);
+                } else if (field.equals("error")) {
+                    checkError(p);
+                } else {
+                    p.skipChildren();
+                }
+            }
+            return;
+        }
+        readList(p, visitor, (it, v) -> v.onTrace(traceReader.readValue(it)));
+    }
+
+    private void readList(JsonParser p, TraceVisitor visitor, ElementReader reader) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw JsonMappingException.from(p, "Invalid Array type: " + token);
+        }
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw JsonMappingException.from(p, "Unexpected end of Array");
+            }
+            if (token != JsonToken.VALUE_NULL) {
+                reader.read(p, visitor);
+            }
+        }
+    }
+
+    /**
+     * Read a state diff one account at a time
+     */
+    private void readStateDiff(JsonParser p, TraceVisitor visitor) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw JsonMappingException.from(p, "Invalid StateDiff type: " + token);
+        }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            // the diff of a single account is small, so it's read with the usual deserializer
+            TokenBuffer account = new TokenBuffer(p);
+            account.writeStartObject();
+            account.writeFieldName(field);
+            account.copyCurrentStructure(p);
+            account.writeEndObject();
+            StateDiffJson diff;
+            try (JsonParser accountParser = account.asParser(objectMapper)) {
+                diff = stateDiffReader.readValue(accountParser);
+            }
+            if (diff != null) {
+                for (Map.Entry<Address, StateDiffJson.AddressDiff> e : diff.getChanges().entrySet()) {
+                    visitor.onStateDiff(e.getKey(), e.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Read the error of a response, which is {@code null} if there is no error
+     *
+     * @throws RpcException if there is an error
+     */
+    private void checkError(JsonParser p) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        RpcResponseError error = errorReader.readValue(p);
+        throw new RpcException(error.getCode(), error.getMessage(), error.getData());
+    }
+
+    /**
+     * Read the error of a transaction in a block-level response, which is usually a plain message
+     *
+     * @return the message, or null if there is no error
+     */
+    private String readTransactionError(JsonParser p) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return p.getText();
+        }
+        return objectMapper.readTree(p).toString();
+    }
+
+    private RpcException invalidResponse(IOException e) {
+        return new RpcException(RpcResponseError.CODE_UPSTREAM_INVALID_RESPONSE, "Invalid JSON received from RPC endpoint: " + e.getMessage());
+    }
+}
@@ -22,9 +22,9 @@ public class AddressDeserializer extends StdDeserializer<Address> {
         JsonToken token = p.currentToken();
         if (token == JsonToken.VALUE_STRING) {
             try {
-                return Address.from(p.getValueAsString());
+                return Address.from(HexChars.bytes(p.getTextCharacters(), p.getTextOffset(), p.getTextLength(), Address.SIZE_BYTES));
             } catch (Throwable t) {
-                throw JsonMappingException.from(p,"Invalid Address value: " + p.getValueAsString(), t);
+                throw JsonMappingException.from(p,"Invalid Address value: " + p.getText(), t);
             }
         }
         if (token == JsonToken.VALUE_NULL) {
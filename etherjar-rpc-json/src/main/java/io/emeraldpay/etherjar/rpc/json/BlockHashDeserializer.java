@@ -21,9 +21,9 @@ public class BlockHashDeserializer extends StdDeserializer<BlockHash> {
         JsonToken token = p.currentToken();
         if (token == JsonToken.VALUE_STRING) {
             try {
-                return BlockHash.from(p.getValueAsString());
+                return BlockHash.from(HexChars.bytes(p.getTextCharacters(), p.getTextOffset(), p.getTextLength(), BlockHash.SIZE_BYTES));
             } catch (Throwable t) {
-                throw JsonMappingException.from(p,"Invalid BlockHash value: " + p.getValueAsString(), t);
+                throw JsonMappingException.from(p,"Invalid BlockHash value: " + p.getText(), t);
             }
         }
         if (token == JsonToken.VALUE_NULL) {
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import java.io.IOException;
+
+/**
+ * Reads {@link BlockJson} field by field from the stream. Transactions are read either as
+ * {@link TransactionRefJson} if they are hashes, or as {@link TransactionJson} if they are full objects.
+ */
+public class BlockJsonDeserializer extends EtherJsonDeserializer<BlockJson<TransactionRefJson>> {
+
+    private final TransactionJsonDeserializer transactionDeserializer = new TransactionJsonDeserializer();
+
+    @Override
+    public BlockJson<TransactionRefJson> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (isEmptyAsNull(p, ctxt)) {
+            return null;
+        }
+        return deserialize(p, ctxt, Projection.from(ctxt));
+    }
+
+    /**
+     * @param projection fields to read, other fields are skipped
+     */
+    BlockJson<TransactionRefJson> deserialize(JsonParser p, DeserializationContext ctxt, Projection projection) throws IOException {
+        BlockJson<TransactionRefJson> block = new BlockJson<>();
+        for (String field = startObject(p, "Block"); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            if (!projection.includes(field)) {
+                p.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "number":
+                    block.setNumber(readLong(p));
+                    break;
+                case "hash":
+                    block.setHash(readBlockHash(p));
+                    break;
+                case "parentHash":
+                    block.setParentHash(readBlockHash(p));
+                    break;
+                case "sha3Uncles":
+                    block.setSha3Uncles(readData32(p));
+                    break;
+                case "logsBloom":
+                    block.setLogsBloom(readBloom(p));
+                    break;
+                case "transactionsRoot":
+                    block.setTransactionsRoot(readData32(p));
+                    break;
+                case "stateRoot":
+                    block.setStateRoot(readData32(p));
+                    break;
+                case "receiptsRoot":
+                    block.setReceiptsRoot(readData32(p));
+                    break;
+                case "miner":
+                    block.setMiner(readAddress(p));
+                    break;
+                case "difficulty":
+                    block.setDifficulty(readBigInteger(p));
+                    break;
+                case "totalDifficulty":
+                    block.setTotalDifficulty(readBigInteger(p));
+                    break;
+                case "extraData":
+                    block.setExtraData(readData(p));
+                    break;
+                case "mixHash":
+                    block.setMixHash(readData32(p));
+                    break;
+                case "nonce":
+                    block.setNonce(readData(p));
+                    break;
+                case "size":
+                    block.setSize(readLong(p));
+                    break;
+                case "gasLimit":
+                    block.setGasLimit(readLong(p));
+                    break;
+                case "gasUsed":
+                    block.setGasUsed(readLong(p));
+                    break;
+                case "timestamp":
+                    block.setTimestamp(readTimestamp(p));
+                    break;
+                case "transactions":
+                    Projection txProjection = projection.get(field);
+                    block.setTransactions(readList(p, ctxt, (it, c) -> readTransaction(it, c, txProjection)));
+                    break;
+                case "uncles":
+                    block.setUncles(readList(p, ctxt, (it, c) -> readBlockHash(it)));
+                    break;
+                case "baseFeePerGas":
+                    block.setBaseFeePerGas(readWei(p));
+                    break;
+                case "withdrawalsRoot":
+                    block.setWithdrawalsRoot(readData32(p));
+                    break;
+                case "withdrawals":
+                    block.setWithdrawals(readList(p, ctxt, this::readWithdrawal));
+                    break;
+                case "blobGasUsed":
+                    block.setBlobGasUsed(readLong(p));
+                    break;
+                case "excessBlobGas":
+                    block.setExcessBlobGas(readLong(p));
+                    break;
+                case "parentBeaconBlockRoot":
+                    block.setParentBeaconBlockRoot(readData32(p));
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return block;
+    }
+
+    private TransactionRefJson readTransaction(JsonParser p, DeserializationContext ctxt, Projection projection) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return new TransactionRefJson(readTxHash(p));
+        }
+        if (token == JsonToken.START_OBJECT) {
+            return transactionDeserializer.deserialize(p, ctxt, projection);
+        }
+        throw JsonMappingException.from(p, "Invalid Transaction Ref type: " + token);
+    }
+
+    private WithdrawalJson readWithdrawal(JsonParser p, DeserializationContext ctxt) throws IOException {
+        WithdrawalJson withdrawal = new WithdrawalJson();
+        for (String field = startObject(p, "Withdrawal"); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            switch (field) {
+                case "index":
+                    withdrawal.setIndex(readLong(p));
+                    break;
+                case "validatorIndex":
+                    withdrawal.setValidatorIndex(readLong(p));
+                    break;
+                case "address":
+                    withdrawal.setAddress(readAddress(p));
+                    break;
+                case "amount":
+                    withdrawal.setAmount(readWei(p));
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return withdrawal;
+    }
+}
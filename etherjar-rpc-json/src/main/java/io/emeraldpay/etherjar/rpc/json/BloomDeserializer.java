@@ -21,9 +21,9 @@ public class BloomDeserializer extends StdDeserializer<Bloom> {
         JsonToken token = p.currentToken();
         if (token == JsonToken.VALUE_STRING) {
             try {
-                return Bloom.from(p.getValueAsString());
+                return new Bloom(HexChars.bytes(p.getTextCharacters(), p.getTextOffset(), p.getTextLength(), Bloom.SIZE_BYTES));
             } catch (Throwable t) {
-                throw JsonMappingException.from(p,"Invalid HexData value: " + p.getValueAsString(), t);
+                throw JsonMappingException.from(p,"Invalid HexData value: " + p.getText(), t);
             }
         }
         if (token == JsonToken.VALUE_NULL) {
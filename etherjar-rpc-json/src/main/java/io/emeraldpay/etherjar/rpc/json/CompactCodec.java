@@ -0,0 +1,1112 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json;
+
+import io.emeraldpay.etherjar.domain.*;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compact binary encoding of blocks, transactions and receipts, to store them in a cache or send to another service
+ * instead of JSON.
+ *
+ * <p>Hashes, addresses and blooms are stored as raw bytes, and quantities as unsigned LEB128 varints. Each object
+ * starts with a bitmask of its non-null fields, so a missing field takes no space and the decoded object has exactly
+ * the same fields as the original. A block hash, a block number or a transaction hash which a log or a transaction
+ * shares with its receipt or block is stored only once.
+ *
+ * <p>With the address dictionary enabled (the default), an address repeated in the same message is stored as
+ * a reference to its first occurrence, which pays off for blocks and receipts where the same contracts appear in
+ * many transactions and logs. The decoder reads both variants.
+ *
+ * <pre><code>
+ * CompactCodec codec = new CompactCodec();
+ * byte[] data = codec.encode(block);
+ * BlockJson&lt;TransactionJson&gt; copy = codec.decodeBlock(data);
+ * </code></pre>
+ *
+ * <p>Only the fields of the models in this package are stored, i.e. a subclass is decoded as its base class.
+ * A list of transactions of a block may contain nulls, but other lists (logs, topics, withdrawals, etc.) may not.
+ * The codec is immutable and thread safe.
+ */
+public class CompactCodec {
+
+    /**
+     * Version of the format, the first byte of an encoded message
+     */
+    public static final int VERSION = 1;
+
+    private static final int KIND_BLOCK = 1;
+    private static final int KIND_TRANSACTION = 2;
+    private static final int KIND_RECEIPT = 3;
+
+    private static final int FLAG_DICTIONARY = 0x80;
+
+    private static final int TX_NULL = 0;
+    private static final int TX_REF = 1;
+    private static final int TX_FULL = 2;
+    private static final int TX_EMPTY_REF = 3;
+
+    private final boolean addressDictionary;
+
+    public CompactCodec() {
+        this(true);
+    }
+
+    /**
+     * @param addressDictionary if true, an address repeated in the same message is stored as a reference
+     */
+    public CompactCodec(boolean addressDictionary) {
+        this.addressDictionary = addressDictionary;
+    }
+
+    public byte[] encode(BlockJson<?> block) {
+        Encoder encoder = new Encoder(KIND_BLOCK, 1024);
+        encoder.writeBlock(Objects.requireNonNull(block));
+        return encoder.toByteArray();
+    }
+
+    public byte[] encode(TransactionJson tx) {
+        Encoder encoder = new Encoder(KIND_TRANSACTION, 256);
+        encoder.writeTransaction(Objects.requireNonNull(tx), null);
+        return encoder.toByteArray();
+    }
+
+    public byte[] encode(TransactionReceiptJson receipt) {
+        Encoder encoder = new Encoder(KIND_RECEIPT, 512);
+        encoder.writeReceipt(Objects.requireNonNull(receipt));
+        return encoder.toByteArray();
+    }
+
+    /**
+     * @param data encoded block
+     * @param <T> type of the transactions, i.e. {@link TransactionJson} if the block was encoded with full transactions
+     * @return decoded block
+     * @throws IllegalArgumentException if the data is not an encoded block
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends TransactionRefJson> BlockJson<T> decodeBlock(byte[] data) {
+        Decoder decoder = new Decoder(data, KIND_BLOCK);
+        BlockJson<T> block = (BlockJson<T>) decoder.readBlock();
+        decoder.finish();
+        return block;
+    }
+
+    /**
+     * @param data encoded transaction
+     * @return decoded transaction
+     * @throws IllegalArgumentException if the data is not an encoded transaction
+     */
+    public TransactionJson decodeTransaction(byte[] data) {
+        Decoder decoder = new Decoder(data, KIND_TRANSACTION);
+        TransactionJson tx = decoder.readTransaction(null);
+        decoder.finish();
+        return tx;
+    }
+
+    /**
+     * @param data encoded receipt
+     * @return decoded receipt
+     * @throws IllegalArgumentException if the data is not an encoded receipt
+     */
+    public TransactionReceiptJson decodeReceipt(byte[] data) {
+        Decoder decoder = new Decoder(data, KIND_RECEIPT);
+        TransactionReceiptJson receipt = decoder.readReceipt();
+        decoder.finish();
+        return receipt;
+    }
+
+    private static boolean isSet(int mask, int bit) {
+        return (mask & (1 << bit)) != 0;
+    }
+
+    private class Encoder {
+
+        private byte[] buffer;
+        private int position = 0;
+        private final AddressDictionary addresses;
+
+        Encoder(int kind, int capacity) {
+            this.buffer = new byte[capacity];
+            this.addresses = addressDictionary ? new AddressDictionary() : null;
+            writeByte(VERSION);
+            writeByte(kind | (addressDictionary ? FLAG_DICTIONARY : 0));
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensure(int size) {
+            if (position + size > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + size));
+            }
+        }
+
+        /**
+         * Reserve space for a fields mask, to write it after the fields
+         */
+        private int startMask(int size) {
+            ensure(size);
+            int start = position;
+            position += size;
+            return start;
+        }
+
+        private void writeMask(int start, int size, int mask) {
+            for (int i = size - 1; i >= 0; i--) {
+                buffer[start + i] = (byte) mask;
+                mask >>>= 8;
+            }
+        }
+
+        private void writeByte(int value) {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        private void writeFixed(HexData value, int size) {
+            if (value.getSize() != size) {
+                throw new IllegalArgumentException("Invalid value length: " + value.getSize() + " != " + size);
+            }
+            ensure(size);
+            value.copyTo(0, buffer, position, size);
+            position += size;
+        }
+
+        private void writeData(HexData value) {
+            int size = value.getSize();
+            writeVarInt(size);
+            ensure(size);
+            value.copyTo(0, buffer, position, size);
+            position += size;
+        }
+
+        private void writeBigInteger(BigInteger value) {
+            if (value.signum() == 0) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.toByteArray();
+            writeVarInt(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void writeAddress(Address value) {
+            if (addresses != null) {
+                int size = addresses.size();
+                int id = addresses.add(value);
+                if (id < size) {
+                    writeVarInt(id + 1);
+                    return;
+                }
+                // a new address, which gets the next id on decoding
+                writeVarInt(0);
+            }
+            writeFixed(value, Address.SIZE_BYTES);
+        }
+
+        /**
+         * Only transactions of a block may be null in a list, other list elements have no null marker
+         */
+        private <T> T element(T value, String type) {
+            if (value == null) {
+                throw new IllegalArgumentException("Null " + type + " in a list is not supported");
+            }
+            return value;
+        }
+
+        private void writeHashes(List<? extends Hex32> values) {
+            writeVarInt(values.size());
+            for (Hex32 value : values) {
+                writeFixed(element(value, "hash"), Hex32.SIZE_BYTES);
+            }
+        }
+
+        void writeBlock(BlockJson<?> block) {
+            int maskAt = startMask(4);
+            int mask = 0;
+            if (block.getNumber() != null) {
+                mask |= 1;
+                writeVarLong(block.getNumber());
+            }
+            if (block.getHash() != null) {
+                mask |= 1 << 1;
+                writeFixed(block.getHash(), BlockHash.SIZE_BYTES);
+            }
+            if (block.getParentHash() != null) {
+                mask |= 1 << 2;
+                writeFixed(block.getParentHash(), BlockHash.SIZE_BYTES);
+            }
+            if (block.getSha3Uncles() != null) {
+                mask |= 1 << 3;
+                writeFixed(block.getSha3Uncles(), Hex32.SIZE_BYTES);
+            }
+            if (block.getLogsBloom() != null) {
+                mask |= 1 << 4;
+                writeFixed(block.getLogsBloom(), Bloom.SIZE_BYTES);
+            }
+            if (block.getTransactionsRoot() != null) {
+                mask |= 1 << 5;
+                writeFixed(block.getTransactionsRoot(), Hex32.SIZE_BYTES);
+            }
+            if (block.getStateRoot() != null) {
+                mask |= 1 << 6;
+                writeFixed(block.getStateRoot(), Hex32.SIZE_BYTES);
+            }
+            if (block.getReceiptsRoot() != null) {
+                mask |= 1 << 7;
+                writeFixed(block.getReceiptsRoot(), Hex32.SIZE_BYTES);
+            }
+            if (block.getMiner() != null) {
+                mask |= 1 << 8;
+                writeAddress(block.getMiner());
+            }
+            if (block.getDifficulty() != null) {
+                mask |= 1 << 9;
+                writeBigInteger(block.getDifficulty());
+            }
+            if (block.getTotalDifficulty() != null) {
+                mask |= 1 << 10;
+                writeBigInteger(block.getTotalDifficulty());
+            }
+            if (block.getExtraData() != null) {
+                mask |= 1 << 11;
+                writeData(block.getExtraData());
+            }
+            if (block.getMixHash() != null) {
+                mask |= 1 << 12;
+                writeFixed(block.getMixHash(), Hex32.SIZE_BYTES);
+            }
+            if (block.getNonce() != null) {
+                mask |= 1 << 13;
+                writeData(block.getNonce());
+            }
+            if (block.getSize() != null) {
+                mask |= 1 << 14;
+                writeVarLong(block.getSize());
+            }
+            if (block.getGasLimit() != null) {
+                mask |= 1 << 15;
+                writeVarLong(block.getGasLimit());
+            }
+            if (block.getGasUsed() != null) {
+                mask |= 1 << 16;
+                writeVarLong(block.getGasUsed());
+            }
+            if (block.getTimestamp() != null) {
+                mask |= 1 << 17;
+                writeVarLong(block.getTimestamp().getEpochSecond());
+                writeVarInt(block.getTimestamp().getNano());
+            }
+            if (block.getTransactions() != null) {
+                mask |= 1 << 18;
+                writeVarInt(block.getTransactions().size());
+                for (TransactionRefJson tx : block.getTransactions()) {
+                    if (tx == null) {
+                        writeByte(TX_NULL);
+                    } else if (tx instanceof TransactionJson) {
+                        writeByte(TX_FULL);
+                        writeTransaction((TransactionJson) tx, block);
+                    } else if (tx.getHash() == null) {
+                        writeByte(TX_EMPTY_REF);
+                    } else {
+                        writeByte(TX_REF);
+                        writeFixed(tx.getHash(), TransactionId.SIZE_BYTES);
+                    }
+                }
+            }
+            if (block.getUncles() != null) {
+                mask |= 1 << 19;
+                writeHashes(block.getUncles());
+            }
+            if (block.getBaseFeePerGas() != null) {
+                mask |= 1 << 20;
+                writeBigInteger(block.getBaseFeePerGas().getAmount());
+            }
+            if (block.getWithdrawalsRoot() != null) {
+                mask |= 1 << 21;
+                writeFixed(block.getWithdrawalsRoot(), Hex32.SIZE_BYTES);
+            }
+            if (block.getWithdrawals() != null) {
+                mask |= 1 << 22;
+                writeVarInt(block.getWithdrawals().size());
+                for (WithdrawalJson withdrawal : block.getWithdrawals()) {
+                    writeWithdrawal(element(withdrawal, "withdrawal"));
+                }
+            }
+            if (block.getBlobGasUsed() != null) {
+                mask |= 1 << 23;
+                writeVarLong(block.getBlobGasUsed());
+            }
+            if (block.getExcessBlobGas() != null) {
+                mask |= 1 << 24;
+                writeVarLong(block.getExcessBlobGas());
+            }
+            if (block.getParentBeaconBlockRoot() != null) {
+                mask |= 1 << 25;
+                writeFixed(block.getParentBeaconBlockRoot(), Hex32.SIZE_BYTES);
+            }
+            writeMask(maskAt, 4, mask);
+        }
+
+        private void writeWithdrawal(WithdrawalJson withdrawal) {
+            int maskAt = startMask(1);
+            int mask = 0;
+            if (withdrawal.getIndex() != null) {
+                mask |= 1;
+                writeVarLong(withdrawal.getIndex());
+            }
+            if (withdrawal.getValidatorIndex() != null) {
+                mask |= 1 << 1;
+                writeVarLong(withdrawal.getValidatorIndex());
+            }
+            if (withdrawal.getAddress() != null) {
+                mask |= 1 << 2;
+                writeAddress(withdrawal.getAddress());
+            }
+            if (withdrawal.getAmount() != null) {
+                mask |= 1 << 3;
+                writeBigInteger(withdrawal.getAmount().getAmount());
+            }
+            writeMask(maskAt, 1, mask);
+        }
+
+        void writeTransaction(TransactionJson tx, BlockJson<?> block) {
+            int maskAt = startMask(4);
+            int mask = 0;
+            writeVarInt(tx.getType());
+            if (tx.getHash() != null) {
+                mask |= 1;
+                writeFixed(tx.getHash(), TransactionId.SIZE_BYTES);
+            }
+            if (tx.getNonce() != null) {
+                mask |= 1 << 1;
+                writeVarLong(tx.getNonce());
+            }
+            if (tx.getBlockHash() != null) {
+                if (block != null && tx.getBlockHash().equals(block.getHash())) {
+                    mask |= 1 << 22;
+                } else {
+                    mask |= 1 << 2;
+                    writeFixed(tx.getBlockHash(), BlockHash.SIZE_BYTES);
+                }
+            }
+            if (tx.getBlockNumber() != null) {
+                if (block != null && tx.getBlockNumber().equals(block.getNumber())) {
+                    mask |= 1 << 23;
+                } else {
+                    mask |= 1 << 3;
+                    writeVarLong(tx.getBlockNumber());
+                }
+            }
+            if (tx.getTransactionIndex() != null) {
+                mask |= 1 << 4;
+                writeVarLong(tx.getTransactionIndex());
+            }
+            if (tx.getFrom() != null) {
+                mask |= 1 << 5;
+                writeAddress(tx.getFrom());
+            }
+            if (tx.getTo() != null) {
+                mask |= 1 << 6;
+                writeAddress(tx.getTo());
+            }
+            if (tx.getCreates() != null) {
+                mask |= 1 << 7;
+                writeAddress(tx.getCreates());
+            }
+            if (tx.getValue() != null) {
+                mask |= 1 << 8;
+                writeBigInteger(tx.getValue().getAmount());
+            }
+            if (tx.getGasPrice() != null) {
+                mask |= 1 << 9;
+                writeBigInteger(tx.getGasPrice().getAmount());
+            }
+            if (tx.getMaxFeePerGas() != null) {
+                mask |= 1 << 10;
+                writeBigInteger(tx.getMaxFeePerGas().getAmount());
+            }
+            if (tx.getMaxPriorityFeePerGas() != null) {
+                mask |= 1 << 11;
+                writeBigInteger(tx.getMaxPriorityFeePerGas().getAmount());
+            }
+            if (tx.getGas() != null) {
+                mask |= 1 << 12;
+                writeVarLong(tx.getGas());
+            }
+            if (tx.getInput() != null) {
+                mask |= 1 << 13;
+                writeData(tx.getInput());
+            }
+            if (tx.getChainId() != null) {
+                mask |= 1 << 14;
+                writeVarInt(tx.getChainId());
+            }
+            if (tx.getV() != null) {
+                mask |= 1 << 15;
+                writeVarInt(tx.getV());
+            }
+            if (tx.getYParity() != null) {
+                mask |= 1 << 16;
+                writeVarInt(tx.getYParity());
+            }
+            if (tx.getR() != null) {
+                mask |= 1 << 17;
+                writeData(tx.getR());
+            }
+            if (tx.getS() != null) {
+                mask |= 1 << 18;
+                writeData(tx.getS());
+            }
+            if (tx.getAccessList() != null) {
+                mask |= 1 << 19;
+                writeVarInt(tx.getAccessList().size());
+                for (TransactionJson.Access access : tx.getAccessList()) {
+                    writeAccess(element(access, "access list item"));
+                }
+            }
+            if (tx.getMaxFeePerBlobGas() != null) {
+                mask |= 1 << 20;
+                writeBigInteger(tx.getMaxFeePerBlobGas().getAmount());
+            }
+            if (tx.getBlobVersionedHashes() != null) {
+                mask |= 1 << 21;
+                writeHashes(tx.getBlobVersionedHashes());
+            }
+            writeMask(maskAt, 4, mask);
+        }
+
+        private void writeAccess(TransactionJson.Access access) {
+            int maskAt = startMask(1);
+            int mask = 0;
+            if (access.getAddress() != null) {
+                mask |= 1;
+                writeAddress(access.getAddress());
+            }
+            if (access.getStorageKeys() != null) {
+                mask |= 1 << 1;
+                writeHashes(access.getStorageKeys());
+            }
+            writeMask(maskAt, 1, mask);
+        }
+
+        void writeReceipt(TransactionReceiptJson receipt) {
+            int maskAt = startMask(2);
+            int mask = 0;
+            writeVarInt(receipt.getType());
+            if (receipt.getTransactionHash() != null) {
+                mask |= 1;
+                writeFixed(receipt.getTransactionHash(), TransactionId.SIZE_BYTES);
+            }
+            if (receipt.getTransactionIndex() != null) {
+                mask |= 1 << 1;
+                writeVarLong(receipt.getTransactionIndex());
+            }
+            if (receipt.getBlockHash() != null) {
+                mask |= 1 << 2;
+                writeFixed(receipt.getBlockHash(), BlockHash.SIZE_BYTES);
+            }
+            if (receipt.getBlockNumber() != null) {
+                mask |= 1 << 3;
+                writeVarLong(receipt.getBlockNumber());
+            }
+            if (receipt.getCumulativeGasUsed() != null) {
+                mask |= 1 << 4;
+                writeVarLong(receipt.getCumulativeGasUsed());
+            }
+            if (receipt.getFrom() != null) {
+                mask |= 1 << 5;
+                writeAddress(receipt.getFrom());
+            }
+            if (receipt.getTo() != null) {
+                mask |= 1 << 6;
+                writeAddress(receipt.getTo());
+            }
+            if (receipt.getGasUsed() != null) {
+                mask |= 1 << 7;
+                writeVarLong(receipt.getGasUsed());
+            }
+            if (receipt.getContractAddress() != null) {
+                mask |= 1 << 8;
+                writeAddress(receipt.getContractAddress());
+            }
+            if (receipt.getLogs() != null) {
+                mask |= 1 << 9;
+                writeVarInt(receipt.getLogs().size());
+                for (TransactionLogJson log : receipt.getLogs()) {
+                    writeLog(element(log, "log"), receipt);
+                }
+            }
+            if (receipt.getLogsBloom() != null) {
+                mask |= 1 << 10;
+                writeFixed(receipt.getLogsBloom(), Bloom.SIZE_BYTES);
+            }
+            if (receipt.getStatus() != null) {
+                mask |= 1 << 11;
+                writeVarInt(receipt.getStatus());
+            }
+            if (receipt.getEffectiveGasPrice() != null) {
+                mask |= 1 << 12;
+                writeBigInteger(receipt.getEffectiveGasPrice().getAmount());
+            }
+            if (receipt.getBlobGasPrice() != null) {
+                mask |= 1 << 13;
+                writeBigInteger(receipt.getBlobGasPrice().getAmount());
+            }
+            if (receipt.getRoot() != null) {
+                mask |= 1 << 14;
+                writeFixed(receipt.getRoot(), Hex32.SIZE_BYTES);
+            }
+            writeMask(maskAt, 2, mask);
+        }
+
+        private void writeLog(TransactionLogJson log, TransactionReceiptJson receipt) {
+            int maskAt = startMask(2);
+            int mask = 0;
+            if (log.getRemoved() != null) {
+                mask |= 1;
+                writeByte(log.getRemoved() ? 1 : 0);
+            }
+            if (log.getLogIndex() != null) {
+                mask |= 1 << 1;
+                writeVarLong(log.getLogIndex());
+            }
+            if (log.getTransactionIndex() != null) {
+                if (log.getTransactionIndex().equals(receipt.getTransactionIndex())) {
+                    mask |= 1 << 9;
+                } else {
+                    mask |= 1 << 2;
+                    writeVarLong(log.getTransactionIndex());
+                }
+            }
+            if (log.getTransactionHash() != null) {
+                if (log.getTransactionHash().equals(receipt.getTransactionHash())) {
+                    mask |= 1 << 10;
+                } else {
+                    mask |= 1 << 3;
+                    writeFixed(log.getTransactionHash(), TransactionId.SIZE_BYTES);
+                }
+            }
+            if (log.getBlockHash() != null) {
+                if (log.getBlockHash().equals(receipt.getBlockHash())) {
+                    mask |= 1 << 11;
+                } else {
+                    mask |= 1 << 4;
+                    writeFixed(log.getBlockHash(), BlockHash.SIZE_BYTES);
+                }
+            }
+            if (log.getBlockNumber() != null) {
+                if (log.getBlockNumber().equals(receipt.getBlockNumber())) {
+                    mask |= 1 << 12;
+                } else {
+                    mask |= 1 << 5;
+                    writeVarLong(log.getBlockNumber());
+                }
+            }
+            if (log.getAddress() != null) {
+                mask |= 1 << 6;
+                writeAddress(log.getAddress());
+            }
+            if (log.getData() != null) {
+                mask |= 1 << 7;
+                writeData(log.getData());
+            }
+            if (log.getTopics() != null) {
+                mask |= 1 << 8;
+                writeHashes(log.getTopics());
+            }
+            writeMask(maskAt, 2, mask);
+        }
+    }
+
+    private static class Decoder {
+
+        private final byte[] data;
+        private int position = 0;
+        private final List<Address> addresses;
+
+        Decoder(byte[] data, int kind) {
+            this.data = Objects.requireNonNull(data);
+            int version = readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported compact format version: " + version);
+            }
+            int header = readByte();
+            if ((header & ~FLAG_DICTIONARY) != kind) {
+                throw new IllegalArgumentException("Invalid compact data type: " + (header & ~FLAG_DICTIONARY) + " != " + kind);
+            }
+            this.addresses = (header & FLAG_DICTIONARY) != 0 ? new ArrayList<>() : null;
+        }
+
+        void finish() {
+            if (position != data.length) {
+                throw new IllegalArgumentException("Unexpected data after position " + position);
+            }
+        }
+
+        private void require(int size) {
+            if (size < 0 || position + size > data.length) {
+                throw new IllegalArgumentException("Compact data is truncated at position " + position);
+            }
+        }
+
+        private int readByte() {
+            require(1);
+            return data[position++] & 0xFF;
+        }
+
+        private int readMask(int size) {
+            require(size);
+            int mask = 0;
+            for (int i = 0; i < size; i++) {
+                mask = (mask << 8) | (data[position++] & 0xFF);
+            }
+            return mask;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Invalid varint at position " + position);
+        }
+
+        private int readVarInt() {
+            return (int) readVarLong();
+        }
+
+        private int readSize() {
+            long size = readVarLong();
+            if (size > data.length - position) {
+                throw new IllegalArgumentException("Compact data is truncated at position " + position);
+            }
+            return (int) size;
+        }
+
+        private byte[] readBytes(int size) {
+            require(size);
+            byte[] value = Arrays.copyOfRange(data, position, position + size);
+            position += size;
+            return value;
+        }
+
+        private HexData readData() {
+            return new HexData(readBytes(readSize()));
+        }
+
+        private Hex32 readHex32() {
+            return new Hex32(readBytes(Hex32.SIZE_BYTES));
+        }
+
+        private BlockHash readBlockHash() {
+            return new BlockHash(readBytes(BlockHash.SIZE_BYTES));
+        }
+
+        private TransactionId readTransactionId() {
+            return TransactionId.from(readBytes(TransactionId.SIZE_BYTES));
+        }
+
+        private BigInteger readBigInteger() {
+            int size = readSize();
+            if (size == 0) {
+                return BigInteger.ZERO;
+            }
+            require(size);
+            BigInteger value = new BigInteger(data, position, size);
+            position += size;
+            return value;
+        }
+
+        private Wei readWei() {
+            return new Wei(readBigInteger());
+        }
+
+        private Address readAddress() {
+            if (addresses == null) {
+                return Address.from(readBytes(Address.SIZE_BYTES));
+            }
+            int ref = readVarInt();
+            if (ref == 0) {
+                Address value = Address.from(readBytes(Address.SIZE_BYTES));
+                addresses.add(value);
+                return value;
+            }
+            if (ref < 0 || ref > addresses.size()) {
+                throw new IllegalArgumentException("Invalid address reference: " + ref);
+            }
+            return addresses.get(ref - 1);
+        }
+
+        private List<Hex32> readHashes() {
+            int count = readSize();
+            List<Hex32> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(readHex32());
+            }
+            return values;
+        }
+
+        BlockJson<TransactionRefJson> readBlock() {
+            BlockJson<TransactionRefJson> block = new BlockJson<>();
+            int mask = readMask(4);
+            if (isSet(mask, 0)) {
+                block.setNumber(readVarLong());
+            }
+            if (isSet(mask, 1)) {
+                block.setHash(readBlockHash());
+            }
+            if (isSet(mask, 2)) {
+                block.setParentHash(readBlockHash());
+            }
+            if (isSet(mask, 3)) {
+                block.setSha3Uncles(readHex32());
+            }
+            if (isSet(mask, 4)) {
+                block.setLogsBloom(new Bloom(readBytes(Bloom.SIZE_BYTES)));
+            }
+            if (isSet(mask, 5)) {
+                block.setTransactionsRoot(readHex32());
+            }
+            if (isSet(mask, 6)) {
+                block.setStateRoot(readHex32());
+            }
+            if (isSet(mask, 7)) {
+                block.setReceiptsRoot(readHex32());
+            }
+            if (isSet(mask, 8)) {
+                block.setMiner(readAddress());
+            }
+            if (isSet(mask, 9)) {
+                block.setDifficulty(readBigInteger());
+            }
+            if (isSet(mask, 10)) {
+                block.setTotalDifficulty(readBigInteger());
+            }
+            if (isSet(mask, 11)) {
+                block.setExtraData(readData());
+            }
+            if (isSet(mask, 12)) {
+                block.setMixHash(readHex32());
+            }
+            if (isSet(mask, 13)) {
+                block.setNonce(readData());
+            }
+            if (isSet(mask, 14)) {
+                block.setSize(readVarLong());
+            }
+            if (isSet(mask, 15)) {
+                block.setGasLimit(readVarLong());
+            }
+            if (isSet(mask, 16)) {
+                block.setGasUsed(readVarLong());
+            }
+            if (isSet(mask, 17)) {
+                long seconds = readVarLong();
+                block.setTimestamp(Instant.ofEpochSecond(seconds, readVarInt()));
+            }
+            if (isSet(mask, 18)) {
+                int count = readSize();
+                List<TransactionRefJson> transactions = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    int type = readByte();
+                    switch (type) {
+                        case TX_NULL:
+                            transactions.add(null);
+                            break;
+                        case TX_REF:
+                            transactions.add(new TransactionRefJson(readTransactionId()));
+                            break;
+                        case TX_FULL:
+                            transactions.add(readTransaction(block));
+                            break;
+                        case TX_EMPTY_REF:
+                            transactions.add(new TransactionRefJson());
+                            break;
+                        default:
+                            throw new IllegalArgumentException("Invalid transaction type: " + type);
+                    }
+                }
+                block.setTransactions(transactions);
+            }
+            if (isSet(mask, 19)) {
+                int count = readSize();
+                List<BlockHash> uncles = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    uncles.add(readBlockHash());
+                }
+                block.setUncles(uncles);
+            }
+            if (isSet(mask, 20)) {
+                block.setBaseFeePerGas(readWei());
+            }
+            if (isSet(mask, 21)) {
+                block.setWithdrawalsRoot(readHex32());
+            }
+            if (isSet(mask, 22)) {
+                int count = readSize();
+                List<WithdrawalJson> withdrawals = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    withdrawals.add(readWithdrawal());
+                }
+                block.setWithdrawals(withdrawals);
+            }
+            if (isSet(mask, 23)) {
+                block.setBlobGasUsed(readVarLong());
+            }
+            if (isSet(mask, 24)) {
+                block.setExcessBlobGas(readVarLong());
+            }
+            if (isSet(mask, 25)) {
+                block.setParentBeaconBlockRoot(readHex32());
+            }
+            return block;
+        }
+
+        private WithdrawalJson readWithdrawal() {
+            WithdrawalJson withdrawal = new WithdrawalJson();
+            int mask = readMask(1);
+            if (isSet(mask, 0)) {
+                withdrawal.setIndex(readVarLong());
+            }
+            if (isSet(mask, 1)) {
+                withdrawal.setValidatorIndex(readVarLong());
+            }
+            if (isSet(mask, 2)) {
+                withdrawal.setAddress(readAddress());
+            }
+            if (isSet(mask, 3)) {
+                withdrawal.setAmount(readWei());
+            }
+            return withdrawal;
+        }
+
+        TransactionJson readTransaction(BlockJson<?> block) {
+            TransactionJson tx = new TransactionJson();
+            int mask = readMask(4);
+            tx.setType(readVarInt());
+            if (isSet(mask, 0)) {
+                tx.setHash(readTransactionId());
+            }
+            if (isSet(mask, 1)) {
+                tx.setNonce(readVarLong());
+            }
+            if (isSet(mask, 2)) {
+                tx.setBlockHash(readBlockHash());
+            } else if (isSet(mask, 22)) {
+                tx.setBlockHash(block.getHash());
+            }
+            if (isSet(mask, 3)) {
+                tx.setBlockNumber(readVarLong());
+            } else if (isSet(mask, 23)) {
+                tx.setBlockNumber(block.getNumber());
+            }
+            if (isSet(mask, 4)) {
+                tx.setTransactionIndex(readVarLong());
+            }
+            if (isSet(mask, 5)) {
+                tx.setFrom(readAddress());
+            }
+            if (isSet(mask, 6)) {
+                tx.setTo(readAddress());
+            }
+            if (isSet(mask, 7)) {
+                tx.setCreates(readAddress());
+            }
+            if (isSet(mask, 8)) {
+                tx.setValue(readWei());
+            }
+            if (isSet(mask, 9)) {
+                tx.setGasPrice(readWei());
+            }
+            if (isSet(mask, 10)) {
+                tx.setMaxFeePerGas(readWei());
+            }
+            if (isSet(mask, 11)) {
+                tx.setMaxPriorityFeePerGas(readWei());
+            }
+            if (isSet(mask, 12)) {
+                tx.setGas(readVarLong());
+            }
+            if (isSet(mask, 13)) {
+                tx.setInput(readData());
+            }
+            if (isSet(mask, 14)) {
+                tx.setChainId(readVarInt());
+            }
+            if (isSet(mask, 15)) {
+                tx.setV(readVarInt());
+            }
+            if (isSet(mask, 16)) {
+                tx.setYParity(readVarInt());
+            }
+            if (isSet(mask, 17)) {
+                tx.setR(readData());
+            }
+            if (isSet(mask, 18)) {
+                tx.setS(readData());
+            }
+            if (isSet(mask, 19)) {
+                int count = readSize();
+                List<TransactionJson.Access> accessList = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    accessList.add(readAccess());
+                }
+                tx.setAccessList(accessList);
+            }
+            if (isSet(mask, 20)) {
+                tx.setMaxFeePerBlobGas(readWei());
+            }
+            if (isSet(mask, 21)) {
+                tx.setBlobVersionedHashes(readHashes());
+            }
+            return tx;
+        }
+
+        private TransactionJson.Access readAccess() {
+            int mask = readMask(1);
+            Address address = isSet(mask, 0) ? readAddress() : null;
+            List<Hex32> storageKeys = isSet(mask, 1) ? readHashes() : null;
+            return new TransactionJson.Access(address, storageKeys);
+        }
+
+        TransactionReceiptJson readReceipt() {
+            TransactionReceiptJson receipt = new TransactionReceiptJson();
+            int mask = readMask(2);
+            receipt.setType(readVarInt());
+            if (isSet(mask, 0)) {
+                receipt.setTransactionHash(readTransactionId());
+            }
+            if (isSet(mask, 1)) {
+                receipt.setTransactionIndex(readVarLong());
+            }
+            if (isSet(mask, 2)) {
+                receipt.setBlockHash(readBlockHash());
+            }
+            if (isSet(mask, 3)) {
+                receipt.setBlockNumber(readVarLong());
+            }
+            if (isSet(mask, 4)) {
+                receipt.setCumulativeGasUsed(readVarLong());
+            }
+            if (isSet(mask, 5)) {
+                receipt.setFrom(readAddress());
+            }
+            if (isSet(mask, 6)) {
+                receipt.setTo(readAddress());
+            }
+            if (isSet(mask, 7)) {
+                receipt.setGasUsed(readVarLong());
+            }
+            if (isSet(mask, 8)) {
+                receipt.setContractAddress(readAddress());
+            }
+            if (isSet(mask, 9)) {
+                int count = readSize();
+                List<TransactionLogJson> logs = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    logs.add(readLog(receipt));
+                }
+                receipt.setLogs(logs);
+            }
+            if (isSet(mask, 10)) {
+                receipt.setLogsBloom(new Bloom(readBytes(Bloom.SIZE_BYTES)));
+            }
+            if (isSet(mask, 11)) {
+                receipt.setStatus(readVarInt());
+            }
+            if (isSet(mask, 12)) {
+                receipt.setEffectiveGasPrice(readWei());
+            }
+            if (isSet(mask, 13)) {
+                receipt.setBlobGasPrice(readWei());
+            }
+            if (isSet(mask, 14)) {
+                receipt.setRoot(readHex32());
+            }
+            return receipt;
+        }
+
+        private TransactionLogJson readLog(TransactionReceiptJson receipt) {
+            TransactionLogJson log = new TransactionLogJson();
+            int mask = readMask(2);
+            if (isSet(mask, 0)) {
+                log.setRemoved(readByte() != 0);
+            }
+            if (isSet(mask, 1)) {
+                log.setLogIndex(readVarLong());
+            }
+            if (isSet(mask, 2)) {
+                log.setTransactionIndex(readVarLong());
+            } else if (isSet(mask, 9)) {
+                log.setTransactionIndex(receipt.getTransactionIndex());
+            }
+            if (isSet(mask, 3)) {
+                log.setTransactionHash(readTransactionId());
+            } else if (isSet(mask, 10)) {
+                log.setTransactionHash(receipt.getTransactionHash());
+            }
+            if (isSet(mask, 4)) {
+                log.setBlockHash(readBlockHash());
+            } else if (isSet(mask, 11)) {
+                log.setBlockHash(receipt.getBlockHash());
+            }
+            if (isSet(mask, 5)) {
+                log.setBlockNumber(readVarLong());
+            } else if (isSet(mask, 12)) {
+                log.setBlockNumber(receipt.getBlockNumber());
+            }
+            if (isSet(mask, 6)) {
+                log.setAddress(readAddress());
+            }
+            if (isSet(mask, 7)) {
+                log.setData(readData());
+            }
+            if (isSet(mask, 8)) {
+                log.setTopics(readHashes());
+            }
+            return log;
+        }
+    }
+}
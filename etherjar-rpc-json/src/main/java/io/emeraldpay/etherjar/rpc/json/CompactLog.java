@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json;
+
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.BlockHash;
+import io.emeraldpay.etherjar.domain.TransactionId;
+import io.emeraldpay.etherjar.domain.TransactionRef;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A memory-compact alternative to {@link TransactionLogJson}, to keep a large number of logs in memory (e.g. for
+ * handling reorgs).
+ *
+ * <p>The address, the topics and the data of a log are stored together in a single {@code byte[]}, indexes are stored
+ * as primitives, and the block and transaction references are kept in a {@link Ref} shared by all logs of the same
+ * transaction. So a log takes two objects instead of a dozen or more. Measured on ERC-20 {@code Transfer} logs with
+ * compressed pointers, a compact log takes about 270 bytes instead of 510 with three logs per transaction, and about
+ * 310 bytes instead of 550 with a single log per transaction, i.e. a bit less than half of the memory.
+ *
+ * <pre><code>
+ * List&lt;CompactLog&gt; logs = CompactLog.from(receipt);
+ * ...
+ * TransactionLogJson log = logs.get(0).toJson();
+ * </code></pre>
+ *
+ * <p>A missing (i.e. {@code null}) number or index is stored as {@code -1}. Instances are immutable.
+ */
+public final class CompactLog implements TransactionRef {
+
+    private static final int TOPIC_SIZE = Hex32.SIZE_BYTES;
+
+    private static final byte REMOVED_KNOWN = 1;
+    private static final byte REMOVED = 2;
+    private static final byte NO_TOPICS = 4;
+    private static final byte NO_DATA = 8;
+
+    /**
+     * Block and transaction of a log, shared by all the logs of the same transaction
+     */
+    public static final class Ref implements TransactionRef {
+
+        private final BlockHash blockHash;
+        private final long blockNumber;
+        private final TransactionId transactionHash;
+        private final int transactionIndex;
+
+        /**
+         * @param blockHash hash of the block, or null
+         * @param blockNumber number of the block, or -1
+         * @param transactionHash hash of the transaction, or null
+         * @param transactionIndex index of the transaction in the block, or -1
+         */
+        public Ref(BlockHash blockHash, long blockNumber, TransactionId transactionHash, int transactionIndex) {
+            this.blockHash = blockHash;
+            this.blockNumber = blockNumber;
+            this.transactionHash = transactionHash;
+            this.transactionIndex = transactionIndex;
+        }
+
+        public static Ref of(TransactionReceiptJson receipt) {
+            return new Ref(receipt.getBlockHash(), toLong(receipt.getBlockNumber()),
+                receipt.getTransactionHash(), toInt(receipt.getTransactionIndex()));
+        }
+
+        public static Ref of(TransactionLogJson log) {
+            return new Ref(log.getBlockHash(), toLong(log.getBlockNumber()),
+                log.getTransactionHash(), toInt(log.getTransactionIndex()));
+        }
+
+        /**
+         * @param log a log
+         * @return true if the log has the same block and transaction
+         */
+        public boolean isSame(TransactionLogJson log) {
+            return Objects.equals(transactionHash, log.getTransactionHash())
+                && Objects.equals(blockHash, log.getBlockHash())
+                && blockNumber == toLong(log.getBlockNumber())
+                && transactionIndex == toInt(log.getTransactionIndex());
+        }
+
+        public BlockHash getBlockHash() {
+            return blockHash;
+        }
+
+        /**
+         * @return number of the block, or -1 if unknown
+         */
+        public long getBlockNumber() {
+            return blockNumber;
+        }
+
+        public TransactionId getTransactionHash() {
+            return transactionHash;
+        }
+
+        /**
+         * @return index of the transaction in the block, or -1 if unknown
+         */
+        public int getTransactionIndex() {
+            return transactionIndex;
+        }
+
+        @Override
+        public TransactionId getHash() {
+            return transactionHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Ref)) return false;
+            Ref ref = (Ref) o;
+            return blockNumber == ref.blockNumber
+                && transactionIndex == ref.transactionIndex
+                && Objects.equals(blockHash, ref.blockHash)
+                && Objects.equals(transactionHash, ref.transactionHash);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(transactionHash, blockHash);
+        }
+    }
+
+    private final Ref ref;
+    private final int logIndex;
+    private final byte topicsCount;
+    private final byte flags;
+    // address, then topics, then data
+    private final byte[] value;
+
+    private CompactLog(Ref ref, int logIndex, byte topicsCount, byte flags, byte[] value) {
+        this.ref = ref;
+        this.logIndex = logIndex;
+        this.topicsCount = topicsCount;
+        this.flags = flags;
+        this.value = value;
+    }
+
+    /**
+     * @param log a log
+     * @param ref the block and transaction of the log, shared with the other logs of the same transaction
+     * @return compact log
+     * @throws IllegalArgumentException if the log has no address or too many topics
+     */
+    public static CompactLog from(TransactionLogJson log, Ref ref) {
+        Objects.requireNonNull(ref);
+        if (log.getAddress() == null) {
+            throw new IllegalArgumentException("Log has no address");
+        }
+        List<Hex32> topics = log.getTopics() != null ? log.getTopics() : Collections.emptyList();
+        if (topics.size() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many topics: " + topics.size());
+        }
+        HexData data = log.getData() != null ? log.getData() : HexData.empty();
+
+        byte[] value = new byte[Address.SIZE_BYTES + topics.size() * TOPIC_SIZE + data.getSize()];
+        log.getAddress().copyTo(0, value, 0, Address.SIZE_BYTES);
+        int pos = Address.SIZE_BYTES;
+        for (Hex32 topic : topics) {
+            topic.copyTo(0, value, pos, TOPIC_SIZE);
+            pos += TOPIC_SIZE;
+        }
+        data.copyTo(0, value, pos, data.getSize());
+
+        byte flags = 0;
+        if (log.getRemoved() != null) {
+            flags = log.getRemoved() ? REMOVED_KNOWN | REMOVED : REMOVED_KNOWN;
+        }
+        if (log.getTopics() == null) {
+            flags |= NO_TOPICS;
+        }
+        if (log.getData() == null) {
+            flags |= NO_DATA;
+        }
+        return new CompactLog(ref, toInt(log.getLogIndex()), (byte) topics.size(), flags, value);
+    }
+
+    /**
+     * @param log a log
+     * @return compact log with its own block and transaction reference
+     */
+    public static CompactLog from(TransactionLogJson log) {
+        return from(log, Ref.of(log));
+    }
+
+    /**
+     * @param receipt a receipt
+     * @return compact logs of the receipt, all sharing the block and transaction of the receipt
+     */
+    public static List<CompactLog> from(TransactionReceiptJson receipt) {
+        List<TransactionLogJson> logs = receipt.getLogs();
+        if (logs == null || logs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Ref ref = Ref.of(receipt);
+        List<CompactLog> result = new ArrayList<>(logs.size());
+        for (TransactionLogJson log : logs) {
+            result.add(from(log, ref.isSame(log) ? ref : Ref.of(log)));
+        }
+        return result;
+    }
+
+    /**
+     * Convert logs, such as a result of {@code eth_getLogs}, sharing the reference between consecutive logs
+     * of the same transaction
+     *
+     * @param logs logs
+     * @return compact logs in the same order
+     */
+    public static List<CompactLog> fromLogs(List<TransactionLogJson> logs) {
+        List<CompactLog> result = new ArrayList<>(logs.size());
+        Ref ref = null;
+        for (TransactionLogJson log : logs) {
+            if (ref == null || !ref.isSame(log)) {
+                ref = Ref.of(log);
+            }
+            result.add(from(log, ref));
+        }
+        return result;
+    }
+
+    private static long toLong(Long value) {
+        return value != null ? value : -1;
+    }
+
+    private static int toInt(Long value) {
+        return value != null ? Math.toIntExact(value) : -1;
+    }
+
+    private static Long fromLong(long value) {
+        return value >= 0 ? value : null;
+    }
+
+    /**
+     * @return a new {@link TransactionLogJson} with the same values
+     */
+    public TransactionLogJson toJson() {
+        TransactionLogJson log = new TransactionLogJson();
+        log.setBlockHash(ref.blockHash);
+        log.setBlockNumber(fromLong(ref.blockNumber));
+        log.setTransactionHash(ref.transactionHash);
+        log.setTransactionIndex(fromLong(ref.transactionIndex));
+        log.setLogIndex(fromLong(logIndex));
+        log.setRemoved((flags & REMOVED_KNOWN) != 0 ? (flags & REMOVED) != 0 : null);
+        log.setAddress(getAddress());
+        log.setTopics((flags & NO_TOPICS) == 0 ? getTopics() : null);
+        log.setData((flags & NO_DATA) == 0 ? getData() : null);
+        return log;
+    }
+
+    public Ref getRef() {
+        return ref;
+    }
+
+    public BlockHash getBlockHash() {
+        return ref.blockHash;
+    }
+
+    /**
+     * @return number of the block, or -1 if unknown
+     */
+    public long getBlockNumber() {
+        return ref.blockNumber;
+    }
+
+    public TransactionId getTransactionHash() {
+        return ref.transactionHash;
+    }
+
+    /**
+     * @return index of the transaction in the block, or -1 if unknown
+     */
+    public int getTransactionIndex() {
+        return ref.transactionIndex;
+    }
+
+    @Override
+    public TransactionId getHash() {
+        return ref.transactionHash;
+    }
+
+    /**
+     * @return index of the log in the block, or -1 if unknown
+     */
+    public int getLogIndex() {
+        return logIndex;
+    }
+
+    /**
+     * @return true if the log was removed because of a chain reorganization
+     */
+    public boolean isRemoved() {
+        return (flags & REMOVED) != 0;
+    }
+
+    public Address getAddress() {
+        return Address.from(Arrays.copyOfRange(value, 0, Address.SIZE_BYTES));
+    }
+
+    /**
+     * Check the address without creating an {@link Address} instance
+     *
+     * @param address an address
+     * @return true if the log was emitted by the address
+     */
+    public boolean isAddress(Address address) {
+        return equalBytes(address, 0, Address.SIZE_BYTES);
+    }
+
+    public int getTopicsCount() {
+        return topicsCount;
+    }
+
+    /**
+     * @param index index of the topic, where the first topic is usually the event id
+     * @return the topic
+     * @throws IndexOutOfBoundsException if there is no such topic
+     */
+    public Hex32 getTopic(int index) {
+        Objects.checkIndex(index, topicsCount);
+        int start = Address.SIZE_BYTES + index * TOPIC_SIZE;
+        return Hex32.from(Arrays.copyOfRange(value, start, start + TOPIC_SIZE));
+    }
+
+    /**
+     * Check a topic without creating a {@link Hex32} instance
+     *
+     * @param index index of the topic
+     * @param topic expected value
+     * @return true if the log has the topic at the index
+     */
+    public boolean isTopic(int index, Hex32 topic) {
+        if (index < 0 || index >= topicsCount) {
+            return false;
+        }
+        return equalBytes(topic, Address.SIZE_BYTES + index * TOPIC_SIZE, TOPIC_SIZE);
+    }
+
+    public List<Hex32> getTopics() {
+        List<Hex32> topics = new ArrayList<>(topicsCount);
+        for (int i = 0; i < topicsCount; i++) {
+            topics.add(getTopic(i));
+        }
+        return topics;
+    }
+
+    public HexData getData() {
+        int start = Address.SIZE_BYTES + topicsCount * TOPIC_SIZE;
+        return new HexData(Arrays.copyOfRange(value, start, value.length));
+    }
+
+    /**
+     * @return size of the data in bytes
+     */
+    public int getDataSize() {
+        return value.length - Address.SIZE_BYTES - topicsCount * TOPIC_SIZE;
+    }
+
+    private boolean equalBytes(HexData expected, int offset, int length) {
+        if (expected.getSize() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value[offset + i] != expected.getByte(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CompactLog)) return false;
+        CompactLog that = (CompactLog) o;
+        return logIndex == that.logIndex
+            && topicsCount == that.topicsCount
+            && flags == that.flags
+            && Arrays.equals(value, that.value)
+            && ref.equals(that.ref);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * ref.hashCode() + logIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactLog{" +
+            "transactionHash=" + ref.transactionHash +
+            ", logIndex=" + logIndex +
+            ", address=" + getAddress() +
+            ", topics=" + topicsCount +
+            ", dataSize=" + getDataSize() +
+            '}';
+    }
+}
@@ -17,24 +17,48 @@
 
 package io.emeraldpay.etherjar.rpc.json;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.NumericNode;
 import io.emeraldpay.etherjar.domain.Address;
 import io.emeraldpay.etherjar.domain.BlockHash;
+import io.emeraldpay.etherjar.domain.Bloom;
 import io.emeraldpay.etherjar.domain.TransactionId;
 import io.emeraldpay.etherjar.domain.Wei;
 import io.emeraldpay.etherjar.hex.Hex32;
 import io.emeraldpay.etherjar.hex.HexData;
 import io.emeraldpay.etherjar.hex.HexEncoding;
 
+import java.io.IOException;
 import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Utility class for Ethereum RPC JSON deserialization
+ * Utility class for Ethereum RPC JSON deserialization.
+ *
+ * <p>Besides the methods to read values from a {@link JsonNode}, it provides {@code read...} methods to read the current
+ * value of a {@link JsonParser}, which are used by deserializers of objects that are read field by field directly from
+ * the stream. Hex values are parsed from the text buffer of the parser, without creating a {@link String} for each value.
  */
 public abstract class EtherJsonDeserializer<T> extends JsonDeserializer<T> {
 
+    /**
+     * Reads a value starting at the current token of the parser
+     *
+     * @param <V> type of the value
+     */
+    @FunctionalInterface
+    protected interface ValueReader<V> {
+        V read(JsonParser p, DeserializationContext ctxt) throws IOException;
+    }
+
     protected String getHexString(JsonNode node) {
         if (node == null) {
             return null;
@@ -93,7 +117,7 @@ public abstract class EtherJsonDeserializer<T> extends JsonDeserializer<T> {
         if (hex == null || hex.length() <= 2) {
             return null;
         }
-        return Integer.parseInt(hex.substring(2), 16);
+        return Integer.parseInt(hex, 2, hex.length(), 16);
     }
 
     protected Long getLong(JsonNode node, String name) {
@@ -111,7 +135,7 @@ public abstract class EtherJsonDeserializer<T> extends JsonDeserializer<T> {
         if (hex == null || hex.length() <= 2) {
             return null;
         }
-        return Long.parseLong(hex.substring(2), 16);
+        return Long.parseLong(hex, 2, hex.length(), 16);
     }
 
     protected Address getAddress(JsonNode node, String name) {
@@ -144,4 +168,257 @@ public abstract class EtherJsonDeserializer<T> extends JsonDeserializer<T> {
         }
         return node.get(name).asBoolean();
     }
+
+    /**
+     * Check if the current value is an empty string, which is read as a null object when
+     * {@link DeserializationFeature#ACCEPT_EMPTY_STRING_AS_NULL_OBJECT} is enabled
+     *
+     * @param p parser
+     * @param ctxt context
+     * @return true if the object must be read as null
+     */
+    protected boolean isEmptyAsNull(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_STRING
+            && p.getTextLength() == 0
+            && ctxt.isEnabled(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT);
+    }
+
+    /**
+     * Start reading an object, which is either at START_OBJECT or already at its first FIELD_NAME.
+     * The fields are expected to be read as:
+     *
+     * <pre>{@code
+     * for (String field = startObject(p, "Block"); field != null; field = p.nextFieldName()) {
+     *     p.nextToken();
+     *     switch (field) {
+     *         ...
+     *         default:
+     *             p.skipChildren();
+     *     }
+     * }
+     * }</pre>
+     *
+     * Field names come from the symbol table of the parser, so a switch on them doesn't copy any characters.
+     *
+     * @param p parser
+     * @param type type of the object, for an error message
+     * @return name of the first field, or null if the object is empty
+     */
+    protected String startObject(JsonParser p, String type) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            return p.nextFieldName();
+        }
+        if (token == JsonToken.FIELD_NAME) {
+            return p.currentName();
+        }
+        if (token == JsonToken.END_OBJECT) {
+            return null;
+        }
+        throw JsonMappingException.from(p, "Invalid " + type + " type: " + token);
+    }
+
+    private JsonMappingException invalidValue(JsonParser p, String type, Throwable t) throws IOException {
+        return JsonMappingException.from(p, "Invalid " + type + " value: " + p.getText(), t);
+    }
+
+    private JsonMappingException invalidType(JsonParser p, String type) {
+        return JsonMappingException.from(p, "Invalid " + type + " type: " + p.currentToken());
+    }
+
+    protected Long readLong(JsonParser p) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return HexChars.quantity(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+            } catch (IllegalArgumentException e) {
+                throw invalidValue(p, "HexQuantity", e);
+            }
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return p.getLongValue();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        throw invalidType(p, "HexQuantity");
+    }
+
+    protected Integer readInteger(JsonParser p) throws IOException {
+        Long value = readLong(p);
+        if (value == null) {
+            return null;
+        }
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw JsonMappingException.from(p, "Invalid HexQuantity value: " + p.getText());
+        }
+        return value.intValue();
+    }
+
+    protected BigInteger readBigInteger(JsonParser p) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return HexChars.bigQuantity(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+            } catch (IllegalArgumentException e) {
+                throw invalidValue(p, "HexQuantity", e);
+            }
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return p.getBigIntegerValue();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        throw invalidType(p, "HexQuantity");
+    }
+
+    protected Wei readWei(JsonParser p) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return new Wei(HexChars.bigQuantity(p.getTextCharacters(), p.getTextOffset(), p.getTextLength()));
+            } catch (IllegalArgumentException e) {
+                throw invalidValue(p, "Wei", e);
+            }
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        throw invalidType(p, "Wei");
+    }
+
+    /**
+     * Read a timestamp in seconds. Same as {@link TimestampDeserializer}, a value over 64 bits is truncated to its
+     * lower 64 bits.
+     */
+    protected Instant readTimestamp(JsonParser p) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_STRING) {
+            try {
+                return Instant.ofEpochSecond(
+                    HexChars.truncatedQuantity(p.getTextCharacters(), p.getTextOffset(), p.getTextLength())
+                );
+            } catch (IllegalArgumentException e) {
+                throw invalidValue(p, "HexQuantity", e);
+            }
+        }
+        Long seconds = readLong(p);
+        if (seconds == null) {
+            return null;
+        }
+        return Instant.ofEpochSecond(seconds);
+    }
+
+    /**
+     * @param p parser
+     * @param type type of the value, for an error message
+     * @param size expected size in bytes, or -1 for any size
+     * @return parsed bytes, or null if the value is null
+     */
+    private byte[] readBytes(JsonParser p, String type, int size) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return size < 0
+                    ? HexChars.bytes(p.getTextCharacters(), p.getTextOffset(), p.getTextLength())
+                    : HexChars.bytes(p.getTextCharacters(), p.getTextOffset(), p.getTextLength(), size);
+            } catch (IllegalArgumentException e) {
+                throw invalidValue(p, type, e);
+            }
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        throw invalidType(p, type);
+    }
+
+    /**
+     * @param p parser
+     * @return data, or null if the value is null, empty or just {@code 0x}
+     */
+    protected HexData readData(JsonParser p) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_STRING
+            && HexChars.isEmpty(p.getTextCharacters(), p.getTextOffset(), p.getTextLength())) {
+            return null;
+        }
+        byte[] bytes = readBytes(p, "HexData", -1);
+        return bytes == null ? null : new HexData(bytes);
+    }
+
+    protected Hex32 readData32(JsonParser p) throws IOException {
+        byte[] bytes = readBytes(p, "Hex32", Hex32.SIZE_BYTES);
+        return bytes == null ? null : Hex32.from(bytes);
+    }
+
+    protected Address readAddress(JsonParser p) throws IOException {
+        byte[] bytes = readBytes(p, "Address", Address.SIZE_BYTES);
+        return bytes == null ? null : Address.from(bytes);
+    }
+
+    protected TransactionId readTxHash(JsonParser p) throws IOException {
+        byte[] bytes = readBytes(p, "TransactionId", TransactionId.SIZE_BYTES);
+        return bytes == null ? null : TransactionId.from(bytes);
+    }
+
+    protected BlockHash readBlockHash(JsonParser p) throws IOException {
+        byte[] bytes = readBytes(p, "BlockHash", BlockHash.SIZE_BYTES);
+        return bytes == null ? null : BlockHash.from(bytes);
+    }
+
+    protected Bloom readBloom(JsonParser p) throws IOException {
+        byte[] bytes = readBytes(p, "Bloom", Bloom.SIZE_BYTES);
+        return bytes == null ? null : new Bloom(bytes);
+    }
+
+    /**
+     * Read a boolean value. Values other than true, false or null, such as an empty string, are coerced by the context
+     * the same way as for a {@link Boolean} property of a bean.
+     */
+    protected Boolean readBoolean(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_TRUE) {
+            return Boolean.TRUE;
+        }
+        if (token == JsonToken.VALUE_FALSE) {
+            return Boolean.FALSE;
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ctxt.readValue(p, Boolean.class);
+    }
+
+    protected String readString(JsonParser p) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isScalarValue()) {
+            return p.getText();
+        }
+        throw invalidType(p, "String");
+    }
+
+    /**
+     * Read an array of values
+     *
+     * @param p parser at START_ARRAY
+     * @param ctxt context
+     * @param reader reader of an element, called with the parser at the first token of the element, except a null element
+     * @return list of the elements, or null if the value is null
+     */
+    protected <V> List<V> readList(JsonParser p, DeserializationContext ctxt, ValueReader<V> reader) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw invalidType(p, "Array");
+        }
+        List<V> result = new ArrayList<>();
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            result.add(token == JsonToken.VALUE_NULL ? null : reader.read(p, ctxt));
+        }
+        return result;
+    }
 }
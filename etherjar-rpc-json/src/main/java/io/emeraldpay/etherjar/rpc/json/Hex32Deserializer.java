@@ -23,9 +23,9 @@ public class Hex32Deserializer extends StdDeserializer<Hex32> {
         JsonToken token = p.currentToken();
         if (token == JsonToken.VALUE_STRING) {
             try {
-                return Hex32.from(p.getValueAsString());
+                return Hex32.from(HexChars.bytes(p.getTextCharacters(), p.getTextOffset(), p.getTextLength(), Hex32.SIZE_BYTES));
             } catch (Throwable t) {
-                throw JsonMappingException.from(p,"Invalid Hex32 value: " + p.getValueAsString(), t);
+                throw JsonMappingException.from(p,"Invalid Hex32 value: " + p.getText(), t);
             }
         }
         if (token == JsonToken.VALUE_NULL) {
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json;
+
+import java.math.BigInteger;
+
+/**
+ * Parses hex values directly from a character buffer, such as the text buffer of a {@link com.fasterxml.jackson.core.JsonParser}
+ * (see {@code getTextCharacters()}), without creating an intermediate {@link String} for each value.
+ */
+final class HexChars {
+
+    /**
+     * Max number of hex digits which always fit into a positive {@code long}
+     */
+    private static final int SAFE_LONG_DIGITS = 15;
+
+    private HexChars() {
+    }
+
+    private static int digit(char[] buf, int pos, int offset, int length) {
+        char c = buf[pos];
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        throw new IllegalArgumentException("Invalid hex character in: " + new String(buf, offset, length));
+    }
+
+    private static boolean hasPrefix(char[] buf, int offset, int length) {
+        return length >= 2 && buf[offset] == '0' && buf[offset + 1] == 'x';
+    }
+
+    /**
+     * @return true if the value is empty or just {@code 0x}
+     */
+    static boolean isEmpty(char[] buf, int offset, int length) {
+        return length == 0 || (length == 2 && hasPrefix(buf, offset, length));
+    }
+
+    /**
+     * Parse {@code 0x} prefixed hex data. An odd number of digits is treated as if it has a leading zero.
+     *
+     * @param buf the buffer
+     * @param offset position of the value in the buffer
+     * @param length length of the value
+     * @return bytes of the data
+     * @throws IllegalArgumentException if the value is not a valid hex data
+     */
+    static byte[] bytes(char[] buf, int offset, int length) {
+        byte[] bytes = new byte[size(length)];
+        decode(buf, offset, length, bytes, 0);
+        return bytes;
+    }
+
+    /**
+     * @param length length of a {@code 0x} prefixed hex data
+     * @return number of bytes in the data
+     */
+    static int size(int length) {
+        return (length - 1) / 2;
+    }
+
+    /**
+     * Parse {@code 0x} prefixed hex data into an existing array. An odd number of digits is treated as if it has a leading zero.
+     *
+     * @param buf the buffer
+     * @param offset position of the value in the buffer
+     * @param length length of the value
+     * @param dest target array, must have at least {@link #size(int)} bytes after the position
+     * @param destOffset position in the target array
+     * @return number of bytes written
+     * @throws IllegalArgumentException if the value is not a valid hex data
+     */
+    static int decode(char[] buf, int offset, int length, byte[] dest, int destOffset) {
+        if (!hasPrefix(buf, offset, length)) {
+            throw new IllegalArgumentException("Hex Data must start with 0x prefix: " + new String(buf, offset, length));
+        }
+        int digits = length - 2;
+        int pos = offset + 2;
+        int end = offset + length;
+        int outputPos = destOffset;
+        if (digits % 2 != 0) {
+            dest[outputPos++] = (byte) digit(buf, pos++, offset, length);
+        }
+        while (pos < end) {
+            int high = digit(buf, pos, offset, length);
+            int low = digit(buf, pos + 1, offset, length);
+            dest[outputPos++] = (byte) ((high << 4) | low);
+            pos += 2;
+        }
+        return outputPos - destOffset;
+    }
+
+    /**
+     * Parse {@code 0x} prefixed hex data of the exact size
+     *
+     * @param buf the buffer
+     * @param offset position of the value in the buffer
+     * @param length length of the value
+     * @param size expected number of bytes
+     * @return bytes of the data
+     * @throws IllegalArgumentException if the value is not a valid hex data, or has a different size
+     */
+    static byte[] bytes(char[] buf, int offset, int length, int size) {
+        if (length != 2 + size * 2) {
+            throw new IllegalArgumentException("Invalid input length: " + length + " != " + (2 + size * 2));
+        }
+        return bytes(buf, offset, length);
+    }
+
+    /**
+     * Parse a hex quantity, like {@code 0x1f} or {@code -0x1f}, which must fit into {@code long}
+     *
+     * @param buf the buffer
+     * @param offset position of the value in the buffer
+     * @param length length of the value
+     * @return the number
+     * @throws IllegalArgumentException if the value is not a valid quantity, or doesn't fit into {@code long}
+     */
+    static long quantity(char[] buf, int offset, int length) {
+        boolean negative = length > 0 && buf[offset] == '-';
+        int start = negative ? offset + 1 : offset;
+        int end = offset + length;
+        if (!hasPrefix(buf, start, end - start) || end - start == 2) {
+            throw new IllegalArgumentException("Invalid quantity value: " + new String(buf, offset, length));
+        }
+        int pos = start + 2;
+        while (pos < end - 1 && buf[pos] == '0') {
+            pos++;
+        }
+        if (end - pos > 16) {
+            throw new IllegalArgumentException("Quantity value doesn't fit into long: " + new String(buf, offset, length));
+        }
+        long value = 0;
+        while (pos < end) {
+            value = (value << 4) | digit(buf, pos++, offset, length);
+        }
+        if (value < 0 && !(negative && value == Long.MIN_VALUE)) {
+            throw new IllegalArgumentException("Quantity value doesn't fit into long: " + new String(buf, offset, length));
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parse the lower 64 bits of a hex quantity of any size, same as {@link BigInteger#longValue()} of it
+     *
+     * @param buf the buffer
+     * @param offset position of the value in the buffer
+     * @param length length of the value
+     * @return the lower 64 bits of the number
+     * @throws IllegalArgumentException if the value is not a valid quantity
+     */
+    static long truncatedQuantity(char[] buf, int offset, int length) {
+        boolean negative = length > 0 && buf[offset] == '-';
+        int digits = negative ? length - 3 : length - 2;
+        if (digits <= SAFE_LONG_DIGITS) {
+            return quantity(buf, offset, length);
+        }
+        return bigQuantity(buf, offset, length).longValue();
+    }
+
+    /**
+     * Find the first significant digit of a non-negative hex quantity of up to 128 bits
+     *
+     * @return position of the first digit after the leading zeroes
+     * @throws IllegalArgumentException if the value is not a valid quantity, or doesn't fit into 128 bits
+     */
+    private static int start128(char[] buf, int offset, int length) {
+        if (!hasPrefix(buf, offset, length) || length == 2) {
+            throw new IllegalArgumentException("Invalid quantity value: " + new String(buf, offset, length));
+        }
+        int end = offset + length;
+        int pos = offset + 2;
+        while (pos < end - 1 && buf[pos] == '0') {
+            pos++;
+        }
+        if (end - pos > 32) {
+            throw new IllegalArgumentException("Quantity value doesn't fit into 128 bits: " + new String(buf, offset, length));
+        }
+        return pos;
+    }
+
+    private static long digits(char[] buf, int from, int to, int offset, int length) {
+        long value = 0;
+        for (int pos = from; pos < to; pos++) {
+            value = (value << 4) | digit(buf, pos, offset, length);
+        }
+        return value;
+    }
+
+    /**
+     * Parse the lower 64 bits of a non-negative hex quantity of up to 128 bits, like a {@link io.emeraldpay.etherjar.domain.Wei} amount
+     *
+     * @param buf the buffer
+     * @param offset position of the value in the buffer
+     * @param length length of the value
+     * @return the lower 64 bits, as an unsigned value
+     * @throws IllegalArgumentException if the value is not a valid quantity, or doesn't fit into 128 bits
+     * @see #quantityHigh(char[], int, int)
+     */
+    static long quantityLow(char[] buf, int offset, int length) {
+        int start = start128(buf, offset, length);
+        int end = offset + length;
+        return digits(buf, Math.max(start, end - 16), end, offset, length);
+    }
+
+    /**
+     * Parse the higher 64 bits of a non-negative hex quantity of up to 128 bits
+     *
+     * @param buf the buffer
+     * @param offset position of the value in the buffer
+     * @param length length of the value
+     * @return the higher 64 bits, as an unsigned value
+     * @throws IllegalArgumentException if the value is not a valid quantity, or doesn't fit into 128 bits
+     * @see #quantityLow(char[], int, int)
+     */
+    static long quantityHigh(char[] buf, int offset, int length) {
+        int start = start128(buf, offset, length);
+        int end = offset + length;
+        return digits(buf, start, Math.max(start, end - 16), offset, length);
+    }
+
+    /**
+     * Parse a hex quantity, like {@code 0x1f} or {@code -0x1f}, of any size
+     *
+     * @param buf the buffer
+     * @param offset position of the value in the buffer
+     * @param length length of the value
+     * @return the number
+     * @throws IllegalArgumentException if the value is not a valid quantity
+     */
+    static BigInteger bigQuantity(char[] buf, int offset, int length) {
+        boolean negative = length > 0 && buf[offset] == '-';
+        int digits = negative ? length - 3 : length - 2;
+        if (digits <= SAFE_LONG_DIGITS) {
+            return BigInteger.valueOf(quantity(buf, offset, length));
+        }
+        int start = negative ? offset + 1 : offset;
+        if (!hasPrefix(buf, start, length - (start - offset))) {
+            throw new IllegalArgumentException("Invalid quantity value: " + new String(buf, offset, length));
+        }
+        BigInteger value = new BigInteger(1, bytes(buf, start, length - (start - offset)));
+        return negative ? value.negate() : value;
+    }
+}
@@ -20,17 +20,16 @@ public class HexDataDeserializer extends StdDeserializer<HexData> {
     public HexData deserialize(JsonParser p, DeserializationContext ctxt) throws IOException, JsonProcessingException {
         JsonToken token = p.currentToken();
         if (token == JsonToken.VALUE_STRING) {
-            String value = p.getValueAsString();
-            if ("0x".equals(value)) {
-                return null;
-            }
-            if ("".equals(value)) {
+            char[] buf = p.getTextCharacters();
+            int offset = p.getTextOffset();
+            int length = p.getTextLength();
+            if (HexChars.isEmpty(buf, offset, length)) {
                 return null;
             }
             try {
-                return HexData.from(value);
+                return new HexData(HexChars.bytes(buf, offset, length));
             } catch (Throwable t) {
-                throw JsonMappingException.from(p,"Invalid HexData value: " + p.getValueAsString(), t);
+                throw JsonMappingException.from(p,"Invalid HexData value: " + p.getText(), t);
             }
         }
         if (token == JsonToken.VALUE_NULL) {
@@ -6,7 +6,6 @@ import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import io.emeraldpay.etherjar.hex.HexQuantity;
 
 import java.io.IOException;
 
@@ -24,9 +23,9 @@ public class HexIntDeserializer extends StdDeserializer<Integer> {
         JsonToken token = p.currentToken();
         if (token == JsonToken.VALUE_STRING) {
             try {
-                return HexQuantity.from(p.getValueAsString()).getValue().intValueExact();
+                return Math.toIntExact(HexChars.quantity(p.getTextCharacters(), p.getTextOffset(), p.getTextLength()));
             } catch (Throwable t) {
-                throw JsonMappingException.from(p,"Invalid HexQuantity value: " + p.getValueAsString(), t);
+                throw JsonMappingException.from(p,"Invalid HexQuantity value: " + p.getText(), t);
             }
         }
         if (token == JsonToken.VALUE_NUMBER_INT) {
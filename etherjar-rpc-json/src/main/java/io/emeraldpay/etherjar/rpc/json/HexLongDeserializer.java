@@ -26,9 +26,9 @@ public class HexLongDeserializer extends StdDeserializer<Long> {
         JsonToken token = p.currentToken();
         if (token == JsonToken.VALUE_STRING) {
             try {
-                return HexQuantity.from(p.getValueAsString()).getValue().longValueExact();
+                return HexChars.quantity(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
             } catch (Throwable t) {
-                throw JsonMappingException.from(p,"Invalid HexQuantity value: " + p.getValueAsString(), t);
+                throw JsonMappingException.from(p,"Invalid HexQuantity value: " + p.getText(), t);
             }
         }
         if (token == JsonToken.VALUE_NUMBER_INT) {
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json;
+
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.hex.Hex32;
+
+import java.util.*;
+
+/**
+ * A filter of logs by the contract address and the first topic (i.e., the event id for a non-anonymous event).
+ * Empty set of addresses or topics matches any value.
+ *
+ * <p>Set with a {@link Projection} (see {@link Projection#withLogFilter(LogFilter)}) it makes the stream deserializer of
+ * receipts to drop non-matching logs right when their {@code address} or {@code topics} is read, and skip the rest of
+ * the log on the token level:
+ *
+ * <pre>{@code
+ * LogFilter filter = LogFilter.newBuilder()
+ *     .address(token)
+ *     .topic(ERC20Event.TRANSFER.getEventId())
+ *     .build();
+ *
+ * Commands.eth().getTransactionReceipt(hash)
+ *     .withLogFilter(filter)
+ * }</pre>
+ */
+public final class LogFilter {
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private final Set<Address> addresses = new HashSet<>();
+        private final Set<Hex32> topics = new HashSet<>();
+
+        /**
+         * @param address contract address to accept logs from
+         * @return self
+         */
+        public Builder address(Address address) {
+            addresses.add(Objects.requireNonNull(address));
+            return this;
+        }
+
+        /**
+         * @param addresses contract addresses to accept logs from
+         * @return self
+         */
+        public Builder addresses(Collection<Address> addresses) {
+            addresses.forEach(this::address);
+            return this;
+        }
+
+        /**
+         * @param topic first topic of the log to accept, usually an {@link io.emeraldpay.etherjar.domain.EventId}
+         * @return self
+         */
+        public Builder topic(Hex32 topic) {
+            topics.add(Objects.requireNonNull(topic));
+            return this;
+        }
+
+        /**
+         * @param topics first topics of the logs to accept
+         * @return self
+         */
+        public Builder topics(Collection<? extends Hex32> topics) {
+            topics.forEach(this::topic);
+            return this;
+        }
+
+        /**
+         * @return a filter
+         * @throws IllegalArgumentException if there are neither addresses nor topics
+         */
+        public LogFilter build() {
+            if (addresses.isEmpty() && topics.isEmpty()) {
+                throw new IllegalArgumentException("Log filter must include at least one address or topic");
+            }
+            return new LogFilter(new HashSet<>(addresses), new HashSet<>(topics));
+        }
+    }
+
+    private final Set<Address> addresses;
+    private final Set<Hex32> topics;
+
+    private LogFilter(Set<Address> addresses, Set<Hex32> topics) {
+        this.addresses = addresses;
+        this.topics = topics;
+    }
+
+    /**
+     * @return accepted addresses, empty if any address is accepted
+     */
+    public Set<Address> getAddresses() {
+        return Collections.unmodifiableSet(addresses);
+    }
+
+    /**
+     * @return accepted first topics, empty if any topic is accepted
+     */
+    public Set<Hex32> getTopics() {
+        return Collections.unmodifiableSet(topics);
+    }
+
+    /**
+     * @return true if the filter checks the address
+     */
+    public boolean hasAddresses() {
+        return !addresses.isEmpty();
+    }
+
+    /**
+     * @return true if the filter checks the first topic
+     */
+    public boolean hasTopics() {
+        return !topics.isEmpty();
+    }
+
+    /**
+     * @param address address of a log, may be null
+     * @return true if a log with such address may match the filter
+     */
+    public boolean matchesAddress(Address address) {
+        return addresses.isEmpty() || (address != null && addresses.contains(address));
+    }
+
+    /**
+     * @param topic first topic of a log, may be null if the log has no topics
+     * @return true if a log with such first topic may match the filter
+     */
+    public boolean matchesTopic(Hex32 topic) {
+        return topics.isEmpty() || (topic != null && topics.contains(topic));
+    }
+
+    /**
+     * @param log a log
+     * @return true if the log matches the filter
+     */
+    public boolean matches(TransactionLogJson log) {
+        List<Hex32> logTopics = log.getTopics();
+        Hex32 topic = logTopics == null || logTopics.isEmpty() ? null : logTopics.get(0);
+        return matchesAddress(log.getAddress()) && matchesTopic(topic);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LogFilter)) return false;
+        LogFilter that = (LogFilter) o;
+        return addresses.equals(that.addresses) && topics.equals(that.topics);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(addresses, topics);
+    }
+
+    @Override
+    public String toString() {
+        return "LogFilter{" +
+            "addresses=" + addresses +
+            ", topics=" + topics +
+            '}';
+    }
+}
@@ -21,9 +21,9 @@ public class MethodIdDeserializer extends StdDeserializer<MethodId> {
         JsonToken token = p.currentToken();
         if (token == JsonToken.VALUE_STRING) {
             try {
-                return MethodId.from(p.getValueAsString());
+                return MethodId.from(HexChars.bytes(p.getTextCharacters(), p.getTextOffset(), p.getTextLength(), MethodId.SIZE_BYTES));
             } catch (Throwable t) {
-                throw JsonMappingException.from(p,"Invalid MethodId value: " + p.getValueAsString(), t);
+                throw JsonMappingException.from(p,"Invalid MethodId value: " + p.getText(), t);
             }
         }
         if (token == JsonToken.VALUE_NULL) {
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import java.util.*;
+
+/**
+ * A set of fields to read from a JSON object, like {@code number}, {@code hash} and {@code transactions.hash} for
+ * a block. Fields of nested objects, or objects in an array, are separated by a dot. A field without nested fields
+ * is read completely.
+ *
+ * <p>The stream deserializers of blocks, transactions, receipts and logs skip other fields on the token level,
+ * without parsing them, and leave them {@code null}. A projection is passed to them as an attribute of
+ * the {@link DeserializationContext}:
+ *
+ * <pre>{@code
+ * objectMapper.readerFor(BlockJson.class)
+ *     .withAttribute(Projection.ATTRIBUTE, Projection.of("number", "hash", "parentHash", "timestamp", "transactions.hash"))
+ *     .readValue(json);
+ * }</pre>
+ *
+ * Or with {@link io.emeraldpay.etherjar.rpc.RpcCall#withProjection(Projection)} for an RPC call.
+ *
+ * <p>A projection may also have a {@link LogFilter}, in which case only matching logs are read into receipts.
+ */
+public final class Projection {
+
+    /**
+     * Key of the {@link DeserializationContext} attribute with the projection
+     */
+    public static final Object ATTRIBUTE = Projection.class;
+
+    /**
+     * Projection which includes all fields
+     */
+    public static final Projection ALL = new Projection(null, null);
+
+    /**
+     * Included fields with their projections, or null if all fields are included
+     */
+    private final Map<String, Projection> fields;
+
+    private final LogFilter logFilter;
+
+    private Projection(Map<String, Projection> fields, LogFilter logFilter) {
+        this.fields = fields;
+        this.logFilter = logFilter;
+    }
+
+    /**
+     * @param paths fields to include, like {@code number} or {@code transactions.hash}
+     * @return a projection with the specified fields
+     * @throws IllegalArgumentException if there are no fields or a field is empty
+     */
+    public static Projection of(String... paths) {
+        return of(Arrays.asList(paths));
+    }
+
+    /**
+     * @param paths fields to include, like {@code number} or {@code transactions.hash}
+     * @return a projection with the specified fields
+     * @throws IllegalArgumentException if there are no fields or a field is empty
+     */
+    public static Projection of(Collection<String> paths) {
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException("Projection must include at least one field");
+        }
+        Map<String, Object> tree = new HashMap<>();
+        for (String path : paths) {
+            add(tree, path);
+        }
+        return build(tree);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void add(Map<String, Object> tree, String path) {
+        String[] names = path.split("\\.", -1);
+        Map<String, Object> current = tree;
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i];
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Invalid projection field: '" + path + "'");
+            }
+            boolean last = i == names.length - 1;
+            if (current.containsKey(name)) {
+                Map<String, Object> nested = (Map<String, Object>) current.get(name);
+                if (nested == null) {
+                    // the whole field is already included
+                    return;
+                }
+                if (last) {
+                    current.put(name, null);
+                    return;
+                }
+                current = nested;
+            } else if (last) {
+                current.put(name, null);
+            } else {
+                Map<String, Object> nested = new HashMap<>();
+                current.put(name, nested);
+                current = nested;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Projection build(Map<String, Object> tree) {
+        Map<String, Projection> fields = new HashMap<>(tree.size() * 2);
+        tree.forEach((name, nested) ->
+            fields.put(name, nested == null ? ALL : build((Map<String, Object>) nested))
+        );
+        return new Projection(Collections.unmodifiableMap(fields), null);
+    }
+
+    /**
+     * @param ctxt current deserialization context
+     * @return projection set as the {@link #ATTRIBUTE} of the context, or {@link #ALL} if it's not set
+     */
+    public static Projection from(DeserializationContext ctxt) {
+        Object value = ctxt.getAttribute(ATTRIBUTE);
+        return value instanceof Projection ? (Projection) value : ALL;
+    }
+
+    /**
+     * The filter applies to logs at any level, so nested projections get it too.
+     *
+     * @param logFilter filter of logs, or null to read all logs
+     * @return a copy of the projection with the filter
+     */
+    public Projection withLogFilter(LogFilter logFilter) {
+        Map<String, Projection> copy = null;
+        if (fields != null) {
+            copy = new HashMap<>(fields.size() * 2);
+            for (Map.Entry<String, Projection> e : fields.entrySet()) {
+                copy.put(e.getKey(), e.getValue().withLogFilter(logFilter));
+            }
+            copy = Collections.unmodifiableMap(copy);
+        }
+        return new Projection(copy, logFilter);
+    }
+
+    /**
+     * @return filter of logs, or null if all logs are read
+     */
+    public LogFilter getLogFilter() {
+        return logFilter;
+    }
+
+    /**
+     * @return true if all fields are included
+     */
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    /**
+     * @param field field name
+     * @return true if the field is included, completely or partially
+     */
+    public boolean includes(String field) {
+        return fields == null || fields.containsKey(field);
+    }
+
+    /**
+     * @param field field name
+     * @return projection of the field value, which includes all fields if it's included completely, or null if it's not included
+     */
+    public Projection get(String field) {
+        if (fields == null) {
+            return this;
+        }
+        return fields.get(field);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Projection)) return false;
+        Projection that = (Projection) o;
+        return Objects.equals(fields, that.fields) && Objects.equals(logFilter, that.logFilter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fields, logFilter);
+    }
+
+    @Override
+    public String toString() {
+        String result;
+        if (fields == null) {
+            result = "*";
+        } else {
+            List<String> paths = new ArrayList<>();
+            collect("", paths);
+            Collections.sort(paths);
+            result = String.join(",", paths);
+        }
+        return logFilter == null ? result : result + " " + logFilter;
+    }
+
+    private void collect(String prefix, List<String> paths) {
+        fields.forEach((name, nested) -> {
+            if (nested.isAll()) {
+                paths.add(prefix + name);
+            } else {
+                nested.collect(prefix + name + ".", paths);
+            }
+        });
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Verbatim JSON value, as UTF-8 bytes, used as a result type to pass a response through without mapping it to objects
+ * (see {@link io.emeraldpay.etherjar.rpc.RpcCall#raw(String, Object...)}).
+ *
+ * <p>When the response is parsed from a byte array the value is a slice of that array, i.e., it's not copied, otherwise
+ * the tokens of the value are copied as is. In both cases the bytes are never modified, so the instance is immutable as
+ * long as the source is not modified.
+ */
+@JsonDeserialize(using = RawJsonDeserializer.class)
+@JsonSerialize(using = RawJsonSerializer.class)
+public final class RawJson {
+
+    private final ByteBuffer value;
+
+    private RawJson(ByteBuffer value) {
+        this.value = value;
+    }
+
+    /**
+     * @param json JSON value
+     * @return wrapped value
+     */
+    public static RawJson of(String json) {
+        return wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param bytes UTF-8 bytes of a JSON value, not copied
+     * @return wrapped value
+     */
+    public static RawJson wrap(byte[] bytes) {
+        return wrap(bytes, 0, bytes.length);
+    }
+
+    /**
+     * @param bytes buffer with UTF-8 bytes of a JSON value, not copied
+     * @param offset position of the value
+     * @param length length of the value
+     * @return wrapped value
+     */
+    public static RawJson wrap(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return new RawJson(ByteBuffer.wrap(bytes, offset, length).slice());
+    }
+
+    /**
+     * @param buffer buffer with UTF-8 bytes of a JSON value between its position and limit, not copied
+     * @return wrapped value
+     */
+    public static RawJson wrap(ByteBuffer buffer) {
+        return new RawJson(buffer.slice());
+    }
+
+    /**
+     * @return length of the JSON in bytes
+     */
+    public int size() {
+        return value.remaining();
+    }
+
+    /**
+     * @return read-only view of the UTF-8 bytes
+     */
+    public ByteBuffer asByteBuffer() {
+        return value.asReadOnlyBuffer();
+    }
+
+    /**
+     * @return stream of the UTF-8 bytes
+     */
+    public InputStream asInputStream() {
+        return new ByteBufferBackedInputStream(asByteBuffer());
+    }
+
+    /**
+     * @return a copy of the UTF-8 bytes
+     */
+    public byte[] getBytes() {
+        byte[] copy = new byte[value.remaining()];
+        value.duplicate().get(copy);
+        return copy;
+    }
+
+    /**
+     * Write the JSON to the output. The output is not flushed or closed.
+     *
+     * @param output output
+     */
+    public void writeTo(OutputStream output) throws IOException {
+        if (value.hasArray()) {
+            output.write(value.array(), value.arrayOffset() + value.position(), value.remaining());
+        } else {
+            Channels.newChannel(output).write(value.duplicate());
+        }
+    }
+
+    /**
+     * @return the JSON
+     */
+    @Override
+    public String toString() {
+        if (value.hasArray()) {
+            return new String(value.array(), value.arrayOffset() + value.position(), value.remaining(), StandardCharsets.UTF_8);
+        }
+        return StandardCharsets.UTF_8.decode(value.duplicate()).toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RawJson)) return false;
+        RawJson rawJson = (RawJson) o;
+        return value.equals(rawJson.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Reads a {@link RawJson} as a slice of the source byte array, if it's set as the {@link #SOURCE} attribute of the context.
+ * Otherwise, copies the tokens of the value.
+ */
+public class RawJsonDeserializer extends JsonDeserializer<RawJson> {
+
+    /**
+     * Key of the {@link DeserializationContext} attribute with the byte array which is being parsed
+     */
+    public static final Object SOURCE = RawJson.class;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Override
+    public RawJson deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Object source = ctxt.getAttribute(SOURCE);
+        // a parser over a buffer of tokens (i.e., a TokenBuffer) doesn't have byte offsets
+        long start = p.currentTokenLocation().getByteOffset();
+        if (source instanceof byte[] && start >= 0) {
+            p.skipChildren();
+            p.finishToken();
+            long end = p.currentLocation().getByteOffset();
+            return RawJson.wrap((byte[]) source, (int) start, (int) (end - start));
+        }
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(copy)) {
+            generator.copyCurrentStructure(p);
+        }
+        return RawJson.wrap(copy.toByteArray());
+    }
+}
@@ -0,0 +1,671 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json;
+
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.AddressDictionary;
+import io.emeraldpay.etherjar.domain.Wei;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Merges state diffs of many transactions, as in {@code stateDiff} of {@code trace_replayBlockTransactions}, into
+ * the net change of the state over the whole range. For each value only the state before the first change and after
+ * the last change is kept, and a value which got back to its original state is not included into the result.
+ *
+ * <p>The diffs must be added in the order of execution. As a {@link TraceVisitor} it can be passed directly to
+ * {@link io.emeraldpay.etherjar.rpc.TraceStreamReader}, so the diffs of a block are never kept in memory:
+ *
+ * <pre>{@code
+ * try (StateDiffAggregator aggregator = new StateDiffAggregator(1_000_000, Path.of("/tmp"))) {
+ *     for (long height = from; height < to; height++) {
+ *         reader.readReplays(replayBlock(height), aggregator);
+ *     }
+ *     aggregator.visit(new TraceVisitor() {
+ *         public void onStateDiff(Address address, StateDiffJson.AddressDiff diff) {
+ *             ...
+ *         }
+ *     });
+ * }
+ * }</pre>
+ *
+ * <p>Storage changes, which are the largest part of the diffs, are kept in primitive arrays keyed by an id of the
+ * address (see {@link AddressDictionary}) and the slot. With a limit, when the number of distinct slots in memory
+ * reaches it, the slots are sorted and written to a temporary file, and the files are merged when the result is read.
+ * The addresses and the changes of balance, nonce and code are always kept in memory, one entry per changed account.
+ *
+ * <p>The aggregator is not thread safe.
+ */
+public class StateDiffAggregator implements TraceVisitor, Closeable {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final AddressDictionary addresses = new AddressDictionary();
+    private final List<Account> accounts = new ArrayList<>();
+    private final StorageTable storage;
+
+    private final int maxSlots;
+    private final Path spillDir;
+    private final List<Path> runs = new ArrayList<>();
+    private boolean closed = false;
+
+    /**
+     * Aggregator which keeps everything in memory
+     */
+    public StateDiffAggregator() {
+        this.maxSlots = Integer.MAX_VALUE;
+        this.spillDir = null;
+        this.storage = new StorageTable(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Aggregator which keeps up to the specified number of storage slots in memory, and writes them to temporary files
+     * in the directory when there are more
+     *
+     * @param maxSlots max number of distinct storage slots kept in memory
+     * @param spillDir directory for temporary files
+     */
+    public StateDiffAggregator(int maxSlots, Path spillDir) {
+        if (maxSlots <= 0) {
+            throw new IllegalArgumentException("Max slots must be positive: " + maxSlots);
+        }
+        this.maxSlots = maxSlots;
+        this.spillDir = Objects.requireNonNull(spillDir);
+        this.storage = new StorageTable(Math.min(maxSlots, DEFAULT_CAPACITY));
+    }
+
+    /**
+     * Add a diff of a transaction
+     *
+     * @param diff state diff, null is ignored
+     * @throws UncheckedIOException if it failed to write a temporary file
+     * @throws IllegalStateException if the aggregator is closed
+     */
+    public void add(StateDiffJson diff) {
+        checkOpen();
+        if (diff == null) {
+            return;
+        }
+        for (Map.Entry<Address, StateDiffJson.AddressDiff> e : diff.getChanges().entrySet()) {
+            onStateDiff(e.getKey(), e.getValue());
+        }
+    }
+
+    @Override
+    public void onStateDiff(Address address, StateDiffJson.AddressDiff diff) {
+        checkOpen();
+        if (diff == null) {
+            return;
+        }
+        int id = addresses.add(address);
+        if (id == accounts.size()) {
+            accounts.add(new Account());
+        }
+        Account account = accounts.get(id);
+        account.balance.add(diff.getBalance());
+        account.nonce.add(diff.getNonce());
+        account.code.add(diff.getCode());
+        for (Map.Entry<Hex32, StateDiffJson.Change<Hex32>> e : diff.getStorage().entrySet()) {
+            addStorage(id, e.getKey(), e.getValue());
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Aggregator is closed");
+        }
+    }
+
+    private void addStorage(int addressId, Hex32 slot, StateDiffJson.Change<Hex32> change) {
+        if (change == null || !change.hasChanged()) {
+            return;
+        }
+        if (storage.size() == maxSlots && storage.find(addressId, slot) < 0) {
+            spill();
+        }
+        int entry = storage.add(addressId, slot);
+        storage.change(entry, change);
+    }
+
+    private void spill() {
+        try {
+            Path run = Files.createTempFile(spillDir, "statediff-", ".run");
+            runs.add(run);
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run)))) {
+                for (int entry : storage.sorted()) {
+                    storage.write(entry, output);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write state diff to " + spillDir, e);
+        }
+        storage.clear();
+    }
+
+    /**
+     * @return number of accounts with a change, including the ones which got back to their original state
+     */
+    public int getAccountsCount() {
+        return addresses.size();
+    }
+
+    /**
+     * @return number of temporary files written so far
+     */
+    int getSpillsCount() {
+        return runs.size();
+    }
+
+    /**
+     * Hand over the net changes to the visitor, one account at a time, in the order the accounts were first changed.
+     * Accounts without a net change are skipped. The aggregator can be read multiple times, and more diffs can be added
+     * after that.
+     *
+     * <p>Storage slots are merged from the temporary files one at a time, but the net changes of an account are passed
+     * as a single {@link StateDiffJson.AddressDiff}, so the changed slots of one account must fit into memory.
+     *
+     * @param visitor visitor of the changes
+     * @throws UncheckedIOException if it failed to read a temporary file
+     * @throws IllegalStateException if the aggregator is closed
+     */
+    public void visit(TraceVisitor visitor) {
+        checkOpen();
+        List<Source> sources = new ArrayList<>(runs.size() + 1);
+        long[] key = new long[StorageTable.WORDS];
+        long[] before = new long[StorageTable.WORDS];
+        long[] after = new long[StorageTable.WORDS];
+        try {
+            for (Path run : runs) {
+                sources.add(new RunSource(run));
+            }
+            sources.add(new MemorySource(storage));
+            for (Source source : sources) {
+                source.next();
+            }
+            for (int id = 0; id < addresses.size(); id++) {
+                StateDiffJson.AddressDiff diff = accounts.get(id).toDiff();
+                // each source is sorted by slot, so the smallest current slot of the sources is the next one to merge
+                Source first;
+                while ((first = smallest(sources, id)) != null) {
+                    System.arraycopy(first.slot, 0, key, 0, StorageTable.WORDS);
+                    int beforeFlags = -1;
+                    int afterFlags = 0;
+                    // sources are in the order of execution, so a later source has a later state of the same slot
+                    for (Source source : sources) {
+                        if (source.addressId != id || !Arrays.equals(source.slot, key)) {
+                            continue;
+                        }
+                        if (beforeFlags < 0) {
+                            beforeFlags = source.flags;
+                            System.arraycopy(source.before, 0, before, 0, StorageTable.WORDS);
+                        }
+                        afterFlags = source.flags;
+                        System.arraycopy(source.after, 0, after, 0, StorageTable.WORDS);
+                        source.next();
+                    }
+                    boolean existsBefore = (beforeFlags & StorageTable.EXISTS_BEFORE) != 0;
+                    boolean existsAfter = (afterFlags & StorageTable.EXISTS_AFTER) != 0;
+                    StateDiffJson.Change<Hex32> change = netChange(
+                        existsBefore, existsBefore ? StorageTable.toHex32(before, 0) : null,
+                        existsAfter, existsAfter ? StorageTable.toHex32(after, 0) : null
+                    );
+                    if (change != null) {
+                        diff.changeStorage(StorageTable.toHex32(key, 0), change);
+                    }
+                }
+                if (diff.getBalance() != null || diff.getNonce() != null || diff.getCode() != null || !diff.getStorage().isEmpty()) {
+                    visitor.onStateDiff(addresses.get(id), diff);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read state diff", e);
+        } finally {
+            for (Source source : sources) {
+                source.close();
+            }
+        }
+    }
+
+    /**
+     * @return the source with the smallest current slot of the account, or null if no source has more slots of it
+     */
+    private static Source smallest(List<Source> sources, int addressId) {
+        Source result = null;
+        for (Source source : sources) {
+            if (source.addressId == addressId && (result == null || source.compareSlot(result) < 0)) {
+                result = source;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the net changes as a single diff, which is practical only when the result fits into memory
+     *
+     * @return net state diff
+     * @throws IllegalStateException if the aggregator is closed
+     * @see #visit(TraceVisitor)
+     */
+    public StateDiffJson toStateDiff() {
+        StateDiffJson result = new StateDiffJson();
+        visit(new TraceVisitor() {
+            @Override
+            public void onStateDiff(Address address, StateDiffJson.AddressDiff diff) {
+                result.put(address, diff);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Delete the temporary files. The aggregator cannot be used after that.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Path run : runs) {
+            try {
+                Files.deleteIfExists(run);
+            } catch (IOException e) {
+                // it's in a temporary dir anyway
+            }
+        }
+        runs.clear();
+    }
+
+    private static <T> StateDiffJson.Change<T> netChange(boolean existsBefore, T before, boolean existsAfter, T after) {
+        if (existsBefore && existsAfter) {
+            return Objects.equals(before, after) ? null : new StateDiffJson.FullChange<>(before, after);
+        }
+        if (existsBefore) {
+            return new StateDiffJson.RemoveChange<>(before);
+        }
+        if (existsAfter) {
+            return new StateDiffJson.CreateChange<>(after);
+        }
+        return null;
+    }
+
+    /**
+     * Net change of an account value
+     */
+    private static class Net<T> {
+        private boolean changed = false;
+        private boolean existsBefore;
+        private T before;
+        private boolean existsAfter;
+        private T after;
+
+        void add(StateDiffJson.Change<T> change) {
+            if (change == null || !change.hasChanged()) {
+                return;
+            }
+            if (!changed) {
+                changed = true;
+                existsBefore = change.existsBefore();
+                before = change.getBefore();
+            }
+            existsAfter = change.existsAfter();
+            after = change.getAfter();
+        }
+
+        StateDiffJson.Change<T> toChange() {
+            return changed ? netChange(existsBefore, before, existsAfter, after) : null;
+        }
+    }
+
+    private static class Account {
+        private final Net<Wei> balance = new Net<>();
+        private final Net<Long> nonce = new Net<>();
+        private final Net<HexData> code = new Net<>();
+
+        StateDiffJson.AddressDiff toDiff() {
+            StateDiffJson.AddressDiff diff = new StateDiffJson.AddressDiff();
+            diff.setBalance(balance.toChange());
+            diff.setNonce(nonce.toChange());
+            diff.setCode(code.toChange());
+            return diff;
+        }
+    }
+
+    /**
+     * Hash table of storage changes keyed by an address id and a slot. A 32-byte value is stored as 4 longs.
+     */
+    private static class StorageTable {
+
+        static final int EXISTS_BEFORE = 1;
+        static final int EXISTS_AFTER = 2;
+        // the state before is already known
+        private static final int SEEN = 4;
+
+        private static final int WORDS = 4;
+
+        private int size = 0;
+
+        private int[] addressIds;
+        private long[] slots;
+        private long[] before;
+        private long[] after;
+        private byte[] flags;
+
+        // entry plus one, zero for an empty position
+        private int[] table;
+
+        StorageTable(int capacity) {
+            capacity = Math.max(capacity, 1);
+            addressIds = new int[capacity];
+            slots = new long[capacity * WORDS];
+            before = new long[capacity * WORDS];
+            after = new long[capacity * WORDS];
+            flags = new byte[capacity];
+            table = new int[tableSize(capacity)];
+        }
+
+        private static int tableSize(int capacity) {
+            int size = 2;
+            while (size < capacity * 2) {
+                size <<= 1;
+            }
+            return size;
+        }
+
+        int size() {
+            return size;
+        }
+
+        static void toWords(Hex32 value, long[] dest, int offset) {
+            for (int i = 0; i < WORDS; i++) {
+                dest[offset + i] = value.asLong(i * Long.BYTES, Long.BYTES);
+            }
+        }
+
+        static Hex32 toHex32(long[] words, int offset) {
+            byte[] bytes = new byte[Hex32.SIZE_BYTES];
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[offset + i];
+                for (int j = Long.BYTES - 1; j >= 0; j--) {
+                    bytes[i * Long.BYTES + j] = (byte) word;
+                    word >>>= 8;
+                }
+            }
+            return Hex32.from(bytes);
+        }
+
+        private int hash(int addressId, long w0, long w1, long w2, long w3) {
+            long h = addressId;
+            h = h * 31 + w0;
+            h = h * 31 + w1;
+            h = h * 31 + w2;
+            h = h * 31 + w3;
+            int result = (int) (h ^ (h >>> 32));
+            return result ^ (result >>> 16);
+        }
+
+        private int findPosition(int addressId, long w0, long w1, long w2, long w3) {
+            int mask = table.length - 1;
+            int pos = hash(addressId, w0, w1, w2, w3) & mask;
+            int entry;
+            while ((entry = table[pos]) != 0) {
+                entry--;
+                int k = entry * WORDS;
+                if (addressIds[entry] == addressId
+                    && slots[k] == w0 && slots[k + 1] == w1 && slots[k + 2] == w2 && slots[k + 3] == w3) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            return pos;
+        }
+
+        private int findPosition(int addressId, Hex32 slot) {
+            return findPosition(addressId,
+                slot.asLong(0, Long.BYTES), slot.asLong(8, Long.BYTES), slot.asLong(16, Long.BYTES), slot.asLong(24, Long.BYTES));
+        }
+
+        /**
+         * @return the entry, or -1 if there is no such slot
+         */
+        int find(int addressId, Hex32 slot) {
+            return table[findPosition(addressId, slot)] - 1;
+        }
+
+        /**
+         * @return the entry of the slot, a new entry has no flags set
+         */
+        int add(int addressId, Hex32 slot) {
+            int pos = findPosition(addressId, slot);
+            if (table[pos] != 0) {
+                return table[pos] - 1;
+            }
+            if (size == addressIds.length) {
+                int capacity = addressIds.length * 2;
+                addressIds = Arrays.copyOf(addressIds, capacity);
+                slots = Arrays.copyOf(slots, capacity * WORDS);
+                before = Arrays.copyOf(before, capacity * WORDS);
+                after = Arrays.copyOf(after, capacity * WORDS);
+                flags = Arrays.copyOf(flags, capacity);
+            }
+            int entry = size++;
+            addressIds[entry] = addressId;
+            toWords(slot, slots, entry * WORDS);
+            flags[entry] = 0;
+            if (size * 2 > table.length) {
+                rehash(table.length * 2);
+            } else {
+                table[pos] = entry + 1;
+            }
+            return entry;
+        }
+
+        private void rehash(int tableSize) {
+            table = new int[tableSize];
+            for (int entry = 0; entry < size; entry++) {
+                int k = entry * WORDS;
+                table[findPosition(addressIds[entry], slots[k], slots[k + 1], slots[k + 2], slots[k + 3])] = entry + 1;
+            }
+        }
+
+        void change(int entry, StateDiffJson.Change<Hex32> change) {
+            int current = flags[entry];
+            if ((current & SEEN) == 0) {
+                current = SEEN;
+                if (change.existsBefore()) {
+                    current |= EXISTS_BEFORE;
+                    toWords(change.getBefore(), before, entry * WORDS);
+                }
+            }
+            current &= ~EXISTS_AFTER;
+            if (change.existsAfter()) {
+                current |= EXISTS_AFTER;
+                toWords(change.getAfter(), after, entry * WORDS);
+            }
+            flags[entry] = (byte) current;
+        }
+
+        void clear() {
+            Arrays.fill(table, 0);
+            size = 0;
+        }
+
+        private int compare(int a, int b) {
+            int result = Integer.compare(addressIds[a], addressIds[b]);
+            for (int i = 0; i < WORDS && result == 0; i++) {
+                result = Long.compareUnsigned(slots[a * WORDS + i], slots[b * WORDS + i]);
+            }
+            return result;
+        }
+
+        /**
+         * @return entries ordered by address id and slot
+         */
+        int[] sorted() {
+            int[] entries = new int[size];
+            for (int i = 0; i < size; i++) {
+                entries[i] = i;
+            }
+            // heap sort, to sort primitive entries by a custom order without boxing them
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(entries, i, size);
+            }
+            for (int end = size - 1; end > 0; end--) {
+                int top = entries[0];
+                entries[0] = entries[end];
+                entries[end] = top;
+                siftDown(entries, 0, end);
+            }
+            return entries;
+        }
+
+        private void siftDown(int[] entries, int i, int end) {
+            int value = entries[i];
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= end) {
+                    break;
+                }
+                if (child + 1 < end && compare(entries[child + 1], entries[child]) > 0) {
+                    child++;
+                }
+                if (compare(entries[child], value) <= 0) {
+                    break;
+                }
+                entries[i] = entries[child];
+                i = child;
+            }
+            entries[i] = value;
+        }
+
+        void write(int entry, DataOutputStream output) throws IOException {
+            output.writeInt(addressIds[entry]);
+            output.writeByte(flags[entry]);
+            for (int i = 0; i < WORDS; i++) {
+                output.writeLong(slots[entry * WORDS + i]);
+            }
+            for (int i = 0; i < WORDS; i++) {
+                output.writeLong(before[entry * WORDS + i]);
+            }
+            for (int i = 0; i < WORDS; i++) {
+                output.writeLong(after[entry * WORDS + i]);
+            }
+        }
+    }
+
+    /**
+     * Storage changes ordered by address id and slot. The current entry is in the fields, and the address id is
+     * {@link Integer#MAX_VALUE} after the last entry.
+     */
+    private abstract static class Source {
+        int addressId;
+        int flags;
+        final long[] slot = new long[StorageTable.WORDS];
+        final long[] before = new long[StorageTable.WORDS];
+        final long[] after = new long[StorageTable.WORDS];
+
+        abstract void next() throws IOException;
+
+        /**
+         * Compare the current slots, in the same order as {@link StorageTable#sorted()}
+         */
+        int compareSlot(Source other) {
+            int result = 0;
+            for (int i = 0; i < StorageTable.WORDS && result == 0; i++) {
+                result = Long.compareUnsigned(slot[i], other.slot[i]);
+            }
+            return result;
+        }
+
+        void close() {
+        }
+    }
+
+    private static class MemorySource extends Source {
+        private final StorageTable table;
+        private final int[] entries;
+        private int pos = 0;
+
+        MemorySource(StorageTable table) {
+            this.table = table;
+            this.entries = table.sorted();
+        }
+
+        @Override
+        void next() {
+            if (pos == entries.length) {
+                addressId = Integer.MAX_VALUE;
+                return;
+            }
+            int entry = entries[pos++];
+            addressId = table.addressIds[entry];
+            flags = table.flags[entry];
+            System.arraycopy(table.slots, entry * StorageTable.WORDS, slot, 0, StorageTable.WORDS);
+            System.arraycopy(table.before, entry * StorageTable.WORDS, before, 0, StorageTable.WORDS);
+            System.arraycopy(table.after, entry * StorageTable.WORDS, after, 0, StorageTable.WORDS);
+        }
+    }
+
+    private static class RunSource extends Source {
+        private final DataInputStream input;
+
+        RunSource(Path run) throws IOException {
+            this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(run)));
+        }
+
+        @Override
+        void next() throws IOException {
+            try {
+                addressId = input.readInt();
+            } catch (EOFException e) {
+                addressId = Integer.MAX_VALUE;
+                return;
+            }
+            flags = input.readByte();
+            for (int i = 0; i < StorageTable.WORDS; i++) {
+                slot[i] = input.readLong();
+            }
+            for (int i = 0; i < StorageTable.WORDS; i++) {
+                before[i] = input.readLong();
+            }
+            for (int i = 0; i < StorageTable.WORDS; i++) {
+                after[i] = input.readLong();
+            }
+        }
+
+        @Override
+        void close() {
+            try {
+                input.close();
+            } catch (IOException e) {
+                // nothing to do for a file opened only for reading
+            }
+        }
+    }
+}
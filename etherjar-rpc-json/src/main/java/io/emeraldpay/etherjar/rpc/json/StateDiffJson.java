@@ -42,7 +42,7 @@ public class StateDiffJson {
         this.changes.put(address, diff);
     }
 
-    static class AddressDiff {
+    public static class AddressDiff {
         private Change<Wei> balance;
         private Change<HexData> code;
         private Change<Long> nonce;
@@ -86,7 +86,7 @@ public class StateDiffJson {
         }
     }
 
-    static interface Change<T> {
+    public interface Change<T> {
         T getBefore();
         T getAfter();
         ChangeType getType();
@@ -95,7 +95,7 @@ public class StateDiffJson {
         boolean hasChanged();
     }
 
-    static enum ChangeType {
+    public enum ChangeType {
         NOTHING,
         REPLACE,
         CREATE,
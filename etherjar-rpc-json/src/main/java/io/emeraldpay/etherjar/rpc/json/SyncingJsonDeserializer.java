@@ -17,37 +17,64 @@ package io.emeraldpay.etherjar.rpc.json;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 
 import java.io.IOException;
-import java.util.List;
 
 public class SyncingJsonDeserializer extends EtherJsonDeserializer<SyncingJson> {
 
     @Override
     public SyncingJson deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-        JsonNode node = jp.readValueAsTree();
-        if (node.isBoolean()) {
-            return new SyncingJson.Status(node.asBoolean());
-        } else if (node.isObject()) {
+        JsonToken token = jp.currentToken();
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return new SyncingJson.Status(token == JsonToken.VALUE_TRUE);
+        } else if (token == JsonToken.START_OBJECT || token == JsonToken.FIELD_NAME) {
             SyncingJson.AtBlock resp = new SyncingJson.AtBlock();
-            resp.setStartingBlock(getLong(node, "startingBlock"));
-            resp.setCurrentBlock(getLong(node, "currentBlock"));
-            resp.setHighestBlock(getLong(node, "highestBlock"));
-            if (node.has("stages") && node.get("stages").isArray()) {
-                List<SyncingJson.Stage> stages = new java.util.ArrayList<>();
-                for (JsonNode stageNode : node.get("stages")) {
-                    SyncingJson.Stage stage = new SyncingJson.Stage();
-                    stage.setStageName(stageNode.get("stage_name").asText());
-                    stage.setBlock(getLong(stageNode, "block_number"));
-                    stages.add(stage);
+            for (String field = startObject(jp, "Syncing"); field != null; field = jp.nextFieldName()) {
+                jp.nextToken();
+                switch (field) {
+                    case "startingBlock":
+                        resp.setStartingBlock(readLong(jp));
+                        break;
+                    case "currentBlock":
+                        resp.setCurrentBlock(readLong(jp));
+                        break;
+                    case "highestBlock":
+                        resp.setHighestBlock(readLong(jp));
+                        break;
+                    case "stages":
+                        if (jp.currentToken() == JsonToken.START_ARRAY) {
+                            resp.setStages(readList(jp, ctxt, this::readStage));
+                        } else {
+                            jp.skipChildren();
+                        }
+                        break;
+                    default:
+                        jp.skipChildren();
                 }
-                resp.setStages(stages);
             }
             return resp;
         } else {
-            throw new IOException("Invalid syncing value: " + node);
+            throw new IOException("Invalid syncing value: " + token);
         }
     }
+
+    private SyncingJson.Stage readStage(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        SyncingJson.Stage stage = new SyncingJson.Stage();
+        for (String field = startObject(jp, "Stage"); field != null; field = jp.nextFieldName()) {
+            jp.nextToken();
+            switch (field) {
+                case "stage_name":
+                    stage.setStageName(readString(jp));
+                    break;
+                case "block_number":
+                    stage.setBlock(readLong(jp));
+                    break;
+                default:
+                    jp.skipChildren();
+            }
+        }
+        return stage;
+    }
 }
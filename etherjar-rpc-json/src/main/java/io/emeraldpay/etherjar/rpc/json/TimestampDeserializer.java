@@ -6,7 +6,6 @@ import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import io.emeraldpay.etherjar.hex.HexQuantity;
 
 import java.io.IOException;
 import java.time.Instant;
@@ -25,10 +24,10 @@ public class TimestampDeserializer extends StdDeserializer<Instant> {
         JsonToken token = p.currentToken();
         if (token == JsonToken.VALUE_STRING) {
             try {
-                long seconds = HexQuantity.from(p.getValueAsString()).getValue().longValue();
+                long seconds = HexChars.truncatedQuantity(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
                 return Instant.ofEpochSecond(seconds);
             } catch (Throwable t) {
-                throw JsonMappingException.from(p,"Invalid HexQuantity value: " + p.getValueAsString(), t);
+                throw JsonMappingException.from(p,"Invalid HexQuantity value: " + p.getText(), t);
             }
         }
         if (token == JsonToken.VALUE_NULL) {
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json;
+
+import io.emeraldpay.etherjar.domain.Address;
+
+/**
+ * Receives elements of a trace response one by one, as soon as they are parsed, see
+ * {@link io.emeraldpay.etherjar.rpc.TraceStreamReader}. An element is not referenced by the reader after the call,
+ * so it can be garbage collected unless the visitor keeps it.
+ *
+ * <p>All methods do nothing by default, so a visitor implements only the elements it's interested in.
+ */
+public interface TraceVisitor {
+
+    /**
+     * Called for each transaction of a block-level response (i.e., {@code debug_traceBlockByNumber} or
+     * {@code trace_replayBlockTransactions}) before the elements of that transaction.
+     *
+     * @param index position of the transaction in the response
+     */
+    default void onTransaction(int index) {
+    }
+
+    /**
+     * Called after {@link #onTransaction(int)} when the node failed to trace that transaction, as in
+     * {@code {"txHash": "0x...", "error": "execution timeout"}} of {@code debug_traceBlockByNumber}.
+     * The transaction has no other elements.
+     *
+     * @param index position of the transaction in the response
+     * @param error error message
+     */
+    default void onTransactionError(int index, String error) {
+    }
+
+    /**
+     * @param trace a call trace, as in {@code trace_transaction}, {@code trace_block} or the {@code trace} of a replay
+     */
+    default void onTrace(TraceItemJson trace) {
+    }
+
+    /**
+     * @param step an executed opcode, as in {@code structLogs} of {@code debug_traceCall}
+     */
+    default void onStep(ExecutionResultJson.StructLog step) {
+    }
+
+    /**
+     * @param address changed account
+     * @param diff changes of the account, as in {@code stateDiff} of a replay
+     */
+    default void onStateDiff(Address address, StateDiffJson.AddressDiff diff) {
+    }
+}
@@ -0,0 +1,560 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.AddressDictionary;
+import io.emeraldpay.etherjar.domain.BlockHash;
+import io.emeraldpay.etherjar.domain.TransactionId;
+import io.emeraldpay.etherjar.domain.Wei;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Transactions of a block stored by columns, i.e. as parallel primitive arrays, for analytics over whole blocks
+ * (fee stats, value flows, grouping by sender, etc.) without creating a {@link TransactionJson} for each transaction.
+ *
+ * <p>It's read directly from the JSON of a block with full transactions, or from an array of transactions:
+ *
+ * <pre><code>
+ * TransactionBatch batch = client.execute(Commands.eth().getBlockTransactionBatch(height)).get();
+ * for (int i = 0; i &lt; batch.size(); i++) {
+ *     long gas = batch.getGas(i);
+ *     ...
+ * }
+ * </code></pre>
+ *
+ * <p>Addresses and hashes are stored in flat byte arrays, and the input data of all transactions in a single shared
+ * buffer. Amounts in Wei are stored as unsigned 128-bit values, split into two {@code long} arrays, which is enough
+ * for any amount that can exist on Ethereum. An amount missing in the transaction (for example {@code maxFeePerGas} of
+ * a legacy transaction) is stored as zero.
+ *
+ * <p>Only the fields useful for analytics are read, see {@link TransactionJson} for the full transaction.
+ * The batch is not thread safe while it's being filled, and is effectively immutable after that.
+ */
+@JsonDeserialize(using = TransactionBatchDeserializer.class)
+public final class TransactionBatch {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final int HASH_SIZE = TransactionId.SIZE_BYTES;
+    private static final int ADDRESS_SIZE = Address.SIZE_BYTES;
+
+    private Long blockNumber;
+    private BlockHash blockHash;
+    private Instant timestamp;
+    private Wei baseFeePerGas;
+
+    private int size = 0;
+
+    private byte[] hashes;
+    private int[] types;
+    private long[] nonces;
+    private long[] gas;
+    private byte[] from;
+    private byte[] to;
+    private boolean[] hasTo;
+    private long[] valueHigh;
+    private long[] valueLow;
+    private long[] gasPriceHigh;
+    private long[] gasPriceLow;
+    private long[] maxFeePerGasHigh;
+    private long[] maxFeePerGasLow;
+    private long[] maxPriorityFeePerGasHigh;
+    private long[] maxPriorityFeePerGasLow;
+
+    // input of the i-th transaction is at inputOffsets[i]..inputOffsets[i + 1] of the input buffer
+    private int[] inputOffsets;
+    private byte[] input;
+
+    public TransactionBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity expected number of transactions
+     */
+    public TransactionBatch(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        allocate(Math.max(capacity, 1));
+        this.input = new byte[256];
+    }
+
+    /**
+     * @param block a block with full transactions
+     * @return batch with the transactions of the block
+     */
+    public static TransactionBatch from(BlockJson<TransactionJson> block) {
+        List<TransactionJson> transactions = block.getTransactions();
+        TransactionBatch batch = from(transactions != null ? transactions : List.of());
+        batch.setBlockNumber(block.getNumber());
+        batch.setBlockHash(block.getHash());
+        batch.setTimestamp(block.getTimestamp());
+        batch.setBaseFeePerGas(block.getBaseFeePerGas());
+        return batch;
+    }
+
+    /**
+     * @param transactions transactions
+     * @return batch with the transactions in the same order
+     */
+    public static TransactionBatch from(List<TransactionJson> transactions) {
+        TransactionBatch batch = new TransactionBatch(transactions.size());
+        for (TransactionJson tx : transactions) {
+            int i = batch.addTransaction();
+            if (tx.getHash() != null) {
+                batch.setHash(i, tx.getHash());
+            }
+            batch.setType(i, tx.getType());
+            batch.setNonce(i, tx.getNonce() != null ? tx.getNonce() : 0);
+            batch.setGas(i, tx.getGas() != null ? tx.getGas() : 0);
+            if (tx.getFrom() != null) {
+                batch.setFrom(i, tx.getFrom());
+            }
+            if (tx.getTo() != null) {
+                batch.setTo(i, tx.getTo());
+            }
+            batch.setValue(i, tx.getValue());
+            batch.setGasPrice(i, tx.getGasPrice());
+            batch.setMaxFeePerGas(i, tx.getMaxFeePerGas());
+            batch.setMaxPriorityFeePerGas(i, tx.getMaxPriorityFeePerGas());
+            if (tx.getInput() != null) {
+                batch.setInput(i, tx.getInput());
+            }
+        }
+        return batch;
+    }
+
+    private void allocate(int capacity) {
+        hashes = new byte[capacity * HASH_SIZE];
+        types = new int[capacity];
+        nonces = new long[capacity];
+        gas = new long[capacity];
+        from = new byte[capacity * ADDRESS_SIZE];
+        to = new byte[capacity * ADDRESS_SIZE];
+        hasTo = new boolean[capacity];
+        valueHigh = new long[capacity];
+        valueLow = new long[capacity];
+        gasPriceHigh = new long[capacity];
+        gasPriceLow = new long[capacity];
+        maxFeePerGasHigh = new long[capacity];
+        maxFeePerGasLow = new long[capacity];
+        maxPriorityFeePerGasHigh = new long[capacity];
+        maxPriorityFeePerGasLow = new long[capacity];
+        inputOffsets = new int[capacity + 1];
+    }
+
+    private void grow(int capacity) {
+        hashes = Arrays.copyOf(hashes, capacity * HASH_SIZE);
+        types = Arrays.copyOf(types, capacity);
+        nonces = Arrays.copyOf(nonces, capacity);
+        gas = Arrays.copyOf(gas, capacity);
+        from = Arrays.copyOf(from, capacity * ADDRESS_SIZE);
+        to = Arrays.copyOf(to, capacity * ADDRESS_SIZE);
+        hasTo = Arrays.copyOf(hasTo, capacity);
+        valueHigh = Arrays.copyOf(valueHigh, capacity);
+        valueLow = Arrays.copyOf(valueLow, capacity);
+        gasPriceHigh = Arrays.copyOf(gasPriceHigh, capacity);
+        gasPriceLow = Arrays.copyOf(gasPriceLow, capacity);
+        maxFeePerGasHigh = Arrays.copyOf(maxFeePerGasHigh, capacity);
+        maxFeePerGasLow = Arrays.copyOf(maxFeePerGasLow, capacity);
+        maxPriorityFeePerGasHigh = Arrays.copyOf(maxPriorityFeePerGasHigh, capacity);
+        maxPriorityFeePerGasLow = Arrays.copyOf(maxPriorityFeePerGasLow, capacity);
+        inputOffsets = Arrays.copyOf(inputOffsets, capacity + 1);
+    }
+
+    /**
+     * Add a new transaction with all values set to zero. Its input must be set before adding the next transaction.
+     *
+     * @return index of the transaction
+     */
+    int addTransaction() {
+        if (size == types.length) {
+            grow(size * 2);
+        }
+        int i = size++;
+        inputOffsets[size] = inputOffsets[i];
+        return i;
+    }
+
+    // setters used to fill the batch
+
+    void setBlockNumber(Long blockNumber) {
+        this.blockNumber = blockNumber;
+    }
+
+    void setBlockHash(BlockHash blockHash) {
+        this.blockHash = blockHash;
+    }
+
+    void setTimestamp(Instant timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    void setBaseFeePerGas(Wei baseFeePerGas) {
+        this.baseFeePerGas = baseFeePerGas;
+    }
+
+    void setHash(int i, TransactionId hash) {
+        hash.copyTo(0, hashes, i * HASH_SIZE, HASH_SIZE);
+    }
+
+    void setType(int i, int type) {
+        types[i] = type;
+    }
+
+    void setNonce(int i, long nonce) {
+        nonces[i] = nonce;
+    }
+
+    void setGas(int i, long gas) {
+        this.gas[i] = gas;
+    }
+
+    void setFrom(int i, Address address) {
+        address.copyTo(0, from, i * ADDRESS_SIZE, ADDRESS_SIZE);
+    }
+
+    void setTo(int i, Address address) {
+        address.copyTo(0, to, i * ADDRESS_SIZE, ADDRESS_SIZE);
+        hasTo[i] = true;
+    }
+
+    void setValue(int i, long high, long low) {
+        valueHigh[i] = high;
+        valueLow[i] = low;
+    }
+
+    void setGasPrice(int i, long high, long low) {
+        gasPriceHigh[i] = high;
+        gasPriceLow[i] = low;
+    }
+
+    void setMaxFeePerGas(int i, long high, long low) {
+        maxFeePerGasHigh[i] = high;
+        maxFeePerGasLow[i] = low;
+    }
+
+    void setMaxPriorityFeePerGas(int i, long high, long low) {
+        maxPriorityFeePerGasHigh[i] = high;
+        maxPriorityFeePerGasLow[i] = low;
+    }
+
+    private void setValue(int i, Wei value) {
+        if (value != null) {
+            setValue(i, high(value), low(value));
+        }
+    }
+
+    private void setGasPrice(int i, Wei value) {
+        if (value != null) {
+            setGasPrice(i, high(value), low(value));
+        }
+    }
+
+    private void setMaxFeePerGas(int i, Wei value) {
+        if (value != null) {
+            setMaxFeePerGas(i, high(value), low(value));
+        }
+    }
+
+    private void setMaxPriorityFeePerGas(int i, Wei value) {
+        if (value != null) {
+            setMaxPriorityFeePerGas(i, high(value), low(value));
+        }
+    }
+
+    private void setInput(int i, HexData data) {
+        int length = data.getSize();
+        data.copyTo(0, reserveInput(i, length), inputOffsets[i], length);
+    }
+
+    // columns to decode the values directly from the JSON, must be taken again after adding a transaction
+
+    byte[] hashColumn() {
+        return hashes;
+    }
+
+    byte[] fromColumn() {
+        return from;
+    }
+
+    byte[] toColumn() {
+        return to;
+    }
+
+    void setHasTo(int i) {
+        hasTo[i] = true;
+    }
+
+    /**
+     * Reserve space for the input of the last added transaction
+     *
+     * @param i index of the transaction
+     * @param length length of the input
+     * @return the input buffer, where the input must be written from {@code inputOffsets[i]}
+     */
+    byte[] reserveInput(int i, int length) {
+        if (i != size - 1) {
+            throw new IllegalStateException("Input can be set only for the last transaction");
+        }
+        int start = inputOffsets[i];
+        if (start + length > input.length) {
+            input = Arrays.copyOf(input, Math.max(input.length * 2, start + length));
+        }
+        inputOffsets[size] = start + length;
+        return input;
+    }
+
+    /**
+     * @param i index of the transaction
+     * @return position of the input in the shared input buffer
+     */
+    int getInputOffset(int i) {
+        return inputOffsets[i];
+    }
+
+    private static long high(Wei value) {
+        BigInteger amount = value.getAmount();
+        if (amount.signum() < 0 || amount.bitLength() > 128) {
+            throw new IllegalArgumentException("Amount doesn't fit into 128 bits: " + amount);
+        }
+        return amount.shiftRight(64).longValue();
+    }
+
+    private static long low(Wei value) {
+        return value.getAmount().longValue();
+    }
+
+    private static BigInteger toBigInteger(long high, long low) {
+        if (high == 0 && low >= 0) {
+            return BigInteger.valueOf(low);
+        }
+        byte[] bytes = new byte[17];
+        for (int i = 0; i < 8; i++) {
+            bytes[8 - i] = (byte) (high >>> (i * 8));
+            bytes[16 - i] = (byte) (low >>> (i * 8));
+        }
+        return new BigInteger(bytes);
+    }
+
+    /**
+     * @return number of transactions
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return number of the block, or null if the batch is not read from a block
+     */
+    public Long getBlockNumber() {
+        return blockNumber;
+    }
+
+    public BlockHash getBlockHash() {
+        return blockHash;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public Wei getBaseFeePerGas() {
+        return baseFeePerGas;
+    }
+
+    public TransactionId getHash(int i) {
+        Objects.checkIndex(i, size);
+        return TransactionId.from(Arrays.copyOfRange(hashes, i * HASH_SIZE, (i + 1) * HASH_SIZE));
+    }
+
+    public int getType(int i) {
+        Objects.checkIndex(i, size);
+        return types[i];
+    }
+
+    public long getNonce(int i) {
+        Objects.checkIndex(i, size);
+        return nonces[i];
+    }
+
+    /**
+     * @param i index of the transaction
+     * @return gas limit of the transaction
+     */
+    public long getGas(int i) {
+        Objects.checkIndex(i, size);
+        return gas[i];
+    }
+
+    public Address getFrom(int i) {
+        Objects.checkIndex(i, size);
+        return Address.from(Arrays.copyOfRange(from, i * ADDRESS_SIZE, (i + 1) * ADDRESS_SIZE));
+    }
+
+    /**
+     * @param i index of the transaction
+     * @return recipient, or null for a contract creation
+     */
+    public Address getTo(int i) {
+        Objects.checkIndex(i, size);
+        if (!hasTo[i]) {
+            return null;
+        }
+        return Address.from(Arrays.copyOfRange(to, i * ADDRESS_SIZE, (i + 1) * ADDRESS_SIZE));
+    }
+
+    public boolean isContractCreation(int i) {
+        Objects.checkIndex(i, size);
+        return !hasTo[i];
+    }
+
+    public Wei getValue(int i) {
+        Objects.checkIndex(i, size);
+        return new Wei(toBigInteger(valueHigh[i], valueLow[i]));
+    }
+
+    public Wei getGasPrice(int i) {
+        Objects.checkIndex(i, size);
+        return new Wei(toBigInteger(gasPriceHigh[i], gasPriceLow[i]));
+    }
+
+    public Wei getMaxFeePerGas(int i) {
+        Objects.checkIndex(i, size);
+        return new Wei(toBigInteger(maxFeePerGasHigh[i], maxFeePerGasLow[i]));
+    }
+
+    public Wei getMaxPriorityFeePerGas(int i) {
+        Objects.checkIndex(i, size);
+        return new Wei(toBigInteger(maxPriorityFeePerGasHigh[i], maxPriorityFeePerGasLow[i]));
+    }
+
+    public HexData getInput(int i) {
+        Objects.checkIndex(i, size);
+        return new HexData(Arrays.copyOfRange(input, inputOffsets[i], inputOffsets[i + 1]));
+    }
+
+    public int getInputSize(int i) {
+        Objects.checkIndex(i, size);
+        return inputOffsets[i + 1] - inputOffsets[i];
+    }
+
+    /**
+     * @return total value transferred by the transactions
+     */
+    public Wei getTotalValue() {
+        return new Wei(sum(valueHigh, valueLow));
+    }
+
+    /**
+     * @return total gas limit of the transactions
+     */
+    public long getTotalGas() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += gas[i];
+        }
+        return total;
+    }
+
+    /**
+     * Max fee the transactions can pay, i.e. the sum of gas limit multiplied by gas price
+     *
+     * @return sum of fees, assuming all the gas is used
+     */
+    public Wei getTotalMaxFee() {
+        // gas price fits into 64 bits for all real transactions, so the sum is kept in 128 bits with a fallback for bigger values
+        long high = 0;
+        long low = 0;
+        BigInteger extra = BigInteger.ZERO;
+        for (int i = 0; i < size; i++) {
+            if (gasPriceHigh[i] != 0 || gasPriceLow[i] < 0 || gas[i] < 0) {
+                extra = extra.add(toBigInteger(gasPriceHigh[i], gasPriceLow[i]).multiply(BigInteger.valueOf(gas[i])));
+                continue;
+            }
+            long fee = gasPriceLow[i] * gas[i];
+            long feeHigh = Math.multiplyHigh(gasPriceLow[i], gas[i]);
+            long sum = low + fee;
+            if (Long.compareUnsigned(sum, low) < 0) {
+                feeHigh++;
+            }
+            low = sum;
+            high += feeHigh;
+        }
+        return new Wei(toBigInteger(high, low).add(extra));
+    }
+
+    private BigInteger sum(long[] highs, long[] lows) {
+        long high = 0;
+        long low = 0;
+        // overflow of the high part, which is possible only in theory
+        long overflow = 0;
+        for (int i = 0; i < size; i++) {
+            long sum = low + lows[i];
+            long carry = Long.compareUnsigned(sum, low) < 0 ? 1 : 0;
+            low = sum;
+            long nextHigh = high + highs[i] + carry;
+            if (Long.compareUnsigned(nextHigh, high) < 0 || (carry == 1 && nextHigh == high)) {
+                overflow++;
+            }
+            high = nextHigh;
+        }
+        return BigInteger.valueOf(overflow).shiftLeft(128).add(toBigInteger(high, low));
+    }
+
+    /**
+     * Add senders to a dictionary, to group the transactions by sender with primitive arrays
+     *
+     * @param dictionary dictionary of addresses
+     * @return for each transaction, an id of its sender in the dictionary
+     */
+    public int[] getFromIds(AddressDictionary dictionary) {
+        HexData addresses = new HexData(from);
+        int[] ids = new int[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = dictionary.add(addresses, i * ADDRESS_SIZE);
+        }
+        return ids;
+    }
+
+    /**
+     * Add recipients to a dictionary, to group the transactions by recipient with primitive arrays
+     *
+     * @param dictionary dictionary of addresses
+     * @return for each transaction, an id of its recipient in the dictionary, or -1 for a contract creation
+     */
+    public int[] getToIds(AddressDictionary dictionary) {
+        HexData addresses = new HexData(to);
+        int[] ids = new int[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = hasTo[i] ? dictionary.add(addresses, i * ADDRESS_SIZE) : -1;
+        }
+        return ids;
+    }
+}
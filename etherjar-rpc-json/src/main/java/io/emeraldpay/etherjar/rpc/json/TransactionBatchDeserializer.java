@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.domain.TransactionId;
+
+import java.io.IOException;
+
+/**
+ * Reads {@link TransactionBatch} from a block with full transactions, or from an array of transactions.
+ * Values are decoded from the text buffer of the parser directly into the columns of the batch.
+ */
+public class TransactionBatchDeserializer extends EtherJsonDeserializer<TransactionBatch> {
+
+    private interface WeiSetter {
+        void set(TransactionBatch batch, int i, long high, long low);
+    }
+
+    @Override
+    public TransactionBatch deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        TransactionBatch batch = new TransactionBatch();
+        if (p.currentToken() == JsonToken.START_ARRAY) {
+            readTransactions(p, batch);
+            return batch;
+        }
+        for (String field = startObject(p, "Block"); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            switch (field) {
+                case "number":
+                    batch.setBlockNumber(readLong(p));
+                    break;
+                case "hash":
+                    batch.setBlockHash(readBlockHash(p));
+                    break;
+                case "timestamp":
+                    batch.setTimestamp(readTimestamp(p));
+                    break;
+                case "baseFeePerGas":
+                    batch.setBaseFeePerGas(readWei(p));
+                    break;
+                case "transactions":
+                    readTransactions(p, batch);
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return batch;
+    }
+
+    private void readTransactions(JsonParser p, TransactionBatch batch) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw JsonMappingException.from(p, "Invalid Array type: " + token);
+        }
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.VALUE_STRING) {
+                throw JsonMappingException.from(p, "Block must have full transactions, found hash: " + p.getText());
+            }
+            if (token != JsonToken.VALUE_NULL) {
+                readTransaction(p, batch);
+            }
+        }
+    }
+
+    private void readTransaction(JsonParser p, TransactionBatch batch) throws IOException {
+        int i = batch.addTransaction();
+        for (String field = startObject(p, "Transaction"); field != null; field = p.nextFieldName()) {
+            if (p.nextToken() == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "hash":
+                    readInto(p, "TransactionId", TransactionId.SIZE_BYTES, batch.hashColumn(), i);
+                    break;
+                case "type":
+                    batch.setType(i, readInteger(p));
+                    break;
+                case "nonce":
+                    batch.setNonce(i, readLong(p));
+                    break;
+                case "gas":
+                    batch.setGas(i, readLong(p));
+                    break;
+                case "from":
+                    readInto(p, "Address", Address.SIZE_BYTES, batch.fromColumn(), i);
+                    break;
+                case "to":
+                    readInto(p, "Address", Address.SIZE_BYTES, batch.toColumn(), i);
+                    batch.setHasTo(i);
+                    break;
+                case "value":
+                    readWei(p, batch, i, TransactionBatch::setValue);
+                    break;
+                case "gasPrice":
+                    readWei(p, batch, i, TransactionBatch::setGasPrice);
+                    break;
+                case "maxFeePerGas":
+                    readWei(p, batch, i, TransactionBatch::setMaxFeePerGas);
+                    break;
+                case "maxPriorityFeePerGas":
+                    readWei(p, batch, i, TransactionBatch::setMaxPriorityFeePerGas);
+                    break;
+                case "input":
+                    readInput(p, batch, i);
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+    }
+
+    private void checkString(JsonParser p, String type) throws IOException {
+        if (p.currentToken() != JsonToken.VALUE_STRING) {
+            throw JsonMappingException.from(p, "Invalid " + type + " type: " + p.currentToken());
+        }
+    }
+
+    /**
+     * Decode a value of a fixed size into the i-th row of a column
+     */
+    private void readInto(JsonParser p, String type, int size, byte[] column, int i) throws IOException {
+        checkString(p, type);
+        int length = p.getTextLength();
+        if (length != 2 + size * 2) {
+            throw JsonMappingException.from(p, "Invalid " + type + " value: " + p.getText());
+        }
+        try {
+            HexChars.decode(p.getTextCharacters(), p.getTextOffset(), length, column, i * size);
+        } catch (IllegalArgumentException e) {
+            throw JsonMappingException.from(p, "Invalid " + type + " value: " + p.getText(), e);
+        }
+    }
+
+    private void readWei(JsonParser p, TransactionBatch batch, int i, WeiSetter setter) throws IOException {
+        checkString(p, "Wei");
+        char[] buf = p.getTextCharacters();
+        int offset = p.getTextOffset();
+        int length = p.getTextLength();
+        try {
+            setter.set(batch, i, HexChars.quantityHigh(buf, offset, length), HexChars.quantityLow(buf, offset, length));
+        } catch (IllegalArgumentException e) {
+            throw JsonMappingException.from(p, "Invalid Wei value: " + p.getText(), e);
+        }
+    }
+
+    private void readInput(JsonParser p, TransactionBatch batch, int i) throws IOException {
+        checkString(p, "HexData");
+        char[] buf = p.getTextCharacters();
+        int offset = p.getTextOffset();
+        int length = p.getTextLength();
+        if (HexChars.isEmpty(buf, offset, length)) {
+            return;
+        }
+        byte[] input = batch.reserveInput(i, HexChars.size(length));
+        try {
+            HexChars.decode(buf, offset, length, input, batch.getInputOffset(i));
+        } catch (IllegalArgumentException e) {
+            throw JsonMappingException.from(p, "Invalid HexData value: " + p.getText(), e);
+        }
+    }
+}
@@ -21,9 +21,9 @@ public class TransactionIdDeserializer extends StdDeserializer<TransactionId> {
         JsonToken token = p.currentToken();
         if (token == JsonToken.VALUE_STRING) {
             try {
-                return TransactionId.from(p.getValueAsString());
+                return TransactionId.from(HexChars.bytes(p.getTextCharacters(), p.getTextOffset(), p.getTextLength(), TransactionId.SIZE_BYTES));
             } catch (Throwable t) {
-                throw JsonMappingException.from(p,"Invalid TransactionId value: " + p.getValueAsString(), t);
+                throw JsonMappingException.from(p,"Invalid TransactionId value: " + p.getText(), t);
             }
         }
         if (token == JsonToken.VALUE_NULL) {
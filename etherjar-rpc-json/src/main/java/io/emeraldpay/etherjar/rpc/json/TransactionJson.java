@@ -267,6 +267,40 @@ public class TransactionJson extends TransactionRefJson implements TransactionRe
         this.signature = signature;
     }
 
+    // raw signature fields, as they are set by TransactionJsonDeserializer and CompactCodec
+
+    Integer getV() {
+        return v;
+    }
+
+    Integer getYParity() {
+        return yParity;
+    }
+
+    HexData getR() {
+        return r;
+    }
+
+    HexData getS() {
+        return s;
+    }
+
+    void setV(Integer v) {
+        this.v = v;
+    }
+
+    void setYParity(Integer yParity) {
+        this.yParity = yParity;
+    }
+
+    void setR(HexData r) {
+        this.r = r;
+    }
+
+    void setS(HexData s) {
+        this.s = s;
+    }
+
     public Address getCreates() {
         return creates;
     }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import java.io.IOException;
+
+/**
+ * Reads {@link TransactionJson} field by field from the stream
+ */
+public class TransactionJsonDeserializer extends EtherJsonDeserializer<TransactionJson> {
+
+    @Override
+    public TransactionJson deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (isEmptyAsNull(p, ctxt)) {
+            return null;
+        }
+        return deserialize(p, ctxt, Projection.from(ctxt));
+    }
+
+    /**
+     * @param projection fields to read, other fields are skipped
+     */
+    TransactionJson deserialize(JsonParser p, DeserializationContext ctxt, Projection projection) throws IOException {
+        TransactionJson tx = new TransactionJson();
+        for (String field = startObject(p, "Transaction"); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            if (!projection.includes(field)) {
+                p.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "hash":
+                    tx.setHash(readTxHash(p));
+                    break;
+                case "nonce":
+                    tx.setNonce(readLong(p));
+                    break;
+                case "blockHash":
+                    tx.setBlockHash(readBlockHash(p));
+                    break;
+                case "blockNumber":
+                    tx.setBlockNumber(readLong(p));
+                    break;
+                case "transactionIndex":
+                    tx.setTransactionIndex(readLong(p));
+                    break;
+                case "from":
+                    tx.setFrom(readAddress(p));
+                    break;
+                case "to":
+                    tx.setTo(readAddress(p));
+                    break;
+                case "creates":
+                    tx.setCreates(readAddress(p));
+                    break;
+                case "value":
+                    tx.setValue(readWei(p));
+                    break;
+                case "gasPrice":
+                    tx.setGasPrice(readWei(p));
+                    break;
+                case "maxFeePerGas":
+                    tx.setMaxFeePerGas(readWei(p));
+                    break;
+                case "maxPriorityFeePerGas":
+                    tx.setMaxPriorityFeePerGas(readWei(p));
+                    break;
+                case "gas":
+                    tx.setGas(readLong(p));
+                    break;
+                case "input":
+                    tx.setInput(readData(p));
+                    break;
+                case "type":
+                    Integer type = readInteger(p);
+                    tx.setType(type == null ? 0 : type);
+                    break;
+                case "chainId":
+                    tx.setChainId(readInteger(p));
+                    break;
+                case "v":
+                    tx.setV(readInteger(p));
+                    break;
+                case "yParity":
+                    tx.setYParity(readInteger(p));
+                    break;
+                case "r":
+                    tx.setR(readData(p));
+                    break;
+                case "s":
+                    tx.setS(readData(p));
+                    break;
+                case "accessList":
+                    tx.setAccessList(readList(p, ctxt, this::readAccess));
+                    break;
+                case "maxFeePerBlobGas":
+                    tx.setMaxFeePerBlobGas(readWei(p));
+                    break;
+                case "blobVersionedHashes":
+                    tx.setBlobVersionedHashes(readList(p, ctxt, (it, c) -> readData32(it)));
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return tx;
+    }
+
+    private TransactionJson.Access readAccess(JsonParser p, DeserializationContext ctxt) throws IOException {
+        TransactionJson.Access access = new TransactionJson.Access();
+        for (String field = startObject(p, "Access"); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            switch (field) {
+                case "address":
+                    access.setAddress(readAddress(p));
+                    break;
+                case "storageKeys":
+                    access.setStorageKeys(readList(p, ctxt, (it, c) -> readData32(it)));
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return access;
+    }
+}
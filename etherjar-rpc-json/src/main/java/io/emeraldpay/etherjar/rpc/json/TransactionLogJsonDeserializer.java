@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import io.emeraldpay.etherjar.domain.Address;
+import io.emeraldpay.etherjar.hex.Hex32;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads {@link TransactionLogJson} field by field from the stream
+ */
+public class TransactionLogJsonDeserializer extends EtherJsonDeserializer<TransactionLogJson> {
+
+    @Override
+    public TransactionLogJson deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (isEmptyAsNull(p, ctxt)) {
+            return null;
+        }
+        return deserialize(p, ctxt, Projection.from(ctxt));
+    }
+
+    /**
+     * @param projection fields to read, other fields are skipped
+     */
+    TransactionLogJson deserialize(JsonParser p, DeserializationContext ctxt, Projection projection) throws IOException {
+        return deserialize(p, ctxt, projection, null);
+    }
+
+    /**
+     * Read a log, unless it doesn't match the filter. A non-matching log is rejected as soon as its address or topics
+     * are read, and the rest of it is skipped on the token level.
+     *
+     * @param projection fields to read, other fields are skipped
+     * @param filter filter of logs, or null to read any log
+     * @return the log, or null if it doesn't match the filter
+     */
+    TransactionLogJson deserialize(JsonParser p, DeserializationContext ctxt, Projection projection, LogFilter filter) throws IOException {
+        TransactionLogJson log = new TransactionLogJson();
+        boolean addressChecked = filter == null || !filter.hasAddresses();
+        boolean topicChecked = filter == null || !filter.hasTopics();
+        for (String field = startObject(p, "Log"); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            if (!addressChecked && field.equals("address")) {
+                Address address = readAddress(p);
+                if (!filter.matchesAddress(address)) {
+                    skipObject(p);
+                    return null;
+                }
+                addressChecked = true;
+                if (projection.includes(field)) {
+                    log.setAddress(address);
+                }
+                continue;
+            }
+            if (!topicChecked && field.equals("topics")) {
+                List<Hex32> topics = readTopics(p, ctxt, filter);
+                if (topics == null) {
+                    skipObject(p);
+                    return null;
+                }
+                topicChecked = true;
+                if (projection.includes(field)) {
+                    log.setTopics(topics);
+                }
+                continue;
+            }
+            if (!projection.includes(field)) {
+                p.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "address":
+                    log.setAddress(readAddress(p));
+                    break;
+                case "topics":
+                    log.setTopics(readList(p, ctxt, (it, c) -> readData32(it)));
+                    break;
+                case "data":
+                    log.setData(readData(p));
+                    break;
+                case "blockNumber":
+                    log.setBlockNumber(readLong(p));
+                    break;
+                case "transactionHash":
+                    log.setTransactionHash(readTxHash(p));
+                    break;
+                case "transactionIndex":
+                    log.setTransactionIndex(readLong(p));
+                    break;
+                case "blockHash":
+                    log.setBlockHash(readBlockHash(p));
+                    break;
+                case "logIndex":
+                    log.setLogIndex(readLong(p));
+                    break;
+                case "removed":
+                    log.setRemoved(readBoolean(p, ctxt));
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        if (!addressChecked || !topicChecked) {
+            // no address or topics at all
+            return null;
+        }
+        return log;
+    }
+
+    /**
+     * Read topics of a log, checking the first of them with the filter before reading the others
+     *
+     * @param p parser at the topics value
+     * @param filter filter with topics
+     * @return the topics, or null if the log doesn't match the filter
+     */
+    private List<Hex32> readTopics(JsonParser p, DeserializationContext ctxt, LogFilter filter) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token != JsonToken.START_ARRAY) {
+            // a log without topics doesn't match, but an invalid value is still an error
+            readList(p, ctxt, (it, c) -> readData32(it));
+            return null;
+        }
+        token = p.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            return null;
+        }
+        Hex32 first = token == JsonToken.VALUE_NULL ? null : readData32(p);
+        if (!filter.matchesTopic(first)) {
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                p.skipChildren();
+            }
+            return null;
+        }
+        List<Hex32> topics = new ArrayList<>(4);
+        topics.add(first);
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            topics.add(token == JsonToken.VALUE_NULL ? null : readData32(p));
+        }
+        return topics;
+    }
+
+    /**
+     * Skip the rest of the current object
+     *
+     * @param p parser at a field value
+     */
+    private void skipObject(JsonParser p) throws IOException {
+        p.skipChildren();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            p.nextToken();
+            p.skipChildren();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads {@link TransactionReceiptJson} field by field from the stream
+ */
+public class TransactionReceiptJsonDeserializer extends EtherJsonDeserializer<TransactionReceiptJson> {
+
+    private final TransactionLogJsonDeserializer logDeserializer = new TransactionLogJsonDeserializer();
+
+    @Override
+    public TransactionReceiptJson deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (isEmptyAsNull(p, ctxt)) {
+            return null;
+        }
+        return deserialize(p, ctxt, Projection.from(ctxt));
+    }
+
+    /**
+     * @param projection fields to read, other fields are skipped. With a {@link LogFilter} only matching logs are read.
+     */
+    TransactionReceiptJson deserialize(JsonParser p, DeserializationContext ctxt, Projection projection) throws IOException {
+        TransactionReceiptJson receipt = new TransactionReceiptJson();
+        for (String field = startObject(p, "Receipt"); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            if (!projection.includes(field)) {
+                p.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "transactionHash":
+                    receipt.setTransactionHash(readTxHash(p));
+                    break;
+                case "transactionIndex":
+                    receipt.setTransactionIndex(readLong(p));
+                    break;
+                case "blockHash":
+                    receipt.setBlockHash(readBlockHash(p));
+                    break;
+                case "blockNumber":
+                    receipt.setBlockNumber(readLong(p));
+                    break;
+                case "cumulativeGasUsed":
+                    receipt.setCumulativeGasUsed(readLong(p));
+                    break;
+                case "from":
+                    receipt.setFrom(readAddress(p));
+                    break;
+                case "to":
+                    receipt.setTo(readAddress(p));
+                    break;
+                case "gasUsed":
+                    receipt.setGasUsed(readLong(p));
+                    break;
+                case "contractAddress":
+                    receipt.setContractAddress(readAddress(p));
+                    break;
+                case "logs":
+                    receipt.setLogs(readLogs(p, ctxt, projection.get(field)));
+                    break;
+                case "logsBloom":
+                    receipt.setLogsBloom(readBloom(p));
+                    break;
+                case "status":
+                    receipt.setStatus(readInteger(p));
+                    break;
+                case "effectiveGasPrice":
+                    receipt.setEffectiveGasPrice(readWei(p));
+                    break;
+                case "blobGasPrice":
+                    receipt.setBlobGasPrice(readWei(p));
+                    break;
+                case "type":
+                    Integer type = readInteger(p);
+                    receipt.setType(type == null ? 0 : type);
+                    break;
+                case "root":
+                    receipt.setRoot(readData32(p));
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return receipt;
+    }
+
+    private List<TransactionLogJson> readLogs(JsonParser p, DeserializationContext ctxt, Projection projection) throws IOException {
+        LogFilter filter = projection.getLogFilter();
+        List<TransactionLogJson> logs = readList(p, ctxt, (it, c) -> logDeserializer.deserialize(it, c, projection, filter));
+        if (logs != null && filter != null) {
+            logs.removeIf(Objects::isNull);
+        }
+        return logs;
+    }
+}
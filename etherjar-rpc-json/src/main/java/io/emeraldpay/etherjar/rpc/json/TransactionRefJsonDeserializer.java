@@ -20,13 +20,13 @@ public class TransactionRefJsonDeserializer extends StdDeserializer<TransactionR
         JsonToken token = p.currentToken();
         if (token == JsonToken.VALUE_STRING) {
             try {
-                return new TransactionRefJson(TransactionId.from(p.getValueAsString()));
+                return new TransactionRefJson(TransactionId.from(HexChars.bytes(p.getTextCharacters(), p.getTextOffset(), p.getTextLength(), TransactionId.SIZE_BYTES)));
             } catch (Throwable t) {
-                throw JsonMappingException.from(p,"Invalid TransactionId value: " + p.getValueAsString(), t);
+                throw JsonMappingException.from(p,"Invalid TransactionId value: " + p.getText(), t);
             }
         }
         if (token == JsonToken.START_OBJECT) {
-            return ctxt.readValue(p, TransactionJson.class);
+            return readTransaction(p, ctxt);
         }
         if (token == JsonToken.VALUE_NULL) {
             return null;
@@ -34,4 +34,20 @@ public class TransactionRefJsonDeserializer extends StdDeserializer<TransactionR
         throw JsonMappingException.from(p,"Invalid Transaction Ref type: " + token);
     }
 
+    /**
+     * Read a full transaction. It's nested into another object, so a {@link Projection} set for the root object
+     * doesn't apply to it, and the transaction is read without it.
+     */
+    private TransactionRefJson readTransaction(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Object projection = ctxt.getAttribute(Projection.ATTRIBUTE);
+        if (projection == null) {
+            return ctxt.readValue(p, TransactionJson.class);
+        }
+        ctxt.setAttribute(Projection.ATTRIBUTE, null);
+        try {
+            return ctxt.readValue(p, TransactionJson.class);
+        } finally {
+            ctxt.setAttribute(Projection.ATTRIBUTE, projection);
+        }
+    }
 }
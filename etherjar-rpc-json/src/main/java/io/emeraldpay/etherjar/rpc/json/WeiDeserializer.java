@@ -21,9 +21,9 @@ public class WeiDeserializer extends StdDeserializer<Wei> {
         JsonToken token = p.currentToken();
         if (token == JsonToken.VALUE_STRING) {
             try {
-                return Wei.fromHex(p.getValueAsString());
+                return new Wei(HexChars.bigQuantity(p.getTextCharacters(), p.getTextOffset(), p.getTextLength()));
             } catch (Throwable t) {
-                throw JsonMappingException.from(p,"Invalid Wei value: " + p.getValueAsString(), t);
+                throw JsonMappingException.from(p,"Invalid Wei value: " + p.getText(), t);
             }
         }
         if (token == JsonToken.VALUE_NULL) {
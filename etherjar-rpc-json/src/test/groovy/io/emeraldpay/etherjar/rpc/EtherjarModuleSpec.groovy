@@ -235,6 +235,52 @@ class EtherjarModuleSpec extends Specification {
         obj.methodId == MethodId.from("0x12345678")
     }
 
+    def "Fails to decode Address with invalid length"() {
+        setup:
+        def json = '{"address":"0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb"}'
+        when:
+        objectMapper.readValue(json, TestObject.class)
+        then:
+        def t = thrown(JsonMappingException)
+        t.message.startsWith("Invalid Address value: 0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb")
+    }
+
+    def "Fails to decode MethodId invalid string value"() {
+        setup:
+        def json = '{"methodId":"0x1234567g"}'
+        when:
+        objectMapper.readValue(json, TestObject.class)
+        then:
+        thrown(JsonMappingException)
+    }
+
+    def "Can decode HexData with odd number of digits"() {
+        setup:
+        def json = '{"hexData":"0x12345"}'
+        when:
+        def obj = objectMapper.readValue(json, TestObject.class)
+        then:
+        obj.hexData.bytes == [0x01, 0x23, 0x45] as byte[]
+    }
+
+    def "Can decode all values from the same buffer"() {
+        setup:
+        def json = '{"wei":"0xde0b6b3a7640000000","hexData":"0x00ff",' +
+            '"blockHash":"0x88e96d4537bea4d9c05d12549907b32561d3bf31f45aae734cdc119f13406cb6",' +
+            '"transactionId":"0x5c7851f4b2dc93860ed5a6624a422d4f17975d41c68667b64453de3ffaa8af49",' +
+            '"address":"0xA0b86991c6218b36c1d19D4a2e9Eb0cE3606eB48","methodId":"0xa9059cbb","another":1}'
+        when:
+        def obj = objectMapper.readValue(json, TestObject.class)
+        then:
+        obj.wei == new Wei(new BigInteger("de0b6b3a7640000000", 16))
+        obj.hexData == HexData.from("0x00ff")
+        obj.blockHash == BlockHash.from("0x88e96d4537bea4d9c05d12549907b32561d3bf31f45aae734cdc119f13406cb6")
+        obj.transactionId == TransactionId.from("0x5c7851f4b2dc93860ed5a6624a422d4f17975d41c68667b64453de3ffaa8af49")
+        obj.address == Address.from("0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb48")
+        obj.methodId == MethodId.from("0xa9059cbb")
+        obj.another == 1
+    }
+
     @MapConstructor(noArg = true)
     @JsonInclude(JsonInclude.Include.NON_NULL)
     static class TestObject {
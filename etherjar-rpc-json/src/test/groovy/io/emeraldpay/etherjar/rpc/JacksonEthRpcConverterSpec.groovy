@@ -87,4 +87,47 @@ class JacksonEthRpcConverterSpec extends Specification {
         act == "0x0000000000000000000000000000000000000000000000000000000000000000"
     }
 
+    def "Write batch to a stream"() {
+        setup:
+        def batch = [
+            new RequestJson<Integer>("eth_blockNumber", [], 1),
+            new RequestJson<Integer>("eth_getBalance", ["0x57d90b64a1a57749b0f932f1a3395792e12e7055", "latest"], 2)
+        ]
+        def closed = false
+        def out = new ByteArrayOutputStream() {
+            @Override
+            void close() {
+                closed = true
+            }
+        }
+        when:
+        jacksonRpcConverter.writeJson(batch, out)
+        then:
+        new String(out.toByteArray(), "UTF-8") == jacksonRpcConverter.toJson(batch)
+        !closed
+    }
+
+    def "Write request to a stream"() {
+        setup:
+        def req = new RequestJson<Integer>("eth_sendRawTransaction", ["0xf86c0a8502540be400"], 1)
+        def out = new ByteArrayOutputStream()
+        when:
+        jacksonRpcConverter.writeJson(req, out)
+        jacksonRpcConverter.writeJson(req, out)
+        then:
+        new String(out.toByteArray(), "UTF-8") == jacksonRpcConverter.toJson(req) * 2
+    }
+
+    def "Write batch to a buffer"() {
+        setup:
+        def batch = [
+            new RequestJson<Integer>("eth_call", [new TransactionCallJson(to: Address.from('0x57d90b64a1a57749b0f932f1a3395792e12e7055')), "latest"], 1)
+        ]
+        when:
+        def act = jacksonRpcConverter.toJsonBuffer(batch)
+        def bytes = new byte[act.remaining()]
+        act.get(bytes)
+        then:
+        new String(bytes, "UTF-8") == '[{"jsonrpc":"2.0","method":"eth_call","params":[{"to":"0x57d90b64a1a57749b0f932f1a3395792e12e7055"},"latest"],"id":1}]'
+    }
 }
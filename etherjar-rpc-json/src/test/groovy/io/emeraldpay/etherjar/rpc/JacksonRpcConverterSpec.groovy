@@ -20,6 +20,8 @@ package io.emeraldpay.etherjar.rpc
 import com.fasterxml.jackson.databind.type.TypeFactory
 import io.emeraldpay.etherjar.hex.HexQuantity
 import io.emeraldpay.etherjar.rpc.json.BlockJson
+import io.emeraldpay.etherjar.rpc.json.Projection
+import io.emeraldpay.etherjar.rpc.json.RawJson
 import io.emeraldpay.etherjar.rpc.json.TraceItemJson
 import io.emeraldpay.etherjar.rpc.json.TransactionJson
 import spock.lang.Specification
@@ -115,6 +117,85 @@ class JacksonRpcConverterSpec extends Specification {
         act[5].result == "0x435901"
     }
 
+    def "converts batch item with id after result"() {
+        setup:
+        def json = '[{"result": {"number": "0x10", "hash": "0x4eeb9aa586c63c0f1ce033e6c6fb44b4db1ffe8c5e19c93e2b768c71b5f9cb9c"}, "jsonrpc": "2.0", "id": 7}]'
+        def target = [
+                7: TypeFactory.defaultInstance().constructType(BlockJson)
+        ]
+        when:
+        def act = jacksonRpcConverter.parseBatch(new ByteArrayInputStream(json.getBytes()), target)
+        then:
+        act.size() == 1
+        act[0].id == 7
+        act[0].result instanceof BlockJson
+        with(act[0].result as BlockJson) {
+            number == 16
+            hash.toHex() == "0x4eeb9aa586c63c0f1ce033e6c6fb44b4db1ffe8c5e19c93e2b768c71b5f9cb9c"
+        }
+    }
+
+    def "converts batch with errors"() {
+        setup:
+        def json = '[' +
+                '{"jsonrpc": "2.0", "id": 1, "error": {"code": -32000, "message": "header not found"}},' +
+                '{"jsonrpc": "2.0", "error": {"code": -1, "message": "failed", "data": {"reason": [1]}}, "id": 2}' +
+                ']'
+        def target = [
+                1: TypeFactory.defaultInstance().constructType(BlockJson),
+                2: TypeFactory.defaultInstance().constructType(String)
+        ]
+        when:
+        def act = jacksonRpcConverter.parseBatch(new ByteArrayInputStream(json.getBytes()), target)
+        then:
+        act.size() == 2
+        act[0].id == 1
+        act[0].result == null
+        act[0].error.code == -32000
+        act[0].error.message == "header not found"
+        act[1].id == 2
+        act[1].error.code == -1
+        act[1].error.data == [reason: [1]]
+    }
+
+    def "skips unknown batch items"() {
+        setup:
+        def json = '[' +
+                '{"jsonrpc": "2.0", "id": 100, "result": {"number": "0x10", "transactions": [{"hash": "0x00"}]}},' +
+                '{"jsonrpc": "2.0", "result": "0x1"},' +
+                '5, null, ["0x2"],' +
+                '{"jsonrpc": "2.0", "result": [1, 2], "id": 200},' +
+                '{"jsonrpc": "2.0", "id": 1, "result": "0x3"}' +
+                ']'
+        def target = [
+                1: TypeFactory.defaultInstance().constructType(String)
+        ]
+        when:
+        def act = jacksonRpcConverter.parseBatch(new ByteArrayInputStream(json.getBytes()), target)
+        then:
+        act.size() == 1
+        act[0].id == 1
+        act[0].result == "0x3"
+    }
+
+    def "fails to convert non-array batch"() {
+        when:
+        jacksonRpcConverter.parseBatch(new ByteArrayInputStream('{"jsonrpc": "2.0", "id": 1, "result": "0x1"}'.getBytes()), [:])
+        then:
+        def t = thrown(RpcException)
+        t.code == RpcResponseError.CODE_UPSTREAM_INVALID_RESPONSE
+        t.rpcMessage == "Not array"
+    }
+
+    def "fails to convert truncated batch"() {
+        when:
+        jacksonRpcConverter.parseBatch(new ByteArrayInputStream('[{"jsonrpc": "2.0", "id": 1, "result": "0x1"}'.getBytes()),
+                [1: TypeFactory.defaultInstance().constructType(String)])
+        then:
+        def t = thrown(RpcException)
+        t.code == RpcResponseError.CODE_UPSTREAM_INVALID_RESPONSE
+    }
+
     def "Can parse a list"() {
         setup:
         def rpcCall = RpcCall.create("test", HexQuantity.class).asArray()
@@ -130,4 +211,106 @@ class JacksonRpcConverterSpec extends Specification {
             it[2] == HexQuantity.from("0x789")
         }
     }
+
+    def "converts batch with projections"() {
+        setup:
+        def json = '[' +
+                '{"jsonrpc": "2.0", "id": 1, "result": {"number": "0x10", "hash": "0x4eeb9aa586c63c0f1ce033e6c6fb44b4db1ffe8c5e19c93e2b768c71b5f9cb9c"}},' +
+                '{"jsonrpc": "2.0", "id": 2, "result": {"number": "0x11", "hash": "0x4eeb9aa586c63c0f1ce033e6c6fb44b4db1ffe8c5e19c93e2b768c71b5f9cb9c"}}' +
+                ']'
+        def target = [
+                1: TypeFactory.defaultInstance().constructType(BlockJson),
+                2: TypeFactory.defaultInstance().constructType(BlockJson)
+        ]
+        when:
+        def act = jacksonRpcConverter.parseBatch(new ByteArrayInputStream(json.getBytes()), target, [1: Projection.of("number")])
+        then:
+        act.size() == 2
+        with(act[0].result as BlockJson) {
+            number == 16
+            hash == null
+        }
+        with(act[1].result as BlockJson) {
+            number == 17
+            hash.toHex() == "0x4eeb9aa586c63c0f1ce033e6c6fb44b4db1ffe8c5e19c93e2b768c71b5f9cb9c"
+        }
+    }
+
+    def "reads raw result as a slice of the source"() {
+        setup:
+        def json = '{"jsonrpc": "2.0", "id": 1, "result": {"number": "0x10",  "extra": [1, "a\\"b"]}}'.getBytes()
+        when:
+        RawJson act = jacksonRpcConverter.fromJson(json, TypeFactory.defaultInstance().constructType(RawJson), (Projection) null)
+        then:
+        act.toString() == '{"number": "0x10",  "extra": [1, "a\\"b"]}'
+        when:
+        json[json.length - 5] = (byte) 'c'
+        then:
+        act.toString() == '{"number": "0x10",  "extra": [1, "a\\"c"]}'
+    }
+
+    def "reads raw result from a stream"() {
+        setup:
+        def json = '{"jsonrpc": "2.0", "id": 1, "result": {"number": "0x10"}}'
+        when:
+        RawJson act = jacksonRpcConverter.fromJson(new ByteArrayInputStream(json.getBytes()), TypeFactory.defaultInstance().constructType(RawJson), (Projection) null)
+        then:
+        act.toString() == '{"number":"0x10"}'
+    }
+
+    def "converts batch with raw results"() {
+        setup:
+        def json = '[' +
+                '{"jsonrpc": "2.0", "id": 1, "result": "0xab"},' +
+                '{"result": {"x": [1, 2]}, "id": 2},' +
+                '{"jsonrpc": "2.0", "id": 3, "result": {"number": "0x10"}},' +
+                '{"jsonrpc": "2.0", "id": 4, "result": null}' +
+                ']'
+        def raw = TypeFactory.defaultInstance().constructType(RawJson)
+        def target = [
+                1: raw,
+                2: raw,
+                3: TypeFactory.defaultInstance().constructType(BlockJson),
+                4: raw
+        ]
+        when:
+        def act = jacksonRpcConverter.parseBatch(json.getBytes(), target, [:])
+        then:
+        act.size() == 4
+        act[0].result.toString() == '"0xab"'
+        act[1].result.toString() == '{"x": [1, 2]}'
+        (act[2].result as BlockJson).number == 16
+        act[3].result == null
+    }
+
+    def "reads raw result from a buffer"() {
+        setup:
+        def buffer = java.nio.ByteBuffer.wrap('{"number": "0x10"}'.getBytes()).asReadOnlyBuffer()
+        when:
+        RawJson act = jacksonRpcConverter.fromJsonResult(buffer, TypeFactory.defaultInstance().constructType(RawJson), null)
+        then:
+        act.toString() == '{"number": "0x10"}'
+    }
+
+    def "reuses reader of a type with different projections"() {
+        setup:
+        def json = '{"jsonrpc": "2.0", "id": 1, "result": {"number": "0x10", "hash": "0x4eeb9aa586c63c0f1ce033e6c6fb44b4db1ffe8c5e19c93e2b768c71b5f9cb9c"}}'
+        def type = RpcCall.typeOf(BlockJson)
+        when:
+        BlockJson projected = jacksonRpcConverter.fromJson(json.getBytes(), type, Projection.of("number"))
+        BlockJson full = jacksonRpcConverter.fromJson(new ByteArrayInputStream(json.getBytes()), type)
+        BlockJson projectedAgain = jacksonRpcConverter.fromJson(new ByteArrayInputStream(json.getBytes()), type, Projection.of("hash"))
+        then:
+        jacksonRpcConverter.cachedReadersCount == 1
+        projected.number == 16
+        projected.hash == null
+        full.number == 16
+        full.hash.toHex() == "0x4eeb9aa586c63c0f1ce033e6c6fb44b4db1ffe8c5e19c93e2b768c71b5f9cb9c"
+        projectedAgain.number == null
+        projectedAgain.hash == full.hash
+        when:
+        jacksonRpcConverter.fromJson(new ByteArrayInputStream('{"jsonrpc": "2.0", "id": 1, "result": "0x10"}'.getBytes()), RpcCall.typeOf(String))
+        then:
+        jacksonRpcConverter.cachedReadersCount == 2
+    }
 }
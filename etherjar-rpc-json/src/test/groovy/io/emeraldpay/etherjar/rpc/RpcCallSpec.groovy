@@ -1,5 +1,11 @@
 package io.emeraldpay.etherjar.rpc
 
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.rpc.json.BlockJson
+import io.emeraldpay.etherjar.rpc.json.LogFilter
+import io.emeraldpay.etherjar.rpc.json.Projection
+import io.emeraldpay.etherjar.rpc.json.RawJson
+import io.emeraldpay.etherjar.rpc.json.TransactionReceiptJson
 import spock.lang.Specification
 
 class RpcCallSpec extends Specification {
@@ -12,4 +18,52 @@ class RpcCallSpec extends Specification {
         act == "eth_test(hello, 123)"
     }
 
+    def "Keeps projection when converted"() {
+        when:
+        def call = RpcCall.create("eth_getBlockByNumber", BlockJson, "0x1", true).withProjection("number", "hash")
+
+        then:
+        call.projection == Projection.of("hash", "number")
+        call.converted(String, { it.toString() }).projection == call.projection
+        call.withProjection("number") != call
+    }
+
+    def "Keeps projection with log filter"() {
+        setup:
+        def filter = LogFilter.newBuilder().topic(Hex32.from("0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef")).build()
+
+        when:
+        def call = RpcCall.create("eth_getTransactionReceipt", TransactionReceiptJson, "0x1")
+            .withProjection("logs")
+            .withLogFilter(filter)
+
+        then:
+        call.projection.includes("logs")
+        !call.projection.includes("gasUsed")
+        call.projection.logFilter == filter
+    }
+
+    def "Creates raw call"() {
+        when:
+        def call = RpcCall.raw("eth_getBlockByNumber", "0x1", false)
+
+        then:
+        call.method == "eth_getBlockByNumber"
+        call.params == ["0x1", false]
+        call.jsonType.rawClass == RawJson
+        call.resultType == RawJson
+    }
+
+    def "Shares resolved type of calls"() {
+        when:
+        def first = RpcCall.create("eth_getBlockByNumber", BlockJson, "0x1", false)
+        def second = RpcCall.create("eth_getBlockByHash", BlockJson, "0x4eeb9aa586c63c0f1ce033e6c6fb44b4db1ffe8c5e19c93e2b768c71b5f9cb9c", false)
+
+        then:
+        first.jsonType.is(second.jsonType)
+        first.jsonType.is(RpcCall.typeOf(BlockJson))
+        first.jsonType.rawClass == BlockJson
+        RpcCall.create("eth_blockNumber").jsonType.rawClass == String
+    }
+
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc
+
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.rpc.json.ExecutionResultJson
+import io.emeraldpay.etherjar.rpc.json.RawJson
+import io.emeraldpay.etherjar.rpc.json.ReplayTransactionJson
+import io.emeraldpay.etherjar.rpc.json.StateDiffJson
+import io.emeraldpay.etherjar.rpc.json.TraceItemJson
+import io.emeraldpay.etherjar.rpc.json.TraceVisitor
+import spock.lang.Specification
+
+class TraceStreamReaderSpec extends Specification {
+
+    TraceStreamReader reader = new TraceStreamReader()
+    JacksonRpcConverter jacksonRpcConverter = new JacksonRpcConverter()
+
+    def "Reads traces from a response"() {
+        setup:
+        List<TraceItemJson> traces = []
+        def visitor = new TraceVisitor() {
+            @Override
+            void onTrace(TraceItemJson trace) {
+                traces.add(trace)
+            }
+        }
+        def type = jacksonRpcConverter.getObjectMapper().getTypeFactory().constructCollectionType(List, TraceItemJson)
+        List<TraceItemJson> expected = jacksonRpcConverter.fromJson(getClass().getResourceAsStream("/trace/0x02e508.json"), type)
+
+        when:
+        reader.readTraces(getClass().getResourceAsStream("/trace/0x02e508.json"), visitor)
+
+        then:
+        traces.size() == 2642
+        traces == expected
+    }
+
+    def "Reads steps of a call"() {
+        setup:
+        List<ExecutionResultJson.StructLog> steps = []
+        def visitor = new TraceVisitor() {
+            @Override
+            void onStep(ExecutionResultJson.StructLog step) {
+                steps.add(step)
+            }
+        }
+        def expected = jacksonRpcConverter.getObjectMapper()
+            .readValue(getClass().getResourceAsStream("/traceCall/1.json"), ExecutionResultJson)
+
+        when:
+        def act = reader.readExecution(getClass().getResourceAsStream("/traceCall/1.json"), visitor)
+
+        then:
+        steps.size() == 112
+        steps == expected.structLogs
+        act.gas == 23568
+        act.failed == expected.failed
+        act.returnValue == expected.returnValue
+        act.structLogs == null
+    }
+
+    def "Reads steps of a block"() {
+        setup:
+        def result = getClass().getResourceAsStream("/traceCall/1.json").text
+        def json = '{"jsonrpc":"2.0","id":1,"result":[' +
+            '{"txHash":"0x01","result":' + result + '},' +
+            '{"txHash":"0x02","result":' + result + '}' +
+            ']}'
+        List<Integer> transactions = []
+        int steps = 0
+        def visitor = new TraceVisitor() {
+            @Override
+            void onTransaction(int index) {
+                transactions.add(index)
+            }
+
+            @Override
+            void onStep(ExecutionResultJson.StructLog step) {
+                steps++
+            }
+        }
+
+        when:
+        def act = reader.readExecutions(new ByteArrayInputStream(json.bytes), visitor)
+
+        then:
+        transactions == [0, 1]
+        steps == 224
+        act.size() == 2
+        act.every { it.gas == 23568 }
+    }
+
+    def "Reads failed transaction of a block"() {
+        setup:
+        def result = getClass().getResourceAsStream("/traceCall/1.json").text
+        def json = '{"jsonrpc":"2.0","id":1,"result":[' +
+            '{"txHash":"0x01","error":"execution timeout"},' +
+            '{"txHash":"0x02","result":' + result + '}' +
+            ']}'
+        List<Integer> transactions = []
+        Map<Integer, String> errors = [:]
+        int steps = 0
+        def visitor = new TraceVisitor() {
+            @Override
+            void onTransaction(int index) {
+                transactions.add(index)
+            }
+
+            @Override
+            void onTransactionError(int index, String error) {
+                errors.put(index, error)
+            }
+
+            @Override
+            void onStep(ExecutionResultJson.StructLog step) {
+                steps++
+            }
+        }
+
+        when:
+        def act = reader.readExecutions(new ByteArrayInputStream(json.bytes), visitor)
+
+        then:
+        transactions == [0, 1]
+        errors == [0: "execution timeout"]
+        steps == 112
+        act.size() == 2
+        act[0] == null
+        act[1].gas == 23568
+    }
+
+    def "Reads state diff of a replay"() {
+        setup:
+        Map<Address, StateDiffJson.AddressDiff> diffs = [:]
+        def visitor = new TraceVisitor() {
+            @Override
+            void onStateDiff(Address address, StateDiffJson.AddressDiff diff) {
+                diffs.put(address, diff)
+            }
+        }
+        def expected = jacksonRpcConverter.getObjectMapper()
+            .readValue(getClass().getResourceAsStream("/replayTx/0x2fb5f1.json"), ReplayTransactionJson)
+
+        when:
+        def act = reader.readReplay(getClass().getResourceAsStream("/replayTx/0x2fb5f1.json"), visitor)
+
+        then:
+        diffs.size() == 15
+        diffs.keySet() == expected.stateDiff.changes.keySet()
+        act.output == expected.output
+        act.stateDiff == null
+    }
+
+    def "Reads raw result"() {
+        setup:
+        def raw = RawJson.wrap(getClass().getResourceAsStream("/traceCall/1.json").bytes)
+
+        when:
+        def act = reader.readExecution(raw.asInputStream(), new TraceVisitor() {})
+
+        then:
+        act.gas == 23568
+    }
+
+    def "Empty result"() {
+        when:
+        def act = reader.readExecution(new ByteArrayInputStream('{"jsonrpc":"2.0","id":1,"result":null}'.bytes), new TraceVisitor() {})
+
+        then:
+        act == null
+    }
+
+    def "Fails on error response"() {
+        setup:
+        def json = '{"jsonrpc":"2.0","id":1,"error":{"code":-32000,"message":"execution timeout"}}'
+
+        when:
+        reader.readTraces(new ByteArrayInputStream(json.bytes), new TraceVisitor() {})
+
+        then:
+        def t = thrown(RpcException)
+        t.code == -32000
+        t.rpcMessage == "execution timeout"
+    }
+
+    def "Accepts null error"() {
+        setup:
+        List<TraceItemJson> traces = []
+        def visitor = new TraceVisitor() {
+            @Override
+            void onTrace(TraceItemJson trace) {
+                traces.add(trace)
+            }
+        }
+
+        when:
+        reader.readTraces(new ByteArrayInputStream('{"jsonrpc":"2.0","id":1,"error":null,"result":[]}'.bytes), visitor)
+        def act = reader.readExecution(new ByteArrayInputStream('{"jsonrpc":"2.0","id":1,"result":null,"error":null}'.bytes), new TraceVisitor() {})
+
+        then:
+        traces.isEmpty()
+        act == null
+    }
+
+    def "Fails on invalid json"() {
+        when:
+        reader.readTraces(new ByteArrayInputStream('[{"action":'.bytes), new TraceVisitor() {})
+
+        then:
+        def t = thrown(RpcException)
+        t.code == RpcResponseError.CODE_UPSTREAM_INVALID_RESPONSE
+    }
+}
@@ -1,5 +1,6 @@
 package io.emeraldpay.etherjar.rpc.json
 
+import com.fasterxml.jackson.databind.JsonMappingException
 import com.fasterxml.jackson.databind.ObjectMapper
 import io.emeraldpay.etherjar.domain.BlockHash
 import io.emeraldpay.etherjar.domain.TransactionId
@@ -8,6 +9,7 @@ import io.emeraldpay.etherjar.hex.Hex32
 import io.emeraldpay.etherjar.rpc.JacksonRpcConverter
 import spock.lang.Specification
 
+import java.time.Instant
 import java.time.ZoneId
 import java.time.format.DateTimeFormatter
 
@@ -394,6 +396,13 @@ class BlockJsonSpec extends Specification {
         act.baseFeePerGas.getAmount().toString() == "94932363924"
     }
 
+    def "Truncates timestamp over 64 bits"() {
+        when:
+        def act = objectMapper.readValue('{"number":"0x1","timestamp":"0x10000000000000005"}', BlockJson)
+        then:
+        act.timestamp == Instant.ofEpochSecond(5)
+    }
+
     def "Parse uncle"() {
         InputStream json = BlockJsonSpec.classLoader.getResourceAsStream("block/uncle-e7b70b42.json")
 
@@ -438,4 +447,66 @@ class BlockJsonSpec extends Specification {
             ]
         }
     }
+
+    def "Parse block with unknown fields and mixed transactions"() {
+        setup:
+        def json = '{"number": "0x10", "unknown": {"nested": [1, 2, {"a": "b"}]}, ' +
+            '"transactions": [' +
+            '"0x5c7851f4b2dc93860ed5a6624a422d4f17975d41c68667b64453de3ffaa8af49", ' +
+            '{"hash": "0x1e694eba2778d34855fa1e01e0765acb31ce75a9abe8667882ffc2c12f4372bc", "nonce": "0x1"}' +
+            '], "uncles": [], "hash": "0x88e96d4537bea4d9c05d12549907b32561d3bf31f45aae734cdc119f13406cb6"}'
+        when:
+        def act = jacksonRpcConverter.objectMapper.readValue(json, BlockJson)
+        then:
+        act.number == 16
+        act.hash == BlockHash.from("0x88e96d4537bea4d9c05d12549907b32561d3bf31f45aae734cdc119f13406cb6")
+        act.uncles == []
+        act.transactions.size() == 2
+        act.transactions[0].class == TransactionRefJson
+        act.transactions[0].hash == TransactionId.from("0x5c7851f4b2dc93860ed5a6624a422d4f17975d41c68667b64453de3ffaa8af49")
+        act.transactions[1] instanceof TransactionJson
+        (act.transactions[1] as TransactionJson).nonce == 1
+    }
+
+    def "Fails to parse block with invalid hash"() {
+        setup:
+        def json = '{"number": "0x10", "hash": "0x88e96d"}'
+        when:
+        jacksonRpcConverter.objectMapper.readValue(json, BlockJson)
+        then:
+        def t = thrown(JsonMappingException)
+        t.message.contains("Invalid BlockHash value")
+    }
+
+    def "Parse full block 17172922 with projection"() {
+        setup:
+        def full = jacksonRpcConverter.fromJson(BlockJsonSpec.classLoader.getResourceAsStream("block/block-17172922-full.json"), BlockJson)
+        InputStream json = BlockJsonSpec.classLoader.getResourceAsStream("block/block-17172922-full.json")
+        def projection = Projection.of("number", "hash", "timestamp", "transactions.hash")
+
+        when:
+        def act = jacksonRpcConverter.fromJson(json, objectMapper.constructType(BlockJson), projection) as BlockJson
+
+        then:
+        act.number == full.number
+        act.hash == full.hash
+        act.timestamp == full.timestamp
+        act.parentHash == null
+        act.miner == null
+        act.gasUsed == null
+        act.transactions.size() == full.transactions.size()
+        act.transactions*.hash == full.transactions*.hash
+        act.transactions.every { it instanceof TransactionJson && it.from == null && it.input == null && it.nonce == null }
+    }
+
+    def "Reads empty string as null"() {
+        when:
+        def act = objectMapper.readValue('""', type)
+
+        then:
+        act == null
+
+        where:
+        type << [BlockJson, TransactionJson, TransactionReceiptJson, TransactionLogJson]
+    }
 }
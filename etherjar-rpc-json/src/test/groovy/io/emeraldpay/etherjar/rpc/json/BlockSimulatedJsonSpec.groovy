@@ -153,4 +153,22 @@ class BlockSimulatedJsonSpec extends Specification {
             it[0] == block1
         }
     }
+
+    def "Reads full transactions without projection of the block"() {
+        setup:
+        def json = '{"number":"0x1","transactions":[' +
+            '{"hash":"0x5c7851f4b2dc93860ed5a6624a422d4f17975d41c68667b64453de3ffaa8af49","nonce":"0x5","gas":"0x5208"}' +
+            ']}'
+        when:
+        BlockSimulatedJson act = objectMapper.readerFor(BlockSimulatedJson)
+            .withAttribute(Projection.ATTRIBUTE, Projection.of("number", "hash"))
+            .readValue(json)
+        then:
+        act.number == 1
+        with(act.transactions[0] as TransactionJson) {
+            hash == TransactionId.from("0x5c7851f4b2dc93860ed5a6624a422d4f17975d41c68667b64453de3ffaa8af49")
+            nonce == 5
+            gas == 0x5208
+        }
+    }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.BlockHash
+import io.emeraldpay.etherjar.domain.TransactionId
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import io.emeraldpay.etherjar.rpc.JacksonRpcConverter
+import spock.lang.Specification
+
+class CompactCodecSpec extends Specification {
+
+    JacksonRpcConverter jacksonRpcConverter = new JacksonRpcConverter()
+    ObjectMapper objectMapper = jacksonRpcConverter.getObjectMapper()
+
+    def "Encode and decode block"() {
+        setup:
+        def codec = new CompactCodec(dictionary)
+        BlockJson block = jacksonRpcConverter.fromJson(CompactCodecSpec.classLoader.getResourceAsStream("block/" + name), BlockJson)
+
+        when:
+        def encoded = codec.encode(block)
+        BlockJson act = codec.decodeBlock(encoded)
+
+        then:
+        act == block
+        act.transactions == block.transactions
+        objectMapper.writeValueAsString(act) == objectMapper.writeValueAsString(block)
+        encoded.length < objectMapper.writeValueAsBytes(block).length / 2
+
+        where:
+        [name, dictionary] << [
+            ["block-1.json", "block-1920000-full.json", "block-17172922.json", "block-17172922-full.json", "block-1920001.json", "uncle-e7b70b42.json"],
+            [true, false]
+        ].combinations()
+    }
+
+    def "Encode and decode receipt"() {
+        setup:
+        def codec = new CompactCodec()
+        TransactionReceiptJson receipt = jacksonRpcConverter.fromJson(CompactCodecSpec.classLoader.getResourceAsStream("receipt/" + name), TransactionReceiptJson)
+
+        when:
+        def encoded = codec.encode(receipt)
+        def act = codec.decodeReceipt(encoded)
+
+        then:
+        act == receipt
+        act.logs == receipt.logs
+        objectMapper.writeValueAsString(act) == objectMapper.writeValueAsString(receipt)
+
+        where:
+        name << ["0x5929b3.json", "0x3f34b1.json", "0x38b7fb.json", "0xb8e7e1.json", "0xec00aa.json"]
+    }
+
+    def "Encode and decode transaction"() {
+        setup:
+        def codec = new CompactCodec()
+        TransactionJson tx = jacksonRpcConverter.fromJson(CompactCodecSpec.classLoader.getResourceAsStream("tx/" + name), TransactionJson)
+
+        when:
+        def act = codec.decodeTransaction(codec.encode(tx))
+
+        then:
+        act == tx
+        act.signature == tx.signature
+        objectMapper.writeValueAsString(act) == objectMapper.writeValueAsString(tx)
+
+        where:
+        name << ["0x19442f.json", "0x1ccad3.json", "0x1e694e.json", "0x408dc2.json"]
+    }
+
+    def "Keeps missing fields"() {
+        setup:
+        def codec = new CompactCodec()
+        def tx = new TransactionJson()
+        tx.hash = TransactionId.from("0x5929b36be4586c57bd87dfb7ea6be3b985c1f527fa3d69d221604b424aeb4197")
+        tx.input = HexData.empty()
+
+        when:
+        def act = codec.decodeTransaction(codec.encode(tx))
+
+        then:
+        act == tx
+        act.input == HexData.empty()
+        act.blockHash == null
+        act.nonce == null
+        act.to == null
+    }
+
+    def "Stores shared fields of logs once"() {
+        setup:
+        def codec = new CompactCodec()
+        def receipt = new TransactionReceiptJson()
+        receipt.transactionHash = TransactionId.from("0x5929b36be4586c57bd87dfb7ea6be3b985c1f527fa3d69d221604b424aeb4197")
+        receipt.blockHash = BlockHash.from("0x2c3cfd4c7f2b58859371f5795eaf8524caa6e63145ac7e9df23c8d63aab891ae")
+        receipt.blockNumber = 2177930
+        receipt.transactionIndex = 0
+        receipt.logs = (0..<2).collect {
+            def log = new TransactionLogJson()
+            log.transactionHash = receipt.transactionHash
+            log.blockHash = receipt.blockHash
+            log.blockNumber = receipt.blockNumber
+            log.transactionIndex = receipt.transactionIndex
+            log.logIndex = it
+            log.address = Address.from("0xdac17f958d2ee523a2206206994597c13d831ec7")
+            log.topics = [Hex32.from("0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef")]
+            log.data = HexData.empty()
+            return log
+        }
+
+        when:
+        def encoded = codec.encode(receipt)
+        def act = codec.decodeReceipt(encoded)
+
+        then:
+        act == receipt
+        act.logs == receipt.logs
+        // the hashes of the receipt, an address and two topics take 148 bytes, and repeating the hashes in the logs would add 128 more
+        encoded.length < 200
+    }
+
+    def "Fails on a different type"() {
+        setup:
+        def codec = new CompactCodec()
+        def encoded = codec.encode(new TransactionJson())
+
+        when:
+        codec.decodeReceipt(encoded)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "Fails on truncated data"() {
+        setup:
+        def codec = new CompactCodec()
+        BlockJson block = jacksonRpcConverter.fromJson(CompactCodecSpec.classLoader.getResourceAsStream("block/block-1.json"), BlockJson)
+        def encoded = codec.encode(block)
+
+        when:
+        codec.decodeBlock(Arrays.copyOf(encoded, encoded.length - 10))
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "Fails on null list elements"() {
+        setup:
+        def codec = new CompactCodec()
+
+        when:
+        codec.encode(value)
+
+        then:
+        def t = thrown(IllegalArgumentException)
+        t.message == "Null " + type + " in a list is not supported"
+
+        where:
+        type               | value
+        "log"              | new TransactionReceiptJson(logs: [null])
+        "hash"             | new TransactionReceiptJson(logs: [new TransactionLogJson(topics: [null])])
+        "access list item" | new TransactionJson(accessList: [null])
+        "withdrawal"       | new BlockJson(withdrawals: [null])
+        "hash"             | new BlockJson(uncles: [null])
+    }
+
+    def "Keeps null transactions of a block"() {
+        setup:
+        def codec = new CompactCodec()
+        def block = new BlockJson<TransactionRefJson>()
+        block.transactions = [null, new TransactionRefJson(TransactionId.from("0x5929b36be4586c57bd87dfb7ea6be3b985c1f527fa3d69d221604b424aeb4197"))]
+
+        when:
+        BlockJson act = codec.decodeBlock(codec.encode(block))
+
+        then:
+        act.transactions == block.transactions
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json
+
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.BlockHash
+import io.emeraldpay.etherjar.domain.TransactionId
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import io.emeraldpay.etherjar.rpc.JacksonRpcConverter
+import spock.lang.Specification
+
+class CompactLogSpec extends Specification {
+
+    JacksonRpcConverter jacksonRpcConverter = new JacksonRpcConverter()
+
+    def "Converts logs of a receipt"() {
+        setup:
+        TransactionReceiptJson receipt = jacksonRpcConverter.fromJson(CompactLogSpec.classLoader.getResourceAsStream("receipt/0xb8e7e1.json"), TransactionReceiptJson)
+
+        when:
+        def act = CompactLog.from(receipt)
+
+        then:
+        act.size() == 8
+        act.every { it.ref.is(act[0].ref) }
+        act.collect { it.toJson() } == receipt.logs
+        act.collect { it.toJson().topics } == receipt.logs.collect { it.topics }
+        act.collect { it.toJson().removed } == receipt.logs.collect { it.removed }
+        with(act[3]) {
+            logIndex == receipt.logs[3].logIndex
+            transactionHash == receipt.transactionHash
+            blockNumber == receipt.blockNumber
+            address == receipt.logs[3].address
+            topicsCount == 1
+            topics == receipt.logs[3].topics
+            data == receipt.logs[3].data
+            dataSize == 64
+        }
+    }
+
+    def "Shares reference of consecutive logs"() {
+        setup:
+        TransactionReceiptJson receipt = jacksonRpcConverter.fromJson(CompactLogSpec.classLoader.getResourceAsStream("receipt/0xb8e7e1.json"), TransactionReceiptJson)
+
+        when:
+        def act = CompactLog.fromLogs(receipt.logs)
+
+        then:
+        act == CompactLog.from(receipt)
+        act.every { it.ref.is(act[0].ref) }
+    }
+
+    def "Converts a single log"() {
+        setup:
+        def log = new TransactionLogJson()
+        log.transactionHash = TransactionId.from("0x5929b36be4586c57bd87dfb7ea6be3b985c1f527fa3d69d221604b424aeb4197")
+        log.blockHash = BlockHash.from("0x2c3cfd4c7f2b58859371f5795eaf8524caa6e63145ac7e9df23c8d63aab891ae")
+        log.blockNumber = 2177930
+        log.address = Address.from("0xdac17f958d2ee523a2206206994597c13d831ec7")
+        log.topics = [
+            Hex32.from("0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef"),
+            Hex32.extendFrom(Address.from("0x0000000000000000000000000000000000000001"))
+        ]
+        log.data = HexData.from("0x01")
+        log.removed = true
+
+        when:
+        def act = CompactLog.from(log)
+
+        then:
+        act.toJson() == log
+        act.toJson().removed
+        act.removed
+        act.transactionIndex == -1
+        act.logIndex == -1
+        act.toJson().transactionIndex == null
+        act.toJson().logIndex == null
+        act.isAddress(log.address)
+        !act.isAddress(Address.from("0x0000000000000000000000000000000000000001"))
+        act.isTopic(1, log.topics[1])
+        !act.isTopic(0, log.topics[1])
+        !act.isTopic(2, log.topics[1])
+    }
+
+    def "Keeps missing topics and data"() {
+        setup:
+        def log = new TransactionLogJson()
+        log.address = Address.from("0xdac17f958d2ee523a2206206994597c13d831ec7")
+
+        when:
+        def act = CompactLog.from(log).toJson()
+
+        then:
+        act == log
+        act.topics == null
+        act.data == null
+        act.removed == null
+    }
+
+    def "Fails on a log without address"() {
+        when:
+        CompactLog.from(new TransactionLogJson())
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
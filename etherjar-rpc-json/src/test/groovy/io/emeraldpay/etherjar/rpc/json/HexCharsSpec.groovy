@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json
+
+import spock.lang.Specification
+
+class HexCharsSpec extends Specification {
+
+    def "Reads bytes from a part of buffer"() {
+        setup:
+        char[] buf = '["0x00ff1a", "0xabc"]'.toCharArray()
+        expect:
+        HexChars.bytes(buf, 2, 8) == [0x00, 0xff, 0x1a] as byte[]
+        HexChars.bytes(buf, 14, 5) == [0x0a, 0xbc] as byte[]
+        HexChars.bytes(buf, 2, 8, 3) == [0x00, 0xff, 0x1a] as byte[]
+    }
+
+    def "Fails to read invalid bytes"() {
+        when:
+        HexChars.bytes(value.toCharArray(), 0, value.length())
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        value << ["", "00ff", "0x0g", "0X00"]
+    }
+
+    def "Fails to read bytes of different size"() {
+        when:
+        HexChars.bytes("0x00ff".toCharArray(), 0, 6, 3)
+        then:
+        def t = thrown(IllegalArgumentException)
+        t.message.contains("length")
+    }
+
+    def "Checks empty value"() {
+        expect:
+        HexChars.isEmpty(value.toCharArray(), 0, value.length()) == empty
+        where:
+        value  | empty
+        ""     | true
+        "0x"   | true
+        "0x0"  | false
+        "0x00" | false
+    }
+
+    def "Reads quantity"() {
+        expect:
+        HexChars.quantity(value.toCharArray(), 0, value.length()) == exp
+        where:
+        value                   | exp
+        "0x0"                   | 0L
+        "0x1f"                  | 31L
+        "0x0000001f"            | 31L
+        "-0x1f"                 | -31L
+        "0x7fffffffffffffff"    | Long.MAX_VALUE
+        "-0x8000000000000000"   | Long.MIN_VALUE
+    }
+
+    def "Fails to read invalid quantity"() {
+        when:
+        HexChars.quantity(value.toCharArray(), 0, value.length())
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        value << ["", "0x", "-0x", "1f", "0x1g", "0x8000000000000000", "0x10000000000000000"]
+    }
+
+    def "Reads big quantity"() {
+        expect:
+        HexChars.bigQuantity(value.toCharArray(), 0, value.length()) == exp
+        where:
+        value                                   | exp
+        "0x0"                                   | BigInteger.ZERO
+        "0x1f"                                  | 31G
+        "0xffffffffffffffff"                    | new BigInteger("ffffffffffffffff", 16)
+        "0xfff0000000000000000000000000000000"  | new BigInteger("fff0000000000000000000000000000000", 16)
+        "-0xfff0000000000000000000000000000000" | new BigInteger("-fff0000000000000000000000000000000", 16)
+    }
+
+    def "Reads truncated quantity"() {
+        expect:
+        HexChars.truncatedQuantity(value.toCharArray(), 0, value.length()) == exp
+        where:
+        value                       | exp
+        "0x1f"                      | 31L
+        "-0x1f"                     | -31L
+        "0x7fffffffffffffff"        | Long.MAX_VALUE
+        "0xffffffffffffffff"        | -1L
+        "0x10000000000000005"       | 5L
+        "0x000000000000000000001f"  | 31L
+    }
+
+    def "Fails to read invalid truncated quantity"() {
+        when:
+        HexChars.truncatedQuantity(value.toCharArray(), 0, value.length())
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        value << ["", "0x", "1f", "0x1g", "0x1000000000000000g"]
+    }
+
+    def "Decodes bytes into an array"() {
+        setup:
+        char[] buf = '["0x00ff1a", "0xabc"]'.toCharArray()
+        byte[] dest = new byte[6]
+        when:
+        def first = HexChars.decode(buf, 2, 8, dest, 1)
+        def second = HexChars.decode(buf, 14, 5, dest, 4)
+        then:
+        first == 3
+        second == 2
+        dest == [0x00, 0x00, 0xff, 0x1a, 0x0a, 0xbc] as byte[]
+        HexChars.size(8) == 3
+        HexChars.size(5) == 2
+    }
+
+    def "Reads 128-bit quantity"() {
+        expect:
+        HexChars.quantityHigh(value.toCharArray(), 0, value.length()) == high
+        HexChars.quantityLow(value.toCharArray(), 0, value.length()) == low
+        where:
+        value                                   | high  | low
+        "0x0"                                   | 0L    | 0L
+        "0x1f"                                  | 0L    | 31L
+        "0xffffffffffffffff"                    | 0L    | -1L
+        "0x10000000000000000"                   | 1L    | 0L
+        "0x00000000000000000000000000000000001f" | 0L    | 31L
+        "0xffffffffffffffff0000000000000001"    | -1L   | 1L
+    }
+
+    def "Fails to read invalid 128-bit quantity"() {
+        when:
+        HexChars.quantityLow(value.toCharArray(), 0, value.length())
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        value << ["", "0x", "-0x1", "1f", "0x1g", "0x100000000000000000000000000000000"]
+    }
+}
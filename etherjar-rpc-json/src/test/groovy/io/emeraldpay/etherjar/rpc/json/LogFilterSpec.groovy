@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json
+
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.EventId
+import io.emeraldpay.etherjar.hex.Hex32
+import spock.lang.Specification
+
+class LogFilterSpec extends Specification {
+
+    static final Address TOKEN = Address.from("0xdac17f958d2ee523a2206206994597c13d831ec7")
+    static final Hex32 TRANSFER = Hex32.from("0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef")
+
+    def "Matches address"() {
+        setup:
+        def filter = LogFilter.newBuilder().address(TOKEN).build()
+
+        expect:
+        filter.matchesAddress(TOKEN)
+        !filter.matchesAddress(Address.from("0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb48"))
+        !filter.matchesAddress(null)
+        filter.matchesTopic(null)
+        filter.matchesTopic(TRANSFER)
+    }
+
+    def "Matches topic of any type"() {
+        setup:
+        def filter = LogFilter.newBuilder().topic(EventId.from(TRANSFER.bytes)).build()
+
+        expect:
+        filter.matchesTopic(TRANSFER)
+        !filter.matchesTopic(Hex32.from("0x1c411e9a96e071241c2f21f7726b17ae89e3cab4c78be50e062b03a9fffbbad1"))
+        !filter.matchesTopic(null)
+        filter.matchesAddress(TOKEN)
+        filter.matchesAddress(null)
+    }
+
+    def "Matches log"() {
+        setup:
+        def filter = LogFilter.newBuilder().address(TOKEN).topic(TRANSFER).build()
+        def log = new TransactionLogJson(address: TOKEN, topics: [TRANSFER])
+
+        expect:
+        filter.matches(log)
+        !filter.matches(new TransactionLogJson(address: TOKEN, topics: []))
+        !filter.matches(new TransactionLogJson(address: TOKEN))
+        !filter.matches(new TransactionLogJson(topics: [TRANSFER]))
+    }
+
+    def "Fails without addresses and topics"() {
+        when:
+        LogFilter.newBuilder().build()
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "Applies to nested projections"() {
+        setup:
+        def filter = LogFilter.newBuilder().address(TOKEN).build()
+
+        when:
+        def act = Projection.of("gasUsed", "logs.address").withLogFilter(filter)
+
+        then:
+        act.logFilter == filter
+        act.get("logs").logFilter == filter
+        Projection.ALL.withLogFilter(filter).get("logs").logFilter == filter
+        act != Projection.of("gasUsed", "logs.address")
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json
+
+import spock.lang.Specification
+
+class ProjectionSpec extends Specification {
+
+    def "Includes listed fields"() {
+        when:
+        def act = Projection.of("number", "hash")
+
+        then:
+        !act.isAll()
+        act.includes("number")
+        act.includes("hash")
+        !act.includes("miner")
+    }
+
+    def "Includes nested fields"() {
+        when:
+        def act = Projection.of("number", "transactions.hash", "transactions.from", "logs")
+
+        then:
+        act.includes("transactions")
+        act.get("transactions").includes("hash")
+        act.get("transactions").includes("from")
+        !act.get("transactions").includes("input")
+        act.get("logs").isAll()
+        act.get("hash") == null
+    }
+
+    def "All includes everything"() {
+        expect:
+        Projection.ALL.isAll()
+        Projection.ALL.includes("anything")
+        Projection.ALL.get("anything").isAll()
+        Projection.ALL.toString() == "*"
+    }
+
+    def "Whole field takes precedence over its subfields"() {
+        expect:
+        Projection.of("a.b", "a") == Projection.of("a")
+        Projection.of("a", "a.b") == Projection.of("a")
+        Projection.of("a", "a.b").get("a").isAll()
+    }
+
+    def "Equal regardless of order"() {
+        expect:
+        Projection.of("hash", "number") == Projection.of("number", "hash")
+        Projection.of("hash", "number").hashCode() == Projection.of("number", "hash").hashCode()
+        Projection.of("hash") != Projection.of("number")
+    }
+
+    def "toString lists sorted paths"() {
+        expect:
+        Projection.of("number", "transactions.hash", "transactions.from", "logs").toString() == "logs,number,transactions.from,transactions.hash"
+    }
+
+    def "Fails on empty list"() {
+        when:
+        Projection.of()
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "Fails on invalid field"() {
+        when:
+        Projection.of(field)
+
+        then:
+        def t = thrown(IllegalArgumentException)
+        t.message.startsWith("Invalid projection field")
+
+        where:
+        field << ["", ".hash", "hash.", "transactions..hash"]
+    }
+}
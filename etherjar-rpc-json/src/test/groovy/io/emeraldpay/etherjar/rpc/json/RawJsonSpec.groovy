@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json
+
+import io.emeraldpay.etherjar.rpc.JacksonRpcConverter
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+class RawJsonSpec extends Specification {
+
+    JacksonRpcConverter jacksonRpcConverter = new JacksonRpcConverter()
+
+    def "Wraps a slice"() {
+        setup:
+        def bytes = 'x{"a": 1}y'.getBytes()
+
+        when:
+        def act = RawJson.wrap(bytes, 1, 8)
+
+        then:
+        act.size() == 8
+        act.toString() == '{"a": 1}'
+        act.bytes == '{"a": 1}'.getBytes()
+        act == RawJson.of('{"a": 1}')
+        act.hashCode() == RawJson.of('{"a": 1}').hashCode()
+    }
+
+    def "Fails to wrap outside of array"() {
+        when:
+        RawJson.wrap(new byte[4], 2, 3)
+
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "Writes a read-only buffer"() {
+        setup:
+        def buffer = ByteBuffer.wrap('[1, 2]'.getBytes()).asReadOnlyBuffer()
+        def out = new ByteArrayOutputStream()
+
+        when:
+        def act = RawJson.wrap(buffer)
+        act.writeTo(out)
+
+        then:
+        out.toString() == '[1, 2]'
+        act.toString() == '[1, 2]'
+        act.asByteBuffer().isReadOnly()
+    }
+
+    def "Copies tokens without a source parser"() {
+        setup:
+        def json = '{"jsonrpc": "2.0", "id": 1, "result": {"number": "0x10",  "extra": [1, "a\\"b"]}}'.getBytes()
+
+        when:
+        def act = jacksonRpcConverter.objectMapper.readerFor(RawJson)
+            .withAttribute(RawJsonDeserializer.SOURCE, json)
+            .readValue(jacksonRpcConverter.objectMapper.readTree(json).get("result").traverse())
+
+        then:
+        act.toString() == '{"number":"0x10","extra":[1,"a\\"b"]}'
+    }
+
+    def "Serializes verbatim"() {
+        setup:
+        def response = new io.emeraldpay.etherjar.rpc.ResponseJson<RawJson, Integer>()
+        response.id = 1
+        response.result = RawJson.of('{"number": "0x10"}')
+
+        when:
+        def act = jacksonRpcConverter.toJson(response)
+
+        then:
+        act == '{"jsonrpc":"2.0","id":1,"result":{"number": "0x10"}}'
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json
+
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.Wei
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.rpc.JacksonRpcConverter
+import io.emeraldpay.etherjar.rpc.TraceStreamReader
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class StateDiffAggregatorSpec extends Specification {
+
+    @TempDir
+    Path dir
+
+    static final Address ADDRESS_1 = Address.from("0x3f4e0668c20e100d7c2a27d4b177ac65b2875d26")
+    static final Address ADDRESS_2 = Address.from("0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb48")
+
+    static Hex32 value(int value) {
+        return Hex32.from(String.format("0x%064x", value))
+    }
+
+    static StateDiffJson diff(Address address, Map<Hex32, StateDiffJson.Change<Hex32>> storage, StateDiffJson.Change<Wei> balance = null) {
+        def addressDiff = new StateDiffJson.AddressDiff()
+        addressDiff.balance = balance
+        addressDiff.storage = storage
+        def result = new StateDiffJson()
+        result.put(address, addressDiff)
+        return result
+    }
+
+    def "Keeps state before first change and after last change"() {
+        setup:
+        def aggregator = new StateDiffAggregator()
+
+        when:
+        aggregator.add(diff(ADDRESS_1, [(value(1)): new StateDiffJson.FullChange<>(value(10), value(11))],
+            new StateDiffJson.FullChange<>(Wei.ofEthers(1), Wei.ofEthers(2))))
+        aggregator.add(diff(ADDRESS_1, [(value(1)): new StateDiffJson.NoChange<>()],
+            new StateDiffJson.FullChange<>(Wei.ofEthers(2), Wei.ofEthers(3))))
+        aggregator.add(diff(ADDRESS_1, [(value(1)): new StateDiffJson.FullChange<>(value(11), value(12))]))
+        def act = aggregator.toStateDiff().getDiff(ADDRESS_1)
+
+        then:
+        act.balance.type == StateDiffJson.ChangeType.REPLACE
+        act.balance.before == Wei.ofEthers(1)
+        act.balance.after == Wei.ofEthers(3)
+        act.nonce == null
+        act.code == null
+        act.storage.size() == 1
+        act.storage[value(1)].before == value(10)
+        act.storage[value(1)].after == value(12)
+    }
+
+    def "Skips values returned to original state"() {
+        setup:
+        def aggregator = new StateDiffAggregator()
+
+        when:
+        aggregator.add(diff(ADDRESS_1, [(value(1)): new StateDiffJson.FullChange<>(value(10), value(11))]))
+        aggregator.add(diff(ADDRESS_2, [(value(1)): new StateDiffJson.CreateChange<>(value(20))]))
+        aggregator.add(diff(ADDRESS_1, [(value(1)): new StateDiffJson.FullChange<>(value(11), value(10))]))
+        aggregator.add(diff(ADDRESS_2, [(value(1)): new StateDiffJson.RemoveChange<>(value(20))]))
+        def act = aggregator.toStateDiff()
+
+        then:
+        aggregator.accountsCount == 2
+        act.changes.isEmpty()
+    }
+
+    def "Merges create and remove"() {
+        setup:
+        def aggregator = new StateDiffAggregator()
+
+        when:
+        aggregator.add(diff(ADDRESS_1, [
+            (value(1)): new StateDiffJson.RemoveChange<>(value(10)),
+            (value(2)): new StateDiffJson.CreateChange<>(value(20)),
+            (value(3)): new StateDiffJson.FullChange<>(value(30), value(31)),
+        ]))
+        aggregator.add(diff(ADDRESS_1, [
+            (value(1)): new StateDiffJson.CreateChange<>(value(11)),
+            (value(2)): new StateDiffJson.FullChange<>(value(20), value(21)),
+            (value(3)): new StateDiffJson.RemoveChange<>(value(31)),
+        ]))
+        def act = aggregator.toStateDiff().getDiff(ADDRESS_1).storage
+
+        then:
+        act[value(1)].type == StateDiffJson.ChangeType.REPLACE
+        act[value(1)].before == value(10)
+        act[value(1)].after == value(11)
+        act[value(2)].type == StateDiffJson.ChangeType.CREATE
+        act[value(2)].after == value(21)
+        act[value(3)].type == StateDiffJson.ChangeType.REMOVE
+        act[value(3)].before == value(30)
+    }
+
+    def "Spills storage to disk"() {
+        setup:
+        def inMemory = new StateDiffAggregator()
+        def spilled = new StateDiffAggregator(3, dir)
+        def diffs = (0..<20).collect { i ->
+            diff(i % 2 == 0 ? ADDRESS_1 : ADDRESS_2, [
+                (value(i % 5)): new StateDiffJson.FullChange<>(value(i), value(i + 1)),
+                (value(i % 7 + 100)): new StateDiffJson.CreateChange<>(value(i)),
+            ])
+        }
+
+        when:
+        diffs.each {
+            inMemory.add(it)
+            spilled.add(it)
+        }
+        def exp = inMemory.toStateDiff()
+        def act = spilled.toStateDiff()
+
+        then:
+        spilled.spillsCount > 0
+        act.changes.keySet() == exp.changes.keySet()
+        [ADDRESS_1, ADDRESS_2].every { address ->
+            def actStorage = act.getDiff(address).storage
+            def expStorage = exp.getDiff(address).storage
+            actStorage.keySet() == expStorage.keySet() && actStorage.every { slot, change ->
+                change.type == expStorage[slot].type && change.before == expStorage[slot].before && change.after == expStorage[slot].after
+            }
+        }
+
+        when:
+        spilled.close()
+
+        then:
+        Files.list(dir).count() == 0
+    }
+
+    def "Reads diffs from replay"() {
+        setup:
+        def aggregator = new StateDiffAggregator()
+        ReplayTransactionJson replay = new JacksonRpcConverter().getObjectMapper()
+            .readValue(getClass().getResourceAsStream("/replayTx/0x2fb5f1.json"), ReplayTransactionJson)
+
+        when:
+        new TraceStreamReader().readReplay(getClass().getResourceAsStream("/replayTx/0x2fb5f1.json"), aggregator)
+        def act = aggregator.toStateDiff()
+
+        then:
+        act.changes.keySet() == replay.stateDiff.changes.keySet()
+        replay.stateDiff.changes.every { address, diff ->
+            def net = act.getDiff(address)
+            (diff.balance.hasChanged() ? net.balance.after == diff.balance.after : net.balance == null)
+            && diff.storage.every { slot, change -> net.storage[slot].after == change.after }
+        }
+    }
+
+    def "Requires positive limit"() {
+        when:
+        new StateDiffAggregator(0, dir)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "Fails to read after close"() {
+        setup:
+        def aggregator = new StateDiffAggregator(3, dir)
+        aggregator.close()
+
+        when:
+        aggregator.visit(new TraceVisitor() {})
+
+        then:
+        thrown(IllegalStateException)
+    }
+}
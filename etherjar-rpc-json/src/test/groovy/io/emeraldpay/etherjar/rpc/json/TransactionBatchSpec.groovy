@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.rpc.json
+
+import com.fasterxml.jackson.databind.JsonMappingException
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.AddressDictionary
+import io.emeraldpay.etherjar.domain.TransactionId
+import io.emeraldpay.etherjar.domain.Wei
+import io.emeraldpay.etherjar.hex.HexData
+import io.emeraldpay.etherjar.rpc.JacksonRpcConverter
+import io.emeraldpay.etherjar.rpc.RpcException
+import spock.lang.Specification
+
+class TransactionBatchSpec extends Specification {
+
+    JacksonRpcConverter jacksonRpcConverter = new JacksonRpcConverter()
+
+    private <T> T read(String path, Class<T> type) {
+        return jacksonRpcConverter.fromJson(TransactionBatchSpec.classLoader.getResourceAsStream(path), type)
+    }
+
+    def "Reads same transactions as full block"() {
+        setup:
+        BlockJson<TransactionJson> block = read(path, BlockJson)
+
+        when:
+        TransactionBatch act = read(path, TransactionBatch)
+
+        then:
+        act.size() == count
+        act.blockNumber == block.number
+        act.blockHash == block.hash
+        act.timestamp == block.timestamp
+        act.baseFeePerGas == block.baseFeePerGas
+        (0..<act.size()).every { i ->
+            def tx = block.transactions[i]
+            act.getHash(i) == tx.hash
+            && act.getType(i) == tx.type
+            && act.getNonce(i) == tx.nonce
+            && act.getGas(i) == tx.gas
+            && act.getFrom(i) == tx.from
+            && act.getTo(i) == tx.to
+            && act.isContractCreation(i) == (tx.to == null)
+            && act.getValue(i) == tx.value
+            && act.getGasPrice(i) == tx.gasPrice
+            && act.getMaxFeePerGas(i) == (tx.maxFeePerGas ?: Wei.ZERO)
+            && act.getMaxPriorityFeePerGas(i) == (tx.maxPriorityFeePerGas ?: Wei.ZERO)
+            && act.getInput(i) == (tx.input ?: HexData.empty())
+            && act.getInputSize(i) == (tx.input?.size ?: 0)
+        }
+        act.totalValue == new Wei(block.transactions.sum { it.value.amount } as BigInteger)
+        act.totalGas == block.transactions.sum { it.gas }
+        act.totalMaxFee == new Wei(block.transactions.sum { it.gasPrice.amount * it.gas } as BigInteger)
+
+        where:
+        path                              | count
+        "block/block-1920000-full.json"   | 4
+        "block/block-17172922-full.json"  | 148
+    }
+
+    def "Converts block with transactions"() {
+        setup:
+        BlockJson<TransactionJson> block = read("block/block-17172922-full.json", BlockJson)
+
+        when:
+        def act = TransactionBatch.from(block)
+        def exp = read("block/block-17172922-full.json", TransactionBatch)
+
+        then:
+        act.size() == exp.size()
+        act.blockNumber == exp.blockNumber
+        act.totalValue == exp.totalValue
+        act.totalMaxFee == exp.totalMaxFee
+        (0..<act.size()).every { i ->
+            act.getHash(i) == exp.getHash(i)
+            && act.getFrom(i) == exp.getFrom(i)
+            && act.getTo(i) == exp.getTo(i)
+            && act.getMaxFeePerGas(i) == exp.getMaxFeePerGas(i)
+            && act.getInput(i) == exp.getInput(i)
+        }
+    }
+
+    def "Groups transactions by sender"() {
+        setup:
+        BlockJson<TransactionJson> block = read("block/block-17172922-full.json", BlockJson)
+        TransactionBatch batch = read("block/block-17172922-full.json", TransactionBatch)
+        def dictionary = new AddressDictionary()
+
+        when:
+        def act = batch.getFromIds(dictionary)
+
+        then:
+        act.length == batch.size()
+        dictionary.size() == block.transactions.collect { it.from }.unique().size()
+        (0..<batch.size()).every { dictionary.get(act[it]) == block.transactions[it].from }
+    }
+
+    def "Reads array of transactions"() {
+        setup:
+        def json = '''[
+            {"hash": "0x5929b36be4586c57bd87dfb7ea6be3b985c1f527fa3d69d221604b424aeb4197", "nonce": "0x1", "gas": "0x5208",
+             "from": "0x3f4e0668c20e100d7c2a27d4b177ac65b2875d26", "to": null, "value": "0xffffffffffffffff0000000000000001",
+             "input": "0x60806040"},
+            {"hash": "0x1e694eba2778d9187a3b4f3b0d63e2e2d02fa2bde5b4b4c50c2b45bd4e4e5a7b", "nonce": "0x2", "gas": "0x5208",
+             "from": "0x3f4e0668c20e100d7c2a27d4b177ac65b2875d26", "to": "0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb48",
+             "value": "0xffffffffffffffff", "gasPrice": "0x1", "input": "0x"}
+        ]'''
+
+        when:
+        TransactionBatch act = jacksonRpcConverter.getObjectMapper().readValue(json, TransactionBatch)
+
+        then:
+        act.size() == 2
+        act.blockNumber == null
+        act.getHash(1) == TransactionId.from("0x1e694eba2778d9187a3b4f3b0d63e2e2d02fa2bde5b4b4c50c2b45bd4e4e5a7b")
+        act.getTo(0) == null
+        act.isContractCreation(0)
+        act.getTo(1) == Address.from("0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb48")
+        act.getValue(0) == new Wei(new BigInteger("ffffffffffffffff0000000000000001", 16))
+        act.getValue(1) == new Wei(new BigInteger("ffffffffffffffff", 16))
+        act.getGasPrice(0) == Wei.ZERO
+        act.getInput(0) == HexData.from("0x60806040")
+        act.getInputSize(1) == 0
+        act.totalValue == new Wei(BigInteger.ONE.shiftLeft(128))
+        act.totalGas == 0xa410
+        act.totalMaxFee == new Wei(0x5208)
+    }
+
+    def "Fails on block with transaction hashes"() {
+        when:
+        read("block/block-17172922.json", TransactionBatch)
+
+        then:
+        def t = thrown(RpcException)
+        t.message.contains("full transactions")
+    }
+
+    def "Fails on value bigger than 128 bits"() {
+        setup:
+        def json = '[{"value": "0x100000000000000000000000000000000"}]'
+
+        when:
+        jacksonRpcConverter.getObjectMapper().readValue(json, TransactionBatch)
+
+        then:
+        def t = thrown(JsonMappingException)
+        t.message.contains("Invalid Wei value")
+    }
+
+    def "Grows columns"() {
+        setup:
+        def batch = new TransactionBatch(1)
+
+        when:
+        (0..<100).each {
+            int i = batch.addTransaction()
+            batch.setNonce(i, it)
+            byte[] input = batch.reserveInput(i, 2)
+            input[batch.getInputOffset(i)] = (byte) it
+        }
+
+        then:
+        batch.size() == 100
+        (0..<100).every { batch.getNonce(it) == it && batch.getInput(it) == new HexData([(byte) it, 0] as byte[]) }
+    }
+
+    def "Checks index"() {
+        setup:
+        def batch = TransactionBatch.from([])
+
+        when:
+        batch.getNonce(0)
+
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+}
@@ -1,5 +1,6 @@
 package io.emeraldpay.etherjar.rpc.json
 
+import com.fasterxml.jackson.databind.JsonMappingException
 import com.fasterxml.jackson.databind.ObjectMapper
 import io.emeraldpay.etherjar.domain.Wei
 import io.emeraldpay.etherjar.rpc.EtherjarModule
@@ -240,4 +241,31 @@ class TransactionJsonDeserializeSpec extends Specification {
             it.v == 1
         }
     }
+
+    def "Parse tx with empty and null values"() {
+        setup:
+        def json = '{"hash": "0x1e694eba2778d34855fa1e01e0765acb31ce75a9abe8667882ffc2c12f4372bc", ' +
+            '"nonce": null, "to": null, "type": null, "input": "0x", "accessList": [null]}'
+        when:
+        def act = objectMapper.readValue(json, TransactionJson)
+        then:
+        act.nonce == null
+        act.to == null
+        act.type == 0
+        act.input == null
+        act.accessList == [null]
+        act.signature == null
+    }
+
+    def "Fails to parse tx with invalid quantity"() {
+        setup:
+        def json = '{"nonce": "' + value + '"}'
+        when:
+        objectMapper.readValue(json, TransactionJson)
+        then:
+        def t = thrown(JsonMappingException)
+        t.message.contains("Invalid")
+        where:
+        value << ["1", "0x", "0xzz", "0x10000000000000000"]
+    }
 }
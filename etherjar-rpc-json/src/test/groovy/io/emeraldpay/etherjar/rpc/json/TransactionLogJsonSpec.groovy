@@ -105,4 +105,20 @@ class TransactionLogJsonSpec extends Specification {
         !json.contains("\"hash\":")
         json.findAll("0xc765d3a679254d60a519d83f33059f882875ad67d4114fb3de4c87a446fd0e52").size() == 1
     }
+
+    def "Reads removed flag"() {
+        when:
+        def act = objectMapper.readValue('{"removed":' + json + '}', TransactionLogJson)
+
+        then:
+        act.removed == expected
+
+        where:
+        json     | expected
+        'true'   | true
+        'false'  | false
+        'null'   | null
+        '""'     | null
+        '"true"' | true
+    }
 }
@@ -16,6 +16,8 @@
 package io.emeraldpay.etherjar.rpc.json
 
 import com.fasterxml.jackson.databind.ObjectMapper
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.hex.Hex32
 import io.emeraldpay.etherjar.rpc.JacksonRpcConverter
 import spock.lang.Specification
 
@@ -322,4 +324,68 @@ class TransactionReceiptJsonSpec extends Specification {
         act.logs.size() == 12
         act.logsBloom.toHex().startsWith("0x10a05")
     }
+
+    def "Parse receipt 0xe9230e with projection of logs"() {
+        setup:
+        def full = objectMapper.readValue(TransactionReceiptJsonSpec.classLoader.getResourceAsStream("receipt/0xe9230e.json"), TransactionReceiptJson)
+        InputStream json = TransactionReceiptJsonSpec.classLoader.getResourceAsStream("receipt/0xe9230e.json")
+
+        when:
+        def act = objectMapper.readerFor(TransactionReceiptJson)
+            .withAttribute(Projection.ATTRIBUTE, Projection.of("logs.address", "logs.topics"))
+            .readValue(json) as TransactionReceiptJson
+
+        then:
+        act.transactionHash == null
+        act.gasUsed == null
+        act.logs.size() == 12
+        act.logs*.address == full.logs*.address
+        act.logs*.topics == full.logs*.topics
+        act.logs.every { it.data == null && it.blockHash == null }
+    }
+
+    def "Parse receipt 0xe9230e with log filter"() {
+        setup:
+        def full = objectMapper.readValue(TransactionReceiptJsonSpec.classLoader.getResourceAsStream("receipt/0xe9230e.json"), TransactionReceiptJson)
+        InputStream json = TransactionReceiptJsonSpec.classLoader.getResourceAsStream("receipt/0xe9230e.json")
+        def filter = LogFilter.newBuilder()
+            .address(Address.from("0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb48"))
+            .topic(Hex32.from("0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef"))
+            .build()
+
+        when:
+        def act = objectMapper.readerFor(TransactionReceiptJson)
+            .withAttribute(Projection.ATTRIBUTE, Projection.ALL.withLogFilter(filter))
+            .readValue(json) as TransactionReceiptJson
+
+        then:
+        act.gasUsed == full.gasUsed
+        act.logsBloom == full.logsBloom
+        act.logs.size() == 2
+        act.logs == [full.logs[5], full.logs[8]]
+    }
+
+    def "Filter logs without address or topics"() {
+        setup:
+        def json = '{"gasUsed": "0x10", "logs": [' +
+            '{"data": "0x01", "topics": null, "address": "0x0000000000000000000000000000000000000001"},' +
+            '{"address": "0x0000000000000000000000000000000000000001", "topics": []},' +
+            '{"topics": ["0x1111111111111111111111111111111111111111111111111111111111111111", "0x2222222222222222222222222222222222222222222222222222222222222222"], "data": "0x02"},' +
+            '{"logIndex": "0x5", "topics": ["0x3333333333333333333333333333333333333333333333333333333333333333"]}' +
+            ']}'
+        def filter = LogFilter.newBuilder()
+            .topic(Hex32.from("0x1111111111111111111111111111111111111111111111111111111111111111"))
+            .build()
+
+        when:
+        def act = objectMapper.readerFor(TransactionReceiptJson)
+            .withAttribute(Projection.ATTRIBUTE, Projection.ALL.withLogFilter(filter))
+            .readValue(json) as TransactionReceiptJson
+
+        then:
+        act.gasUsed == 0x10
+        act.logs.size() == 1
+        act.logs[0].topics.size() == 2
+        act.logs[0].data.toHex() == "0x02"
+    }
 }
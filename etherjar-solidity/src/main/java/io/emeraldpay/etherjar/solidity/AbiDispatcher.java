@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.solidity;
+
+import io.emeraldpay.etherjar.domain.MethodId;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.util.*;
+
+/**
+ * A dispatch table of known methods and events, which finds a method by the selector of call data, and an event by
+ * the first topic of a log, with a single hash lookup regardless of number of known contracts.
+ *
+ * <p>Selectors are packed as {@code int}, and event ids as four {@code long}s, into open addressing tables, so
+ * a lookup reads the selector or the topic in place, without copying it or creating keys; the only allocation is
+ * the returned {@code Optional}. Codecs of the arguments are compiled when the dispatcher is built.
+ *
+ * <pre>{@code
+ * AbiDispatcher dispatcher = new AbiDispatcher.Builder()
+ *          .add(ContractAbi.fromJson(erc20Json))
+ *          .add(ContractAbi.fromJson(routerJson))
+ *          .build();
+ *
+ * dispatcher.decodeCall(tx.getInput()).ifPresent(call -> ...);
+ * }</pre>
+ *
+ * <p>If different methods have the same selector (or different events have the same id and number of topics),
+ * the first added one is used. The dispatcher is immutable and thread safe.
+ *
+ * @see ContractAbi
+ */
+public class AbiDispatcher {
+
+    public static class Builder {
+
+        private final Map<Integer, ContractMethod> methods = new LinkedHashMap<>();
+
+        private final List<ContractEventDefinition> events = new ArrayList<>();
+
+        /**
+         * @param abi methods and events of a contract
+         * @return builder instance
+         */
+        public Builder add(ContractAbi abi) {
+            abi.getMethods().forEach(this::add);
+            abi.getEvents().forEach(this::add);
+
+            return this;
+        }
+
+        /**
+         * @param method a contract method
+         * @return builder instance
+         */
+        public Builder add(ContractMethod method) {
+            methods.putIfAbsent(method.getSelector(), method);
+
+            return this;
+        }
+
+        /**
+         * Add an event, except an anonymous one, which cannot be recognized by topics.
+         *
+         * @param event a contract event
+         * @return builder instance
+         */
+        public Builder add(ContractEventDefinition event) {
+            if (!event.isAnonymous())
+                events.add(event);
+
+            return this;
+        }
+
+        /**
+         * Build an {@link AbiDispatcher} instance.
+         *
+         * @return an {@link AbiDispatcher} instance
+         */
+        public AbiDispatcher build() {
+            return new AbiDispatcher(methods.values(), events);
+        }
+    }
+
+    /**
+     * A method call with decoded arguments.
+     */
+    public static class DecodedCall {
+
+        private final ContractMethod method;
+
+        private final List<Object> arguments;
+
+        public DecodedCall(ContractMethod method, List<Object> arguments) {
+            this.method = Objects.requireNonNull(method);
+            this.arguments = Objects.requireNonNull(arguments);
+        }
+
+        public ContractMethod getMethod() {
+            return method;
+        }
+
+        public List<Object> getArguments() {
+            return arguments;
+        }
+
+        @Override
+        public String toString() {
+            return method.getName() + arguments;
+        }
+    }
+
+    /**
+     * An event with decoded arguments.
+     */
+    public static class DecodedEvent {
+
+        private final ContractEventDefinition event;
+
+        private final List<Object> arguments;
+
+        public DecodedEvent(ContractEventDefinition event, List<Object> arguments) {
+            this.event = Objects.requireNonNull(event);
+            this.arguments = Objects.requireNonNull(arguments);
+        }
+
+        public ContractEventDefinition getEvent() {
+            return event;
+        }
+
+        public List<Object> getArguments() {
+            return arguments;
+        }
+
+        @Override
+        public String toString() {
+            return event.getName() + arguments;
+        }
+    }
+
+    private static final int EVENT_ID_LONGS = Hex32.SIZE_BYTES / Long.BYTES;
+
+    /**
+     * Get a selector of call data, i.e. its first four bytes packed as a big-endian {@code int}.
+     *
+     * @param input a call data or a method id
+     * @return the selector
+     * @throws IllegalArgumentException if the data is shorter than a method id
+     */
+    public static int selectorOf(HexData input) {
+        if (input.getSize() < MethodId.SIZE_BYTES)
+            throw new IllegalArgumentException("Insufficient data length for a method id: " + input.getSize());
+
+        return (int) input.asLong(0, MethodId.SIZE_BYTES);
+    }
+
+    private static int tableSize(int count) {
+        int size = 2;
+
+        while (size < count * 2)
+            size <<= 1;
+
+        return size;
+    }
+
+    private static int hash(long value) {
+        int h = (int) (value ^ (value >>> 32));
+
+        return h ^ (h >>> 16);
+    }
+
+    private final int methodsCount;
+
+    private final int[] selectors;
+
+    private final ContractMethod[] methods;
+
+    private final int eventsCount;
+
+    private final long[] eventIds;
+
+    private final ContractEventDefinition[][] events;
+
+    public AbiDispatcher(Collection<ContractMethod> methods, Collection<ContractEventDefinition> events) {
+        int size = tableSize(methods.size());
+
+        this.selectors = new int[size];
+        this.methods = new ContractMethod[size];
+
+        int count = 0;
+
+        for (ContractMethod method : methods) {
+            int slot = hash(method.getSelector()) & (size - 1);
+
+            while (this.methods[slot] != null && selectors[slot] != method.getSelector())
+                slot = (slot + 1) & (size - 1);
+
+            if (this.methods[slot] == null) {
+                method.getInputTypes().getCodec();
+
+                selectors[slot] = method.getSelector();
+                this.methods[slot] = method;
+                count++;
+            }
+        }
+
+        this.methodsCount = count;
+
+        size = tableSize(events.size());
+
+        this.eventIds = new long[size * EVENT_ID_LONGS];
+        this.events = new ContractEventDefinition[size][];
+
+        count = 0;
+
+        for (ContractEventDefinition event : events) {
+            if (event.isAnonymous())
+                continue;
+
+            int slot = findSlot(event.getId());
+            ContractEventDefinition[] list = this.events[slot];
+
+            if (list == null) {
+                for (int i = 0; i < EVENT_ID_LONGS; i++) {
+                    eventIds[slot * EVENT_ID_LONGS + i] = event.getId().asLong(i * Long.BYTES, Long.BYTES);
+                }
+
+                list = new ContractEventDefinition[0];
+            } else if (Arrays.stream(list).anyMatch(it -> it.getTopicsCount() == event.getTopicsCount())) {
+                continue;
+            }
+
+            event.getDataTypes().getCodec();
+
+            list = Arrays.copyOf(list, list.length + 1);
+            list[list.length - 1] = event;
+
+            this.events[slot] = list;
+            count++;
+        }
+
+        this.eventsCount = count;
+    }
+
+    /**
+     * Find a slot of the events table which either contains the event id, or is empty.
+     */
+    private int findSlot(Hex32 eventId) {
+        long k0 = eventId.asLong(0, Long.BYTES);
+        long k1 = eventId.asLong(Long.BYTES, Long.BYTES);
+        long k2 = eventId.asLong(2 * Long.BYTES, Long.BYTES);
+        long k3 = eventId.asLong(3 * Long.BYTES, Long.BYTES);
+
+        int mask = events.length - 1;
+        int slot = hash(k0) & mask;
+
+        while (events[slot] != null) {
+            int pos = slot * EVENT_ID_LONGS;
+
+            if (eventIds[pos] == k0 && eventIds[pos + 1] == k1 && eventIds[pos + 2] == k2 && eventIds[pos + 3] == k3)
+                break;
+
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    /**
+     * @return number of known methods
+     */
+    public int getMethodsCount() {
+        return methodsCount;
+    }
+
+    /**
+     * @return number of known events
+     */
+    public int getEventsCount() {
+        return eventsCount;
+    }
+
+    /**
+     * Find a method by a selector.
+     *
+     * @param selector a method id packed as {@code int}
+     * @return an {@code Optional} containing the method, or an empty {@code Optional} if it's unknown
+     * @see #selectorOf(HexData)
+     */
+    public Optional<ContractMethod> findMethod(int selector) {
+        int mask = methods.length - 1;
+        int slot = hash(selector) & mask;
+
+        ContractMethod method;
+
+        while ((method = methods[slot]) != null) {
+            if (selectors[slot] == selector)
+                return Optional.of(method);
+
+            slot = (slot + 1) & mask;
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Find a method of call data.
+     *
+     * @param input a call data or a method id
+     * @return an {@code Optional} containing the method, or an empty {@code Optional} if it's unknown or the data
+     * is shorter than a method id
+     */
+    public Optional<ContractMethod> findMethod(HexData input) {
+        if (input.getSize() < MethodId.SIZE_BYTES)
+            return Optional.empty();
+
+        return findMethod(selectorOf(input));
+    }
+
+    /**
+     * Find an event of a log.
+     *
+     * @param topics log topics
+     * @return an {@code Optional} containing the event, or an empty {@code Optional} if it's unknown
+     */
+    public Optional<ContractEventDefinition> findEvent(List<? extends Hex32> topics) {
+        if (topics.isEmpty())
+            return Optional.empty();
+
+        ContractEventDefinition[] list = events[findSlot(topics.get(0))];
+
+        if (list != null) {
+            for (ContractEventDefinition event : list) {
+                if (event.getTopicsCount() == topics.size())
+                    return Optional.of(event);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Find a method of call data and decode its arguments.
+     *
+     * @param input a call data
+     * @return an {@code Optional} containing the decoded call, or an empty {@code Optional} if the method is unknown
+     * @throws IllegalArgumentException if the method is known, but the arguments are invalid
+     */
+    public Optional<DecodedCall> decodeCall(HexData input) {
+        return findMethod(input).map(method ->
+                new DecodedCall(method, method.getInputTypes().getCodec().decode(input, MethodId.SIZE_BYTES)));
+    }
+
+    /**
+     * Find an event of a log and decode its arguments.
+     *
+     * @param topics log topics
+     * @param data log data
+     * @return an {@code Optional} containing the decoded event, or an empty {@code Optional} if the event is unknown
+     * @throws IllegalArgumentException if the event is known, but the data is invalid
+     */
+    public Optional<DecodedEvent> decodeEvent(List<? extends Hex32> topics, HexData data) {
+        return findEvent(topics).map(event -> new DecodedEvent(event, event.decode(topics, data)));
+    }
+}
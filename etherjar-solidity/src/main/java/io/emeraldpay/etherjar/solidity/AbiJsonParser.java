@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.solidity;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal JSON reader for ABI definitions produced by {@code solc}, so the module doesn't depend on a JSON library.
+ *
+ * <p>Objects are read as {@link Map}, arrays as {@link List}, numbers as {@link BigDecimal}, and the rest as
+ * {@link String}, {@link Boolean} or {@code null}.
+ */
+final class AbiJsonParser {
+
+    private final String json;
+
+    private int pos = 0;
+
+    private AbiJsonParser(String json) {
+        this.json = json;
+    }
+
+    /**
+     * @param json a JSON string
+     * @return parsed value
+     * @throws IllegalArgumentException if the JSON is malformed
+     */
+    static Object parse(String json) {
+        AbiJsonParser parser = new AbiJsonParser(json);
+
+        Object value = parser.readValue();
+
+        parser.skipWhitespace();
+
+        if (parser.pos != json.length())
+            throw parser.error("Unexpected trailing data");
+
+        return value;
+    }
+
+    private Object readValue() {
+        skipWhitespace();
+
+        if (pos >= json.length())
+            throw error("Unexpected end of JSON");
+
+        char ch = json.charAt(pos);
+
+        switch (ch) {
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case '"':
+                return readString();
+            case 't':
+                return readLiteral("true", Boolean.TRUE);
+            case 'f':
+                return readLiteral("false", Boolean.FALSE);
+            case 'n':
+                return readLiteral("null", null);
+            default:
+                if (ch == '-' || (ch >= '0' && ch <= '9'))
+                    return readNumber();
+
+                throw error("Unexpected character '" + ch + "'");
+        }
+    }
+
+    private Map<String, Object> readObject() {
+        Map<String, Object> result = new LinkedHashMap<>();
+
+        pos++;
+
+        if (consume('}'))
+            return result;
+
+        do {
+            skipWhitespace();
+
+            if (pos >= json.length() || json.charAt(pos) != '"')
+                throw error("Expected a field name");
+
+            String name = readString();
+
+            if (!consume(':'))
+                throw error("Expected ':'");
+
+            result.put(name, readValue());
+        } while (consume(','));
+
+        if (!consume('}'))
+            throw error("Expected ',' or '}'");
+
+        return result;
+    }
+
+    private List<Object> readArray() {
+        List<Object> result = new ArrayList<>();
+
+        pos++;
+
+        if (consume(']'))
+            return result;
+
+        do {
+            result.add(readValue());
+        } while (consume(','));
+
+        if (!consume(']'))
+            throw error("Expected ',' or ']'");
+
+        return result;
+    }
+
+    private String readString() {
+        StringBuilder buf = new StringBuilder();
+
+        pos++;
+
+        while (pos < json.length()) {
+            char ch = json.charAt(pos++);
+
+            if (ch == '"')
+                return buf.toString();
+
+            if (ch != '\\') {
+                buf.append(ch);
+                continue;
+            }
+
+            if (pos >= json.length())
+                break;
+
+            char esc = json.charAt(pos++);
+
+            switch (esc) {
+                case '"':
+                case '\\':
+                case '/':
+                    buf.append(esc);
+                    break;
+                case 'b':
+                    buf.append('\b');
+                    break;
+                case 'f':
+                    buf.append('\f');
+                    break;
+                case 'n':
+                    buf.append('\n');
+                    break;
+                case 'r':
+                    buf.append('\r');
+                    break;
+                case 't':
+                    buf.append('\t');
+                    break;
+                case 'u':
+                    if (pos + 4 > json.length())
+                        throw error("Invalid unicode escape");
+
+                    try {
+                        buf.append((char) Integer.parseInt(json.substring(pos, pos + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw error("Invalid unicode escape");
+                    }
+
+                    pos += 4;
+                    break;
+                default:
+                    throw error("Invalid escape character '" + esc + "'");
+            }
+        }
+
+        throw error("Unterminated string");
+    }
+
+    private BigDecimal readNumber() {
+        int start = pos;
+
+        while (pos < json.length() && "+-0123456789.eE".indexOf(json.charAt(pos)) >= 0)
+            pos++;
+
+        try {
+            return new BigDecimal(json.substring(start, pos));
+        } catch (NumberFormatException e) {
+            throw error("Invalid number");
+        }
+    }
+
+    private Object readLiteral(String literal, Object value) {
+        if (!json.startsWith(literal, pos))
+            throw error("Unexpected literal");
+
+        pos += literal.length();
+
+        return value;
+    }
+
+    private boolean consume(char ch) {
+        skipWhitespace();
+
+        if (pos < json.length() && json.charAt(pos) == ch) {
+            pos++;
+            return true;
+        }
+
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (pos < json.length() && Character.isWhitespace(json.charAt(pos)))
+            pos++;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + pos + " of ABI JSON");
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.solidity;
+
+import io.emeraldpay.etherjar.abi.DefaultRepository;
+import io.emeraldpay.etherjar.abi.Type;
+import io.emeraldpay.etherjar.domain.Address;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Methods and events of a smart contract, as they are defined by the ABI JSON produced by {@code solc}.
+ *
+ * <p>Constructors, fallback and receive functions, and errors are ignored.
+ *
+ * @see AbiDispatcher
+ * @see Compiler.CompiledContract#getAbi()
+ * @see <a href="https://docs.soliditylang.org/en/latest/abi-spec.html#json">JSON ABI</a>
+ */
+public class ContractAbi {
+
+    private static final String TUPLE = "tuple";
+
+    /**
+     * Parse an ABI JSON with the default types repository.
+     *
+     * @param json an ABI JSON, i.e. an array of methods and events definitions
+     * @return a {@link ContractAbi} instance
+     * @throws IllegalArgumentException if the JSON is malformed or contains an unknown type
+     * @see #fromJson(Type.Repository, String)
+     */
+    public static ContractAbi fromJson(String json) {
+        return fromJson(DefaultRepository.getInstance(), json);
+    }
+
+    /**
+     * Parse an ABI JSON.
+     *
+     * @param repo a {@link Type} parsers repository
+     * @param json an ABI JSON, i.e. an array of methods and events definitions
+     * @return a {@link ContractAbi} instance
+     * @throws IllegalArgumentException if the JSON is malformed or contains an unknown type
+     */
+    public static ContractAbi fromJson(Type.Repository repo, String json) {
+        Object root = AbiJsonParser.parse(Objects.requireNonNull(json));
+
+        if (!(root instanceof List))
+            throw new IllegalArgumentException("ABI JSON is not an array");
+
+        List<ContractMethod> methods = new ArrayList<>();
+        List<ContractEventDefinition> events = new ArrayList<>();
+
+        for (Object item : (List<?>) root) {
+            Map<?, ?> entry = asObject(item);
+            Object type = entry.get("type");
+
+            if (type == null || "function".equals(type)) {
+                methods.add(readMethod(repo, entry));
+            } else if ("event".equals(type)) {
+                events.add(readEvent(repo, entry));
+            }
+        }
+
+        return new ContractAbi(methods, events);
+    }
+
+    private static ContractMethod readMethod(Type.Repository repo, Map<?, ?> entry) {
+        ContractMethod.Builder builder = new ContractMethod.Builder()
+                .withName(getString(entry, "name"))
+                .withInputTypes(readTypes(repo, entry.get("inputs")))
+                .withOutputTypes(readTypes(repo, entry.get("outputs")));
+
+        Object mutability = entry.get("stateMutability");
+
+        if (Boolean.TRUE.equals(entry.get("constant")) || "view".equals(mutability) || "pure".equals(mutability))
+            builder.asConstant();
+
+        return builder.build();
+    }
+
+    private static ContractEventDefinition readEvent(Type.Repository repo, Map<?, ?> entry) {
+        ContractEventDefinition.Builder builder = new ContractEventDefinition.Builder()
+                .withName(getString(entry, "name"));
+
+        if (Boolean.TRUE.equals(entry.get("anonymous")))
+            builder.asAnonymous();
+
+        for (Object input : asList(entry.get("inputs"))) {
+            Map<?, ?> param = asObject(input);
+
+            builder.withArgument(findType(repo, param), Boolean.TRUE.equals(param.get("indexed")));
+        }
+
+        return builder.build();
+    }
+
+    private static List<Type> readTypes(Type.Repository repo, Object params) {
+        List<Type> types = new ArrayList<>();
+
+        for (Object param : asList(params)) {
+            types.add(findType(repo, asObject(param)));
+        }
+
+        return types;
+    }
+
+    private static Type findType(Type.Repository repo, Map<?, ?> param) {
+        String name = toCanonicalName(param);
+        Optional<Type> type = repo.search(name);
+
+        if (!type.isPresent())
+            throw new IllegalArgumentException("Unknown parameter type format: " + name);
+
+        return type.get();
+    }
+
+    /**
+     * Resolve a parameter type name, i.e. replace {@code tuple} with the list of its components types.
+     */
+    private static String toCanonicalName(Map<?, ?> param) {
+        String type = getString(param, "type");
+
+        if (!type.startsWith(TUPLE))
+            return type;
+
+        String components = asList(param.get("components")).stream()
+                .map(it -> toCanonicalName(asObject(it)))
+                .collect(Collectors.joining(",", "(", ")"));
+
+        return components + type.substring(TUPLE.length());
+    }
+
+    private static Map<?, ?> asObject(Object value) {
+        if (!(value instanceof Map))
+            throw new IllegalArgumentException("ABI JSON element is not an object: " + value);
+
+        return (Map<?, ?>) value;
+    }
+
+    private static List<?> asList(Object value) {
+        if (value == null)
+            return Collections.emptyList();
+
+        if (!(value instanceof List))
+            throw new IllegalArgumentException("ABI JSON element is not an array: " + value);
+
+        return (List<?>) value;
+    }
+
+    private static String getString(Map<?, ?> entry, String field) {
+        Object value = entry.get(field);
+
+        if (!(value instanceof String))
+            throw new IllegalArgumentException("ABI JSON element has no '" + field + "': " + entry);
+
+        return (String) value;
+    }
+
+    private final List<ContractMethod> methods;
+
+    private final List<ContractEventDefinition> events;
+
+    public ContractAbi(Collection<ContractMethod> methods, Collection<ContractEventDefinition> events) {
+        this.methods = Collections.unmodifiableList(new ArrayList<>(methods));
+        this.events = Collections.unmodifiableList(new ArrayList<>(events));
+    }
+
+    /**
+     * @return contract methods
+     */
+    public List<ContractMethod> getMethods() {
+        return methods;
+    }
+
+    /**
+     * @return contract events
+     */
+    public List<ContractEventDefinition> getEvents() {
+        return events;
+    }
+
+    /**
+     * Create a contract with the methods at the given address.
+     *
+     * @param address a contract address
+     * @return a {@link Contract} instance
+     */
+    public Contract toContract(Address address) {
+        return new Contract(address, methods);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), methods, events);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (Objects.isNull(obj)) return false;
+
+        if (!Objects.equals(getClass(), obj.getClass()))
+            return false;
+
+        ContractAbi other = (ContractAbi) obj;
+
+        return Objects.equals(methods, other.methods) && Objects.equals(events, other.events);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s{methods=%s,events=%s}", getClass().getSimpleName(), methods, events);
+    }
+}
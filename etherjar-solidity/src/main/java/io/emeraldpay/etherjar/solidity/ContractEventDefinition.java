@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.solidity;
+
+import io.emeraldpay.etherjar.abi.SimpleType;
+import io.emeraldpay.etherjar.abi.Type;
+import io.emeraldpay.etherjar.domain.EventId;
+import io.emeraldpay.etherjar.hex.Hex32;
+import io.emeraldpay.etherjar.hex.HexData;
+
+import java.util.*;
+
+/**
+ * A smart contract event definition, i.e. its signature and which of the arguments are indexed.
+ *
+ * <p>Indexed arguments are stored as log topics (after the event id, unless the event is anonymous), and the rest
+ * are ABI encoded as log data.
+ *
+ * @see ContractAbi
+ * @see <a href="https://docs.soliditylang.org/en/latest/abi-spec.html#events">Events</a>
+ */
+public class ContractEventDefinition {
+
+    public static class Builder {
+
+        private String name = null;
+
+        private boolean isAnonymous = false;
+
+        private final List<Type> types = new ArrayList<>();
+
+        private final List<Boolean> indexed = new ArrayList<>();
+
+        /**
+         * @param name an event name
+         * @return builder instance
+         */
+        public Builder withName(String name) {
+            this.name = Objects.requireNonNull(name);
+
+            return this;
+        }
+
+        /**
+         * Mark the event as anonymous, i.e. its id is not included into the topics.
+         *
+         * @return builder instance
+         */
+        public Builder asAnonymous() {
+            isAnonymous = true;
+
+            return this;
+        }
+
+        /**
+         * Append an argument which is encoded into the log data.
+         *
+         * @param type an argument type
+         * @return builder instance
+         */
+        public Builder withArgument(Type type) {
+            return withArgument(type, false);
+        }
+
+        /**
+         * Append an argument.
+         *
+         * @param type an argument type
+         * @param isIndexed {@code true} if the argument is stored as a topic
+         * @return builder instance
+         */
+        public Builder withArgument(Type type, boolean isIndexed) {
+            types.add(Objects.requireNonNull(type));
+            indexed.add(isIndexed);
+
+            return this;
+        }
+
+        /**
+         * Build a {@link ContractEventDefinition} instance with predefined conditions.
+         *
+         * @return a {@link ContractEventDefinition} instance
+         */
+        public ContractEventDefinition build() {
+            if (Objects.isNull(name))
+                throw new IllegalStateException("Undefined contract event name");
+
+            return new ContractEventDefinition(name, isAnonymous, types, indexed);
+        }
+    }
+
+    /**
+     * Max number of topics in a log
+     */
+    public static final int MAX_TOPICS = 4;
+
+    private final EventId id;
+
+    private final String name;
+
+    private final boolean isAnonymous;
+
+    private final ContractParametersTypes inputTypes;
+
+    private final ContractParametersTypes dataTypes;
+
+    private final boolean[] indexed;
+
+    private final int indexedCount;
+
+    public ContractEventDefinition(String name,
+                                   boolean isAnonymous,
+                                   List<? extends Type> types,
+                                   List<Boolean> indexed) {
+        if (types.size() != indexed.size())
+            throw new IllegalArgumentException("Indexed flags don't match the arguments: " + indexed.size());
+
+        this.name = Objects.requireNonNull(name);
+        this.isAnonymous = isAnonymous;
+        this.inputTypes = new ContractParametersTypes(types);
+        this.indexed = new boolean[types.size()];
+
+        List<Type> data = new ArrayList<>();
+        int count = 0;
+
+        for (int i = 0; i < types.size(); i++) {
+            if (indexed.get(i)) {
+                this.indexed[i] = true;
+                count++;
+            } else {
+                data.add(types.get(i));
+            }
+        }
+
+        if (count + (isAnonymous ? 0 : 1) > MAX_TOPICS)
+            throw new IllegalArgumentException("Too many indexed arguments: " + count);
+
+        this.indexedCount = count;
+        this.dataTypes = new ContractParametersTypes(data);
+        this.id = EventId.fromSignature(name, inputTypes.toCanonicalNames());
+    }
+
+    /**
+     * @return the event id, i.e. the first topic of a log for a non-anonymous event
+     */
+    public EventId getId() {
+        return id;
+    }
+
+    /**
+     * @return the event name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return {@code true} if the event id is not included into the topics
+     */
+    public boolean isAnonymous() {
+        return isAnonymous;
+    }
+
+    /**
+     * @return types of all the event arguments
+     */
+    public ContractParametersTypes getInputTypes() {
+        return inputTypes;
+    }
+
+    /**
+     * @return types of the arguments encoded into the log data
+     */
+    public ContractParametersTypes getDataTypes() {
+        return dataTypes;
+    }
+
+    /**
+     * @param index an argument index
+     * @return {@code true} if the argument is stored as a topic
+     */
+    public boolean isIndexed(int index) {
+        return indexed[index];
+    }
+
+    /**
+     * @return number of indexed arguments
+     */
+    public int getIndexedCount() {
+        return indexedCount;
+    }
+
+    /**
+     * @return expected number of topics in a log, including the event id
+     */
+    public int getTopicsCount() {
+        return indexedCount + (isAnonymous ? 0 : 1);
+    }
+
+    /**
+     * Decode arguments of the event from a log.
+     *
+     * <p>Only indexed arguments of elementary value types (i.e. {@link SimpleType}) are stored in topics as is.
+     * Indexed arrays, structs, strings and bytes are stored as a Keccak hash of their encoding, so they are
+     * returned as {@link Hex32} topic values.
+     *
+     * @param topics log topics, including the event id for a non-anonymous event
+     * @param data log data
+     * @return a list of decoded arguments in the declaration order
+     * @throws IllegalArgumentException if the log doesn't match the event
+     */
+    public List<Object> decode(List<? extends Hex32> topics, HexData data) {
+        if (topics.size() != getTopicsCount())
+            throw new IllegalArgumentException("Wrong number of topics: " + topics.size());
+
+        List<Object> values = dataTypes.getCodec().decode(data);
+        List<Object> buf = new ArrayList<>(indexed.length);
+
+        int topic = isAnonymous ? 0 : 1;
+        int value = 0;
+
+        for (int i = 0; i < indexed.length; i++) {
+            if (!indexed[i]) {
+                buf.add(values.get(value++));
+                continue;
+            }
+
+            Type type = inputTypes.getTypes().get(i);
+            Hex32 hex = topics.get(topic++);
+
+            buf.add(type instanceof SimpleType ? type.decode(hex) : hex);
+        }
+
+        return Collections.unmodifiableList(buf);
+    }
+
+    /**
+     * ABI signature of the event, e.g. {@code Transfer(address,address,uint256)}.
+     *
+     * @return a string
+     */
+    public String toAbi() {
+        return String.format("%s(%s)", name, inputTypes.toAbi());
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(getClass(), id, indexedCount);
+    }
+
+    @Override
+    public final boolean equals(Object obj) {
+        if (this == obj) return true;
+
+        if (Objects.isNull(obj)) return false;
+
+        if (!Objects.equals(getClass(), obj.getClass()))
+            return false;
+
+        ContractEventDefinition other = (ContractEventDefinition) obj;
+
+        return Objects.equals(id, other.id)
+                && isAnonymous == other.isAnonymous
+                && Arrays.equals(indexed, other.indexed);
+    }
+
+    @Override
+    public String toString() {
+        return toAbi();
+    }
+}
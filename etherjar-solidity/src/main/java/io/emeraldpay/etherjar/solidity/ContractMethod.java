@@ -173,6 +173,8 @@ public class ContractMethod {
 
     private final MethodId id;
 
+    private final int selector;
+
     private final String name;
 
     private final boolean isConstant;
@@ -199,6 +201,7 @@ public class ContractMethod {
                           ContractParametersTypes outputTypes) {
 
         this.id = MethodId.fromSignature(name, inputTypes.toCanonicalNames());
+        this.selector = AbiDispatcher.selectorOf(id);
         this.name = Objects.requireNonNull(name);
         this.isConstant = isConstant;
         this.inputTypes = Objects.requireNonNull(inputTypes);
@@ -212,6 +215,14 @@ public class ContractMethod {
         return id;
     }
 
+    /**
+     * @return the methods id packed as a big-endian {@code int}
+     * @see AbiDispatcher#selectorOf(HexData)
+     */
+    public int getSelector() {
+        return selector;
+    }
+
     /**
      * @return the method name
      */
@@ -267,7 +278,23 @@ public class ContractMethod {
      * @see <a href="https://github.com/ethereum/wiki/wiki/Ethereum-Contract-ABI#examples">Examples</a>
      */
     public HexData encodeCall(Collection<?> args) {
-        return id.concat(inputTypes.encode(args));
+        return inputTypes.encodeCall(id, args);
+    }
+
+    /**
+     * Decode arguments of a call data, i.e. the encoded arguments following the method id. The arguments are decoded
+     * in place, without extracting them from the call data first.
+     *
+     * @param input a call data
+     * @return a list of decoded arguments
+     * @throws IllegalArgumentException if the call data is not a call of this method, or it's invalid
+     * @see #encodeCall(Collection)
+     */
+    public List<Object> decodeCall(HexData input) {
+        if (input.getSize() < MethodId.SIZE_BYTES || AbiDispatcher.selectorOf(input) != selector)
+            throw new IllegalArgumentException("Call data doesn't match the method: " + id);
+
+        return inputTypes.getCodec().decode(input, MethodId.SIZE_BYTES);
     }
 
     /**
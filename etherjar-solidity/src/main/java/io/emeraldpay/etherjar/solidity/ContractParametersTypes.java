@@ -17,7 +17,9 @@
 
 package io.emeraldpay.etherjar.solidity;
 
+import io.emeraldpay.etherjar.abi.AbiCodec;
 import io.emeraldpay.etherjar.abi.Type;
+import io.emeraldpay.etherjar.domain.MethodId;
 import io.emeraldpay.etherjar.hex.Hex32;
 import io.emeraldpay.etherjar.hex.HexData;
 
@@ -83,6 +85,8 @@ public class ContractParametersTypes {
 
     private final List<Type> types;
 
+    private volatile AbiCodec codec;
+
     public ContractParametersTypes(Type... types) {
         this(Arrays.asList(types));
     }
@@ -137,37 +141,48 @@ public class ContractParametersTypes {
      * @return an encoded hex data
      * @see #encode(Object...)
      */
-    @SuppressWarnings("unchecked")
     public HexData encode(Collection<?> args) {
         if (types.size() != args.size())
             throw new IllegalArgumentException("Wrong number of input parameters: " + args.size());
 
-        long headBytesSize = getFixedSize();
-        long tailBytesSize = 0;
-
-        List<HexData> buf = new ArrayList<>();
-        List<HexData> tail = new ArrayList<>();
-
-        int i = 0;
+        return getCodec().encode(asList(args));
+    }
 
-        for (Object obj : args) {
-            Type type = types.get(i++);
+    /**
+     * Encode call data, i.e. a method id followed by the encoded arguments, into a single buffer.
+     *
+     * @param methodId a method id
+     * @param args a collection of arguments values
+     * @return an encoded hex data
+     * @see #encode(Collection)
+     */
+    public HexData encodeCall(MethodId methodId, Collection<?> args) {
+        if (types.size() != args.size())
+            throw new IllegalArgumentException("Wrong number of input parameters: " + args.size());
 
-            HexData data = type.encode(obj);
+        return getCodec().encodeCall(methodId, asList(args));
+    }
 
-            if (type.isStatic()) {
-                buf.add(data);
-            } else {
-                buf.add(Type.encodeLength(headBytesSize + tailBytesSize));
+    /**
+     * Get a compiled codec of the parameters types, which calculates the size of encoded arguments up front
+     * and writes the heads and the tails into a single buffer.
+     *
+     * @return the codec
+     */
+    @SuppressWarnings("unchecked")
+    AbiCodec getCodec() {
+        AbiCodec codec = this.codec;
 
-                tailBytesSize += data.getSize();
-                tail.add(data);
-            }
+        if (codec == null) {
+            codec = AbiCodec.of((List<? extends Type<?>>) (List<?>) types);
+            this.codec = codec;
         }
 
-        buf.addAll(tail);
+        return codec;
+    }
 
-        return HexData.combine(buf);
+    private static List<?> asList(Collection<?> args) {
+        return args instanceof List ? (List<?>) args : new ArrayList<>(args);
     }
 
     /**
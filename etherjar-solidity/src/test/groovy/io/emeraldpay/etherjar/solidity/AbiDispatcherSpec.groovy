@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.solidity
+
+import io.emeraldpay.etherjar.abi.DefaultRepository
+import io.emeraldpay.etherjar.abi.UIntType
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.domain.MethodId
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import spock.lang.Shared
+import spock.lang.Specification
+
+class AbiDispatcherSpec extends Specification {
+
+    static final Address FROM = Address.from('0x8ba1f109551bd432803012645ac136ddd64dba72')
+    static final Address TO = Address.from('0x1f9840a85d5af5bf1d1762f925bdaddc4201f984')
+
+    @Shared ContractAbi erc20 = ContractAbi.fromJson(ContractAbiSpec.ERC20_JSON)
+
+    @Shared AbiDispatcher dispatcher = new AbiDispatcher.Builder().add(erc20).build()
+
+    def "should get selector of call data"() {
+        expect:
+        Integer.toHexString(AbiDispatcher.selectorOf(HexData.from(data))) == hex
+
+        where:
+        data                 | hex
+        '0xa9059cbb'         | 'a9059cbb'
+        '0x0000000100000000' | '1'
+    }
+
+    def "should count known definitions"() {
+        expect:
+        dispatcher.methodsCount == 3
+        dispatcher.eventsCount == 1
+    }
+
+    def "should find method by selector"() {
+        def transfer = erc20.methods[1]
+
+        expect:
+        dispatcher.findMethod(transfer.selector).get() == transfer
+        dispatcher.findMethod(MethodId.from('0xa9059cbb')).get() == transfer
+        !dispatcher.findMethod(MethodId.from('0x095ea7b3')).isPresent()
+        !dispatcher.findMethod(HexData.from('0xa905')).isPresent()
+    }
+
+    def "should decode call"() {
+        def data = erc20.methods[1].encodeCall(TO, 1000G)
+
+        when:
+        def call = dispatcher.decodeCall(data).get()
+
+        then:
+        call.method.name == 'transfer'
+        call.arguments == [TO, 1000G]
+    }
+
+    def "should skip unknown call"() {
+        expect:
+        !dispatcher.decodeCall(HexData.from('0x095ea7b3')).isPresent()
+        !dispatcher.decodeCall(HexData.empty()).isPresent()
+    }
+
+    def "should decode event"() {
+        def topics = [erc20.events[0].id, Hex32.extendFrom(FROM), Hex32.extendFrom(TO)]
+
+        when:
+        def event = dispatcher.decodeEvent(topics, Hex32.extendFrom(1000G)).get()
+
+        then:
+        event.event.name == 'Transfer'
+        event.arguments == [FROM, TO, 1000G]
+    }
+
+    def "should distinguish events by number of topics"() {
+        def erc721 = new ContractEventDefinition.Builder().withName('Transfer')
+                .withArgument(DefaultRepository.instance.search('address').get(), true)
+                .withArgument(DefaultRepository.instance.search('address').get(), true)
+                .withArgument(DefaultRepository.instance.search('uint256').get(), true)
+                .build()
+
+        def both = new AbiDispatcher.Builder().add(erc20).add(erc721).build()
+
+        when:
+        def event = both.decodeEvent(
+                [erc721.id, Hex32.extendFrom(FROM), Hex32.extendFrom(TO), Hex32.extendFrom(7G)], HexData.empty()).get()
+
+        then:
+        erc721.id == erc20.events[0].id
+        both.eventsCount == 2
+        event.event.is(erc721)
+        event.arguments == [FROM, TO, 7G]
+        both.findEvent([erc721.id, Hex32.extendFrom(FROM), Hex32.extendFrom(TO)]).get() == erc20.events[0]
+    }
+
+    def "should skip unknown event"() {
+        expect:
+        !dispatcher.findEvent(topics).isPresent()
+
+        where:
+        topics << [
+                [],
+                [Hex32.extendFrom(1L)],
+                [erc20.events[0].id],
+                [erc20.events[0].id, Hex32.extendFrom(FROM)],
+        ]
+    }
+
+    def "should skip anonymous events"() {
+        def event = new ContractEventDefinition.Builder().withName('Log').asAnonymous().build()
+
+        expect:
+        new AbiDispatcher.Builder().add(event).build().eventsCount == 0
+    }
+
+    def "should dispatch among many methods"() {
+        def builder = new AbiDispatcher.Builder()
+
+        (0..<5000).each { builder.add(new ContractMethod("f$it")) }
+
+        when:
+        def many = builder.add(erc20).build()
+
+        then:
+        many.methodsCount == 5003
+        (0..<5000).every { many.findMethod(MethodId.fromSignature("f$it")).get().name == "f$it" }
+        many.findMethod(MethodId.from('0xa9059cbb')).get().name == 'transfer'
+    }
+
+    def "should keep first method with same selector"() {
+        def first = new ContractMethod('foo')
+
+        when:
+        def single = new AbiDispatcher.Builder().add(first).add(new ContractMethod('foo')).build()
+
+        then:
+        single.methodsCount == 1
+        single.findMethod(first.selector).get().is(first)
+    }
+
+    def "should keep first event with same id and topics"() {
+        def first = new ContractEventDefinition.Builder().withName('Log')
+                .withArgument(UIntType.DEFAULT, true)
+                .withArgument(UIntType.DEFAULT)
+                .build()
+        def other = new ContractEventDefinition.Builder().withName('Log')
+                .withArgument(UIntType.DEFAULT)
+                .withArgument(UIntType.DEFAULT, true)
+                .build()
+
+        when:
+        def single = new AbiDispatcher.Builder().add(first).add(other).build()
+
+        then:
+        single.eventsCount == 1
+        single.findEvent([first.id, Hex32.extendFrom(1G)]).get().is(first)
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.solidity
+
+import io.emeraldpay.etherjar.abi.AddressType
+import io.emeraldpay.etherjar.abi.DynamicElementArrayType
+import io.emeraldpay.etherjar.abi.TupleType
+import io.emeraldpay.etherjar.abi.UIntType
+import io.emeraldpay.etherjar.domain.Address
+import spock.lang.Specification
+
+class ContractAbiSpec extends Specification {
+
+    static final String ERC20_JSON = '''[
+        {"constant": true, "inputs": [], "name": "decimals", "outputs": [{"name": "", "type": "uint8"}], "type": "function"},
+        {"inputs": [{"name": "to", "type": "address"}, {"name": "value", "type": "uint256"}],
+         "name": "transfer", "outputs": [{"name": "", "type": "bool"}], "stateMutability": "nonpayable", "type": "function"},
+        {"inputs": [{"name": "owner", "type": "address"}], "name": "balanceOf",
+         "outputs": [{"name": "", "type": "uint256"}], "stateMutability": "view", "type": "function"},
+        {"anonymous": false, "inputs": [
+            {"indexed": true, "name": "from", "type": "address"},
+            {"indexed": true, "name": "to", "type": "address"},
+            {"indexed": false, "name": "value", "type": "uint256"}], "name": "Transfer", "type": "event"},
+        {"inputs": [{"name": "supply", "type": "uint256"}], "stateMutability": "nonpayable", "type": "constructor"},
+        {"stateMutability": "payable", "type": "receive"},
+        {"inputs": [{"name": "needed", "type": "uint256"}], "name": "InsufficientBalance", "type": "error"}
+    ]'''
+
+    def "should parse methods and events"() {
+        when:
+        def abi = ContractAbi.fromJson(ERC20_JSON)
+
+        then:
+        abi.methods*.toAbi() == ['decimals():(uint8)', 'transfer(address,uint256):(bool)', 'balanceOf(address):(uint256)']
+        abi.methods*.constant == [true, false, true]
+        abi.methods[1].id.toHex() == '0xa9059cbb'
+        abi.events*.toAbi() == ['Transfer(address,address,uint256)']
+        abi.events[0].id.toHex() == '0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef'
+        abi.events[0].indexedCount == 2
+    }
+
+    def "should resolve tuple components"() {
+        def json = '''[{"type": "function", "name": "aggregate3", "stateMutability": "payable",
+            "inputs": [{"name": "calls", "type": "tuple[]", "components": [
+                {"name": "target", "type": "address"},
+                {"name": "allowFailure", "type": "bool"},
+                {"name": "callData", "type": "bytes"}]}],
+            "outputs": [{"name": "returnData", "type": "tuple[]", "components": [
+                {"name": "success", "type": "bool"},
+                {"name": "returnData", "type": "bytes"}]}]}]'''
+
+        when:
+        def method = ContractAbi.fromJson(json).methods[0]
+
+        then:
+        method.inputTypes.types[0] instanceof DynamicElementArrayType
+        method.toAbi() == 'aggregate3((address,bool,bytes)[]):((bool,bytes)[])'
+        method.id.toHex() == '0x82ad56cb'
+    }
+
+    def "should parse nested tuples"() {
+        def json = '''[{"type": "event", "name": "E", "anonymous": false, "inputs": [
+            {"name": "x", "type": "tuple", "indexed": false, "components": [
+                {"name": "a", "type": "uint256"},
+                {"name": "b", "type": "tuple[2]", "components": [{"name": "c", "type": "address"}]}]}]}]'''
+
+        when:
+        def event = ContractAbi.fromJson(json).events[0]
+
+        then:
+        event.inputTypes.types[0] instanceof TupleType
+        event.toAbi() == 'E((uint256,(address)[2]))'
+    }
+
+    def "should convert to contract"() {
+        def address = Address.from('0x8ba1f109551bd432803012645ac136ddd64dba72')
+
+        when:
+        def contract = ContractAbi.fromJson(ERC20_JSON).toContract(address)
+
+        then:
+        contract.address == address
+        contract.methods.size() == 3
+    }
+
+    def "should parse escaped strings and numbers"() {
+        def json = '''[{"type": "function", "name": "f\\u006f\\u006F", "inputs": [], "outputs": [],
+            "gas": 1.5e3, "doc": "\\"quoted\\"\\n", "payable": false, "x": null}]'''
+
+        expect:
+        ContractAbi.fromJson(json).methods*.name == ['foo']
+    }
+
+    def "should be equal for same definitions"() {
+        expect:
+        ContractAbi.fromJson(ERC20_JSON) == ContractAbi.fromJson(ERC20_JSON)
+        ContractAbi.fromJson('[]') == new ContractAbi([], [])
+    }
+
+    def "should build from definitions"() {
+        def method = new ContractMethod.Builder().withName('balanceOf')
+                .withInputTypes(AddressType.DEFAULT).withOutputTypes(UIntType.DEFAULT).build()
+
+        when:
+        def abi = new ContractAbi([method], [])
+
+        then:
+        abi.methods == [method]
+        abi.events.isEmpty()
+    }
+
+    def "should catch invalid JSON"() {
+        when:
+        ContractAbi.fromJson(json)
+
+        then:
+        thrown IllegalArgumentException
+
+        where:
+        json << [
+                '',
+                '{}',
+                '[1]',
+                '[{"type": "function"',
+                '[{"type": "function", "name": "f", "inputs": []}] x',
+                '[{"type": "function", "inputs": []}]',
+                '[{"type": "function", "name": "f", "inputs": [{"type": "foo"}]}]',
+                '[{"type": "function", "name": "f", "inputs": {}}]',
+                '[{"name": "\\q"}]',
+        ]
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 EmeraldPay Ltd, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.emeraldpay.etherjar.solidity
+
+import io.emeraldpay.etherjar.abi.AddressType
+import io.emeraldpay.etherjar.abi.StringType
+import io.emeraldpay.etherjar.abi.TupleType
+import io.emeraldpay.etherjar.abi.UIntType
+import io.emeraldpay.etherjar.domain.Address
+import io.emeraldpay.etherjar.hex.Hex32
+import io.emeraldpay.etherjar.hex.HexData
+import spock.lang.Specification
+
+class ContractEventDefinitionSpec extends Specification {
+
+    static final Address OWNER = Address.from('0x8ba1f109551bd432803012645ac136ddd64dba72')
+
+    def "should build event definition"() {
+        when:
+        def event = new ContractEventDefinition.Builder().withName('Approval')
+                .withArgument(AddressType.DEFAULT, true)
+                .withArgument(AddressType.DEFAULT, true)
+                .withArgument(UIntType.DEFAULT)
+                .build()
+
+        then:
+        event.toAbi() == 'Approval(address,address,uint256)'
+        event.id.toHex() == '0x8c5be1e5ebec7d5bd14f71427d1e84f3dd0314c0f7b2291e5b200ac8c7c3b925'
+        event.topicsCount == 3
+        event.dataTypes.types == [UIntType.DEFAULT]
+        [0, 1, 2].collect { event.isIndexed(it) } == [true, true, false]
+    }
+
+    def "should decode indexed and data arguments"() {
+        def event = new ContractEventDefinition.Builder().withName('Named')
+                .withArgument(StringType.DEFAULT)
+                .withArgument(AddressType.DEFAULT, true)
+                .withArgument(StringType.DEFAULT, true)
+                .build()
+
+        def hash = Hex32.from('0x1c8aff950685c2ed4bc3174f3472287b56d9517b9c948127319a09a7a36deac8')
+
+        when:
+        def args = event.decode([event.id, Hex32.extendFrom(OWNER), hash], StringType.DEFAULT.encode('abc').with {
+            Hex32.extendFrom(32L).concat(it)
+        })
+
+        then:
+        args == ['abc', OWNER, hash]
+    }
+
+    def "should decode anonymous event"() {
+        def event = new ContractEventDefinition.Builder().withName('Log').asAnonymous()
+                .withArgument(UIntType.DEFAULT, true)
+                .build()
+
+        expect:
+        event.topicsCount == 1
+        event.decode([Hex32.extendFrom(5G)], HexData.empty()) == [5G]
+    }
+
+    def "should keep hash of indexed struct"() {
+        def event = new ContractEventDefinition.Builder().withName('Log')
+                .withArgument(TupleType.of(UIntType.DEFAULT), true)
+                .withArgument(UIntType.DEFAULT, true)
+                .build()
+
+        def hash = Hex32.from('0x1c8aff950685c2ed4bc3174f3472287b56d9517b9c948127319a09a7a36deac8')
+
+        expect:
+        event.decode([event.id, hash, Hex32.extendFrom(5G)], HexData.empty()) == [hash, 5G]
+    }
+
+    def "should catch wrong number of topics"() {
+        def event = new ContractEventDefinition.Builder().withName('Log')
+                .withArgument(UIntType.DEFAULT, true)
+                .build()
+
+        when:
+        event.decode([event.id], HexData.empty())
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should catch too many indexed arguments"() {
+        def builder = new ContractEventDefinition.Builder().withName('Log')
+
+        4.times { builder.withArgument(UIntType.DEFAULT, true) }
+
+        when:
+        builder.build()
+
+        then:
+        thrown IllegalArgumentException
+    }
+
+    def "should throw illegal state exception for empty builder"() {
+        when:
+        new ContractEventDefinition.Builder().build()
+
+        then:
+        thrown IllegalStateException
+    }
+
+    def "should be equal"() {
+        def build = { boolean indexed ->
+            new ContractEventDefinition.Builder().withName('Log').withArgument(UIntType.DEFAULT, indexed).build()
+        }
+
+        expect:
+        build(true) == build(true)
+        build(true) != build(false)
+        build(true).hashCode() == build(true).hashCode()
+    }
+
+    def "should not be equal to subclass"() {
+        def event = new ContractEventDefinition('Log', false, [UIntType.DEFAULT], [true])
+        def subclass = new ContractEventDefinition('Log', false, [UIntType.DEFAULT], [true]) {}
+
+        expect:
+        event != subclass
+        subclass != event
+    }
+}
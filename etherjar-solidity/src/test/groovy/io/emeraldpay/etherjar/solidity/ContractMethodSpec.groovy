@@ -17,6 +17,7 @@
 
 package io.emeraldpay.etherjar.solidity
 
+import io.emeraldpay.etherjar.abi.DefaultRepository
 import io.emeraldpay.etherjar.abi.Type
 import io.emeraldpay.etherjar.domain.Address
 import io.emeraldpay.etherjar.domain.MethodId
@@ -206,6 +207,31 @@ class ContractMethodSpec extends Specification {
         _ | [1, 2, 3] as Object[]
     }
 
+    def "should decode call arguments"() {
+        def transfer = ContractMethod.fromAbi(DefaultRepository.instance, 'transfer(address,uint256):(bool)')
+        def to = Address.from('0x8ba1f109551bd432803012645ac136ddd64dba72')
+
+        when:
+        def args = transfer.decodeCall(transfer.encodeCall(to, 10G))
+
+        then:
+        Integer.toHexString(transfer.selector) == 'a9059cbb'
+        args == [to, 10G]
+    }
+
+    def "should not decode call of other method"() {
+        def transfer = ContractMethod.fromAbi(DefaultRepository.instance, 'transfer(address,uint256):(bool)')
+
+        when:
+        transfer.decodeCall(HexData.from(data))
+
+        then:
+        thrown IllegalArgumentException
+
+        where:
+        data << ['0x', '0xa905', '0x095ea7b3']
+    }
+
     def "should be converted to ABI string representation"() {
         expect:
         obj.toAbi() == str
@@ -17,7 +17,10 @@
 
 package io.emeraldpay.etherjar.solidity
 
+import io.emeraldpay.etherjar.abi.DynamicBytesType
 import io.emeraldpay.etherjar.abi.Type
+import io.emeraldpay.etherjar.abi.UIntType
+import io.emeraldpay.etherjar.domain.MethodId
 import io.emeraldpay.etherjar.hex.Hex32
 import io.emeraldpay.etherjar.hex.HexData
 import spock.lang.Shared
@@ -277,6 +280,19 @@ class ContractParametersTypesSpec extends Specification {
         dec == [val1, val2, val3]
     }
 
+    def "should encode call data into a single buffer"() {
+        def obj = [UIntType.DEFAULT, DynamicBytesType.DEFAULT] as ContractParametersTypes
+        def methodId = MethodId.fromSignature('foo', 'uint256', 'bytes')
+
+        when:
+        def enc = obj.encodeCall(methodId, [5G, 'dave'.bytes])
+
+        then:
+        enc == methodId.concat(obj.encode(5G, 'dave'.bytes))
+        enc.size == MethodId.SIZE_BYTES + Hex32.SIZE_BYTES * 4
+        obj.decode(enc.skip(MethodId.SIZE_BYTES))[0] == 5G
+    }
+
     def "should encode & decode empty parameters types"() {
         when:
         def hex = ContractParametersTypes.EMPTY.encode()